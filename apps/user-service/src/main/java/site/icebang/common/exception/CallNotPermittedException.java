@@ -0,0 +1,52 @@
+package site.icebang.common.exception;
+
+/**
+ * 외부 시스템 호출이 보호 장치(서킷 브레이커, 동시 호출 제한)에 의해 실제로 보내지지 않고 거절되었을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>거절은 즉시 이루어지므로, 호출하는 쪽은 타임아웃을 기다리지 않고 해당 작업을 실패 처리하거나 나중으로 미룰 수 있습니다.
+ *
+ * @since v0.1.0
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+  /** 거절 사유 */
+  public enum Reason {
+    /** 서킷이 열려 있어 호출을 보내지 않음 */
+    CIRCUIT_OPEN,
+    /** 동시 호출 수가 가득 차 자리를 얻지 못함 */
+    BULKHEAD_FULL
+  }
+
+  private final String target;
+  private final Reason reason;
+
+  /**
+   * 거절된 호출 대상과 사유로 새로운 {@code CallNotPermittedException}을 생성합니다.
+   *
+   * @param target 호출 대상 (예: 엔드포인트 경로)
+   * @param reason 거절 사유
+   */
+  public CallNotPermittedException(String target, Reason reason) {
+    super(String.format("호출이 거절되었습니다: Target=%s, Reason=%s", target, reason));
+    this.target = target;
+    this.reason = reason;
+  }
+
+  /**
+   * 거절된 호출 대상을 반환합니다.
+   *
+   * @return 호출 대상
+   */
+  public String getTarget() {
+    return target;
+  }
+
+  /**
+   * 거절 사유를 반환합니다.
+   *
+   * @return 거절 사유
+   */
+  public Reason getReason() {
+    return reason;
+  }
+}
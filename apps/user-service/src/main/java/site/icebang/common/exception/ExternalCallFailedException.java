@@ -0,0 +1,51 @@
+package site.icebang.common.exception;
+
+import java.time.Duration;
+
+/**
+ * 외부 시스템 호출이 실패했으며, 그 실패가 재시도할 가치가 있는지에 대한 정보를 담은 예외 클래스입니다.
+ *
+ * <p>재시도 정책은 이 예외의 {@link #isRetryable()}로 재시도 여부를 판단하고, {@link #getRetryAfter()}가 있으면 서버가 알려준 시간만큼
+ * 기다린 뒤 다시 시도합니다.
+ *
+ * @since v0.1.0
+ */
+public class ExternalCallFailedException extends RuntimeException {
+
+  /** 같은 요청을 다시 보내면 성공할 수 있는지 여부 */
+  private final boolean retryable;
+
+  /** 서버가 알려준 재시도 대기 시간 (없으면 null) */
+  private final Duration retryAfter;
+
+  /**
+   * 상세 메시지와 재시도 정보로 새로운 {@code ExternalCallFailedException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   * @param retryable 같은 요청을 다시 보내면 성공할 수 있는지 여부
+   * @param retryAfter 서버가 알려준 재시도 대기 시간 (없으면 null)
+   */
+  public ExternalCallFailedException(String message, boolean retryable, Duration retryAfter) {
+    super(message);
+    this.retryable = retryable;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * 같은 요청을 다시 보내면 성공할 수 있는지 여부를 반환합니다.
+   *
+   * @return 재시도 가능 여부
+   */
+  public boolean isRetryable() {
+    return retryable;
+  }
+
+  /**
+   * 서버가 알려준 재시도 대기 시간을 반환합니다.
+   *
+   * @return 재시도 대기 시간, 없으면 null
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,35 @@
+package site.icebang.common.exception;
+
+/**
+ * 외부 시스템과 주고받는 데이터가 허용된 크기를 초과했을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>응답 전체를 메모리에 올리기 전에 크기 제한을 넘는 순간 즉시 중단하기 위해 사용됩니다. 같은 요청을 다시 보내도 결과가 달라지지 않으므로, 재시도
+ * 대상이 아닌 실패로 처리해야 합니다.
+ *
+ * @since v0.1.0
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+  /** 초과된 크기 제한 (바이트 단위) */
+  private final long limitBytes;
+
+  /**
+   * 지정된 크기 제한과 상세 메시지로 새로운 {@code PayloadTooLargeException}을 생성합니다.
+   *
+   * @param limitBytes 초과된 크기 제한 (바이트 단위)
+   * @param message 상세 메시지
+   */
+  public PayloadTooLargeException(long limitBytes, String message) {
+    super(message);
+    this.limitBytes = limitBytes;
+  }
+
+  /**
+   * 초과된 크기 제한을 반환합니다.
+   *
+   * @return 크기 제한 (바이트 단위)
+   */
+  public long getLimitBytes() {
+    return limitBytes;
+  }
+}
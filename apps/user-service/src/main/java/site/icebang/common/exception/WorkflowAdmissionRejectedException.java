@@ -0,0 +1,52 @@
+package site.icebang.common.exception;
+
+import site.icebang.global.config.async.AdmissionPriority;
+
+/**
+ * 워크플로우 실행 대기열이 가득 차거나 서버가 종료 중이어서 새 실행을 받을 수 없을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>거절은 실행을 요청한 스레드에서 즉시 이루어지므로, 수동 실행 요청은 타임아웃을 기다리지 않고 바로 실패 응답을 받습니다.
+ *
+ * @since v0.1.0
+ */
+public class WorkflowAdmissionRejectedException extends RuntimeException {
+
+  private final AdmissionPriority priority;
+
+  /**
+   * 거절된 실행과 우선순위로 새로운 {@code WorkflowAdmissionRejectedException}을 생성합니다.
+   *
+   * @param run 거절된 실행 (예: "WorkflowId=1")
+   * @param priority 거절된 실행의 우선순위
+   */
+  public WorkflowAdmissionRejectedException(String run, AdmissionPriority priority) {
+    this(priority, String.format("워크플로우 실행 대기열이 가득 찼습니다: %s, Priority=%s", run, priority));
+  }
+
+  private WorkflowAdmissionRejectedException(AdmissionPriority priority, String message) {
+    super(message);
+    this.priority = priority;
+  }
+
+  /**
+   * 서버가 종료 중이어서 새 실행을 받을 수 없을 때의 예외를 생성합니다.
+   *
+   * @param run 거절된 실행 (예: "WorkflowId=1")
+   * @param priority 거절된 실행의 우선순위
+   * @return 생성된 예외
+   */
+  public static WorkflowAdmissionRejectedException shuttingDown(
+      String run, AdmissionPriority priority) {
+    return new WorkflowAdmissionRejectedException(
+        priority, String.format("서버가 종료 중이어서 워크플로우 실행을 받을 수 없습니다: %s, Priority=%s", run, priority));
+  }
+
+  /**
+   * 거절된 실행의 우선순위를 반환합니다.
+   *
+   * @return 우선순위
+   */
+  public AdmissionPriority getPriority() {
+    return priority;
+  }
+}
@@ -1,5 +1,7 @@
 package site.icebang.common.health.service;
 
+import java.time.Duration;
+
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -7,6 +9,7 @@ import org.springframework.web.client.RestClientException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.global.config.http.RequestTimeoutContext;
 import site.icebang.global.config.properties.FastApiProperties;
 
 @Slf4j
@@ -14,13 +17,15 @@ import site.icebang.global.config.properties.FastApiProperties;
 @RequiredArgsConstructor
 public class HealthCheckService {
 
+  private static final String PING_PATH = "/ping";
+
   private final RestClient restClient;
 
   private final FastApiProperties fastApiProperties;
 
   /** FastAPI 서버의 /ping 엔드포인트를 호출하여 연결을 테스트합니다. */
   public String ping() {
-    String url = fastApiProperties.getUrl() + "/ping";
+    String url = fastApiProperties.getUrl() + PING_PATH;
     log.info("Attempting to connect to FastAPI server at: {}", url);
 
     try {
@@ -30,4 +35,22 @@ public class HealthCheckService {
       return "ERROR: Cannot connect to FastAPI";
     }
   }
+
+  /**
+   * 지정한 FastAPI 인스턴스의 /ping 엔드포인트가 정상 응답하는지 확인합니다.
+   *
+   * @param baseUrl 인스턴스의 기본 URL (예: "http://fastapi-1:8000")
+   * @param timeout 응답 타임아웃
+   * @return 2xx로 응답하면 true
+   */
+  public boolean isHealthy(String baseUrl, Duration timeout) {
+    try {
+      RequestTimeoutContext.with(
+          timeout, () -> restClient.get().uri(baseUrl + PING_PATH).retrieve().toBodilessEntity());
+      return true;
+    } catch (RestClientException e) {
+      log.debug("FastAPI health check failed for {}. Error: {}", baseUrl, e.getMessage());
+      return false;
+    }
+  }
 }
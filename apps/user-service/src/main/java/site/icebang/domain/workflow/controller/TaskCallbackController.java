@@ -0,0 +1,34 @@
+package site.icebang.domain.workflow.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.common.dto.ApiResponseDto;
+import site.icebang.domain.workflow.runner.fastapi.FastApiAsyncTaskSupervisor;
+
+/**
+ * FastAPI 서버가 비동기 작업의 완료를 알리는 콜백을 받는 컨트롤러입니다.
+ *
+ * <p>FastAPI 서버는 세션이 없으므로 인증 없이 호출할 수 있으며, 작업 제출 시 발급한 추측할 수 없는 콜백 토큰으로 요청을 확인합니다. 콜백은
+ * 기다리는 Task를 깨우기만 하며, Body의 내용은 작업 결과로 사용하지 않습니다. 결과는 작업을 받은 FastAPI 인스턴스에 직접 조회합니다.
+ */
+@RestController
+@RequestMapping("/v0/task-callbacks")
+@RequiredArgsConstructor
+public class TaskCallbackController {
+
+  private final FastApiAsyncTaskSupervisor asyncTaskSupervisor;
+
+  @PostMapping("/{callbackToken}")
+  public ResponseEntity<ApiResponseDto<Void>> onTaskCallback(@PathVariable String callbackToken) {
+    if (!asyncTaskSupervisor.onCallback(callbackToken)) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND)
+          .body(ApiResponseDto.error("알 수 없는 콜백 토큰입니다.", HttpStatus.NOT_FOUND));
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(ApiResponseDto.success(null, "콜백 수신", HttpStatus.ACCEPTED));
+  }
+}
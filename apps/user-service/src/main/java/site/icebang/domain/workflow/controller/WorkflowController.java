@@ -50,12 +50,20 @@ public class WorkflowController {
     return ApiResponseDto.success(null);
   }
 
+  /**
+   * 워크플로우를 실행합니다.
+   *
+   * @param workflowId 실행할 워크플로우 ID
+   * @param timeoutSeconds 실행 제한 시간 (초 단위, 선택). 지나면 실행이 취소됩니다.
+   * @return 202 Accepted
+   */
   @PostMapping("/{workflowId}/run")
-  public ResponseEntity<Void> runWorkflow(@PathVariable Long workflowId) {
+  public ResponseEntity<Void> runWorkflow(
+      @PathVariable Long workflowId, @RequestParam(required = false) Integer timeoutSeconds) {
 
     RequestContextDto context = requestContextService.extractRequestContext();
     // HTTP 요청/응답 스레드를 블로킹하지 않도록 비동기 실행
-    workflowExecutionService.executeWorkflow(workflowId, context);
+    workflowExecutionService.executeWorkflow(workflowId, context, timeoutSeconds);
     return ResponseEntity.accepted().build();
   }
 
@@ -2,6 +2,8 @@ package site.icebang.domain.workflow.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -15,6 +17,7 @@ import site.icebang.domain.workflow.dto.WorkflowHistoryDTO;
 import site.icebang.domain.workflow.dto.WorkflowRunDetailResponseDto;
 import site.icebang.domain.workflow.dto.log.ExecutionLogSimpleDto;
 import site.icebang.domain.workflow.dto.log.WorkflowLogQueryCriteriaDto;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
 import site.icebang.domain.workflow.service.WorkflowHistoryService;
 
 @RestController
@@ -23,6 +26,7 @@ import site.icebang.domain.workflow.service.WorkflowHistoryService;
 public class WorkflowHistoryController {
   private final WorkflowHistoryService workflowHistoryService;
   private final ExecutionLogService executionLogService;
+  private final WorkflowCancellationService workflowCancellationService;
 
   @GetMapping("")
   public ApiResponseDto<PageResultDto<WorkflowHistoryDTO>> getWorkflowHistoryList(
@@ -45,6 +49,22 @@ public class WorkflowHistoryController {
     return ApiResponseDto.success(response);
   }
 
+  /**
+   * 실행 중이거나 이전 실행이 끝나기를 기다리는 워크플로우 실행을 취소합니다.
+   *
+   * <p>실행 중인 Task는 중단되고, 실행은 {@code CANCELLED}로 끝납니다. 취소는 비동기로 처리되므로 응답 이후에 반영될 수 있습니다.
+   *
+   * @param runId workflow_run.id
+   * @return 취소를 요청했으면 202 Accepted, 이미 끝난 실행이면 409 Conflict
+   */
+  @PostMapping("/{runId}/cancel")
+  public ResponseEntity<Void> cancelWorkflowRun(@PathVariable Long runId) {
+    if (!workflowCancellationService.requestCancel(runId)) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    return ResponseEntity.accepted().build();
+  }
+
   @GetMapping("/logs")
   public ApiResponseDto<List<ExecutionLogSimpleDto>> getTaskExecutionLog(
       @Valid @ModelAttribute WorkflowLogQueryCriteriaDto requestDto) {
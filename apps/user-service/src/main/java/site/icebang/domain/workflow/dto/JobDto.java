@@ -2,6 +2,8 @@ package site.icebang.domain.workflow.dto;
 
 import java.time.Instant;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
@@ -20,4 +22,7 @@ public class JobDto {
   private Long updatedBy;
 
   private Integer executionOrder;
+
+  /** 선행 Job ID 배열입니다. null이면 execution_order가 더 앞선 모든 Job에 의존합니다. */
+  private JsonNode dependsOn;
 }
@@ -2,6 +2,8 @@ package site.icebang.domain.workflow.dto;
 
 import lombok.Data;
 
+import site.icebang.global.config.async.AdmissionPriority;
+
 /** 요청 컨텍스트 정보를 담는 DTO 클래스 분산 추적, 클라이언트 정보 등을 포함하여 워크플로우 실행 시 필요한 컨텍스트를 관리합니다. */
 @Data
 public class RequestContextDto {
@@ -10,6 +12,21 @@ public class RequestContextDto {
   private final String clientIp;
   private final String userAgent;
 
+  /** 실행 허가를 기다릴 때의 우선순위 */
+  private final AdmissionPriority priority;
+
+  /**
+   * 사용자 요청 실행용 컨텍스트를 생성하는 정적 팩토리 메서드입니다.
+   *
+   * @param traceId 분산 추적 ID
+   * @param clientIp 요청한 클라이언트 IP
+   * @param userAgent 요청한 클라이언트의 User-Agent
+   * @return 수동 실행용 RequestContext 객체
+   */
+  public static RequestContextDto forManual(String traceId, String clientIp, String userAgent) {
+    return new RequestContextDto(traceId, clientIp, userAgent, AdmissionPriority.MANUAL);
+  }
+
   /**
    * 스케줄러 실행용 컨텍스트를 생성하는 정적 팩토리 메서드 HTTP 요청이 아닌 스케줄된 작업에서 사용됩니다.
    *
@@ -17,7 +34,8 @@ public class RequestContextDto {
    * @return 스케줄러용 RequestContext 객체 (clientIp와 userAgent는 기본값 설정)
    */
   public static RequestContextDto forScheduler(String traceId) {
-    return new RequestContextDto(traceId, "scheduler", "quartz-scheduler");
+    return new RequestContextDto(
+        traceId, "scheduler", "quartz-scheduler", AdmissionPriority.SCHEDULED);
   }
 
   /**
@@ -27,6 +45,7 @@ public class RequestContextDto {
    * @return 복구용 RequestContext 객체
    */
   public static RequestContextDto forRecovery(String traceId) {
-    return new RequestContextDto(traceId, "system-recovery", "workflow-system-recovery");
+    return new RequestContextDto(
+        traceId, "system-recovery", "workflow-system-recovery", AdmissionPriority.RECOVERY);
   }
 }
@@ -68,6 +68,13 @@ public class WorkflowCreateDto {
   @JsonProperty("is_enabled")
   private Boolean isEnabled = true;
 
+  /** 이전 실행이 끝나지 않았을 때의 처리 방식 (없으면 ALLOW) */
+  @Pattern(
+      regexp = "^(ALLOW|SKIP|QUEUE_ONE|CANCEL_PREVIOUS)?$",
+      message = "실행 겹침 처리 방식은 'ALLOW', 'SKIP', 'QUEUE_ONE', 'CANCEL_PREVIOUS' 중 하나여야 합니다")
+  @JsonProperty("overlap_policy")
+  private String overlapPolicy;
+
   /**
    * 워크플로우에 등록할 스케줄 목록 (선택사항)
    *
@@ -0,0 +1,277 @@
+package site.icebang.domain.workflow.manager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 워크플로우 실행 상태(WorkflowRun, JobRun, TaskRun)와 Task IO 데이터를 지연 기록(Write-behind)하는 컴포넌트입니다.
+ *
+ * <p>실행 스레드는 쓰기 작업을 큐에 넣기만 하고, 큐에 쌓인 작업은 MyBatis {@link ExecutorType#BATCH} 세션으로 묶어서 한 번에
+ * 기록됩니다. 생성된 ID가 즉시 필요한 INSERT(WorkflowRun, JobRun, TaskRun)는 기존처럼 동기적으로 수행합니다.
+ *
+ * <h2>동작 방식:</h2>
+ *
+ * <ul>
+ *   <li>큐에 {@code batch-size}개 이상 쌓이거나 {@code flush-interval-ms}가 지나면 백그라운드에서 기록합니다.
+ *   <li>모든 쓰기는 하나의 FIFO 큐를 거치므로 같은 실행에 대한 쓰기 순서가 보장됩니다.
+ *   <li>실행 상태는 큐에 넣는 시점의 값을 복사해 두므로, 기록되기 전에 실행 스레드가 객체를 바꿔도 큐에 넣은 순서대로의 상태가 기록됩니다.
+ *   <li>워크플로우 실행이 끝날 때와 애플리케이션 종료 시 {@link #flush()}로 남은 작업을 동기적으로 기록합니다.
+ *   <li>한 건씩 다시 기록해도 실패한 작업은 다음 기록 때 큐의 작업보다 먼저 다시 기록하며, {@code max-attempts}번 모두 실패하면 버립니다. 같은
+ *       실행 상태를 더 나중에 기록한 작업이 성공하면, 그 전에 실패한 작업은 덮어쓰인 것이므로 다시 기록하지 않습니다.
+ *   <li>취소나 서버 종료로 인터럽트된 스레드에서도 기록하는 동안에는 인터럽트 상태를 지웠다가 되돌립니다. 인터럽트된 스레드의 DB 호출은 거절되므로,
+ *       그대로 기록하면 CANCELLED, INTERRUPTED 같은 최종 상태가 유실됩니다.
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunStatePersistenceManager {
+
+  private static final String TASK_RUN_UPDATE = TaskRunMapper.class.getName() + ".update";
+  private static final String JOB_RUN_UPDATE = JobRunMapper.class.getName() + ".update";
+  private static final String WORKFLOW_RUN_UPDATE = WorkflowRunMapper.class.getName() + ".update";
+  private static final String TASK_IO_DATA_INSERT = TaskIoDataMapper.class.getName() + ".insert";
+
+  private final SqlSessionFactory sqlSessionFactory;
+  private final PlatformTransactionManager transactionManager;
+  private final WorkflowExecutionProperties executionProperties;
+
+  private final ConcurrentLinkedQueue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final Object flushLock = new Object();
+  private TransactionTemplate transactionTemplate;
+  private ScheduledExecutorService flushExecutor;
+
+  /** 기록에 실패하여 다음 기록 때 다시 기록할 작업 (flushLock으로 보호) */
+  private final List<PendingWrite> retries = new ArrayList<>();
+
+  /**
+   * 큐에 쌓인 하나의 쓰기 작업 (MyBatis Statement ID와 파라미터)
+   *
+   * @param row 같은 행을 덮어쓰는 UPDATE를 구분하는 키 (INSERT는 null)
+   * @param attempts 기록에 실패한 횟수
+   */
+  private record PendingWrite(String statement, Object parameter, Object row, int attempts) {
+
+    PendingWrite(String statement, Object parameter, Object row) {
+      this(statement, parameter, row, 0);
+    }
+
+    boolean overwrites(PendingWrite other) {
+      return row != null && statement.equals(other.statement) && row.equals(other.row);
+    }
+
+    PendingWrite failed() {
+      return new PendingWrite(statement, parameter, row, attempts + 1);
+    }
+  }
+
+  /** 큐에 넣는 시점의 TaskRun 상태 ({@code TaskRunMapper.update}의 파라미터) */
+  private record TaskRunUpdate(Long id, String status, String resultMessage, Instant finishedAt) {}
+
+  /** 큐에 넣는 시점의 JobRun 상태 ({@code JobRunMapper.update}의 파라미터) */
+  private record JobRunUpdate(Long id, String status, Instant finishedAt) {}
+
+  /** 큐에 넣는 시점의 WorkflowRun 상태 ({@code WorkflowRunMapper.update}의 파라미터) */
+  private record WorkflowRunUpdate(Long id, String status, Instant startedAt, Instant finishedAt) {}
+
+  @PostConstruct
+  void start() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    if (!executionProperties.getWriteBehind().isEnabled()) {
+      return;
+    }
+    flushExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "run-state-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = executionProperties.getWriteBehind().getFlushIntervalMs();
+    flushExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  public void updateTaskRun(TaskRun taskRun) {
+    enqueue(
+        new PendingWrite(
+            TASK_RUN_UPDATE,
+            new TaskRunUpdate(
+                taskRun.getId(),
+                taskRun.getStatus(),
+                taskRun.getResultMessage(),
+                taskRun.getFinishedAt()),
+            taskRun.getId()));
+  }
+
+  public void updateJobRun(JobRun jobRun) {
+    enqueue(
+        new PendingWrite(
+            JOB_RUN_UPDATE,
+            new JobRunUpdate(jobRun.getId(), jobRun.getStatus(), jobRun.getFinishedAt()),
+            jobRun.getId()));
+  }
+
+  public void updateWorkflowRun(WorkflowRun workflowRun) {
+    enqueue(
+        new PendingWrite(
+            WORKFLOW_RUN_UPDATE,
+            new WorkflowRunUpdate(
+                workflowRun.getId(),
+                workflowRun.getStatus(),
+                workflowRun.getStartedAt(),
+                workflowRun.getFinishedAt()),
+            workflowRun.getId()));
+  }
+
+  public void insertTaskIoData(TaskIoData taskIoData) {
+    enqueue(new PendingWrite(TASK_IO_DATA_INSERT, taskIoData, null));
+  }
+
+  /**
+   * 큐에 남아있는 모든 쓰기 작업을 호출한 스레드에서 즉시 기록합니다.
+   *
+   * @return 이전 기록에서 실패한 작업을 포함하여 모든 작업을 기록했으면 true, 실패하여 다시 기록하거나 버린 작업이 있으면 false
+   */
+  public boolean flush() {
+    return deferInterrupt(this::flushQueued);
+  }
+
+  private boolean flushQueued() {
+    synchronized (flushLock) {
+      flushScheduled.set(false);
+      // 📌 실패했던 작업을 먼저 기록하여, 같은 실행 상태에 대한 쓰기 순서를 지킵니다.
+      List<PendingWrite> writes = new ArrayList<>(retries);
+      retries.clear();
+      writes.addAll(drain());
+      if (writes.isEmpty()) {
+        return true;
+      }
+      try {
+        write(writes, ExecutorType.BATCH);
+        return true;
+      } catch (Exception e) {
+        // 배치는 하나의 트랜잭션으로 롤백되므로, 나머지 기록이 유실되지 않도록 한 건씩 다시 기록합니다.
+        log.warn("실행 상태 배치 기록 실패, 개별 기록으로 재시도합니다: size={}", writes.size(), e);
+      }
+      List<PendingWrite> failed = new ArrayList<>();
+      for (PendingWrite pendingWrite : writes) {
+        failed.removeIf(pendingWrite::overwrites);
+        try {
+          write(List.of(pendingWrite), ExecutorType.SIMPLE);
+        } catch (Exception e) {
+          log.warn("실행 상태 기록 실패: statement={}", pendingWrite.statement(), e);
+          failed.add(pendingWrite.failed());
+        }
+      }
+      int maxAttempts = executionProperties.getWriteBehind().getMaxAttempts();
+      for (PendingWrite pendingWrite : failed) {
+        if (pendingWrite.attempts() < maxAttempts) {
+          retries.add(pendingWrite);
+        } else {
+          log.error(
+              "실행 상태를 {}번 기록하지 못해 버립니다: statement={}, parameter={}",
+              pendingWrite.attempts(),
+              pendingWrite.statement(),
+              pendingWrite.parameter());
+        }
+      }
+      return failed.isEmpty();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+    }
+    if (!flush()) {
+      log.error("서버 종료 전에 실행 상태 {}건을 기록하지 못했습니다.", retries.size());
+    }
+  }
+
+  private void enqueue(PendingWrite pendingWrite) {
+    WorkflowExecutionProperties.WriteBehind writeBehind = executionProperties.getWriteBehind();
+    if (!writeBehind.isEnabled()) {
+      deferInterrupt(
+          () -> {
+            write(List.of(pendingWrite), ExecutorType.SIMPLE);
+            return true;
+          });
+      return;
+    }
+    queue.add(pendingWrite);
+    if (queueSize.incrementAndGet() >= writeBehind.getBatchSize()
+        && !flushExecutor.isShutdown()
+        && flushScheduled.compareAndSet(false, true)) {
+      flushExecutor.execute(this::flush);
+    }
+  }
+
+  /** 인터럽트 상태를 지운 채로 기록하고, 기록이 끝나면 인터럽트 상태를 되돌립니다. */
+  private static <T> T deferInterrupt(Supplier<T> write) {
+    boolean interrupted = Thread.interrupted();
+    try {
+      return write.get();
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private List<PendingWrite> drain() {
+    List<PendingWrite> writes = new ArrayList<>();
+    PendingWrite pendingWrite;
+    while ((pendingWrite = queue.poll()) != null) {
+      writes.add(pendingWrite);
+      queueSize.decrementAndGet();
+    }
+    return writes;
+  }
+
+  private void write(List<PendingWrite> writes, ExecutorType executorType) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try (SqlSession session = sqlSessionFactory.openSession(executorType)) {
+            for (PendingWrite pendingWrite : writes) {
+              session.update(pendingWrite.statement(), pendingWrite.parameter());
+            }
+            session.flushStatements();
+          }
+        });
+  }
+}
@@ -0,0 +1,95 @@
+package site.icebang.domain.workflow.manager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.domain.workflow.model.TaskRun;
+
+/**
+ * Fan-out으로 나누어 실행한 샤드의 결과를 기록하고, 같은 워크플로우 실행에서 이미 성공한 샤드의 결과를 찾는 컴포넌트입니다.
+ *
+ * <p>샤드 결과는 {@code io_type}이 {@code SHARD}인 {@code task_io_data}로 기록되며, 이름은 샤드 순서와 샤드 Body의 SHA-256
+ * 해시로 정합니다. 실패한 Task를 이어서 실행할 때 입력이 같은 샤드는 다시 호출하지 않고 기록된 결과를 사용하므로, 재시도를 모두 소진한 샤드만 다시
+ * 실행됩니다. 입력이 달라진 샤드는 이름이 달라 다시 실행됩니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardOutputStore {
+
+  public static final String IO_TYPE = "SHARD";
+
+  private final TaskIoDataMapper taskIoDataMapper;
+  private final TaskIoDataStore taskIoDataStore;
+  private final RunStatePersistenceManager runStatePersistenceManager;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 샤드 결과를 기록할 이름을 만듭니다.
+   *
+   * @param shard 샤드 순서 (0부터)
+   * @param shardBody 샤드의 Request Body
+   * @return {@code shard_<순서>_<Body의 SHA-256 hex>} 형식의 이름
+   */
+  public String keyOf(int shard, JsonNode shardBody) {
+    try {
+      byte[] content = objectMapper.writeValueAsBytes(shardBody);
+      return "shard_" + shard + "_" + TaskIoDataStore.sha256Hex(content);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("샤드 Body를 직렬화할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * Task와 같은 워크플로우 실행에서, 같은 Task의 이전 TaskRun들이 기록한 샤드 결과를 조회합니다.
+   *
+   * @param taskRun 실행 중인 TaskRun
+   * @return 샤드 이름별 결과 (읽지 못한 결과는 포함되지 않음)
+   */
+  public Map<String, JsonNode> findCompleted(TaskRun taskRun) {
+    Map<String, JsonNode> completed = new HashMap<>();
+    try {
+      for (TaskIoData ioData :
+          taskIoDataMapper.findShardOutputs(taskRun.getJobRunId(), taskRun.getTaskId())) {
+        JsonNode output = taskIoDataStore.readJson(ioData);
+        if (output != null) {
+          completed.put(ioData.getName(), output);
+        }
+      }
+    } catch (Exception e) {
+      // 📌 이전 결과를 읽지 못하면 모든 샤드를 다시 실행합니다.
+      log.error("이전 샤드 결과 조회 실패: TaskRunId={}", taskRun.getId(), e);
+      completed.clear();
+    }
+    return completed;
+  }
+
+  /**
+   * 성공한 샤드의 결과를 지연 기록 큐에 넣습니다.
+   *
+   * @param taskRun 샤드를 실행한 TaskRun
+   * @param key {@link #keyOf(int, JsonNode)}로 만든 샤드 이름
+   * @param output 샤드 결과
+   */
+  public void record(TaskRun taskRun, String key, JsonNode output) {
+    try {
+      runStatePersistenceManager.insertTaskIoData(
+          taskIoDataStore.toRecord(taskRun.getId(), IO_TYPE, key, output));
+    } catch (Exception e) {
+      log.error("샤드 결과 저장 실패: TaskRunId={}, Shard={}", taskRun.getId(), key, e);
+    }
+  }
+}
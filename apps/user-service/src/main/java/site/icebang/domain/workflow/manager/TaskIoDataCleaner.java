@@ -0,0 +1,183 @@
+package site.icebang.domain.workflow.manager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 보존 기간이 지난 Task IO 데이터와, 더 이상 참조되지 않는 IO 데이터 파일을 주기적으로 정리하는 컴포넌트입니다.
+ *
+ * <p>{@link TaskIoDataStore}의 파일은 같은 내용을 가진 여러 IO 데이터가 공유하므로, 파일마다 참조 수를 세지 않고 다음 순서로 정리합니다.
+ *
+ * <ol>
+ *   <li>{@code retention-days}가 설정되어 있으면 보존 기간이 지난 {@code task_io_data}를 삭제합니다.
+ *   <li>파일 저장소를 훑어 수정된 지 {@code grace-ms}가 지난 파일을 모으고, 아직 {@code
+ *       task_io_data.storage_ref}가 참조하는 파일을 제외한 나머지를 지웁니다. 쓰다 만 임시 파일도 함께 지웁니다.
+ * </ol>
+ *
+ * <p>파일은 DB 기록보다 먼저 저장되므로, 수정된 지 얼마 되지 않은 파일은 참조가 아직 지연 기록 중일 수 있어 지우지 않습니다. 파일 저장소는 서버마다
+ * 따로 있으므로 각 서버가 자신의 저장소만 정리합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskIoDataCleaner {
+
+  /** 한 번에 참조 여부를 조회할 파일 수 */
+  private static final int REF_BATCH_SIZE = 500;
+
+  private final TaskIoDataStore taskIoDataStore;
+  private final TaskIoDataMapper taskIoDataMapper;
+  private final WorkflowExecutionProperties executionProperties;
+
+  private ScheduledExecutorService cleanupExecutor;
+
+  @PostConstruct
+  void start() {
+    WorkflowExecutionProperties.IoStore.Cleanup cleanup =
+        executionProperties.getIoStore().getCleanup();
+    if (!cleanup.isEnabled()) {
+      return;
+    }
+    cleanupExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "task-io-cleaner");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = cleanup.getIntervalMs();
+    cleanupExecutor.scheduleWithFixedDelay(
+        this::cleanUp, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (cleanupExecutor != null) {
+      cleanupExecutor.shutdownNow();
+    }
+  }
+
+  /** 보존 기간이 지난 IO 데이터를 삭제하고, 참조되지 않는 파일을 지웁니다. */
+  public void cleanUp() {
+    WorkflowExecutionProperties.IoStore.Cleanup cleanup =
+        executionProperties.getIoStore().getCleanup();
+    try {
+      if (cleanup.getRetentionDays() > 0) {
+        Instant before = Instant.now().minus(Duration.ofDays(cleanup.getRetentionDays()));
+        int deletedRows = taskIoDataMapper.deleteCreatedBefore(before);
+        if (deletedRows > 0) {
+          log.info("보존 기간이 지난 Task IO 데이터 삭제: count={}, before={}", deletedRows, before);
+        }
+      }
+      int deletedFiles = sweep(Instant.now().minusMillis(cleanup.getGraceMs()));
+      if (deletedFiles > 0) {
+        log.info("참조되지 않는 Task IO 데이터 파일 삭제: count={}", deletedFiles);
+      }
+    } catch (Exception e) {
+      log.error("Task IO 데이터 정리 실패", e);
+    }
+  }
+
+  /**
+   * 수정 시각이 {@code cutoff} 이전이면서 참조되지 않는 파일을 지웁니다.
+   *
+   * @param cutoff 이 시각 이후에 수정된 파일은 지우지 않음
+   * @return 지운 파일 수
+   * @throws IOException 파일 저장소를 훑는 데 실패한 경우
+   */
+  public int sweep(Instant cutoff) throws IOException {
+    Path root = taskIoDataStore.getRoot();
+    if (root == null || !Files.isDirectory(root)) {
+      return 0;
+    }
+    int deleted = 0;
+    Map<String, List<Path>> candidates = new HashMap<>();
+    try (Stream<Path> files = Files.walk(root)) {
+      Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+      while (iterator.hasNext()) {
+        Path file = iterator.next();
+        if (!isModifiedBefore(file, cutoff)) {
+          continue;
+        }
+        String storageRef = TaskIoDataStore.storageRefOf(file);
+        if (storageRef == null) {
+          // 쓰는 도중 서버가 종료되어 남은 임시 파일
+          if (file.getFileName().toString().endsWith(".tmp") && delete(file)) {
+            deleted++;
+          }
+          continue;
+        }
+        candidates.computeIfAbsent(storageRef, ref -> new ArrayList<>()).add(file);
+        if (candidates.size() >= REF_BATCH_SIZE) {
+          deleted += deleteUnreferenced(candidates, cutoff);
+          candidates.clear();
+        }
+      }
+    }
+    return deleted + deleteUnreferenced(candidates, cutoff);
+  }
+
+  private int deleteUnreferenced(Map<String, List<Path>> candidates, Instant cutoff) {
+    if (candidates.isEmpty()) {
+      return 0;
+    }
+    Set<String> referenced =
+        new HashSet<>(taskIoDataMapper.findReferencedStorageRefs(candidates.keySet()));
+    int deleted = 0;
+    for (Map.Entry<String, List<Path>> candidate : candidates.entrySet()) {
+      if (referenced.contains(candidate.getKey())) {
+        continue;
+      }
+      for (Path file : candidate.getValue()) {
+        // 📌 조회하는 사이에 같은 내용이 다시 참조되었으면 수정 시각이 갱신되므로 지우지 않습니다.
+        if (isModifiedBefore(file, cutoff) && delete(file)) {
+          deleted++;
+        }
+      }
+    }
+    return deleted;
+  }
+
+  private static boolean isModifiedBefore(Path file, Instant cutoff) {
+    try {
+      return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean delete(Path file) {
+    try {
+      return Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Task IO 데이터 파일 삭제 실패: {}", file, e);
+      return false;
+    }
+  }
+}
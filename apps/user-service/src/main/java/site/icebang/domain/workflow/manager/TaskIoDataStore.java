@@ -0,0 +1,319 @@
+package site.icebang.domain.workflow.manager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.global.config.properties.WorkflowExecutionProperties.Compression;
+
+/**
+ * Task IO 데이터를 저장하고 읽는 방법을 결정하는 컴포넌트입니다.
+ *
+ * <p>작은 데이터는 기존처럼 {@code task_io_data.data_value}에 그대로 저장하고, {@code inline-threshold-bytes} 이상인
+ * 데이터는 로컬 디스크의 내용 주소 기반(Content-addressed) 파일 저장소에 저장한 뒤 DB에는 {@code storage_ref}(SHA-256 해시)와
+ * 크기만 남깁니다. 같은 내용은 같은 파일을 가리키므로, 실행마다 반복되는 동일한 결과는 한 번만 저장됩니다.
+ *
+ * <h2>파일 저장소 구조:</h2>
+ *
+ * <pre>{@code
+ * {directory}/ab/cd/abcd1234...  (SHA-256 hex, 앞 4자리로 디렉토리 분산)
+ * }</pre>
+ *
+ * <p>파일은 임시 파일에 쓴 뒤 원자적으로 이동하므로, 읽는 쪽에서 쓰다 만 파일을 보지 않습니다. 읽을 때는 메모리 매핑(mmap)한 버퍼에서 바로
+ * JSON을 파싱합니다.
+ *
+ * <p>{@code compression-threshold-bytes} 이상인 데이터는 설정된 방식(gzip, deflate)으로 압축합니다. DB에 저장할 때는 JSON
+ * 컬럼 대신 {@code data_blob}에 압축된 값을 저장하고, 파일 저장소에는 압축 방식별 확장자를 붙여 저장합니다. 압축 방식은 {@code
+ * data_encoding}에 기록되므로 설정을 바꿔도 이전 데이터를 그대로 읽을 수 있습니다. 압축해도 크기가 줄지 않으면 압축하지 않고 저장합니다.
+ *
+ * <p>파일은 여러 IO 데이터가 공유하므로 IO 데이터를 기록할 때 지우지 않습니다. 더 이상 참조되지 않는 파일은 {@link TaskIoDataCleaner}가
+ * 주기적으로 찾아 지웁니다(Mark-and-sweep). 이미 저장된 내용을 다시 참조할 때는 파일의 수정 시각을 갱신하여, DB 기록이 끝나기 전에 지워지지
+ * 않도록 합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskIoDataStore {
+
+  private static final String REF_PREFIX = "sha256:";
+  private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+  private final ObjectMapper objectMapper;
+  private final WorkflowExecutionProperties executionProperties;
+
+  private Path root;
+
+  @PostConstruct
+  void init() {
+    root = Paths.get(executionProperties.getIoStore().getDirectory()).toAbsolutePath();
+  }
+
+  /**
+   * JSON 데이터를 직렬화하여 저장할 {@code TaskIoData}를 만듭니다. 크기에 따라 압축하고, 기준 이상이면 파일 저장소에 먼저 기록합니다.
+   *
+   * @param taskRunId TaskRun ID
+   * @param ioType "INPUT", "OUTPUT" 또는 Fan-out 샤드 결과인 "SHARD"
+   * @param name 데이터 이름
+   * @param data 저장할 JSON 데이터
+   * @return DB에 기록할 {@code TaskIoData}
+   * @throws JsonProcessingException 직렬화에 실패한 경우
+   */
+  public TaskIoData toRecord(Long taskRunId, String ioType, String name, JsonNode data)
+      throws JsonProcessingException {
+    WorkflowExecutionProperties.IoStore ioStore = executionProperties.getIoStore();
+
+    // 📌 바이트로 한 번만 직렬화하고, 압축하지 않고 DB에 그대로 저장하는 작은 데이터만 문자열로 변환합니다.
+    byte[] content = objectMapper.writeValueAsBytes(data);
+    Compression encoding =
+        content.length >= ioStore.getCompressionThresholdBytes()
+            ? ioStore.getCompression()
+            : Compression.NONE;
+    byte[] stored = encode(content, encoding);
+    if (stored.length >= content.length) {
+      encoding = Compression.NONE;
+      stored = content;
+    }
+
+    TaskIoData.TaskIoDataBuilder record =
+        TaskIoData.builder()
+            .taskRunId(taskRunId)
+            .ioType(ioType)
+            .name(name)
+            .dataType("JSON")
+            .dataSize((long) content.length)
+            .dataEncoding(encodingName(encoding))
+            .storedSize((long) stored.length);
+    if (ioStore.isEnabled() && content.length >= ioStore.getInlineThresholdBytes()) {
+      // 원본 내용의 해시로 이름을 정하므로, 압축 방식과 상관없이 같은 내용은 같은 참조를 가집니다.
+      return record.storageRef(write(sha256Hex(content), encoding, stored)).build();
+    }
+    if (encoding != Compression.NONE) {
+      return record.dataBlob(stored).build();
+    }
+    return record.dataValue(new String(content, StandardCharsets.UTF_8)).build();
+  }
+
+  /**
+   * 저장된 {@code TaskIoData}의 값을 JSON으로 읽습니다. 파일 저장소에 있는 경우 메모리 매핑하여 파싱합니다.
+   *
+   * @param ioData 조회한 Task IO 데이터
+   * @return 파싱된 JSON (값이 없으면 null)
+   * @throws IOException 파일을 읽거나 파싱하는 데 실패한 경우
+   */
+  public JsonNode readJson(TaskIoData ioData) throws IOException {
+    if (ioData.getStorageRef() != null) {
+      Compression encoding = encodingOf(ioData);
+      try (FileChannel channel = FileChannel.open(resolve(ioData.getStorageRef(), encoding))) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        try (InputStream in = decode(new ByteBufferBackedInputStream(buffer), encoding)) {
+          return objectMapper.readTree(in);
+        }
+      }
+    }
+    if (ioData.getDataBlob() != null) {
+      try (InputStream in =
+          decode(new ByteArrayInputStream(ioData.getDataBlob()), encodingOf(ioData))) {
+        return objectMapper.readTree(in);
+      }
+    }
+    return ioData.getDataValue() != null ? objectMapper.readTree(ioData.getDataValue()) : null;
+  }
+
+  /**
+   * 파일 저장소에 있거나 압축된 값을 읽어 {@code dataValue}에 채웁니다. 조회 API가 참조나 압축된 값 대신 실제 값을 그대로 반환하도록 할 때
+   * 사용합니다.
+   *
+   * @param ioData 조회한 Task IO 데이터
+   * @return 값이 채워진 같은 객체
+   */
+  public TaskIoData resolve(TaskIoData ioData) {
+    if (ioData.getDataValue() != null
+        || (ioData.getStorageRef() == null && ioData.getDataBlob() == null)) {
+      return ioData;
+    }
+    try {
+      Compression encoding = encodingOf(ioData);
+      if (ioData.getStorageRef() != null) {
+        try (FileChannel channel = FileChannel.open(resolve(ioData.getStorageRef(), encoding))) {
+          MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+          ioData.restoreDataValue(
+              readString(decode(new ByteBufferBackedInputStream(buffer), encoding)));
+        }
+      } else {
+        ioData.restoreDataValue(
+            readString(decode(new ByteArrayInputStream(ioData.getDataBlob()), encoding)));
+      }
+    } catch (IOException e) {
+      log.error(
+          "Task IO 데이터 조회 실패: TaskIoDataId={}, Ref={}, Encoding={}",
+          ioData.getId(),
+          ioData.getStorageRef(),
+          ioData.getDataEncoding(),
+          e);
+    }
+    return ioData;
+  }
+
+  /** 파일 저장소의 루트 디렉토리를 반환합니다. */
+  public Path getRoot() {
+    return root;
+  }
+
+  /**
+   * 파일 저장소의 파일이 가리키는 {@code storage_ref}를 반환합니다.
+   *
+   * @param file 파일 저장소 안의 파일
+   * @return {@code sha256:<hex>} 형식의 참조, 저장소 파일이 아니면(쓰다 만 임시 파일 등) null
+   */
+  public static String storageRefOf(Path file) {
+    String fileName = file.getFileName().toString();
+    int extension = fileName.indexOf('.');
+    String hash = extension < 0 ? fileName : fileName.substring(0, extension);
+    if (!SHA256_HEX.matcher(hash).matches() || fileName.endsWith(".tmp")) {
+      return null;
+    }
+    return REF_PREFIX + hash;
+  }
+
+  private String write(String hash, Compression encoding, byte[] stored) {
+    Path target = pathOf(hash, encoding);
+    try {
+      // 📌 같은 내용이 이미 저장되어 있으면 다시 쓰지 않고, 정리 작업이 지우지 않도록 수정 시각만 갱신합니다.
+      Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+      return REF_PREFIX + hash;
+    } catch (IOException e) {
+      // 처음 저장하는 내용
+    }
+    try {
+      Files.createDirectories(target.getParent());
+      Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+      try {
+        Files.write(temp, stored, StandardOpenOption.TRUNCATE_EXISTING);
+        moveIntoPlace(temp, target);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Task IO 데이터 파일 저장 실패: " + target, e);
+    }
+    return REF_PREFIX + hash;
+  }
+
+  private void moveIntoPlace(Path temp, Path target) throws IOException {
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // 다른 스레드가 같은 내용을 먼저 저장한 경우
+    } catch (AtomicMoveNotSupportedException e) {
+      try {
+        Files.move(temp, target);
+      } catch (FileAlreadyExistsException ignored) {
+        // 다른 스레드가 같은 내용을 먼저 저장한 경우
+      }
+    }
+  }
+
+  private Path resolve(String storageRef, Compression encoding) {
+    String hash =
+        storageRef.startsWith(REF_PREFIX) ? storageRef.substring(REF_PREFIX.length()) : "";
+    if (!SHA256_HEX.matcher(hash).matches()) {
+      throw new IllegalArgumentException("지원하지 않는 저장소 참조: " + storageRef);
+    }
+    return pathOf(hash, encoding);
+  }
+
+  private Path pathOf(String hash, Compression encoding) {
+    String fileName =
+        switch (encoding) {
+          case NONE -> hash;
+          case GZIP -> hash + ".gz";
+          case DEFLATE -> hash + ".deflate";
+        };
+    return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName);
+  }
+
+  private static byte[] encode(byte[] content, Compression encoding) {
+    if (encoding == Compression.NONE) {
+      return content;
+    }
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 4);
+    try (OutputStream out =
+        encoding == Compression.GZIP
+            ? new GZIPOutputStream(buffer)
+            : new DeflaterOutputStream(buffer)) {
+      out.write(content);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Task IO 데이터 압축 실패", e);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static InputStream decode(InputStream in, Compression encoding) throws IOException {
+    return switch (encoding) {
+      case NONE -> in;
+      case GZIP -> new GZIPInputStream(in);
+      case DEFLATE -> new InflaterInputStream(in);
+    };
+  }
+
+  private static String readString(InputStream in) throws IOException {
+    try (in) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static Compression encodingOf(TaskIoData ioData) {
+    String encoding = ioData.getDataEncoding();
+    return encoding == null ? Compression.NONE : Compression.valueOf(encoding.toUpperCase());
+  }
+
+  private static String encodingName(Compression encoding) {
+    return encoding == Compression.NONE ? null : encoding.name().toLowerCase();
+  }
+
+  static String sha256Hex(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+}
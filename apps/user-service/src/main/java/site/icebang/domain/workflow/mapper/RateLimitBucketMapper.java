@@ -0,0 +1,21 @@
+package site.icebang.domain.workflow.mapper;
+
+import java.time.Instant;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import site.icebang.domain.workflow.model.RateLimitBucket;
+
+@Mapper
+public interface RateLimitBucketMapper {
+  /** 버킷을 잠그고(SELECT ... FOR UPDATE) DB의 현재 시각과 함께 조회합니다. */
+  RateLimitBucket findForUpdate(String bucketKey);
+
+  void insert(@Param("bucketKey") String bucketKey, @Param("tokens") double tokens);
+
+  void update(
+      @Param("bucketKey") String bucketKey,
+      @Param("tokens") double tokens,
+      @Param("updatedAt") Instant updatedAt);
+}
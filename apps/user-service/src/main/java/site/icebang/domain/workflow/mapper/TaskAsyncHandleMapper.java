@@ -0,0 +1,23 @@
+package site.icebang.domain.workflow.mapper;
+
+import java.util.Optional;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import site.icebang.domain.workflow.model.TaskAsyncHandle;
+
+@Mapper
+public interface TaskAsyncHandleMapper {
+  void insert(TaskAsyncHandle handle);
+
+  void update(TaskAsyncHandle handle);
+
+  /** JobRun이 속한 워크플로우 실행에서 같은 Task가 같은 요청으로 제출한, 아직 끝나지 않은 작업을 조회합니다. */
+  Optional<TaskAsyncHandle> findPending(
+      @Param("jobRunId") Long jobRunId,
+      @Param("taskId") Long taskId,
+      @Param("requestHash") String requestHash);
+
+  Optional<TaskAsyncHandle> findByCallbackToken(String callbackToken);
+}
@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.mapper;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +20,15 @@ public interface TaskIoDataMapper {
       @Param("taskRunIds") List<Long> taskRunIds,
       @Param("ioType") String ioType,
       @Param("limit") Integer limit);
+
+  /**
+   * TaskRun과 같은 워크플로우 실행에서 같은 Task가 기록한 Fan-out 샤드 결과를 조회합니다. 실패한 Task를 이어서 실행할 때 사용합니다.
+   */
+  List<TaskIoData> findShardOutputs(@Param("jobRunId") Long jobRunId, @Param("taskId") Long taskId);
+
+  /** 주어진 storage_ref 중 아직 IO 데이터가 참조하는 것만 반환합니다. */
+  List<String> findReferencedStorageRefs(@Param("storageRefs") Collection<String> storageRefs);
+
+  /** 주어진 시각 이전에 기록된 IO 데이터를 삭제합니다. */
+  int deleteCreatedBefore(@Param("before") Instant before);
 }
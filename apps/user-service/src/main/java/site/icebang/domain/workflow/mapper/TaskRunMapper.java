@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.mapper;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -13,4 +15,8 @@ public interface TaskRunMapper {
 
   TaskRun findSuccessfulTaskRunByWorkflowRunId(
       @Param("workflowRunId") Long workflowRunId, @Param("taskName") String taskName);
+
+  /** 워크플로우 실행의 Job에서 이미 성공한 Task 실행 기록을 조회합니다. 중단된 실행을 이어서 할 때 사용합니다. */
+  List<TaskRun> findSuccessfulTaskRunsByJob(
+      @Param("workflowRunId") Long workflowRunId, @Param("jobId") Long jobId);
 }
@@ -0,0 +1,41 @@
+package site.icebang.domain.workflow.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import site.icebang.domain.workflow.model.WorkflowLease;
+
+@Mapper
+public interface WorkflowLeaseMapper {
+  /** 워크플로우에 설정된 실행 겹침 처리 방식을 조회합니다. */
+  String findOverlapPolicy(Long workflowId);
+
+  /** 임대를 잠그고(SELECT ... FOR UPDATE) DB의 현재 시각과 함께 조회합니다. */
+  WorkflowLease findForUpdate(Long workflowId);
+
+  void insert(Long workflowId);
+
+  /**
+   * 임대를 새 실행에 넘깁니다. 만료 시각은 DB 시각 기준으로 {@code ttlMs} 뒤로 설정합니다.
+   *
+   * @param holderRunId 임대를 보유할 실행 (null이면 임대를 비움)
+   */
+  void assign(
+      @Param("workflowId") Long workflowId,
+      @Param("holderRunId") Long holderRunId,
+      @Param("queuedRunId") Long queuedRunId,
+      @Param("ttlMs") long ttlMs);
+
+  /** 보유한 실행은 그대로 두고 기다리는 실행만 갱신합니다. */
+  void updateQueue(@Param("workflowId") Long workflowId, @Param("queuedRunId") Long queuedRunId);
+
+  /**
+   * 보유 중인 임대의 만료 시각을 연장합니다.
+   *
+   * @return 연장된 행 수 (임대를 잃었으면 0)
+   */
+  int renew(
+      @Param("workflowId") Long workflowId,
+      @Param("holderRunId") Long holderRunId,
+      @Param("ttlMs") long ttlMs);
+}
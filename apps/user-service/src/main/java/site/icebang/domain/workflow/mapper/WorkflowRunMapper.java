@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.mapper;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -14,4 +16,48 @@ public interface WorkflowRunMapper {
   void update(WorkflowRun workflowRun);
 
   List<WorkflowRun> findByStatus(@Param("status") String status);
+
+  WorkflowRun findById(@Param("id") Long id);
+
+  /**
+   * 실행 중이거나 기다리는 실행에 취소를 요청합니다. 실행 중인 서버가 주기적으로 확인하여 실행을 중단합니다.
+   *
+   * @return 요청이 기록된 행 수 (이미 끝난 실행이면 0)
+   */
+  int requestCancel(@Param("id") Long id);
+
+  /**
+   * 이전 실행이 끝나기를 기다리는({@code QUEUED}) 실행을 바로 취소합니다.
+   *
+   * @return 취소된 행 수 (기다리는 실행이 아니면 0)
+   */
+  int cancelQueued(@Param("id") Long id, @Param("finishedAt") Instant finishedAt);
+
+  /** 주어진 실행 중 취소가 요청된 실행의 ID를 조회합니다. */
+  List<Long> findCancelRequestedIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * 이어서 실행해야 하는 실행을 조회합니다. 실행 중({@code RUNNING})이거나 서버 종료로 중단된({@code INTERRUPTED}) 실행 중 소유한 서버가
+   * 없거나 소유 기간이 만료된 실행입니다.
+   */
+  List<WorkflowRun> findRecoverable();
+
+  /**
+   * 이 서버가 실행을 소유합니다. 끝나지 않은 실행 중 소유한 서버가 없거나 소유 기간이 만료된 실행만 가져올 수 있습니다.
+   *
+   * @param ttlMs 소유 기간 (DB 시각 기준)
+   * @return 소유한 행 수 (다른 서버가 소유 중이거나 이미 끝난 실행이면 0)
+   */
+  int claimOwner(
+      @Param("id") Long id, @Param("ownerNode") String ownerNode, @Param("ttlMs") long ttlMs);
+
+  /**
+   * 이 서버가 소유한 모든 실행의 소유 기간을 연장합니다.
+   *
+   * @return 연장된 행 수
+   */
+  int renewOwner(@Param("ownerNode") String ownerNode, @Param("ttlMs") long ttlMs);
+
+  /** 이 서버가 소유한 실행의 소유를 해제합니다. */
+  void releaseOwner(@Param("id") Long id, @Param("ownerNode") String ownerNode);
 }
@@ -0,0 +1,123 @@
+package site.icebang.domain.workflow.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 실행 단위(Job, Task) 사이의 의존 관계를 표현하는 불변 방향 비순환 그래프(DAG)입니다.
+ *
+ * <p>노드는 고유한 키(예: Task 이름, Job ID)로 식별되며, 그래프에 존재하지 않는 키를 가리키는 의존성은 이미 충족된 것으로 간주하여 무시합니다. 생성
+ * 시점에 위상 정렬을 수행하므로, 순환 의존성이 있으면 즉시 {@link IllegalStateException}이 발생합니다.
+ *
+ * <p>위상 정렬은 입력 순서(예: execution_order)를 최대한 보존하므로, 의존 관계가 없는 노드들은 원래 순서대로 나열됩니다.
+ *
+ * @param <K> 노드를 식별하는 키 타입
+ * @param <T> 노드 타입
+ * @since v0.1.0
+ */
+public final class DependencyGraph<K, T> {
+
+  private final List<T> orderedNodes;
+  private final Map<K, Set<K>> dependencies;
+  private final Function<T, K> keyFunction;
+
+  private DependencyGraph(
+      List<T> orderedNodes, Map<K, Set<K>> dependencies, Function<T, K> keyFunction) {
+    this.orderedNodes = orderedNodes;
+    this.dependencies = dependencies;
+    this.keyFunction = keyFunction;
+  }
+
+  /**
+   * 노드 목록과 의존성 정보로 그래프를 생성합니다.
+   *
+   * @param nodes 우선순위 순으로 정렬된 노드 목록
+   * @param keyFunction 노드의 고유 키를 반환하는 함수
+   * @param dependencyFunction 노드가 의존하는 다른 노드들의 키를 반환하는 함수
+   * @return 위상 정렬이 완료된 그래프
+   * @throws IllegalStateException 순환 의존성이 존재하거나 키가 중복될 경우
+   */
+  public static <K, T> DependencyGraph<K, T> of(
+      List<T> nodes,
+      Function<T, K> keyFunction,
+      Function<T, ? extends Collection<K>> dependencyFunction) {
+    Map<K, T> nodesByKey = new LinkedHashMap<>();
+    for (T node : nodes) {
+      if (nodesByKey.put(keyFunction.apply(node), node) != null) {
+        throw new IllegalStateException("중복된 실행 단위가 존재합니다: " + keyFunction.apply(node));
+      }
+    }
+
+    Map<K, Set<K>> dependencies = new LinkedHashMap<>();
+    Map<K, Set<K>> dependents = new LinkedHashMap<>();
+    for (K key : nodesByKey.keySet()) {
+      dependents.put(key, new LinkedHashSet<>());
+    }
+    for (Map.Entry<K, T> entry : nodesByKey.entrySet()) {
+      Set<K> deps = new LinkedHashSet<>();
+      Collection<K> declared = dependencyFunction.apply(entry.getValue());
+      if (declared != null) {
+        for (K dep : declared) {
+          if (nodesByKey.containsKey(dep) && !dep.equals(entry.getKey())) {
+            deps.add(dep);
+            dependents.get(dep).add(entry.getKey());
+          }
+        }
+      }
+      dependencies.put(entry.getKey(), Collections.unmodifiableSet(deps));
+    }
+
+    // Kahn 알고리즘: 준비된 노드 중 입력 순서가 가장 앞선 노드부터 꺼냅니다.
+    List<K> keyOrder = new ArrayList<>(nodesByKey.keySet());
+    Map<K, Integer> remaining = new LinkedHashMap<>();
+    dependencies.forEach((key, deps) -> remaining.put(key, deps.size()));
+
+    List<T> ordered = new ArrayList<>(nodes.size());
+    Deque<K> ready = new ArrayDeque<>();
+    keyOrder.stream().filter(key -> remaining.get(key) == 0).forEach(ready::add);
+    while (!ready.isEmpty()) {
+      K key = ready.poll();
+      ordered.add(nodesByKey.get(key));
+      List<K> unlocked = new ArrayList<>();
+      for (K dependent : dependents.get(key)) {
+        if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+          unlocked.add(dependent);
+        }
+      }
+      unlocked.sort((a, b) -> Integer.compare(keyOrder.indexOf(a), keyOrder.indexOf(b)));
+      ready.addAll(unlocked);
+    }
+
+    if (ordered.size() != nodes.size()) {
+      List<K> cyclic = keyOrder.stream().filter(key -> remaining.get(key) > 0).toList();
+      throw new IllegalStateException("순환 의존성이 감지되었습니다: " + cyclic);
+    }
+    return new DependencyGraph<>(
+        Collections.unmodifiableList(ordered),
+        Collections.unmodifiableMap(dependencies),
+        keyFunction);
+  }
+
+  /** 의존성을 모두 만족하는 실행 순서(위상 정렬 순서)로 정렬된 노드 목록을 반환합니다. */
+  public List<T> getOrderedNodes() {
+    return orderedNodes;
+  }
+
+  /** 주어진 노드가 그래프 내에서 직접 의존하는 노드들의 키를 반환합니다. */
+  public Set<K> getDependencies(T node) {
+    return dependencies.getOrDefault(keyFunction.apply(node), Set.of());
+  }
+
+  public K keyOf(T node) {
+    return keyFunction.apply(node);
+  }
+}
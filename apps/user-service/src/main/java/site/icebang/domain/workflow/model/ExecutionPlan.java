@@ -0,0 +1,42 @@
+package site.icebang.domain.workflow.model;
+
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+
+/**
+ * 하나의 워크플로우를 실행하기 위해 미리 컴파일된 불변 실행 계획입니다.
+ *
+ * <p>Job/Task 정의 조회, 정렬, 설정(default_config) 병합, 의존성 그래프 구성, Body 빌더와 Runner 선택이 모두 끝난 상태이므로,
+ * 실행 엔진은 DB의 정의 테이블을 다시 조회하지 않고 이 계획만으로 워크플로우를 실행합니다. 여러 실행이 동시에 공유하므로 생성 이후에는 변경하지
+ * 않아야 합니다.
+ *
+ * @param workflowId 워크플로우 ID
+ * @param jobGraph Job 간 의존성 그래프
+ * @since v0.1.0
+ */
+public record ExecutionPlan(Long workflowId, DependencyGraph<Long, JobPlan> jobGraph) {
+
+  /**
+   * 하나의 Job과 그 안의 Task 의존성 그래프입니다.
+   *
+   * @param job Job 정의
+   * @param taskGraph Task 간 의존성 그래프 (Task 이름 기준)
+   */
+  public record JobPlan(Job job, DependencyGraph<String, TaskPlan> taskGraph) {}
+
+  /**
+   * 설정이 병합된 Task와, 실행에 사용할 Body 빌더 및 Runner입니다.
+   *
+   * @param task 워크플로우 설정이 병합된 Task 정의
+   * @param executionOrder Job 내부 실행 순서
+   * @param bodyBuilder Request Body 빌더 (없으면 null)
+   * @param runner Task 타입에 맞는 Runner (없으면 null)
+   * @param fanOut 배열 입력을 샤드로 나누어 실행하기 위한 설정 (없으면 null)
+   */
+  public record TaskPlan(
+      Task task,
+      Integer executionOrder,
+      TaskBodyBuilder bodyBuilder,
+      TaskRunner runner,
+      FanOutSpec fanOut) {}
+}
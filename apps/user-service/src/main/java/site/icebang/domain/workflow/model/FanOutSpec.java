@@ -0,0 +1,104 @@
+package site.icebang.domain.workflow.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 배열 입력을 가진 Task를 여러 샤드(shard)로 나누어 병렬 실행(Fan-out)하고, 샤드 결과를 하나로 합치는(Fan-in) 방법을 정의합니다.
+ *
+ * <p>Task 파라미터의 {@code fan_out} 항목으로 선언하며, 실행 계획을 컴파일할 때 한 번만 해석됩니다.
+ *
+ * <pre>{@code
+ * "fan_out": {
+ *   "field": "product_urls",          // 샤드로 나눌 Request Body의 배열 필드
+ *   "shard_size": 1,                  // 샤드 하나에 담을 원소 수
+ *   "max_parallelism": 4,             // 동시에 실행할 최대 샤드 수
+ *   "merge": {
+ *     "concat": ["/data/crawled_products"],                 // 샤드 결과를 이어붙일 배열 위치
+ *     "sum": ["/data/success_count", "/data/fail_count"],   // 샤드 결과를 더할 숫자 위치
+ *     "renumber": {"/data/crawled_products": "index"}       // 이어붙인 배열에서 다시 매길 번호 필드
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>병합 규칙에 없는 값은 첫 번째 샤드의 결과를 그대로 사용합니다. 샤드마다 1부터 번호를 매기는 응답은 {@code renumber}로 번호를 원래
+ * 입력 배열에서의 위치로 바꾸어, 샤드 사이에 번호가 겹치지 않도록 해야 합니다.
+ *
+ * @param field 샤드로 나눌 Request Body의 배열 필드 이름
+ * @param shardSize 샤드 하나에 담을 원소 수
+ * @param maxParallelism 동시에 실행할 최대 샤드 수
+ * @param concatPointers 샤드 결과를 순서대로 이어붙일 배열 위치
+ * @param sumPointers 샤드 결과를 합산할 숫자 위치
+ * @param renumberFields 이어붙인 배열 위치별로 원래 입력 순서에 맞게 다시 매길 번호 필드 이름
+ * @since v0.1.0
+ */
+public record FanOutSpec(
+    String field,
+    int shardSize,
+    int maxParallelism,
+    List<JsonPointer> concatPointers,
+    List<JsonPointer> sumPointers,
+    Map<JsonPointer, String> renumberFields) {
+
+  private static final int DEFAULT_MAX_PARALLELISM = 4;
+
+  /**
+   * Task 파라미터에서 Fan-out 설정을 읽습니다.
+   *
+   * @param parameters Task 파라미터
+   * @return Fan-out 설정, 선언되지 않았으면 null
+   * @throws IllegalStateException 필수 값이 없거나 잘못된 경우
+   */
+  public static FanOutSpec from(JsonNode parameters) {
+    JsonNode fanOut = parameters != null ? parameters.path("fan_out") : null;
+    if (fanOut == null || !fanOut.isObject()) {
+      return null;
+    }
+    String field = fanOut.path("field").asText("");
+    int shardSize = fanOut.path("shard_size").asInt(0);
+    if (field.isBlank() || shardSize < 1) {
+      throw new IllegalStateException("fan_out 설정에는 field와 1 이상의 shard_size가 필요합니다: " + fanOut);
+    }
+    int maxParallelism = Math.max(1, fanOut.path("max_parallelism").asInt(DEFAULT_MAX_PARALLELISM));
+    JsonNode merge = fanOut.path("merge");
+    List<JsonPointer> concatPointers = compilePointers(merge.path("concat"));
+    return new FanOutSpec(
+        field,
+        shardSize,
+        maxParallelism,
+        concatPointers,
+        compilePointers(merge.path("sum")),
+        compileRenumberFields(merge.path("renumber"), concatPointers));
+  }
+
+  private static Map<JsonPointer, String> compileRenumberFields(
+      JsonNode node, List<JsonPointer> concatPointers) {
+    Map<JsonPointer, String> fields = new LinkedHashMap<>();
+    if (node.isObject()) {
+      node.fields()
+          .forEachRemaining(
+              entry -> {
+                JsonPointer pointer = JsonPointer.compile(entry.getKey());
+                if (!concatPointers.contains(pointer)) {
+                  throw new IllegalStateException(
+                      "fan_out renumber는 concat에 선언된 배열에만 사용할 수 있습니다: " + entry.getKey());
+                }
+                fields.put(pointer, entry.getValue().asText());
+              });
+    }
+    return Map.copyOf(fields);
+  }
+
+  private static List<JsonPointer> compilePointers(JsonNode node) {
+    List<JsonPointer> pointers = new ArrayList<>();
+    if (node.isArray()) {
+      node.forEach(pointer -> pointers.add(JsonPointer.compile(pointer.asText())));
+    }
+    return List.copyOf(pointers);
+  }
+}
@@ -12,7 +12,7 @@ public class JobRun {
   private Long id;
   private Long workflowRunId;
   private Long jobId;
-  private String status; // PENDING, RUNNING, SUCCESS, FAILED
+  private String status; // PENDING, RUNNING, SUCCESS, FAILED, CANCELLED, INTERRUPTED
   private Instant startedAt;
   private Instant finishedAt;
   private Instant createdAt;
@@ -0,0 +1,19 @@
+package site.icebang.domain.workflow.model;
+
+/**
+ * 이전 실행이 아직 끝나지 않은 워크플로우가 다시 실행 요청을 받았을 때의 처리 방식입니다.
+ *
+ * <p>{@link #ALLOW}를 제외한 방식은 DB의 워크플로우 임대({@code workflow_lease})로 여러 서버에 걸쳐 적용됩니다.
+ *
+ * @since v0.1.0
+ */
+public enum OverlapPolicy {
+  /** 겹쳐서 실행합니다. (임대를 사용하지 않음) */
+  ALLOW,
+  /** 새 실행을 건너뛰고 {@code SKIPPED}로 기록합니다. */
+  SKIP,
+  /** 새 실행 하나만 {@code QUEUED}로 기록해 두었다가 이전 실행이 끝나면 이어서 실행합니다. 이미 기다리는 실행이 있으면 건너뜁니다. */
+  QUEUE_ONE,
+  /** 이전 실행의 취소를 요청하고, 새 실행은 이전 실행이 끝나면 이어서 실행합니다. 이미 기다리던 실행은 건너뜁니다. */
+  CANCEL_PREVIOUS
+}
@@ -0,0 +1,22 @@
+package site.icebang.domain.workflow.model;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 플랫폼 호출 속도를 제한하는 토큰 버킷의 상태입니다.
+ *
+ * <p>여러 서버가 같은 버킷을 공유하도록 DB에 저장하며, 조회할 때 DB의 현재 시각({@code dbNow})을 함께 읽어 서버마다 시계가 달라도 같은
+ * 기준으로 토큰을 채웁니다.
+ */
+@Getter
+@NoArgsConstructor
+public class RateLimitBucket {
+
+  private String bucketKey; // 버킷 이름과 계정 값을 이어 붙인 키 (예: blog-publish:blogger:myblog)
+  private Double tokens; // 남은 토큰 수 (미리 예약된 만큼 음수일 수 있음)
+  private Instant updatedAt; // 토큰 수를 마지막으로 계산한 시각
+  private Instant dbNow; // 조회 시점의 DB 시각
+}
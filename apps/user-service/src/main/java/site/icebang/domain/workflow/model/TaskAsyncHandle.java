@@ -0,0 +1,104 @@
+package site.icebang.domain.workflow.model;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * FastAPI 서버에 비동기로 제출한 작업의 진행 상태를 기록하는 모델입니다.
+ *
+ * <p>서버가 재시작되어도 같은 워크플로우 실행의 같은 Task가 같은 요청으로 다시 실행되면, 작업을 다시 제출하지 않고 이 기록의 {@code
+ * remoteJobId}로 완료를 이어서 기다립니다.
+ */
+@Getter
+@NoArgsConstructor
+public class TaskAsyncHandle {
+
+  private Long id;
+  private Long taskRunId;
+  private Long jobRunId;
+  private Long workflowRunId; // 저장 시 job_run에서 채워짐
+  private Long taskId;
+  private String requestHash; // 요청 Body의 SHA-256 (같은 요청인지 확인하는 용도)
+  private String remoteJobId; // FastAPI 서버가 발급한 작업 ID
+  private String statusEndpoint; // 상태 조회 엔드포인트 템플릿 (예: /jobs/{job_id})
+  private String upstreamUrl; // 작업을 받은 FastAPI 인스턴스 (상태 조회도 이 인스턴스로 보냄)
+  private String callbackToken; // 완료 콜백을 인증하는 토큰
+  private String status; // SUBMITTED, SUCCEEDED, FAILED, EXPIRED
+  private Integer pollCount;
+  private Instant deadlineAt;
+  private Instant createdAt;
+  private Instant updatedAt;
+
+  private TaskAsyncHandle(
+      Long taskRunId,
+      Long jobRunId,
+      Long taskId,
+      String requestHash,
+      String remoteJobId,
+      String statusEndpoint,
+      String upstreamUrl,
+      String callbackToken,
+      Instant deadlineAt) {
+    this.taskRunId = taskRunId;
+    this.jobRunId = jobRunId;
+    this.taskId = taskId;
+    this.requestHash = requestHash;
+    this.remoteJobId = remoteJobId;
+    this.statusEndpoint = statusEndpoint;
+    this.upstreamUrl = upstreamUrl;
+    this.callbackToken = callbackToken;
+    this.status = "SUBMITTED";
+    this.pollCount = 0;
+    this.deadlineAt = deadlineAt;
+    this.createdAt = Instant.now();
+    this.updatedAt = this.createdAt;
+  }
+
+  /** 작업 제출 직후의 기록을 생성하는 정적 팩토리 메소드 */
+  public static TaskAsyncHandle submitted(
+      Long taskRunId,
+      Long jobRunId,
+      Long taskId,
+      String requestHash,
+      String remoteJobId,
+      String statusEndpoint,
+      String upstreamUrl,
+      String callbackToken,
+      Instant deadlineAt) {
+    return new TaskAsyncHandle(
+        taskRunId,
+        jobRunId,
+        taskId,
+        requestHash,
+        remoteJobId,
+        statusEndpoint,
+        upstreamUrl,
+        callbackToken,
+        deadlineAt);
+  }
+
+  /** 재시작 후 새 TaskRun이 기존 작업을 이어받을 때 호출합니다. */
+  public void attachTo(Long taskRunId, Long jobRunId) {
+    this.taskRunId = taskRunId;
+    this.jobRunId = jobRunId;
+    this.updatedAt = Instant.now();
+  }
+
+  /** 상태를 한 번 조회했음을 기록합니다. */
+  public void polled() {
+    this.pollCount = pollCount == null ? 1 : pollCount + 1;
+    this.updatedAt = Instant.now();
+  }
+
+  /** 작업 종료 처리 (SUCCEEDED, FAILED, EXPIRED) */
+  public void finish(String status) {
+    this.status = status;
+    this.updatedAt = Instant.now();
+  }
+
+  public boolean isPending() {
+    return "SUBMITTED".equals(status);
+  }
+}
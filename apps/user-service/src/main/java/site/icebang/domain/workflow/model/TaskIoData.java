@@ -2,6 +2,9 @@ package site.icebang.domain.workflow.model;
 
 import java.time.Instant;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -14,7 +17,11 @@ public class TaskIoData {
   private String name;
   private String dataType;
   private String dataValue; // JSON을 문자열로 저장
-  private Long dataSize;
+  private Long dataSize; // 압축 전 원본 크기 (bytes)
+  private String storageRef; // 파일 저장소에 저장된 경우의 참조 (sha256:<hex>), 이때 dataValue는 null
+  private String dataEncoding; // 압축 방식 (gzip, deflate), null이면 압축하지 않음
+  @JsonIgnore private byte[] dataBlob; // DB에 압축해서 저장한 값, 이때 dataValue는 null
+  private Long storedSize; // 실제로 저장된 크기 (압축 후 bytes)
   private Instant createdAt;
 
   public TaskIoData(
@@ -24,12 +31,36 @@ public class TaskIoData {
       String dataType,
       String dataValue,
       Long dataSize) {
+    this(taskRunId, ioType, name, dataType, dataValue, dataSize, null, null, null, dataSize);
+  }
+
+  @Builder
+  private TaskIoData(
+      Long taskRunId,
+      String ioType,
+      String name,
+      String dataType,
+      String dataValue,
+      Long dataSize,
+      String storageRef,
+      String dataEncoding,
+      byte[] dataBlob,
+      Long storedSize) {
     this.taskRunId = taskRunId;
     this.ioType = ioType;
     this.name = name;
     this.dataType = dataType;
     this.dataValue = dataValue;
     this.dataSize = dataSize;
+    this.storageRef = storageRef;
+    this.dataEncoding = dataEncoding;
+    this.dataBlob = dataBlob;
+    this.storedSize = storedSize;
     this.createdAt = Instant.now();
   }
+
+  /** 파일 저장소나 압축된 값에서 읽어온 원본 값을 채웁니다. 조회 API가 실제 값을 반환할 때 사용합니다. */
+  public void restoreDataValue(String dataValue) {
+    this.dataValue = dataValue;
+  }
 }
@@ -13,7 +13,7 @@ public class TaskRun {
   private Long jobRunId;
   private Long taskId;
   private Integer executionOrder;
-  private String status; // PENDING, RUNNING, SUCCESS, FAILED
+  private String status; // PENDING, RUNNING, SUCCESS, FAILED, CANCELLED, INTERRUPTED
   private String resultMessage; // 실행 결과 메시지
   private Instant startedAt;
   private Instant finishedAt;
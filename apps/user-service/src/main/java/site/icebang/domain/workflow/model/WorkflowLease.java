@@ -0,0 +1,28 @@
+package site.icebang.domain.workflow.model;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 워크플로우 하나의 실행 임대(Lease) 상태입니다.
+ *
+ * <p>임대를 보유한 실행만 해당 워크플로우를 실행할 수 있습니다. 보유한 서버가 죽어도 다른 서버가 이어받을 수 있도록 만료 시각을 두며, 만료 여부는
+ * 조회할 때 함께 읽은 DB 시각({@code dbNow})으로 판단합니다.
+ */
+@Getter
+@NoArgsConstructor
+public class WorkflowLease {
+
+  private Long workflowId;
+  private Long holderRunId; // 임대를 보유한 실행 (없으면 null)
+  private Long queuedRunId; // 임대가 반납되면 이어서 실행할 실행 (없으면 null)
+  private Instant expiresAt;
+  private Instant dbNow; // 조회 시점의 DB 시각
+
+  /** 보유한 실행이 없거나 만료되어 새 실행이 가져갈 수 있는지 여부를 반환합니다. */
+  public boolean isFree() {
+    return holderRunId == null || expiresAt == null || !expiresAt.isAfter(dbNow);
+  }
+}
@@ -12,13 +12,17 @@ public class WorkflowRun {
   private Long id;
   private Long workflowId;
   private String traceId; // 분산 추적을 위한 ID
-  private String status; // PENDING, RUNNING, SUCCESS, FAILED
+  private String status; // RUNNING, SUCCESS, FAILED, QUEUED, SKIPPED, CANCELLED, INTERRUPTED
+  private String triggerType; // manual, schedule
+  private Instant deadlineAt; // 실행 마감 시각 (없으면 null)
   private Instant startedAt;
   private Instant finishedAt;
   private Instant createdAt;
 
-  private WorkflowRun(Long workflowId, String traceId) {
+  private WorkflowRun(Long workflowId, String traceId, String triggerType, Instant deadlineAt) {
     this.workflowId = workflowId;
+    this.triggerType = triggerType;
+    this.deadlineAt = deadlineAt;
     // MDC에서 현재 요청의 traceId를 가져오거나, 없으면 새로 생성
     this.traceId = traceId;
     this.status = "RUNNING";
@@ -28,7 +32,37 @@ public class WorkflowRun {
 
   /** 워크플로우 실행 시작을 위한 정적 팩토리 메소드 */
   public static WorkflowRun start(Long workflowId, String traceId) {
-    return new WorkflowRun(workflowId, traceId);
+    return new WorkflowRun(workflowId, traceId, null, null);
+  }
+
+  /** 실행을 요청한 경로(manual, schedule)를 기록하여 워크플로우 실행을 시작합니다. */
+  public static WorkflowRun start(Long workflowId, String traceId, String triggerType) {
+    return new WorkflowRun(workflowId, traceId, triggerType, null);
+  }
+
+  /** 실행 마감 시각을 정하여 워크플로우 실행을 시작합니다. 마감 시각이 지나면 실행이 취소됩니다. */
+  public static WorkflowRun start(
+      Long workflowId, String traceId, String triggerType, Instant deadlineAt) {
+    return new WorkflowRun(workflowId, traceId, triggerType, deadlineAt);
+  }
+
+  /** 이전 실행이 끝나기를 기다리는 상태로 전환 */
+  public void queue() {
+    this.status = "QUEUED";
+  }
+
+  /** 기다리던 실행을 시작하거나, 서버 종료로 중단된 실행을 이어서 실행 */
+  public void resume() {
+    if ("QUEUED".equals(this.status)) {
+      this.startedAt = Instant.now();
+    }
+    this.status = "RUNNING";
+    this.finishedAt = null;
+  }
+
+  /** 이전 실행과 겹쳐 실행하지 않고 건너뜀 */
+  public void skip() {
+    finish("SKIPPED");
   }
 
   /** 워크플로우 실행 완료 처리 */
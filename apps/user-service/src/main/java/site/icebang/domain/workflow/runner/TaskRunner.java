@@ -1,5 +1,6 @@
 package site.icebang.domain.workflow.runner;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import site.icebang.domain.workflow.model.Task;
@@ -26,15 +27,27 @@ public interface TaskRunner {
   /**
    * Task 실행 결과를 담는 불변(Immutable) 데이터 객체(Record)입니다.
    *
-   * <p>실행의 성공/실패 여부(status)와 결과 메시지(message)를 표준화된 방식으로 반환합니다.
+   * <p>실행의 성공/실패 여부(status)와 결과 메시지(message)를 표준화된 방식으로 반환합니다. 응답을 이미 파싱한 Runner는 결과를
+   * {@code body}로 전달하여, 호출자가 문자열을 다시 파싱하지 않도록 합니다.
    *
    * @param status 실행 상태 ("SUCCESS" 또는 "FAILED")
-   * @param message 실행 결과 (성공 시 응답 Body, 실패 시 에러 메시지)
+   * @param message 실행 결과 (성공 시 응답 Body 문자열 또는 null, 실패 시 에러 메시지)
+   * @param body 파싱된 응답 Body (Runner가 파싱하지 않았다면 null)
    * @since v0.1.0
    */
-  record TaskExecutionResult(String status, String message) {
+  record TaskExecutionResult(String status, String message, JsonNode body) {
     public static TaskExecutionResult success(String message) {
-      return new TaskExecutionResult("SUCCESS", message);
+      return new TaskExecutionResult("SUCCESS", message, null);
+    }
+
+    /**
+     * 파싱된 응답 Body로 성공 결과를 생성하는 정적 팩토리 메소드입니다.
+     *
+     * @param body 파싱된 응답 Body
+     * @return status가 "SUCCESS"로 설정된 결과 객체
+     */
+    public static TaskExecutionResult success(JsonNode body) {
+      return new TaskExecutionResult("SUCCESS", null, body);
     }
 
     /**
@@ -44,7 +57,7 @@ public interface TaskRunner {
      * @return status가 "FAILED"로 설정된 결과 객체
      */
     public static TaskExecutionResult failure(String message) {
-      return new TaskExecutionResult("FAILED", message);
+      return new TaskExecutionResult("FAILED", message, null);
     }
 
     /**
@@ -0,0 +1,78 @@
+package site.icebang.domain.workflow.runner;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import site.icebang.global.config.async.RunPermit;
+
+/**
+ * 실행 중인 Task가 외부 작업의 완료를 기다리는 동안 보유한 허가를 잠시 반납하기 위한 객체입니다.
+ *
+ * <p>{@code WorkflowExecutionService}가 Task를 실행하는 스레드에 바인딩하며, Runner는 {@link #current()}로 꺼내어
+ * 사용합니다. 기다리는 동안에는 Job 내부의 Task 병렬 실행 허가와 워크플로우 실행 허가({@link RunPermit})를 반납하므로, 오래 걸리는 외부 작업을
+ * 기다리는 Task가 다른 Task나 워크플로우의 실행을 막지 않습니다.
+ *
+ * @since v0.1.0
+ */
+public final class TaskSuspension {
+
+  private static final ThreadLocal<TaskSuspension> CURRENT = new ThreadLocal<>();
+
+  private final RunPermit runPermit;
+  private final Semaphore taskParallelism;
+
+  public TaskSuspension(RunPermit runPermit, Semaphore taskParallelism) {
+    this.runPermit = runPermit;
+    this.taskParallelism = taskParallelism;
+  }
+
+  /**
+   * 현재 스레드에 바인딩된 객체를 반환합니다.
+   *
+   * @return 바인딩된 객체, 없으면 허가를 반납하지 않는 객체
+   */
+  public static TaskSuspension current() {
+    TaskSuspension suspension = CURRENT.get();
+    return suspension != null ? suspension : new TaskSuspension(null, null);
+  }
+
+  /** 현재 스레드에 바인딩한 뒤 작업을 실행합니다. */
+  public <T> T runBound(Supplier<T> action) {
+    TaskSuspension previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return action.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * 허가를 반납한 상태로 대기 작업을 실행하고, 끝나면 허가를 다시 얻습니다.
+   *
+   * @param waiting 외부 작업의 완료를 기다리는 작업
+   * @return 대기 작업의 결과
+   */
+  public <T> T whileSuspended(Supplier<T> waiting) {
+    if (taskParallelism != null) {
+      taskParallelism.release();
+    }
+    if (runPermit != null) {
+      runPermit.suspend();
+    }
+    try {
+      return waiting.get();
+    } finally {
+      if (runPermit != null) {
+        runPermit.resume();
+      }
+      if (taskParallelism != null) {
+        taskParallelism.acquireUninterruptibly();
+      }
+    }
+  }
+}
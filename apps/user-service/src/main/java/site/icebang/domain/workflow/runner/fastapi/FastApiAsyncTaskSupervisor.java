@@ -0,0 +1,337 @@
+package site.icebang.domain.workflow.runner.fastapi;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.domain.workflow.mapper.TaskAsyncHandleMapper;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.TaskAsyncHandle;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.runner.TaskRunner.TaskExecutionResult;
+import site.icebang.domain.workflow.runner.TaskSuspension;
+import site.icebang.external.fastapi.adapter.FastApiAdapter;
+import site.icebang.external.fastapi.adapter.FastApiCallResult;
+import site.icebang.external.fastapi.adapter.FastApiUpstreamPool;
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 오래 걸리는 FastAPI 작업을 제출한 뒤 완료될 때까지 감독하는 컴포넌트입니다.
+ *
+ * <p>Task 파라미터에 {@code "async": true}가 설정된 Task는 응답을 기다리며 연결을 붙잡지 않고, 작업을 제출하여 작업 ID를 받은 뒤 완료를
+ * 기다립니다. 기다리는 동안에는 {@link TaskSuspension}으로 실행 허가를 반납하므로, 인스턴스 하나가 허가 수보다 훨씬 많은 장시간 작업을 감독할 수
+ * 있습니다.
+ *
+ * <h2>FastAPI 서버와의 약속:</h2>
+ *
+ * <ul>
+ *   <li>제출: Task의 엔드포인트로 요청 Body를 보내면 {@code {"job_id": "..."}}를 응답합니다. {@code
+ *       api.fastapi.async.callback-base-url}이 설정된 경우 Body에 {@code callback_url}이 추가됩니다.
+ *   <li>조회: {@code GET /jobs/{job_id}}(Task 파라미터 {@code status_endpoint}로 변경 가능)는 {@code {"status":
+ *       "RUNNING|SUCCEEDED|FAILED", "result": {...}, "error": "..."}}를 응답합니다.
+ *   <li>콜백(선택): 작업이 끝나면 {@code callback_url}로 POST합니다. Body는 사용하지 않습니다.
+ * </ul>
+ *
+ * <p>상태 조회 간격은 {@code initial-poll-ms}부터 {@code poll-multiplier}배씩 늘어나 {@code max-poll-ms}에서 멈추며,
+ * 콜백을 받으면 다음 조회 시점을 기다리지 않고 바로 상태를 조회합니다. 콜백 URL은 평문으로 전달되므로 콜백은 깨우는 신호로만 사용하며, 작업 결과는
+ * 항상 작업을 받은 인스턴스에 직접 조회한 응답으로 판단합니다. 제출한 작업은 {@code task_async_handle}에 기록되므로, 서버가 재시작되어
+ * 워크플로우가 이어서 실행되면 같은 Task의 같은 요청은 다시 제출하지 않고 기존 작업의 완료를 기다립니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiAsyncTaskSupervisor {
+
+  private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
+  private static final Set<String> SUCCEEDED = Set.of("SUCCEEDED", "SUCCESS", "COMPLETED");
+  private static final Set<String> FAILED = Set.of("FAILED", "ERROR");
+  private static final String CALLBACK_PATH = "/v0/task-callbacks/";
+
+  private final FastApiAdapter fastApiAdapter;
+  private final FastApiUpstreamPool upstreamPool;
+  private final FastApiProperties properties;
+  private final TaskAsyncHandleMapper taskAsyncHandleMapper;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  /** 콜백 토큰별로 완료를 기다리는 Task를 깨우는 신호 */
+  private final Map<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("fastapi.async.waiting", waiters, Map::size)
+        .description("완료를 기다리고 있는 FastAPI 비동기 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 작업을 제출하고(또는 이전에 제출한 작업을 이어받아) 완료될 때까지 기다립니다.
+   *
+   * @param task 실행할 Task의 정적 정의
+   * @param taskRun 현재 실행에 대한 기록 객체
+   * @param requestBody 제출할 요청 Body
+   * @param endpoint 제출할 엔드포인트
+   * @param method 제출에 사용할 HTTP 메소드
+   * @param maxResponseBytes 제출/조회 응답으로 허용할 최대 크기
+   * @param timeout 제출/조회 요청 하나의 응답 타임아웃
+   * @return 작업의 최종 결과
+   */
+  public TaskExecutionResult execute(
+      Task task,
+      TaskRun taskRun,
+      ObjectNode requestBody,
+      String endpoint,
+      HttpMethod method,
+      long maxResponseBytes,
+      Duration timeout) {
+    String requestHash = sha256Hex(requestBody);
+    TaskAsyncHandle handle =
+        taskAsyncHandleMapper
+            .findPending(taskRun.getJobRunId(), task.getId(), requestHash)
+            .orElse(null);
+
+    if (handle != null) {
+      handle.attachTo(taskRun.getId(), taskRun.getJobRunId());
+      taskAsyncHandleMapper.update(handle);
+      workflowLogger.info(
+          "비동기 작업 이어서 대기: TaskRunId={}, RemoteJobId={}",
+          taskRun.getId(),
+          handle.getRemoteJobId());
+    } else {
+      handle =
+          submit(
+              task,
+              taskRun,
+              requestBody,
+              requestHash,
+              endpoint,
+              method,
+              maxResponseBytes,
+              timeout);
+      if (handle == null) {
+        return TaskExecutionResult.failure("비동기 작업 제출에 실패했습니다: " + endpoint);
+      }
+    }
+
+    TaskAsyncHandle submitted = handle;
+    // 📌 기다리는 동안에는 실행 허가를 반납하여 다른 Task와 워크플로우가 실행될 수 있도록 합니다.
+    return TaskSuspension.current()
+        .whileSuspended(() -> await(submitted, maxResponseBytes, timeout));
+  }
+
+  /**
+   * FastAPI 서버가 보낸 작업 완료 콜백을 받아, 기다리는 Task가 바로 상태를 조회하도록 깨웁니다.
+   *
+   * <p>콜백의 내용은 결과로 사용하지 않습니다. 기다리는 Task가 없으면(재시작 직후 등) 이어서 실행될 때 조회로 결과를 가져갑니다.
+   *
+   * @param callbackToken 제출 시 발급한 콜백 토큰
+   * @return 토큰에 해당하는 작업이 있으면 true
+   */
+  public boolean onCallback(String callbackToken) {
+    if (taskAsyncHandleMapper.findByCallbackToken(callbackToken).isEmpty()) {
+      return false;
+    }
+    CompletableFuture<Void> waiter = waiters.get(callbackToken);
+    if (waiter != null) {
+      waiter.complete(null);
+    }
+    return true;
+  }
+
+  private TaskAsyncHandle submit(
+      Task task,
+      TaskRun taskRun,
+      ObjectNode requestBody,
+      String requestHash,
+      String endpoint,
+      HttpMethod method,
+      long maxResponseBytes,
+      Duration timeout) {
+    FastApiProperties.Async config = properties.getAsync();
+    JsonNode params = task.getParameters();
+    String callbackToken = UUID.randomUUID().toString();
+
+    ObjectNode submitBody = requestBody;
+    if (StringUtils.hasText(config.getCallbackBaseUrl())) {
+      submitBody = requestBody.deepCopy();
+      submitBody.put("callback_url", config.getCallbackBaseUrl() + CALLBACK_PATH + callbackToken);
+    }
+    FastApiCallResult response =
+        fastApiAdapter.callForJson(endpoint, method, submitBody, maxResponseBytes, timeout);
+    if (response.isTransientFailure()) {
+      // 제출되지 않은 작업이므로 같은 요청을 다시 보내도 안전합니다.
+      throw new ExternalCallFailedException(
+          "비동기 작업 제출 실패: " + response.describe(), true, response.retryAfter());
+    }
+    String remoteJobId = response.isSuccess() ? response.body().path("job_id").asText(null) : null;
+    if (remoteJobId == null) {
+      workflowLogger.error(
+          "비동기 작업 제출 응답에 job_id가 없습니다: TaskRunId={}, Endpoint={}",
+          taskRun.getId(),
+          endpoint);
+      return null;
+    }
+
+    long maxWaitMs = params.path("async_timeout_ms").asLong(config.getMaxWaitMs());
+    TaskAsyncHandle handle =
+        TaskAsyncHandle.submitted(
+            taskRun.getId(),
+            taskRun.getJobRunId(),
+            task.getId(),
+            requestHash,
+            remoteJobId,
+            params.path("status_endpoint").asText(config.getStatusEndpoint()),
+            response.upstream(),
+            callbackToken,
+            Instant.now().plusMillis(maxWaitMs));
+    taskAsyncHandleMapper.insert(handle);
+    workflowLogger.info(
+        "비동기 작업 제출 완료: TaskRunId={}, RemoteJobId={}, MaxWait={}ms",
+        taskRun.getId(),
+        remoteJobId,
+        maxWaitMs);
+    return handle;
+  }
+
+  private TaskExecutionResult await(
+      TaskAsyncHandle handle, long maxResponseBytes, Duration timeout) {
+    FastApiProperties.Async config = properties.getAsync();
+    CompletableFuture<Void> wakeUp = new CompletableFuture<>();
+    waiters.put(handle.getCallbackToken(), wakeUp);
+    try {
+      long delayMs = config.getInitialPollMs();
+      while (true) {
+        long remainingMs = Duration.between(Instant.now(), handle.getDeadlineAt()).toMillis();
+        if (remainingMs <= 0) {
+          finish(handle, "EXPIRED");
+          return TaskExecutionResult.failure(
+              "비동기 작업 대기 시간 초과: RemoteJobId=" + handle.getRemoteJobId());
+        }
+
+        try {
+          wakeUp.get(Math.min(delayMs, remainingMs), TimeUnit.MILLISECONDS);
+          // 📌 콜백으로 깨어났으면 다음 콜백을 받을 수 있도록 신호를 새로 만들고 바로 조회합니다.
+          wakeUp = new CompletableFuture<>();
+          waiters.put(handle.getCallbackToken(), wakeUp);
+        } catch (TimeoutException e) {
+          // 조회 시점이 되었습니다.
+        }
+
+        TaskExecutionResult result = toResult(handle, poll(handle, maxResponseBytes, timeout));
+        if (result != null) {
+          return result;
+        }
+        delayMs = Math.min((long) (delayMs * config.getPollMultiplier()), config.getMaxPollMs());
+      }
+    } catch (InterruptedException e) {
+      // 작업 기록은 SUBMITTED로 남겨 두어, 이어서 실행될 때 다시 기다릴 수 있도록 합니다.
+      Thread.currentThread().interrupt();
+      return TaskExecutionResult.failure("비동기 작업 대기 중 인터럽트 발생");
+    } catch (ExecutionException e) {
+      return TaskExecutionResult.failure("비동기 작업 콜백 대기 실패: " + e.getMessage());
+    } finally {
+      waiters.remove(handle.getCallbackToken());
+    }
+  }
+
+  private JsonNode poll(TaskAsyncHandle handle, long maxResponseBytes, Duration timeout) {
+    handle.polled();
+    try {
+      // 작업 상태는 작업을 받은 인스턴스만 알고 있으므로 같은 인스턴스로 조회합니다.
+      FastApiCallResult result =
+          upstreamPool.withPinned(
+              handle.getUpstreamUrl(),
+              () ->
+                  fastApiAdapter.callForJson(
+                      handle.getStatusEndpoint(),
+                      Map.of("job_id", handle.getRemoteJobId()),
+                      HttpMethod.GET,
+                      null,
+                      maxResponseBytes,
+                      timeout));
+      return result.isSuccess() ? result.body() : null;
+    } catch (CallNotPermittedException e) {
+      // 작업은 서버에서 계속 진행 중이므로, 실패로 처리하지 않고 다음 조회 시점까지 기다립니다.
+      workflowLogger.warn(
+          "비동기 작업 상태 조회 보류: RemoteJobId={}, Reason={}",
+          handle.getRemoteJobId(),
+          e.getReason());
+      return null;
+    }
+  }
+
+  /** 끝난 작업이면 결과를, 진행 중이거나 조회에 실패했으면 null을 반환합니다. */
+  private TaskExecutionResult toResult(TaskAsyncHandle handle, JsonNode status) {
+    if (status == null) {
+      return null;
+    }
+    String state = status.path("status").asText("").toUpperCase();
+    if (SUCCEEDED.contains(state)) {
+      finish(handle, "SUCCEEDED");
+      JsonNode result = status.path("result");
+      return TaskExecutionResult.success(result.isMissingNode() ? status : result);
+    }
+    if (FAILED.contains(state)) {
+      finish(handle, "FAILED");
+      return TaskExecutionResult.failure(
+          "비동기 작업 실패: " + status.path("error").asText("원인 없음"));
+    }
+    return null;
+  }
+
+  private void finish(TaskAsyncHandle handle, String status) {
+    handle.finish(status);
+    taskAsyncHandleMapper.update(handle);
+    Counter.builder("fastapi.async.completions")
+        .description("종료된 FastAPI 비동기 작업 수")
+        .tag("outcome", status.toLowerCase())
+        .register(meterRegistry)
+        .increment();
+    workflowLogger.info(
+        "비동기 작업 종료: RemoteJobId={}, Status={}, Polls={}",
+        handle.getRemoteJobId(),
+        status,
+        handle.getPollCount());
+  }
+
+  private String sha256Hex(JsonNode requestBody) {
+    try {
+      byte[] content = objectMapper.writeValueAsBytes(requestBody);
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("요청 Body 직렬화 실패", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package site.icebang.domain.workflow.runner.fastapi;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.domain.workflow.mapper.RateLimitBucketMapper;
+import site.icebang.domain.workflow.model.RateLimitBucket;
+import site.icebang.domain.workflow.runner.TaskSuspension;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 외부 플랫폼/계정별로 FastAPI 요청의 속도를 제한하는 토큰 버킷 리미터입니다.
+ *
+ * <p>블로그 발행이나 키워드 검색 요청은 FastAPI를 거쳐 외부 플랫폼으로 전달되므로, 같은 시각에 실행되는 여러 워크플로우의 요청이 몰리면 플랫폼이
+ * 요청을 차단하고 재시도만 낭비됩니다. 엔드포인트별 규칙의 {@code key-fields}(예: {@code tag}, {@code blog_id}) 값으로 버킷을 나누고,
+ * 요청마다 토큰을 하나씩 사용합니다.
+ *
+ * <ul>
+ *   <li>버킷은 DB({@code rate_limit_bucket})에 저장하고 {@code SELECT ... FOR UPDATE}로 잠가서 갱신하므로, 여러 서버가 같은
+ *       한도를 공유합니다. 토큰은 DB 시각 기준으로 채웁니다.
+ *   <li>토큰이 없으면 다음 토큰이 채워질 시각을 미리 예약하고 그때까지 기다립니다. 예약은 DB 요청 한 번으로 끝나며, 기다리는 요청들은 예약한 순서대로
+ *       실행됩니다.
+ *   <li>기다리는 동안에는 실행 허가를 반납하므로({@link TaskSuspension}), 제한에 걸린 Task가 워크플로우 실행 허가를 차지하지 않습니다.
+ *   <li>{@code max-wait-ms}보다 오래 기다려야 하면 예약하지 않고 재시도할 수 있는 실패로 끝냅니다.
+ * </ul>
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.ratelimit.wait}: 토큰을 기다린 시간 (태그: bucket)
+ *   <li>{@code workflow.ratelimit.rejected}: 대기 시간이 너무 길어 거절된 요청 수 (태그: bucket)
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiRateLimiter {
+
+  private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
+
+  private final WorkflowExecutionProperties executionProperties;
+  private final RateLimitBucketMapper rateLimitBucketMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final MeterRegistry meterRegistry;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 엔드포인트에 제한 규칙이 있으면 토큰을 얻을 때까지 기다립니다.
+   *
+   * @param endpoint 요청을 보낼 엔드포인트 경로
+   * @param requestBody 요청 Body (버킷을 나누는 필드 값을 읽음)
+   * @throws ExternalCallFailedException 토큰을 {@code max-wait-ms} 안에 얻을 수 없는 경우 (재시도 가능)
+   */
+  public void acquire(String endpoint, JsonNode requestBody) {
+    WorkflowExecutionProperties.RateLimit config = executionProperties.getRateLimit();
+    WorkflowExecutionProperties.Rule rule = config.getRules().get(endpoint);
+    if (!config.isEnabled() || rule == null) {
+      return;
+    }
+
+    String bucket = rule.getBucket() != null ? rule.getBucket() : endpoint;
+    String bucketKey = bucketKey(bucket, rule, requestBody);
+    long waitMs = reserve(bucketKey, rule, config.getMaxWaitMs());
+    if (waitMs < 0) {
+      Counter.builder("workflow.ratelimit.rejected")
+          .description("대기 시간이 너무 길어 거절된 요청 수")
+          .tag("bucket", bucket)
+          .register(meterRegistry)
+          .increment();
+      throw new ExternalCallFailedException(
+          String.format("호출 속도 제한 초과: Bucket=%s, 예상 대기 시간=%dms", bucket, -waitMs),
+          true,
+          Duration.ofMillis(-waitMs));
+    }
+    if (waitMs > 0) {
+      workflowLogger.info("호출 속도 제한 대기: Bucket={}, Wait={}ms", bucket, waitMs);
+      // 📌 기다리는 동안에는 실행 허가를 반납하여 다른 Task가 실행될 수 있도록 합니다.
+      TaskSuspension.current().whileSuspended(() -> sleep(waitMs));
+      if (Thread.currentThread().isInterrupted()) {
+        throw new ExternalCallFailedException("호출 속도 제한 대기 중 인터럽트 발생", false, null);
+      }
+    }
+    Timer.builder("workflow.ratelimit.wait")
+        .description("호출 속도 제한으로 토큰을 기다린 시간")
+        .tag("bucket", bucket)
+        .register(meterRegistry)
+        .record(Duration.ofMillis(waitMs));
+  }
+
+  /**
+   * 토큰 하나를 예약하고 기다려야 할 시간을 반환합니다.
+   *
+   * @return 기다려야 할 시간 (밀리초), 최대 대기 시간을 넘어 예약하지 않았으면 음수로 표시한 예상 대기 시간
+   */
+  private long reserve(String bucketKey, WorkflowExecutionProperties.Rule rule, long maxWaitMs) {
+    double tokensPerMs = rule.getRefillPerMinute() / 60_000.0;
+    return transactionTemplate.execute(
+        status -> {
+          RateLimitBucket bucket = lockBucket(bucketKey, rule.getCapacity());
+          long elapsedMs =
+              Math.max(0, Duration.between(bucket.getUpdatedAt(), bucket.getDbNow()).toMillis());
+          double tokens =
+              Math.min(rule.getCapacity(), bucket.getTokens() + elapsedMs * tokensPerMs);
+
+          double remaining = tokens - 1;
+          long waitMs = remaining >= 0 ? 0 : (long) Math.ceil(-remaining / tokensPerMs);
+          if (waitMs > maxWaitMs) {
+            rateLimitBucketMapper.update(bucketKey, tokens, bucket.getDbNow());
+            return -waitMs;
+          }
+          rateLimitBucketMapper.update(bucketKey, remaining, bucket.getDbNow());
+          return waitMs;
+        });
+  }
+
+  private RateLimitBucket lockBucket(String bucketKey, int capacity) {
+    RateLimitBucket bucket = rateLimitBucketMapper.findForUpdate(bucketKey);
+    if (bucket != null) {
+      return bucket;
+    }
+    try {
+      rateLimitBucketMapper.insert(bucketKey, capacity);
+    } catch (DuplicateKeyException e) {
+      // 다른 서버가 먼저 만들었으므로 그 버킷을 사용합니다.
+    }
+    return rateLimitBucketMapper.findForUpdate(bucketKey);
+  }
+
+  private static String bucketKey(
+      String bucket, WorkflowExecutionProperties.Rule rule, JsonNode requestBody) {
+    if (rule.getKeyFields().isEmpty()) {
+      return bucket;
+    }
+    return bucket
+        + ":"
+        + rule.getKeyFields().stream()
+            .map(field -> requestBody != null ? requestBody.path(field).asText("") : "")
+            .collect(Collectors.joining(":"));
+  }
+
+  private static Void sleep(long waitMs) {
+    try {
+      Thread.sleep(waitMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
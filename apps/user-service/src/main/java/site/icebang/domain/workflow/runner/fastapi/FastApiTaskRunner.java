@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.runner.fastapi;
 
+import java.time.Duration;
+
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
@@ -8,10 +10,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.common.exception.PayloadTooLargeException;
 import site.icebang.domain.workflow.model.Task;
 import site.icebang.domain.workflow.model.TaskRun;
 import site.icebang.domain.workflow.runner.TaskRunner;
 import site.icebang.external.fastapi.adapter.FastApiAdapter;
+import site.icebang.external.fastapi.adapter.FastApiCallResult;
+import site.icebang.external.fastapi.adapter.FastApiTimeoutPolicy;
+import site.icebang.global.config.properties.FastApiProperties;
 
 /**
  * FastAPI 서버와 통신하는 Task를 실행하는 구체적인 Runner 구현체입니다.
@@ -26,6 +34,12 @@ import site.icebang.external.fastapi.adapter.FastApiAdapter;
  *   <li>Task 파라미터에서 endpoint와 method 정보 파싱
  *   <li>사전에 생성된 Request Body를 {@code FastApiAdapter}에 전달하여 실행 위임
  *   <li>어댑터의 실행 결과를 {@code TaskExecutionResult} 형식으로 변환하여 반환
+ *   <li>Task별 응답 크기 제한({@code max_response_bytes}) 적용
+ *   <li>Task/엔드포인트별 응답 타임아웃({@code timeout_ms}) 적용
+ *   <li>{@code async} 파라미터가 설정된 Task는 제출 후 완료를 기다리는 비동기 모드로 실행
+ *   <li>{@code idempotent} 파라미터가 설정된 Task는 같은 요청 합치기(Single-flight)와 헤징 요청 적용
+ *   <li>다시 보내면 성공할 수 있는 실패(연결 실패, 5xx, 429 등)는 예외로 알려 재시도 대상이 되도록 처리
+ *   <li>엔드포인트별 규칙이 있으면 외부 플랫폼/계정별 호출 속도 제한(토큰 버킷) 적용
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -38,6 +52,16 @@ public class FastApiTaskRunner implements TaskRunner {
   /** FastAPI 서버와의 통신을 전담하는 어댑터 */
   private final FastApiAdapter fastApiAdapter;
 
+  private final FastApiProperties properties;
+
+  private final FastApiTimeoutPolicy timeoutPolicy;
+
+  /** {@code async} 파라미터가 설정된 Task의 제출과 완료 대기를 담당하는 감독자 */
+  private final FastApiAsyncTaskSupervisor asyncTaskSupervisor;
+
+  /** 외부 플랫폼/계정별 호출 속도를 제한하는 리미터 */
+  private final FastApiRateLimiter rateLimiter;
+
   /**
    * FastAPI 타입의 Task를 실행합니다.
    *
@@ -48,6 +72,7 @@ public class FastApiTaskRunner implements TaskRunner {
    * @param taskRun 현재 실행에 대한 기록 객체
    * @param requestBody {@code TaskBodyBuilder}에 의해 동적으로 생성된 최종 요청 Body
    * @return {@code FastApiAdapter}의 호출 결과를 담은 {@code TaskExecutionResult} 객체
+   * @throws ExternalCallFailedException 다시 보내면 성공할 수 있는 실패인 경우
    * @since v0.1.0
    */
   @Override
@@ -56,11 +81,49 @@ public class FastApiTaskRunner implements TaskRunner {
     String endpoint = params.path("endpoint").asText();
     HttpMethod method = HttpMethod.valueOf(params.path("method").asText("POST").toUpperCase());
 
-    String responseBody = fastApiAdapter.call(endpoint, method, requestBody.toString());
+    long maxResponseBytes =
+        params.path("max_response_bytes").asLong(properties.getMaxResponseBytes());
+
+    Duration timeout = timeoutPolicy.resolve(endpoint, params);
 
-    if (responseBody == null) {
+    // 📌 외부 플랫폼이 요청을 차단하지 않도록, 플랫폼/계정별 토큰을 얻은 뒤에 요청을 보냅니다.
+    rateLimiter.acquire(endpoint, requestBody);
+
+    FastApiCallResult result;
+    try {
+      if (params.path("async").asBoolean(false)) {
+        // 📌 오래 걸리는 작업은 제출한 뒤 완료를 기다리며, 기다리는 동안 실행 허가를 반납합니다.
+        return asyncTaskSupervisor.execute(
+            task, taskRun, requestBody, endpoint, method, maxResponseBytes, timeout);
+      }
+      // 📌 멱등 Task는 진행 중인 같은 요청과 합치고, 응답이 늦어지면 같은 요청을 한 번 더 보냅니다.
+      if (params.path("idempotent").asBoolean(false)) {
+        result =
+            fastApiAdapter.callForJsonIdempotent(
+                endpoint, method, requestBody, maxResponseBytes, timeout);
+      } else {
+        result =
+            fastApiAdapter.callForJson(endpoint, method, requestBody, maxResponseBytes, timeout);
+      }
+    } catch (PayloadTooLargeException e) {
+      // 같은 요청을 다시 보내도 크기는 줄지 않으므로 재시도하지 않고 바로 실패 처리합니다.
+      return TaskExecutionResult.failure("응답 크기 제한 초과: " + e.getMessage());
+    } catch (CallNotPermittedException e) {
+      // 서킷이 열려 있거나 엔드포인트가 포화 상태이므로, 타임아웃과 재시도를 기다리지 않고 바로 실패 처리합니다.
+      return TaskExecutionResult.failure("FastAPI 호출 차단: " + e.getMessage());
+    }
+
+    if (result == null) {
       return TaskExecutionResult.failure("FastApiAdapter 호출에 실패했습니다.");
     }
-    return TaskExecutionResult.success(responseBody);
+    if (result.isSuccess() && !result.body().isMissingNode()) {
+      return TaskExecutionResult.success(result.body());
+    }
+    if (result.retryable()) {
+      // 📌 재시도 정책이 원인과 Retry-After를 보고 다시 시도할 수 있도록 예외로 알립니다.
+      throw new ExternalCallFailedException(
+          "FastAPI 호출 실패: " + result.describe(), true, result.retryAfter());
+    }
+    return TaskExecutionResult.failure("FastAPI 호출 실패: " + result.describe());
   }
 }
@@ -1,5 +1,6 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
@@ -12,48 +13,35 @@ import lombok.RequiredArgsConstructor;
 
 import site.icebang.domain.workflow.model.JobRun;
 import site.icebang.domain.workflow.model.Task;
-import site.icebang.domain.workflow.service.WorkflowContextService;
 
 @Component
 @RequiredArgsConstructor
 public class BlogPublishBodyBuilder implements TaskBodyBuilder {
 
   private final ObjectMapper objectMapper;
-  private final WorkflowContextService contextService;
   private static final String TASK_NAME = "블로그 발행 태스크";
   private static final String RAG_SOURCE_TASK = "블로그 RAG 생성 태스크";
 
+  private static final List<TaskInputMapping> INPUT_MAPPINGS =
+      List.of(
+          TaskInputMapping.of(RAG_SOURCE_TASK, "/data/title", "post_title"),
+          TaskInputMapping.of(RAG_SOURCE_TASK, "/data/content", "post_content"),
+          TaskInputMapping.of(RAG_SOURCE_TASK, "/data/tags", "post_tags"));
+
   @Override
-  public boolean supports(String taskName) {
-    return TASK_NAME.equals(taskName);
+  public String getTaskName() {
+    return TASK_NAME;
   }
 
   @Override
-  public ObjectNode build(Task task, JobRun jobRun) {
-    ObjectNode body = objectMapper.createObjectNode();
-
-    Optional<JsonNode> ragResultOpt = contextService.getPreviousTaskOutput(jobRun, RAG_SOURCE_TASK);
-    ragResultOpt.ifPresent(
-        ragResult -> {
-          JsonNode data = ragResult.path("data");
-
-          // 📌 1. .path()로 노드를 가져옵니다.
-          JsonNode titleNode = data.path("title");
-          // 📌 2. .isMissingNode()로 노드가 존재하는지 확인합니다.
-          if (!titleNode.isMissingNode()) {
-            body.set("post_title", titleNode);
-          }
-
-          JsonNode contentNode = data.path("content");
-          if (!contentNode.isMissingNode()) {
-            body.set("post_content", contentNode);
-          }
+  public List<TaskInputMapping> getInputMappings() {
+    return INPUT_MAPPINGS;
+  }
 
-          JsonNode tagsNode = data.path("tags");
-          if (!tagsNode.isMissingNode()) {
-            body.set("post_tags", tagsNode);
-          }
-        });
+  @Override
+  public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
+    // 📌 RAG 결과의 제목/본문/태그 중 존재하는 값만 Body에 담습니다.
+    ObjectNode body = inputs.applyTo(objectMapper.createObjectNode());
 
     Optional<JsonNode> settingsOpt = Optional.ofNullable(task.getSettings());
     settingsOpt.ifPresent(
@@ -1,10 +1,10 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -12,42 +12,45 @@ import lombok.RequiredArgsConstructor;
 
 import site.icebang.domain.workflow.model.JobRun;
 import site.icebang.domain.workflow.model.Task;
-import site.icebang.domain.workflow.service.WorkflowContextService;
 
 @Component
 @RequiredArgsConstructor
 public class ImageOcrBodyBuilder implements TaskBodyBuilder {
 
   private final ObjectMapper objectMapper;
-  private final WorkflowContextService contextService; // 📌 컨텍스트 서비스 주입
   private static final String TASK_NAME = "이미지 OCR 태스크";
   private static final String SOURCE_TASK_NAME = "키워드 검색 태스크";
+  // 📌 OCR은 키워드 폴더에 업로드된 S3 이미지를 읽으므로, Body에 쓰이지 않더라도 S3 업로드 이후에 실행되어야 합니다.
+  private static final String S3_UPLOAD_SOURCE_TASK = "S3 업로드 태스크";
+
+  private static final List<TaskInputMapping> INPUT_MAPPINGS =
+      List.of(TaskInputMapping.of(SOURCE_TASK_NAME, "/data/keyword", "keyword").nonBlank());
+
+  @Override
+  public String getTaskName() {
+    return TASK_NAME;
+  }
+
+  @Override
+  public List<TaskInputMapping> getInputMappings() {
+    return INPUT_MAPPINGS;
+  }
 
   @Override
-  public boolean supports(String taskName) {
-    return TASK_NAME.equals(taskName);
+  public Set<String> getSourceTaskNames() {
+    return Set.of(SOURCE_TASK_NAME, S3_UPLOAD_SOURCE_TASK);
   }
 
   /**
-   * 이전 Task 결과(키워드)를 DB에서 조회하여 OCR Task의 Request Body를 생성합니다.
+   * 이전 Task 결과(키워드)로 OCR Task의 Request Body를 생성합니다.
    *
    * @param task 실행할 Task의 도메인 모델
    * @param jobRun 현재 실행 중인 Job의 기록 객체
+   * @param inputs 이전 Task 결과에서 매핑된 입력 값
    * @return 생성된 JSON Body
    */
   @Override
-  public ObjectNode build(Task task, JobRun jobRun) {
-    ObjectNode body = objectMapper.createObjectNode();
-
-    // 📌 컨텍스트 서비스를 통해 DB에서 '키워드 검색 태스크'의 결과를 조회합니다.
-    Optional<JsonNode> sourceResult =
-        contextService.getPreviousTaskOutput(jobRun, SOURCE_TASK_NAME);
-
-    sourceResult
-        .map(result -> result.path("data").path("keyword"))
-        .filter(node -> !node.isMissingNode() && !node.asText().trim().isEmpty())
-        .ifPresent(keywordNode -> body.set("keyword", keywordNode));
-
-    return body;
+  public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
+    return inputs.applyTo(objectMapper.createObjectNode());
   }
 }
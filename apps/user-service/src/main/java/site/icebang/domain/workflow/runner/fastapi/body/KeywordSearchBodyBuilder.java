@@ -20,8 +20,8 @@ public class KeywordSearchBodyBuilder implements TaskBodyBuilder {
   private static final String TASK_NAME = "키워드 검색 태스크";
 
   @Override
-  public boolean supports(String taskName) {
-    return TASK_NAME.equals(taskName);
+  public String getTaskName() {
+    return TASK_NAME;
   }
 
   /**
@@ -29,10 +29,11 @@ public class KeywordSearchBodyBuilder implements TaskBodyBuilder {
    *
    * @param task 실행할 Task의 도메인 모델 (settings 포함)
    * @param jobRun 현재 실행 중인 Job의 기록 객체 (이 빌더에서는 사용되지 않음)
+   * @param inputs 이전 Task 결과에서 매핑된 입력 값 (이 빌더에서는 사용되지 않음)
    * @return 생성된 JSON Body (예: {"tag": "google"})
    */
   @Override
-  public ObjectNode build(Task task, JobRun jobRun) {
+  public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
     // 📌 Task에 동적으로 주입된 settings에서 'tag' 값을 가져옵니다.
     //    settings가 없거나 'tag' 필드가 없으면 기본값으로 "naver"를 사용합니다.
     String tag =
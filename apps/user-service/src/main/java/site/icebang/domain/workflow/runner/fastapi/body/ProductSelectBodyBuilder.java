@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,10 +18,17 @@ public class ProductSelectBodyBuilder implements TaskBodyBuilder {
 
   private final ObjectMapper objectMapper;
   private static final String TASK_NAME = "상품 선택 태스크";
+  // 📌 실행 엔진이 S3 업로드 태스크의 task_run_id를 Body에 주입하므로, S3 업로드 이후에 실행되어야 합니다.
+  private static final String S3_UPLOAD_SOURCE_TASK = "S3 업로드 태스크";
+
+  @Override
+  public String getTaskName() {
+    return TASK_NAME;
+  }
 
   @Override
-  public boolean supports(String taskName) {
-    return TASK_NAME.equals(taskName);
+  public Set<String> getSourceTaskNames() {
+    return Set.of(S3_UPLOAD_SOURCE_TASK);
   }
 
   /**
@@ -27,10 +36,11 @@ public class ProductSelectBodyBuilder implements TaskBodyBuilder {
    *
    * @param task 실행할 Task의 도메인 모델 (이 빌더에서는 사용되지 않음)
    * @param jobRun 현재 실행 중인 Job의 기록 객체 (이 빌더에서는 사용되지 않음)
+   * @param inputs 이전 Task 결과에서 매핑된 입력 값 (이 빌더에서는 사용되지 않음)
    * @return 생성된 JSON Body (예: {"selection_criteria": "image_count_priority"})
    */
   @Override
-  public ObjectNode build(Task task, JobRun jobRun) {
+  public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // 이 Task는 항상 고정된 선택 기준을 Body에 담아 보냅니다.
@@ -1,10 +1,9 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -12,53 +11,46 @@ import lombok.RequiredArgsConstructor;
 
 import site.icebang.domain.workflow.model.JobRun;
 import site.icebang.domain.workflow.model.Task;
-import site.icebang.domain.workflow.service.WorkflowContextService;
 
 @Component
 @RequiredArgsConstructor
 public class S3UploadBodyBuilder implements TaskBodyBuilder {
 
   private final ObjectMapper objectMapper;
-  private final WorkflowContextService contextService; // 📌 컨텍스트 서비스 주입
   private static final String TASK_NAME = "S3 업로드 태스크";
 
   // 📌 데이터 소스가 되는 이전 Task들의 이름
   private static final String KEYWORD_SOURCE_TASK = "키워드 검색 태스크";
   private static final String CRAWL_SOURCE_TASK = "상품 정보 크롤링 태스크";
 
+  private static final List<TaskInputMapping> INPUT_MAPPINGS =
+      List.of(
+          TaskInputMapping.of(KEYWORD_SOURCE_TASK, "/data/keyword", "keyword").nonBlank(),
+          TaskInputMapping.of(CRAWL_SOURCE_TASK, "/data/crawled_products", "crawled_products"));
+
+  @Override
+  public String getTaskName() {
+    return TASK_NAME;
+  }
+
   @Override
-  public boolean supports(String taskName) {
-    return TASK_NAME.equals(taskName);
+  public List<TaskInputMapping> getInputMappings() {
+    return INPUT_MAPPINGS;
   }
 
   /**
-   * 여러 이전 Task들의 결과를 DB에서 조회하고 조합하여 'S3 업로드'를 위한 Request Body를 생성합니다.
+   * 여러 이전 Task들의 결과를 조합하여 'S3 업로드'를 위한 Request Body를 생성합니다.
    *
    * @param task 실행할 Task의 도메인 모델
-   * @param jobRun 현재 실행 중인 Job의 기록 객체 (이전 Task 결과를 조회하는 키로 사용)
+   * @param jobRun 현재 실행 중인 Job의 기록 객체
+   * @param inputs 이전 Task 결과에서 매핑된 입력 값
    * @return 생성된 JSON Body
    */
   @Override
-  public ObjectNode build(Task task, JobRun jobRun) {
-    ObjectNode body = objectMapper.createObjectNode();
-
-    // 1. 컨텍스트 서비스를 통해 DB에서 '키워드 검색 태스크'의 결과를 조회
-    Optional<JsonNode> keywordResult =
-        contextService.getPreviousTaskOutput(jobRun, KEYWORD_SOURCE_TASK);
-    keywordResult
-        .map(node -> node.path("data").path("keyword"))
-        .filter(node -> !node.isMissingNode() && !node.asText().trim().isEmpty())
-        .ifPresent(keywordNode -> body.set("keyword", keywordNode));
-
-    // 2. 컨텍스트 서비스를 통해 DB에서 '상품 정보 크롤링 태스크'의 결과를 조회
-    Optional<JsonNode> crawlResult =
-        contextService.getPreviousTaskOutput(jobRun, CRAWL_SOURCE_TASK);
-    crawlResult
-        .map(node -> node.path("data").path("crawled_products"))
-        .filter(node -> !node.isMissingNode())
-        .ifPresent(crawledProductsNode -> body.set("crawled_products", crawledProductsNode));
+  public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
+    ObjectNode body = inputs.applyTo(objectMapper.createObjectNode());
 
-    // 3. 정적 데이터 설정
+    // 정적 데이터 설정
     body.put("base_folder", "product");
 
     return body;
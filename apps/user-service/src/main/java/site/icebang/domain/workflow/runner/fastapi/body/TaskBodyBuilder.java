@@ -1,5 +1,9 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import site.icebang.domain.workflow.model.JobRun;
@@ -7,14 +11,67 @@ import site.icebang.domain.workflow.model.Task;
 
 public interface TaskBodyBuilder {
 
+  /**
+   * 이 빌더가 지원하는 Task의 이름을 반환합니다. {@link TaskBodyBuilderRegistry}는 이 이름으로 빌더를 색인합니다.
+   *
+   * @return Task의 고유한 이름
+   */
+  String getTaskName();
+
   /**
    * 이 빌더가 어떤 Task를 지원하는지 식별합니다.
    *
    * @param taskName Task의 고유한 이름
    * @return 지원하면 true, 아니면 false
    */
-  boolean supports(String taskName);
+  default boolean supports(String taskName) {
+    return getTaskName().equals(taskName);
+  }
+
+  /**
+   * Request Body를 만들기 위해 이전 Task 결과에서 가져올 값들을 선언합니다.
+   *
+   * <p>실행 엔진은 Task 실행 직전에 필요한 이전 Task 결과를 한 번에 조회하고, 이 매핑을 적용한 결과를 {@link TaskInputs}로 전달합니다.
+   *
+   * @return 입력 매핑 목록 (없으면 빈 List)
+   */
+  default List<TaskInputMapping> getInputMappings() {
+    return List.of();
+  }
 
-  // 📌 workflowContext(Map) 대신 JobRun 객체를 받도록 변경
-  ObjectNode build(Task task, JobRun jobRun);
+  /**
+   * Request Body를 만들기 위해 결과를 참조하는 이전 Task들의 이름을 반환합니다.
+   *
+   * <p>실행 엔진은 이 정보로 Job 내부의 의존성 그래프를 구성하며, 의존 관계가 없는 Task들은 병렬로 실행됩니다. 기본값은 입력 매핑에 선언된 Task들입니다.
+   * 결과는 읽지 않지만 먼저 실행되어야 하는 Task(예: S3 업로드)도 포함할 수 있습니다.
+   *
+   * @return 데이터 소스가 되는 Task 이름 목록 (없으면 빈 Set)
+   */
+  default Set<String> getSourceTaskNames() {
+    return getInputSourceTaskNames();
+  }
+
+  /**
+   * {@link #getInputMappings()}가 결과를 읽는 이전 Task들의 이름을 반환합니다.
+   *
+   * <p>실행 엔진은 Task 실행 직전에 이 Task들의 결과만 조회하므로, 실행 순서만을 위해 {@link #getSourceTaskNames()}에 추가한 Task의
+   * 결과는 읽지 않습니다.
+   *
+   * @return 입력 매핑이 참조하는 Task 이름 목록 (없으면 빈 Set)
+   */
+  default Set<String> getInputSourceTaskNames() {
+    Set<String> sourceTaskNames = new LinkedHashSet<>();
+    getInputMappings().forEach(mapping -> sourceTaskNames.add(mapping.sourceTask()));
+    return sourceTaskNames;
+  }
+
+  /**
+   * Task의 Request Body를 생성합니다.
+   *
+   * @param task 실행할 Task의 도메인 모델 (settings 포함)
+   * @param jobRun 현재 실행 중인 Job의 기록 객체
+   * @param inputs {@link #getInputMappings()}를 이전 Task 결과에 적용한 입력 값
+   * @return 생성된 JSON Body
+   */
+  ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs);
 }
@@ -0,0 +1,42 @@
+package site.icebang.domain.workflow.runner.fastapi.body;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Task 이름으로 {@link TaskBodyBuilder}를 찾는 레지스트리입니다.
+ *
+ * <p>애플리케이션 시작 시 모든 빌더를 Task 이름 기준으로 색인하므로, Task마다 빌더 목록을 순회하지 않고 O(1)로 조회합니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+public class TaskBodyBuilderRegistry {
+
+  private final Map<String, TaskBodyBuilder> buildersByTaskName;
+
+  public TaskBodyBuilderRegistry(List<TaskBodyBuilder> bodyBuilders) {
+    Map<String, TaskBodyBuilder> builders = new HashMap<>();
+    for (TaskBodyBuilder builder : bodyBuilders) {
+      TaskBodyBuilder duplicate = builders.put(builder.getTaskName(), builder);
+      if (duplicate != null) {
+        throw new IllegalStateException(
+            "같은 Task를 지원하는 Body 빌더가 중복 등록되었습니다: " + builder.getTaskName());
+      }
+    }
+    this.buildersByTaskName = Map.copyOf(builders);
+  }
+
+  /**
+   * Task 이름에 해당하는 빌더를 반환합니다.
+   *
+   * @param taskName Task의 고유한 이름
+   * @return 빌더, 없으면 null
+   */
+  public TaskBodyBuilder find(String taskName) {
+    return taskName != null ? buildersByTaskName.get(taskName) : null;
+  }
+}
@@ -0,0 +1,50 @@
+package site.icebang.domain.workflow.runner.fastapi.body;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 이전 Task 결과의 특정 위치(JSON Pointer)를 Request Body의 필드로 옮기는 선언적 입력 매핑입니다.
+ *
+ * <p>JSON Pointer는 생성 시점에 한 번만 컴파일되므로, 빌더는 매핑을 {@code static final} 상수로 선언하여 실행할 때마다 경로를 다시
+ * 해석하지 않도록 합니다.
+ *
+ * <pre>{@code
+ * TaskInputMapping.of("키워드 검색 태스크", "/data/keyword", "keyword").nonBlank()
+ * }</pre>
+ *
+ * @param sourceTask 결과를 참조할 이전 Task의 이름
+ * @param pointer 이전 Task 결과(Output) 안에서 값을 꺼낼 위치
+ * @param targetField 꺼낸 값을 담을 Request Body 필드 이름
+ * @param nonBlank true이면 값이 공백 문자열일 때 매핑하지 않습니다
+ * @since v0.1.0
+ */
+public record TaskInputMapping(
+    String sourceTask, JsonPointer pointer, String targetField, boolean nonBlank) {
+
+  public static TaskInputMapping of(String sourceTask, String pointer, String targetField) {
+    return new TaskInputMapping(sourceTask, JsonPointer.compile(pointer), targetField, false);
+  }
+
+  /** 값이 비어있거나 공백뿐인 경우 매핑하지 않는 매핑을 반환합니다. */
+  public TaskInputMapping nonBlank() {
+    return new TaskInputMapping(sourceTask, pointer, targetField, true);
+  }
+
+  /**
+   * 이전 Task 결과에서 매핑할 값을 꺼냅니다.
+   *
+   * @param sourceOutput 이전 Task의 결과 (없으면 null)
+   * @return 매핑할 값, 매핑하지 않아야 하면 null
+   */
+  JsonNode extract(JsonNode sourceOutput) {
+    if (sourceOutput == null) {
+      return null;
+    }
+    JsonNode value = sourceOutput.at(pointer);
+    if (value.isMissingNode() || (nonBlank && value.asText().trim().isEmpty())) {
+      return null;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,66 @@
+package site.icebang.domain.workflow.runner.fastapi.body;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link TaskInputMapping}을 이전 Task 결과에 적용하여 얻은 입력 값들입니다. (Body 필드 이름 → 값)
+ *
+ * <p>실행 엔진이 Task 실행 직전에 필요한 이전 Task 결과를 한 번에 조회하여 생성하며, 빌더는 이 값을 그대로 Body에 담거나({@link
+ * #applyTo(ObjectNode)}) 가공하여 사용합니다({@link #get(String)}).
+ *
+ * @since v0.1.0
+ */
+public final class TaskInputs {
+
+  private static final TaskInputs EMPTY = new TaskInputs(Map.of());
+
+  private final Map<String, JsonNode> values;
+
+  private TaskInputs(Map<String, JsonNode> values) {
+    this.values = values;
+  }
+
+  public static TaskInputs empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 매핑 목록을 이전 Task 결과에 적용합니다.
+   *
+   * @param mappings 빌더가 선언한 입력 매핑
+   * @param sourceOutputs 이전 Task 이름별 결과
+   * @return 매핑된 입력 값
+   */
+  public static TaskInputs resolve(
+      List<TaskInputMapping> mappings, Map<String, JsonNode> sourceOutputs) {
+    if (mappings.isEmpty()) {
+      return EMPTY;
+    }
+    Map<String, JsonNode> values = new LinkedHashMap<>();
+    for (TaskInputMapping mapping : mappings) {
+      JsonNode value = mapping.extract(sourceOutputs.get(mapping.sourceTask()));
+      if (value != null) {
+        values.put(mapping.targetField(), value);
+      }
+    }
+    return new TaskInputs(Collections.unmodifiableMap(values));
+  }
+
+  /** 필드 값을 반환합니다. 매핑되지 않았으면 {@link MissingNode}를 반환합니다. */
+  public JsonNode get(String field) {
+    return values.getOrDefault(field, MissingNode.getInstance());
+  }
+
+  /** 매핑된 모든 값을 Body에 담습니다. */
+  public ObjectNode applyTo(ObjectNode body) {
+    values.forEach(body::set);
+    return body;
+  }
+}
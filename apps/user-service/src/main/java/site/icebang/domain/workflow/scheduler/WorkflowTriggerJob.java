@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.common.exception.WorkflowAdmissionRejectedException;
 import site.icebang.domain.workflow.service.RequestContextService;
 import site.icebang.domain.workflow.service.WorkflowExecutionService;
 
@@ -47,6 +48,11 @@ public class WorkflowTriggerJob extends QuartzJobBean {
   protected void executeInternal(JobExecutionContext context) {
     Long workflowId = context.getJobDetail().getJobDataMap().getLong("workflowId");
     log.info("Quartz가 WorkflowTriggerJob을 실행합니다. WorkflowId={}", workflowId);
-    workflowExecutionService.executeWorkflow(workflowId, requestContextService.quartzContext());
+    try {
+      workflowExecutionService.executeWorkflow(workflowId, requestContextService.quartzContext());
+    } catch (WorkflowAdmissionRejectedException e) {
+      // 📌 대기열이 가득 찬 경우 이번 스케줄은 건너뛰고 다음 트리거에서 다시 실행합니다.
+      log.warn("실행 대기열이 가득 차 스케줄 실행을 건너뜁니다. WorkflowId={}", workflowId);
+    }
   }
 }
@@ -0,0 +1,283 @@
+package site.icebang.domain.workflow.service;
+
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.dto.JobDto;
+import site.icebang.domain.workflow.dto.TaskDto;
+import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
+import site.icebang.domain.workflow.mapper.JobMapper;
+import site.icebang.domain.workflow.mapper.WorkflowMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
+import site.icebang.domain.workflow.model.FanOutSpec;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilderRegistry;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 워크플로우 정의를 {@link ExecutionPlan}으로 컴파일하고, 컴파일된 계획을 캐싱하는 서비스입니다.
+ *
+ * <p>캐시는 {@code workflow.execution.plan-cache-size} 개수로 제한되는 LRU 캐시이며, 워크플로우/Job/Task 정의가 변경되면
+ * {@link #invalidate(Long)} 또는 {@link #invalidateAll()}로 무효화됩니다. 트랜잭션 안에서 무효화를 요청하면 커밋 이후에 반영되어, 커밋
+ * 전의 정의로 계획이 다시 캐싱되지 않습니다.
+ *
+ * <p>무효화는 정의를 변경한 서버의 캐시에만 반영되므로, 캐싱된 계획은 {@code workflow.execution.plan-cache-ttl-ms}가 지나면 버리고 다시
+ * 컴파일합니다. 다른 서버에서 변경된 정의도 이 시간 안에 반영됩니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExecutionPlanService {
+
+  private final WorkflowMapper workflowMapper;
+  private final JobMapper jobMapper;
+  private final ObjectMapper objectMapper;
+  private final TaskBodyBuilderRegistry bodyBuilderRegistry;
+  private final Map<String, TaskRunner> taskRunners;
+  private final WorkflowExecutionProperties executionProperties;
+
+  private final Map<Long, CachedPlan> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** 무효화될 때마다 증가하며, 컴파일 도중 무효화된 계획이 캐시에 들어가는 것을 막습니다. */
+  private final AtomicLong generation = new AtomicLong();
+
+  /** 컴파일된 계획과 컴파일한 시각 ({@link System#nanoTime()}) */
+  private record CachedPlan(ExecutionPlan plan, long compiledAtNanos) {}
+
+  /**
+   * 워크플로우의 실행 계획을 반환합니다. 캐시에 없으면 DB에서 정의를 조회하여 컴파일합니다.
+   *
+   * @param workflowId 워크플로우 ID
+   * @return 컴파일된 실행 계획
+   * @throws IllegalStateException 워크플로우가 없거나 의존성 그래프에 순환이 있을 경우
+   */
+  public ExecutionPlan getPlan(Long workflowId) throws JsonProcessingException {
+    long ttlNanos = TimeUnit.MILLISECONDS.toNanos(executionProperties.getPlanCacheTtlMs());
+    synchronized (cache) {
+      CachedPlan cached = cache.get(workflowId);
+      if (cached != null) {
+        if (System.nanoTime() - cached.compiledAtNanos() < ttlNanos) {
+          return cached.plan();
+        }
+        cache.remove(workflowId);
+      }
+    }
+
+    long compiledGeneration = generation.get();
+    long compiledAtNanos = System.nanoTime();
+    ExecutionPlan plan = compile(workflowId);
+    int maxSize = executionProperties.getPlanCacheSize();
+    synchronized (cache) {
+      if (maxSize > 0 && compiledGeneration == generation.get()) {
+        cache.put(workflowId, new CachedPlan(plan, compiledAtNanos));
+        while (cache.size() > maxSize) {
+          cache.remove(cache.keySet().iterator().next());
+        }
+      }
+    }
+    return plan;
+  }
+
+  /** 특정 워크플로우의 실행 계획을 캐시에서 제거합니다. */
+  public void invalidate(Long workflowId) {
+    afterCommit(
+        () -> {
+          generation.incrementAndGet();
+          synchronized (cache) {
+            cache.remove(workflowId);
+          }
+        });
+  }
+
+  /** 모든 실행 계획을 캐시에서 제거합니다. 여러 워크플로우가 공유할 수 있는 Job/Task 정의가 바뀔 때 사용합니다. */
+  public void invalidateAll() {
+    afterCommit(
+        () -> {
+          generation.incrementAndGet();
+          synchronized (cache) {
+            cache.clear();
+          }
+        });
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private ExecutionPlan compile(Long workflowId) throws JsonProcessingException {
+    // 📌 1. selectWorkflowDetailById를 호출하여 워크플로우의 모든 상세 정보를 가져옵니다.
+    WorkflowDetailCardDto settingsDto =
+        workflowMapper.selectWorkflowDetailById(BigInteger.valueOf(workflowId));
+    if (settingsDto == null) {
+      throw new IllegalStateException("실행할 워크플로우를 찾을 수 없습니다: ID " + workflowId);
+    }
+
+    // 📌 2. 가져온 DTO 객체에서 getDefaultConfig() 메소드를 호출하여 값을 얻습니다.
+    String defaultConfigJson = settingsDto.getDefaultConfig();
+    JsonNode setting =
+        (defaultConfigJson != null && !defaultConfigJson.isEmpty())
+            ? objectMapper.readTree(defaultConfigJson)
+            : objectMapper.createObjectNode();
+
+    List<JobDto> jobDtos = jobMapper.findJobsByWorkflowId(workflowId);
+    jobDtos.sort(
+        Comparator.comparing(
+                JobDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(JobDto::getId));
+
+    Map<Long, Set<Long>> jobDependencies = new HashMap<>();
+    List<ExecutionPlan.JobPlan> jobPlans =
+        jobDtos.stream()
+            .map(
+                jobDto -> {
+                  jobDependencies.put(jobDto.getId(), resolveJobDependencies(jobDto, jobDtos));
+                  return new ExecutionPlan.JobPlan(
+                      new Job(jobDto), compileTasks(jobDto.getId(), setting));
+                })
+            .toList();
+
+    // 📌 Job 간 의존성으로 그래프를 구성하고, 서로 의존하지 않는 Job들은 병렬로 실행합니다.
+    DependencyGraph<Long, ExecutionPlan.JobPlan> jobGraph =
+        DependencyGraph.of(
+            jobPlans,
+            jobPlan -> jobPlan.job().getId(),
+            jobPlan -> jobDependencies.get(jobPlan.job().getId()));
+    log.debug("워크플로우 실행 계획 컴파일 완료: WorkflowId={}, Jobs={}", workflowId, jobPlans.size());
+    return new ExecutionPlan(workflowId, jobGraph);
+  }
+
+  private DependencyGraph<String, ExecutionPlan.TaskPlan> compileTasks(
+      Long jobId, JsonNode setting) {
+    List<TaskDto> taskDtos = jobMapper.findTasksByJobId(jobId);
+    taskDtos.forEach(
+        dto -> {
+          JsonNode s = setting.get(String.valueOf(dto.getId()));
+          if (s != null) dto.setSettings(s);
+        });
+    taskDtos.sort(
+        Comparator.comparing(
+                TaskDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskDto::getId));
+
+    Map<String, Set<String>> taskDependencies = new HashMap<>();
+    List<ExecutionPlan.TaskPlan> taskPlans =
+        taskDtos.stream()
+            .map(
+                taskDto -> {
+                  TaskBodyBuilder bodyBuilder = bodyBuilderRegistry.find(taskDto.getName());
+                  taskDependencies.put(
+                      taskDto.getName(), resolveTaskDependencies(taskDto, bodyBuilder, taskDtos));
+                  return new ExecutionPlan.TaskPlan(
+                      new Task(taskDto),
+                      taskDto.getExecutionOrder(),
+                      bodyBuilder,
+                      findRunner(taskDto.getType()),
+                      FanOutSpec.from(taskDto.getParameters()));
+                })
+            .toList();
+
+    // 📌 Task 간 데이터 의존성으로 그래프를 구성하고, 선행 Task가 모두 끝난 Task부터 병렬로 실행합니다.
+    return DependencyGraph.of(
+        taskPlans,
+        taskPlan -> taskPlan.task().getName(),
+        taskPlan -> taskDependencies.get(taskPlan.task().getName()));
+  }
+
+  private TaskRunner findRunner(String type) {
+    return type != null ? taskRunners.get(type.toLowerCase() + "TaskRunner") : null;
+  }
+
+  /**
+   * Job이 먼저 끝나야 하는 선행 Job들의 ID를 반환합니다.
+   *
+   * <p>{@code workflow_job.depends_on}이 지정되어 있으면 그 값을 따르고, 지정되지 않았으면 기존과 같이 execution_order가 더
+   * 앞선 모든 Job에 의존합니다. 같은 execution_order를 가진 Job들은 서로 의존하지 않습니다.
+   */
+  private Set<Long> resolveJobDependencies(JobDto jobDto, List<JobDto> sortedJobs) {
+    Set<Long> dependencies = new LinkedHashSet<>();
+    JsonNode declared = jobDto.getDependsOn();
+    if (declared != null && declared.isArray()) {
+      declared.forEach(node -> dependencies.add(node.asLong()));
+      return dependencies;
+    }
+    for (JobDto other : sortedJobs) {
+      if (other == jobDto) {
+        break;
+      }
+      if (!Objects.equals(other.getExecutionOrder(), jobDto.getExecutionOrder())) {
+        dependencies.add(other.getId());
+      }
+    }
+    return dependencies;
+  }
+
+  /**
+   * Task가 같은 Job 안에서 먼저 끝나야 하는 Task들의 이름을 반환합니다.
+   *
+   * <p>Body 빌더가 데이터를 조회하는 소스 Task와, Task 파라미터의 {@code depends_on} 배열에 명시된 Task를 합친 결과입니다. 둘 다
+   * 없으면 Job과 같이 execution_order가 더 앞선 모든 Task에 의존하여, 데이터를 주고받지 않더라도 기존의 실행 순서를 지킵니다. 순서가
+   * 필요 없는 Task는 빈 {@code depends_on} 배열을 명시하면 바로 실행됩니다.
+   */
+  private Set<String> resolveTaskDependencies(
+      TaskDto taskDto, TaskBodyBuilder bodyBuilder, List<TaskDto> sortedTasks) {
+    Set<String> dependencies = new LinkedHashSet<>();
+    if (bodyBuilder != null) {
+      dependencies.addAll(bodyBuilder.getSourceTaskNames());
+    }
+
+    JsonNode declared =
+        taskDto.getParameters() != null ? taskDto.getParameters().path("depends_on") : null;
+    if (declared != null && declared.isArray()) {
+      declared.forEach(node -> dependencies.add(node.asText()));
+      return dependencies;
+    }
+    if (!dependencies.isEmpty()) {
+      return dependencies;
+    }
+    for (TaskDto other : sortedTasks) {
+      if (other == taskDto) {
+        break;
+      }
+      if (!Objects.equals(other.getExecutionOrder(), taskDto.getExecutionOrder())) {
+        dependencies.add(other.getName());
+      }
+    }
+    return dependencies;
+  }
+}
@@ -21,7 +21,7 @@ public class RequestContextService {
     String clientIp = MDC.get("clientIp");
     String userAgent = MDC.get("userAgent");
 
-    return new RequestContextDto(traceId, clientIp, userAgent);
+    return RequestContextDto.forManual(traceId, clientIp, userAgent);
   }
 
   /**
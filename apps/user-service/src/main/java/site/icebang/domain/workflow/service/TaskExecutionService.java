@@ -1,19 +1,32 @@
 package site.icebang.domain.workflow.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.manager.ShardOutputStore;
+import site.icebang.domain.workflow.model.FanOutSpec;
 import site.icebang.domain.workflow.model.Task;
 import site.icebang.domain.workflow.model.TaskRun;
 import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.retry.CauseClassifyingRetryPolicy;
 
 @Service
 @RequiredArgsConstructor
@@ -21,10 +34,24 @@ public class TaskExecutionService {
   private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
   private final Map<String, TaskRunner> taskRunners;
   private final RetryTemplate taskExecutionRetryTemplate; // 📌 RetryTemplate 주입
+  private final ObjectMapper objectMapper;
+  private final Executor workflowTaskExecutor;
+  private final ShardOutputStore shardOutputStore;
 
   // 📌 @Retryable, @Recover 어노테이션 제거
   public TaskRunner.TaskExecutionResult executeWithRetry(
       Task task, TaskRun taskRun, ObjectNode requestBody) {
+    String runnerBeanName = task.getType().toLowerCase() + "TaskRunner";
+    return executeWithRetry(task, taskRun, requestBody, taskRunners.get(runnerBeanName));
+  }
+
+  /**
+   * 실행 계획에서 미리 선택된 Runner로 Task를 실행합니다. Runner를 매번 조회하지 않습니다.
+   *
+   * @param runner Task 타입에 맞는 Runner (없으면 null이며, 지원하지 않는 타입으로 실패 처리됩니다)
+   */
+  public TaskRunner.TaskExecutionResult executeWithRetry(
+      Task task, TaskRun taskRun, ObjectNode requestBody, TaskRunner runner) {
 
     // RetryTemplate을 사용하여 실행 로직을 감쌉니다.
     return taskExecutionRetryTemplate.execute(
@@ -37,23 +64,206 @@ public class TaskExecutionService {
               task.getId(),
               taskRun.getId());
 
-          String runnerBeanName = task.getType().toLowerCase() + "TaskRunner";
-          TaskRunner runner = taskRunners.get(runnerBeanName);
-
           if (runner == null) {
             throw new IllegalArgumentException("지원하지 않는 Task 타입: " + task.getType());
           }
 
-          // 이 부분에서 RestClientException 발생 시 재시도됩니다.
+          // 📌 취소된 실행은 더 이상 시도하지 않습니다. 예외가 아닌 결과를 반환하므로 재시도도 끝납니다.
+          RunCancellation cancellation = RunCancellation.current();
+          if (cancellation != null && cancellation.isCancelled()) {
+            return TaskRunner.TaskExecutionResult.failure("워크플로우 실행이 취소되었습니다.");
+          }
+
+          // 이 부분에서 재시도할 수 있는 예외(연결 실패, 5xx, 429 등) 발생 시 재시도됩니다.
           return runner.execute(task, taskRun, requestBody);
         },
         // 2. 모든 재시도가 실패했을 때 실행될 로직 (RecoveryCallback)
         context -> {
           Throwable lastThrowable = context.getLastThrowable();
+          if (!CauseClassifyingRetryPolicy.isRetryable(lastThrowable)) {
+            workflowLogger.error(
+                "최종 Task 실행 실패 (재시도 불가): TaskRunId={}", taskRun.getId(), lastThrowable);
+            return TaskRunner.TaskExecutionResult.failure(
+                "재시도할 수 없는 실패: " + lastThrowable.getMessage());
+          }
           workflowLogger.error(
               "최종 Task 실행 실패 (모든 재시도 소진): TaskRunId={}", taskRun.getId(), lastThrowable);
           return TaskRunner.TaskExecutionResult.failure(
               "최대 재시도 횟수 초과: " + lastThrowable.getMessage());
         });
   }
+
+  /**
+   * Fan-out 설정이 있는 Task를 샤드 단위로 병렬 실행하고, 샤드 결과를 하나의 결과로 병합합니다.
+   *
+   * <p>Request Body의 배열 필드를 {@code shard_size}개씩 나누어 샤드마다 Runner를 호출하며, 재시도는 샤드별로 이루어지므로 실패한
+   * 샤드만 다시 실행됩니다. 재시도 후에도 실패한 샤드가 있으면 Task 전체가 실패합니다. Fan-out 설정이 없거나 배열이 샤드 하나 크기 이하이면 기존과
+   * 같이 한 번만 호출합니다.
+   *
+   * <p>성공한 샤드의 결과는 {@link ShardOutputStore}에 기록되므로, 실패한 Task를 이어서 실행하면 같은 입력으로 이미 성공한 샤드는 다시 호출하지
+   * 않고 기록된 결과를 병합합니다.
+   *
+   * @param fanOut Fan-out 설정 (없으면 null)
+   */
+  public TaskRunner.TaskExecutionResult executeWithFanOut(
+      Task task, TaskRun taskRun, ObjectNode requestBody, TaskRunner runner, FanOutSpec fanOut) {
+    JsonNode items = fanOut != null ? requestBody.path(fanOut.field()) : null;
+    if (items == null || !items.isArray() || items.size() <= fanOut.shardSize()) {
+      return executeWithRetry(task, taskRun, requestBody, runner);
+    }
+
+    List<ObjectNode> shardBodies = splitIntoShards(requestBody, items, fanOut);
+    List<String> shardKeys = new ArrayList<>();
+    for (int shard = 0; shard < shardBodies.size(); shard++) {
+      shardKeys.add(shardOutputStore.keyOf(shard, shardBodies.get(shard)));
+    }
+    // 📌 이어서 실행하는 경우, 같은 입력으로 이미 성공한 샤드는 다시 호출하지 않습니다.
+    Map<String, JsonNode> completed = shardOutputStore.findCompleted(taskRun);
+    workflowLogger.info(
+        "Task Fan-out 실행: TaskRunId={}, Items={}, Shards={}, Completed={}, MaxParallelism={}",
+        taskRun.getId(),
+        items.size(),
+        shardBodies.size(),
+        shardKeys.stream().filter(completed::containsKey).count(),
+        fanOut.maxParallelism());
+
+    Semaphore parallelism = new Semaphore(fanOut.maxParallelism());
+    List<CompletableFuture<TaskRunner.TaskExecutionResult>> futures = new ArrayList<>();
+    for (int shard = 0; shard < shardBodies.size(); shard++) {
+      JsonNode completedOutput = completed.get(shardKeys.get(shard));
+      if (completedOutput != null) {
+        futures.add(
+            CompletableFuture.completedFuture(
+                TaskRunner.TaskExecutionResult.success(completedOutput)));
+        continue;
+      }
+      ObjectNode shardBody = shardBodies.get(shard);
+      futures.add(
+          CompletableFuture.supplyAsync(
+              RunCancellation.propagate(
+                  () -> executeShard(task, taskRun, shardBody, runner, parallelism)),
+              workflowTaskExecutor));
+    }
+
+    List<JsonNode> shardOutputs = new ArrayList<>();
+    int failedShards = 0;
+    String firstFailure = null;
+    for (int shard = 0; shard < futures.size(); shard++) {
+      TaskRunner.TaskExecutionResult result = futures.get(shard).join();
+      if (result.isFailure()) {
+        failedShards++;
+        firstFailure = firstFailure != null ? firstFailure : result.message();
+        continue;
+      }
+      try {
+        JsonNode output =
+            result.body() != null ? result.body() : objectMapper.readTree(result.message());
+        shardOutputs.add(output);
+        if (!completed.containsKey(shardKeys.get(shard))) {
+          shardOutputStore.record(taskRun, shardKeys.get(shard), output);
+        }
+      } catch (Exception e) {
+        failedShards++;
+        if (firstFailure == null) {
+          firstFailure = "샤드 응답 파싱 실패: " + e.getMessage();
+        }
+      }
+    }
+
+    if (failedShards > 0) {
+      return TaskRunner.TaskExecutionResult.failure(
+          String.format(
+              "Fan-out 샤드 실행 실패 (%d/%d): %s", failedShards, shardBodies.size(), firstFailure));
+    }
+    JsonNode merged = mergeShardOutputs(shardOutputs, fanOut);
+    return TaskRunner.TaskExecutionResult.success(merged);
+  }
+
+  private TaskRunner.TaskExecutionResult executeShard(
+      Task task,
+      TaskRun taskRun,
+      ObjectNode shardBody,
+      TaskRunner runner,
+      Semaphore parallelism) {
+    try {
+      parallelism.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return TaskRunner.TaskExecutionResult.failure("샤드 실행 대기 중 인터럽트 발생");
+    }
+    try {
+      return executeWithRetry(task, taskRun, shardBody, runner);
+    } finally {
+      parallelism.release();
+    }
+  }
+
+  /** 배열 필드만 샤드 크기로 나누고, 나머지 필드는 원본 Body를 그대로 공유하는 샤드 Body 목록을 만듭니다. */
+  private List<ObjectNode> splitIntoShards(
+      ObjectNode requestBody, JsonNode items, FanOutSpec fanOut) {
+    List<ObjectNode> shardBodies = new ArrayList<>();
+    for (int start = 0; start < items.size(); start += fanOut.shardSize()) {
+      ArrayNode shardItems = objectMapper.createArrayNode();
+      for (int i = start; i < Math.min(start + fanOut.shardSize(), items.size()); i++) {
+        shardItems.add(items.get(i));
+      }
+      ObjectNode shardBody = objectMapper.createObjectNode();
+      shardBody.setAll(requestBody);
+      shardBody.set(fanOut.field(), shardItems);
+      shardBodies.add(shardBody);
+    }
+    return shardBodies;
+  }
+
+  /**
+   * 첫 번째 샤드 결과를 기준으로, 병합 규칙에 따라 배열은 이어붙이고 숫자는 합산합니다.
+   *
+   * <p>샤드 결과는 입력 순서대로 이어붙이며, {@code renumber}가 선언된 배열은 샤드 안의 번호에 앞선 샤드들의 입력 원소 수를 더해 원래 입력
+   * 배열에서의 위치(1부터)로 바꿉니다.
+   */
+  private JsonNode mergeShardOutputs(List<JsonNode> shardOutputs, FanOutSpec fanOut) {
+    JsonNode merged = shardOutputs.get(0).deepCopy();
+    for (JsonPointer pointer : fanOut.concatPointers()) {
+      String renumberField = fanOut.renumberFields().get(pointer);
+      ArrayNode concatenated = objectMapper.createArrayNode();
+      for (int shard = 0; shard < shardOutputs.size(); shard++) {
+        JsonNode values = shardOutputs.get(shard).at(pointer);
+        if (!values.isArray()) {
+          continue;
+        }
+        long offset = (long) shard * fanOut.shardSize();
+        for (int i = 0; i < values.size(); i++) {
+          JsonNode value = values.get(i);
+          if (renumberField != null && value instanceof ObjectNode item) {
+            // 📌 샤드 안의 번호가 없으면 샤드 안에서의 순서를 번호로 사용합니다.
+            JsonNode local = item.path(renumberField);
+            long number = local.canConvertToLong() ? local.asLong() : i + 1;
+            value = item.deepCopy().put(renumberField, offset + number);
+          }
+          concatenated.add(value);
+        }
+      }
+      setAt(merged, pointer, concatenated);
+    }
+    for (JsonPointer pointer : fanOut.sumPointers()) {
+      boolean integral =
+          shardOutputs.stream().allMatch(output -> output.at(pointer).isIntegralNumber());
+      if (integral) {
+        long sum = shardOutputs.stream().mapToLong(output -> output.at(pointer).asLong()).sum();
+        setAt(merged, pointer, objectMapper.getNodeFactory().numberNode(sum));
+      } else {
+        double sum =
+            shardOutputs.stream().mapToDouble(output -> output.at(pointer).asDouble()).sum();
+        setAt(merged, pointer, objectMapper.getNodeFactory().numberNode(sum));
+      }
+    }
+    return merged;
+  }
+
+  private void setAt(JsonNode root, JsonPointer pointer, JsonNode value) {
+    JsonNode parent = root.at(pointer.head());
+    if (parent instanceof ObjectNode parentObject) {
+      parentObject.set(pointer.last().getMatchingProperty(), value);
+    }
+  }
 }
@@ -0,0 +1,257 @@
+package site.icebang.domain.workflow.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 이 서버에서 실행 중인 워크플로우의 취소 상태({@link RunCancellation})를 관리하고, 취소 요청과 실행 마감 시각을 처리하는 서비스입니다.
+ *
+ * <p>취소 요청은 {@code workflow_run.cancel_requested}에 기록되므로 어느 서버에서 요청하든 실행 중인 서버에 전달됩니다. 실행 중인
+ * 서버는 {@code check-interval-ms}마다 요청과 마감 시각을 확인하며, 같은 서버에서 요청된 취소는 기다리지 않고 바로 처리합니다.
+ *
+ * <ul>
+ *   <li>취소된 실행은 Task 스레드가 인터럽트되고 진행 중인 FastAPI 요청이 중단되며, 아직 시작하지 않은 Job과 Task는 건너뜁니다. 실행은
+ *       {@code CANCELLED}로 끝나고 보유한 허가와 임대를 바로 반납합니다.
+ *   <li>이전 실행이 끝나기를 기다리는({@code QUEUED}) 실행은 요청을 받은 즉시 {@code CANCELLED}로 끝납니다.
+ *   <li>서버 종료로 중단된 실행({@link #interruptAll()})은 같은 방식으로 멈추지만, 다른 서버가 이어서 실행하도록 {@code
+ *       INTERRUPTED}로 끝납니다.
+ * </ul>
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.runs.active}: 이 서버에서 실행 중인 워크플로우 수
+ *   <li>{@code workflow.run.cancelled}: 취소된 실행 수 (태그: reason)
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowCancellationService {
+
+  private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
+
+  /** 실행이 취소된 사유 */
+  public enum Reason {
+    /** 사용자나 같은 워크플로우의 새 실행({@code CANCEL_PREVIOUS})이 취소를 요청했습니다. */
+    REQUESTED,
+    /** 실행 마감 시각이 지났습니다. */
+    DEADLINE,
+    /** 서버가 종료되어 실행을 중단했습니다. 다른 서버가 이어서 실행합니다. */
+    SHUTDOWN;
+
+    /** 메트릭 태그에 사용할 이름 (예: "deadline") */
+    public String tagValue() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final WorkflowRunMapper workflowRunMapper;
+  private final WorkflowExecutionProperties executionProperties;
+  private final MeterRegistry meterRegistry;
+
+  /** 이 서버에서 실행 중인 워크플로우 (workflow_run ID → 취소 상태) */
+  private final Map<Long, RunCancellation> activeRuns = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService watchdog;
+
+  @PostConstruct
+  void start() {
+    Gauge.builder("workflow.runs.active", activeRuns, Map::size)
+        .description("이 서버에서 실행 중인 워크플로우 수")
+        .register(meterRegistry);
+    watchdog =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "workflow-run-watchdog");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = executionProperties.getCancellation().getCheckIntervalMs();
+    watchdog.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    watchdog.shutdownNow();
+  }
+
+  /**
+   * 실행 요청의 제한 시간으로 마감 시각을 정합니다.
+   *
+   * @param timeoutSeconds 실행 요청에 지정된 제한 시간 (초 단위, 없으면 null)
+   * @return 마감 시각, 제한 시간도 기본값도 없으면 null
+   * @throws IllegalArgumentException 제한 시간이 0 이하인 경우
+   */
+  public Instant deadlineFor(Integer timeoutSeconds) {
+    if (timeoutSeconds != null) {
+      if (timeoutSeconds <= 0) {
+        throw new IllegalArgumentException("실행 제한 시간은 1초 이상이어야 합니다: " + timeoutSeconds);
+      }
+      return Instant.now().plusSeconds(timeoutSeconds);
+    }
+    Long defaultTimeoutMs = executionProperties.getCancellation().getDefaultRunTimeoutMs();
+    return defaultTimeoutMs != null ? Instant.now().plusMillis(defaultTimeoutMs) : null;
+  }
+
+  /**
+   * 실행을 시작하면서 취소 상태를 등록합니다. 마감 시각이 이미 지났으면 바로 취소됩니다.
+   *
+   * @param workflowRun 시작하는 실행
+   * @return 실행을 위해 일하는 스레드에 바인딩할 취소 상태
+   */
+  public RunCancellation register(WorkflowRun workflowRun) {
+    RunCancellation cancellation =
+        new RunCancellation(workflowRun.getId(), workflowRun.getDeadlineAt());
+    activeRuns.put(workflowRun.getId(), cancellation);
+    if (cancellation.isPastDeadline(Instant.now())) {
+      cancel(cancellation, Reason.DEADLINE);
+    }
+    return cancellation;
+  }
+
+  /**
+   * 취소된 실행을 기록할 상태를 반환합니다.
+   *
+   * @return 서버 종료로 중단되었으면 {@code INTERRUPTED}, 그 외에는 {@code CANCELLED}
+   */
+  public static String cancelledStatus(RunCancellation cancellation) {
+    return isInterrupted(cancellation) ? "INTERRUPTED" : "CANCELLED";
+  }
+
+  /** 서버 종료로 중단된 실행인지 확인합니다. */
+  public static boolean isInterrupted(RunCancellation cancellation) {
+    return Reason.SHUTDOWN.name().equals(cancellation.getReason());
+  }
+
+  /** 이 서버에서 실행 중인 워크플로우 수를 반환합니다. */
+  public int activeRunCount() {
+    return activeRuns.size();
+  }
+
+  /**
+   * 이 서버에서 실행 중인 워크플로우가 모두 끝날 때까지 기다립니다.
+   *
+   * @param timeoutMs 최대 대기 시간 (밀리초)
+   * @return 모두 끝났으면 true, 시간 안에 끝나지 않았으면 false
+   */
+  public boolean awaitNoActiveRuns(long timeoutMs) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    while (!activeRuns.isEmpty()) {
+      long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMs <= 0) {
+        return false;
+      }
+      Thread.sleep(Math.min(remainingMs, 200));
+    }
+    return true;
+  }
+
+  /** 서버 종료를 위해 이 서버에서 실행 중인 워크플로우를 모두 중단합니다. */
+  public void interruptAll() {
+    activeRuns.values().forEach(cancellation -> cancel(cancellation, Reason.SHUTDOWN));
+  }
+
+  /** 실행이 끝나면 취소 상태를 제거합니다. */
+  public void unregister(Long workflowRunId) {
+    activeRuns.remove(workflowRunId);
+  }
+
+  /**
+   * 워크플로우 실행의 취소를 요청합니다.
+   *
+   * @param workflowRunId 취소할 실행 ID
+   * @return 취소를 요청했으면 true, 이미 끝난 실행이면 false
+   * @throws IllegalArgumentException 존재하지 않는 실행인 경우
+   */
+  public boolean requestCancel(Long workflowRunId) {
+    WorkflowRun workflowRun = workflowRunMapper.findById(workflowRunId);
+    if (workflowRun == null) {
+      throw new IllegalArgumentException("존재하지 않는 워크플로우 실행입니다: " + workflowRunId);
+    }
+    if (workflowRunMapper.requestCancel(workflowRunId) == 0) {
+      return false;
+    }
+    workflowLogger.info("워크플로우 실행 취소 요청: WorkflowRunId={}", workflowRunId);
+
+    // 📌 기다리는 실행은 아직 시작하지 않았으므로 바로 끝냅니다. 그 사이 시작되었다면 실행 중인 서버가 요청을 처리합니다.
+    if (workflowRunMapper.cancelQueued(workflowRunId, Instant.now()) > 0) {
+      recordCancelled(Reason.REQUESTED);
+      return true;
+    }
+    RunCancellation cancellation = activeRuns.get(workflowRunId);
+    if (cancellation != null) {
+      cancel(cancellation, Reason.REQUESTED);
+    }
+    return true;
+  }
+
+  private void cancel(RunCancellation cancellation, Reason reason) {
+    if (cancellation.cancel(reason.name())) {
+      recordCancelled(reason);
+      workflowLogger.warn(
+          "워크플로우 실행을 취소합니다: WorkflowRunId={}, Reason={}",
+          cancellation.getWorkflowRunId(),
+          reason);
+    }
+  }
+
+  private void check() {
+    try {
+      Instant now = Instant.now();
+      activeRuns.values().stream()
+          .filter(cancellation -> !cancellation.isCancelled() && cancellation.isPastDeadline(now))
+          .forEach(cancellation -> cancel(cancellation, Reason.DEADLINE));
+
+      List<Long> running =
+          activeRuns.values().stream()
+              .filter(cancellation -> !cancellation.isCancelled())
+              .map(RunCancellation::getWorkflowRunId)
+              .toList();
+      if (running.isEmpty()) {
+        return;
+      }
+      for (Long workflowRunId : workflowRunMapper.findCancelRequestedIds(running)) {
+        RunCancellation cancellation = activeRuns.get(workflowRunId);
+        if (cancellation != null) {
+          cancel(cancellation, Reason.REQUESTED);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("워크플로우 실행 취소 확인 실패", e);
+    }
+  }
+
+  private void recordCancelled(Reason reason) {
+    Counter.builder("workflow.run.cancelled")
+        .description("취소된 워크플로우 실행 수")
+        .tag("reason", reason.tagValue())
+        .register(meterRegistry)
+        .increment();
+  }
+}
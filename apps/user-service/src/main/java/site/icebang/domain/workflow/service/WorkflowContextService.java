@@ -1,15 +1,19 @@
 package site.icebang.domain.workflow.service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
 import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
 import site.icebang.domain.workflow.mapper.TaskRunMapper;
 import site.icebang.domain.workflow.model.JobRun;
@@ -22,11 +26,53 @@ public class WorkflowContextService {
 
   private final TaskRunMapper taskRunMapper;
   private final TaskIoDataMapper taskIoDataMapper;
-  private final ObjectMapper objectMapper;
+  private final TaskIoDataStore taskIoDataStore;
 
   /**
-   * 전체 워크플로우 실행 범위(WorkflowRun) 내에서, 이전에 성공한 Task의 이름으로 결과(Output)를 조회합니다. Resume(이어하기) 시, 이전 Job이
-   * 스킵되더라도 DB에서 전체 이력을 조회하여 데이터를 가져옵니다.
+   * 실행 중인 WorkflowRun별로 이미 파싱된 Task 결과를 보관하는 인메모리 컨텍스트입니다. (WorkflowRunId → TaskName → Output)
+   *
+   * <p>같은 JVM에서 방금 생성된 결과를 다시 DB에서 조회하고 파싱하지 않도록 하며, 워크플로우 실행이 끝나면 {@link #closeRun(Long)}으로
+   * 제거됩니다.
+   */
+  private final Map<Long, Map<String, JsonNode>> runOutputs = new ConcurrentHashMap<>();
+
+  /**
+   * WorkflowRun의 실행 컨텍스트를 생성합니다. 워크플로우 실행을 시작할 때 호출해야 합니다.
+   *
+   * @param workflowRunId 실행을 시작한 WorkflowRun ID
+   */
+  public void openRun(Long workflowRunId) {
+    runOutputs.putIfAbsent(workflowRunId, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * 성공한 Task의 결과를 실행 컨텍스트에 기록하여 이후 Task들이 DB 조회 없이 사용할 수 있도록 합니다.
+   *
+   * @param workflowRunId Task가 속한 WorkflowRun ID
+   * @param taskName 성공한 Task의 이름
+   * @param output 파싱된 결과 데이터
+   */
+  public void recordTaskOutput(Long workflowRunId, String taskName, JsonNode output) {
+    Map<String, JsonNode> outputs = runOutputs.get(workflowRunId);
+    if (outputs != null && output != null) {
+      outputs.put(taskName, output);
+    }
+  }
+
+  /**
+   * WorkflowRun의 실행 컨텍스트를 제거합니다. 워크플로우 실행이 끝나면 성공/실패와 관계없이 반드시 호출해야 합니다.
+   *
+   * @param workflowRunId 실행이 끝난 WorkflowRun ID
+   */
+  public void closeRun(Long workflowRunId) {
+    runOutputs.remove(workflowRunId);
+  }
+
+  /**
+   * 전체 워크플로우 실행 범위(WorkflowRun) 내에서, 이전에 성공한 Task의 이름으로 결과(Output)를 조회합니다.
+   *
+   * <p>먼저 실행 컨텍스트에서 찾고, 없을 때만 DB에서 조회합니다. Resume(이어하기)이나 복구 시 이전 Job이 스킵되더라도 DB에서 전체 이력을 조회하여
+   * 데이터를 가져오며, 조회한 결과는 실행 컨텍스트에 보관합니다.
    *
    * @param jobRun 현재 실행중인 JobRun (내부의 workflowRunId를 사용하여 전체 범위 조회)
    * @param sourceTaskName 결과를 조회할 이전 Task의 이름
@@ -34,6 +80,37 @@ public class WorkflowContextService {
    */
   public Optional<JsonNode> getPreviousTaskOutput(JobRun jobRun, String sourceTaskName) {
     Long workflowRunId = jobRun.getWorkflowRunId();
+    Map<String, JsonNode> outputs = runOutputs.get(workflowRunId);
+    if (outputs != null) {
+      JsonNode cached = outputs.get(sourceTaskName);
+      if (cached != null) {
+        return Optional.of(cached);
+      }
+    }
+
+    Optional<JsonNode> loaded = loadPreviousTaskOutput(workflowRunId, sourceTaskName);
+    loaded.ifPresent(output -> recordTaskOutput(workflowRunId, sourceTaskName, output));
+    return loaded;
+  }
+
+  /**
+   * 여러 이전 Task의 결과를 한 번에 조회합니다. 실행 엔진이 Task 실행 직전에 Body 빌더가 필요로 하는 결과를 미리 가져올 때 사용합니다.
+   *
+   * @param jobRun 현재 실행중인 JobRun
+   * @param sourceTaskNames 결과를 조회할 이전 Task 이름 목록
+   * @return Task 이름별 결과 (결과가 없는 Task는 포함되지 않음)
+   */
+  public Map<String, JsonNode> getPreviousTaskOutputs(
+      JobRun jobRun, Collection<String> sourceTaskNames) {
+    Map<String, JsonNode> outputs = new LinkedHashMap<>();
+    for (String sourceTaskName : sourceTaskNames) {
+      getPreviousTaskOutput(jobRun, sourceTaskName)
+          .ifPresent(output -> outputs.put(sourceTaskName, output));
+    }
+    return outputs;
+  }
+
+  private Optional<JsonNode> loadPreviousTaskOutput(Long workflowRunId, String sourceTaskName) {
     try {
       return Optional.ofNullable(
               taskRunMapper.findSuccessfulTaskRunByWorkflowRunId(workflowRunId, sourceTaskName))
@@ -47,7 +124,7 @@ public class WorkflowContextService {
 
   private JsonNode parseJson(TaskIoData ioData) {
     try {
-      return objectMapper.readTree(ioData.getDataValue());
+      return taskIoDataStore.readJson(ioData);
     } catch (Exception e) {
       log.error("TaskIoData JSON 파싱 실패: TaskIoDataId={}", ioData.getId(), e);
       return null;
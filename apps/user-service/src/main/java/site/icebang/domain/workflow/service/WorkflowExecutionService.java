@@ -1,12 +1,16 @@
 package site.icebang.domain.workflow.service;
 
-import java.math.BigInteger;
-import java.util.Comparator;
-import java.util.List;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -15,17 +19,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
-import site.icebang.domain.workflow.dto.JobDto;
+import site.icebang.common.exception.WorkflowAdmissionRejectedException;
 import site.icebang.domain.workflow.dto.RequestContextDto;
-import site.icebang.domain.workflow.dto.TaskDto;
-import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
 import site.icebang.domain.workflow.manager.ExecutionMdcManager;
-import site.icebang.domain.workflow.mapper.JobMapper;
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
 import site.icebang.domain.workflow.mapper.JobRunMapper;
-import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
 import site.icebang.domain.workflow.mapper.TaskRunMapper;
-import site.icebang.domain.workflow.mapper.WorkflowMapper;
 import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
 import site.icebang.domain.workflow.model.Job;
 import site.icebang.domain.workflow.model.JobRun;
 import site.icebang.domain.workflow.model.Task;
@@ -33,188 +36,521 @@ import site.icebang.domain.workflow.model.TaskIoData;
 import site.icebang.domain.workflow.model.TaskRun;
 import site.icebang.domain.workflow.model.WorkflowRun;
 import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.TaskSuspension;
 import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskInputs;
+import site.icebang.global.config.async.AdmissionPriority;
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.async.RunPermit;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
 
 @Service
 @RequiredArgsConstructor
 public class WorkflowExecutionService {
   private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
-  private final JobMapper jobMapper;
   private final WorkflowRunMapper workflowRunMapper;
   private final JobRunMapper jobRunMapper;
   private final TaskRunMapper taskRunMapper;
-  private final TaskIoDataMapper taskIoDataMapper;
   private final ObjectMapper objectMapper;
-  private final List<TaskBodyBuilder> bodyBuilders;
   private final ExecutionMdcManager mdcManager;
   private final TaskExecutionService taskExecutionService;
-  private final WorkflowMapper workflowMapper;
+  private final WorkflowContextService workflowContextService;
+  private final RunStatePersistenceManager runStatePersistenceManager;
+  private final TaskIoDataStore taskIoDataStore;
+  private final ExecutionPlanService executionPlanService;
+  private final WorkflowExecutionProperties executionProperties;
+  private final Executor workflowTaskExecutor;
+  private final WorkflowAdmissionQueue admissionQueue;
+  private final WorkflowLeaseService workflowLeaseService;
+  private final WorkflowCancellationService workflowCancellationService;
 
-  @Async("traceExecutor")
+  /**
+   * 워크플로우 실행을 요청합니다. 실행은 동시 실행 허가를 받은 뒤 별도의 스레드에서 시작됩니다.
+   *
+   * @param workflowId 실행할 워크플로우 ID
+   * @param context 요청 컨텍스트 (허가를 기다릴 때의 우선순위 포함)
+   * @throws WorkflowAdmissionRejectedException 실행 대기열이 가득 차 실행을 받을 수 없는 경우
+   */
   public void executeWorkflow(Long workflowId, RequestContextDto context) {
-    WorkflowRun workflowRun = WorkflowRun.start(workflowId, context.getTraceId());
-    workflowRunMapper.insert(workflowRun);
+    executeWorkflow(workflowId, context, null);
+  }
 
-    mdcManager.setWorkflowContext(
-        workflowId, context.getTraceId(), context.getClientIp(), context.getUserAgent());
+  /**
+   * 제한 시간을 지정하여 워크플로우 실행을 요청합니다. 제한 시간은 요청한 시각부터 계산하므로 허가를 기다린 시간도 포함되며, 지나면 실행이 취소됩니다.
+   *
+   * @param timeoutSeconds 실행 제한 시간 (초 단위, 없으면 {@code default-run-timeout-ms} 적용)
+   * @throws IllegalArgumentException 제한 시간이 0 이하인 경우
+   * @throws WorkflowAdmissionRejectedException 실행 대기열이 가득 차 실행을 받을 수 없는 경우
+   */
+  public void executeWorkflow(Long workflowId, RequestContextDto context, Integer timeoutSeconds) {
+    Instant deadlineAt = workflowCancellationService.deadlineFor(timeoutSeconds);
+    admissionQueue.submit(
+        context.getPriority(),
+        "WorkflowId=" + workflowId,
+        () -> {
+          WorkflowRun workflowRun =
+              WorkflowRun.start(
+                  workflowId, context.getTraceId(), triggerType(context), deadlineAt);
+          workflowRunMapper.insert(workflowRun);
+          startIfLeased(workflowRun, context);
+        },
+        // 📌 실행 기록을 만들기 전에 빠졌으므로 실행 이력 로그에만 남깁니다.
+        () ->
+            workflowLogger.warn(
+                "실행 대기열에서 빠져 워크플로우 실행을 시작하지 못했습니다: WorkflowId={}, Priority={}",
+                workflowId,
+                context.getPriority()));
+  }
+
+  /**
+   * 비정상 종료로 중단된 워크플로우 실행을 같은 WorkflowRun으로 이어서 실행합니다.
+   *
+   * <p>이미 성공한 Job은 건너뛰며, 외부에 제출한 뒤 완료를 기다리던 비동기 Task는 다시 제출하지 않고 기존 작업의 완료를 이어서 기다립니다.
+   * 실행 대기열에서 빠지면 실행 상태가 그대로 남으므로, 다른 서버의 복구 주기나 다음 서버 시작 시 다시 복구됩니다.
+   *
+   * @param workflowRun 중단된 워크플로우 실행 기록
+   * @param context 요청 컨텍스트
+   * @throws WorkflowAdmissionRejectedException 실행 대기열이 가득 차 실행을 받을 수 없는 경우
+   */
+  public void resumeWorkflow(WorkflowRun workflowRun, RequestContextDto context) {
+    admissionQueue.submit(
+        context.getPriority(),
+        "WorkflowRunId=" + workflowRun.getId(),
+        () -> startIfLeased(workflowRun, context),
+        () ->
+            workflowLogger.warn(
+                "실행 대기열에서 빠져 워크플로우 실행을 이어서 실행하지 못했습니다: WorkflowRunId={}",
+                workflowRun.getId()));
+  }
+
+  /**
+   * 실행을 소유한 뒤, 워크플로우의 실행 겹침 처리 방식에 따라 실행하거나, 건너뛰거나, 이전 실행이 끝날 때까지 기다리도록 기록합니다.
+   *
+   * <p>다른 서버가 소유 중이거나 그 사이에 끝난 실행은 시작하지 않습니다. 복구 대상을 조회한 뒤 상태가 바뀌었을 수 있으므로, 소유한 뒤 실행 기록을
+   * 다시 조회합니다.
+   */
+  private void startIfLeased(WorkflowRun requestedRun, RequestContextDto context) {
+    Long workflowRunId = requestedRun.getId();
+    if (!workflowLeaseService.claimRun(workflowRunId)) {
+      workflowLogger.info("다른 서버가 소유 중이거나 끝난 실행이므로 시작하지 않습니다: WorkflowRunId={}", workflowRunId);
+      return;
+    }
+    WorkflowRun workflowRun = workflowRunMapper.findById(workflowRunId);
+    WorkflowLeaseService.Decision decision;
     try {
-      workflowLogger.info("========== 워크플로우 실행 시작: WorkflowId={} ==========", workflowId);
+      decision = workflowLeaseService.acquire(workflowRun);
+    } catch (Exception e) {
+      workflowLogger.error("워크플로우 임대 요청 실패: WorkflowRunId={}", workflowRunId, e);
+      workflowRun.finish("FAILED");
+      workflowRunMapper.update(workflowRun);
+      workflowLeaseService.releaseRun(workflowRunId);
+      return;
+    }
+    if (decision != WorkflowLeaseService.Decision.RUN) {
+      // 📌 기다리는 실행은 임대를 넘겨받은 서버가 다시 소유하여 시작합니다.
+      workflowLeaseService.releaseRun(workflowRunId);
+      return;
+    }
+    if (!"RUNNING".equals(workflowRun.getStatus())) {
+      workflowRun.resume();
+      workflowRunMapper.update(workflowRun);
+    }
+    runWorkflow(workflowRun, context);
+  }
 
-      // 📌 1. selectWorkflowDetailById를 호출하여 워크플로우의 모든 상세 정보를 가져옵니다.
-      WorkflowDetailCardDto settingsDto =
-          workflowMapper.selectWorkflowDetailById(BigInteger.valueOf(workflowId));
-      if (settingsDto == null) {
-        throw new IllegalStateException("실행할 워크플로우를 찾을 수 없습니다: ID " + workflowId);
+  /** 임대를 넘겨받은 실행(이전 실행이 끝나기를 기다리던 실행)을 시작합니다. */
+  private void startQueuedRun(Long workflowRunId) {
+    while (workflowRunId != null) {
+      WorkflowRun queuedRun = workflowRunMapper.findById(workflowRunId);
+      if (queuedRun != null && "QUEUED".equals(queuedRun.getStatus())) {
+        RequestContextDto context =
+            "manual".equals(queuedRun.getTriggerType())
+                ? RequestContextDto.forManual(queuedRun.getTraceId(), null, null)
+                : RequestContextDto.forScheduler(queuedRun.getTraceId());
+        try {
+          // 📌 임대를 넘겨받은 실행이므로, 허가를 받기 전에 대기열에서 빠져도 임대를 정리해야 합니다.
+          admissionQueue.submit(
+              context.getPriority(),
+              "WorkflowRunId=" + workflowRunId,
+              () -> startIfLeased(queuedRun, context),
+              () -> {
+                workflowLogger.warn(
+                    "기다리던 워크플로우 실행이 실행 대기열에서 빠졌습니다: WorkflowRunId={}", queuedRun.getId());
+                startQueuedRun(abandonQueuedRun(queuedRun));
+              });
+          return;
+        } catch (WorkflowAdmissionRejectedException e) {
+          workflowLogger.warn("기다리던 워크플로우 실행을 시작하지 못했습니다: WorkflowRunId={}", workflowRunId);
+          workflowRunId = abandonQueuedRun(queuedRun);
+          continue;
+        }
       }
+      // 📌 시작할 수 없는 실행이 임대를 붙잡고 있지 않도록 다음 실행에 넘깁니다.
+      workflowRunId = workflowLeaseService.release(workflowRunId);
+    }
+  }
 
-      // 📌 2. 가져온 DTO 객체에서 getDefaultConfig() 메소드를 호출하여 값을 얻습니다.
-      String defaultConfigJson = settingsDto.getDefaultConfig();
-      JsonNode setting =
-          (defaultConfigJson != null && !defaultConfigJson.isEmpty())
-              ? objectMapper.readTree(defaultConfigJson)
-              : objectMapper.createObjectNode();
-
-      List<JobDto> jobDtos = jobMapper.findJobsByWorkflowId(workflowId);
-      jobDtos.sort(
-          Comparator.comparing(
-                  JobDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
-              .thenComparing(JobDto::getId));
+  /**
+   * 임대를 넘겨받았지만 시작하지 못한 실행을 끝내고, 임대를 다음 실행에 넘깁니다.
+   *
+   * @return 임대를 넘겨받은 다음 실행 ID (없거나 서버가 종료 중이면 {@code null})
+   */
+  private Long abandonQueuedRun(WorkflowRun queuedRun) {
+    if (admissionQueue.isClosed()) {
+      // 📌 서버가 종료 중이면 다른 서버가 이어서 실행하도록 임대를 넘겨받은 채로 남깁니다.
+      queuedRun.finish("INTERRUPTED");
+      workflowRunMapper.update(queuedRun);
+      return null;
+    }
+    queuedRun.finish("FAILED");
+    workflowRunMapper.update(queuedRun);
+    return workflowLeaseService.release(queuedRun.getId());
+  }
 
-      boolean hasAnyJobFailed = false;
+  private void runWorkflow(WorkflowRun workflowRun, RequestContextDto context) {
+    Long workflowId = workflowRun.getWorkflowId();
+    RunPermit runPermit = RunPermit.current();
+    RunCancellation cancellation = workflowCancellationService.register(workflowRun);
+    workflowContextService.openRun(workflowRun.getId());
 
-      for (JobDto jobDto : jobDtos) {
-        Job job = new Job(jobDto);
-        mdcManager.setJobContext(job.getId());
-
-        // 📌 이미 성공한 Job인지 확인하여 중복 실행 방지 (Resume 기능)
-        JobRun existingSuccessfulJob =
-            jobRunMapper.findSuccessfulJobByWorkflowRunId(workflowRun.getId(), job.getId());
-        if (existingSuccessfulJob != null) {
-          workflowLogger.info(
-              "---------- Job 스킵 (이미 성공함): JobId={}, PreviousJobRunId={} ----------",
-              job.getId(),
-              existingSuccessfulJob.getId());
-          continue;
-        }
+    mdcManager.setWorkflowContext(
+        workflowId, context.getTraceId(), context.getClientIp(), context.getUserAgent());
+    try {
+      workflowLogger.info("========== 워크플로우 실행 시작: WorkflowId={} ==========", workflowId);
 
-        JobRun jobRun = JobRun.start(workflowRun.getId(), job.getId());
-        jobRunMapper.insert(jobRun);
-        workflowLogger.info(
-            "---------- Job 실행 시작: JobId={}, JobRunId={} ----------", job.getId(), jobRun.getId());
+      // 📌 컴파일된 실행 계획을 사용하므로, 캐시에 있으면 정의 테이블을 다시 조회하지 않습니다.
+      ExecutionPlan plan = executionPlanService.getPlan(workflowId);
+      DependencyGraph<Long, ExecutionPlan.JobPlan> graph = plan.jobGraph();
+      Map<Long, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
 
-        boolean jobSucceeded = executeTasksForJob(jobRun, setting);
-        jobRun.finish(jobSucceeded ? "SUCCESS" : "FAILED");
-        jobRunMapper.update(jobRun);
+      for (ExecutionPlan.JobPlan jobPlan : graph.getOrderedNodes()) {
+        CompletableFuture<?>[] upstream =
+            graph.getDependencies(jobPlan).stream()
+                .map(results::get)
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Boolean> result =
+            CompletableFuture.allOf(upstream)
+                .thenApplyAsync(
+                    ignored -> executeJob(workflowRun, jobPlan, context, runPermit, cancellation),
+                    workflowTaskExecutor)
+                .exceptionally(
+                    e -> {
+                      workflowLogger.error(
+                          "Job 스케줄링 중 오류 발생: WorkflowRunId={}, JobId={}",
+                          workflowRun.getId(),
+                          jobPlan.job().getId(),
+                          e);
+                      return false;
+                    });
+        results.put(jobPlan.job().getId(), result);
+      }
 
-        if (!jobSucceeded) {
+      boolean hasAnyJobFailed = false;
+      for (CompletableFuture<Boolean> result : results.values()) {
+        if (!result.join()) {
           hasAnyJobFailed = true;
         }
-        mdcManager.setWorkflowContext(
-            workflowId, context.getTraceId(), context.getClientIp(), context.getUserAgent());
       }
-      workflowRun.finish(hasAnyJobFailed ? "FAILED" : "SUCCESS");
-      workflowRunMapper.update(workflowRun);
+      boolean cancelled = cancellation.isCancelled();
+      workflowRun.finish(
+          cancelled
+              ? WorkflowCancellationService.cancelledStatus(cancellation)
+              : hasAnyJobFailed ? "FAILED" : "SUCCESS");
+      runStatePersistenceManager.updateWorkflowRun(workflowRun);
       workflowLogger.info(
           "========== 워크플로우 실행 {} : WorkflowRunId={} ==========",
-          hasAnyJobFailed ? "실패" : "성공",
+          cancelled
+              ? WorkflowCancellationService.isInterrupted(cancellation) ? "중단" : "취소"
+              : hasAnyJobFailed ? "실패" : "성공",
           workflowRun.getId());
     } catch (Exception e) {
       workflowLogger.error("워크플로우 실행 중 심각한 오류 발생: WorkflowId={}", workflowId, e);
       if (workflowRun != null) {
-        workflowRun.finish("FAILED");
-        workflowRunMapper.update(workflowRun);
+        workflowRun.finish(
+            cancellation.isCancelled()
+                ? WorkflowCancellationService.cancelledStatus(cancellation)
+                : "FAILED");
+        runStatePersistenceManager.updateWorkflowRun(workflowRun);
+      }
+    } finally {
+      // 📌 취소로 인터럽트된 스레드에서는 DB 호출이 거절되므로, 소유 해제와 임대 반납이 끝날 때까지 인터럽트 상태를 미뤄 둡니다.
+      boolean interrupted = Thread.interrupted();
+      workflowCancellationService.unregister(workflowRun.getId());
+      // 📌 실행이 끝나면 지연 기록 중인 상태를 모두 DB에 반영합니다.
+      boolean persisted = runStatePersistenceManager.flush();
+      workflowContextService.closeRun(workflowRun.getId());
+      mdcManager.clearExecutionContext();
+      // 📌 최종 상태를 기록한 뒤 소유를 해제하므로, 중단된 실행은 다른 서버가 바로 이어서 실행할 수 있습니다.
+      // 최종 상태를 기록하지 못했다면 DB에는 아직 RUNNING으로 남아 있으므로, 다른 서버가 끝난 실행을 다시 실행하지 않도록 소유를 유지합니다.
+      if (persisted) {
+        workflowLeaseService.releaseRun(workflowRun.getId());
+      } else {
+        workflowLogger.warn(
+            "최종 상태를 아직 기록하지 못해 실행 소유를 유지합니다: WorkflowRunId={}", workflowRun.getId());
+      }
+      // 📌 서버 종료로 중단된 실행은 이어서 실행하는 서버가 그대로 사용하도록 임대를 반납하지 않습니다.
+      if (!WorkflowCancellationService.isInterrupted(cancellation)) {
+        releaseLease(workflowRun);
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /** 최종 상태를 기록한 뒤 임대를 반납하고, 기다리던 실행이 있으면 이어서 시작합니다. */
+  private void releaseLease(WorkflowRun workflowRun) {
+    try {
+      startQueuedRun(workflowLeaseService.release(workflowRun.getId()));
+    } catch (Exception e) {
+      workflowLogger.error("워크플로우 임대 반납 실패: WorkflowRunId={}", workflowRun.getId(), e);
+    }
+  }
+
+  private static String triggerType(RequestContextDto context) {
+    return context.getPriority() == AdmissionPriority.MANUAL ? "manual" : "schedule";
+  }
+
+  /**
+   * 하나의 Job을 실행하고 JobRun 기록을 남깁니다.
+   *
+   * <p>Job마다 별도의 스레드에서 실행되므로, 워크플로우/Job MDC 컨텍스트를 스레드 안에서 다시 설정합니다.
+   *
+   * @return Job이 성공했거나 이미 성공하여 스킵된 경우 true
+   */
+  private boolean executeJob(
+      WorkflowRun workflowRun,
+      ExecutionPlan.JobPlan jobPlan,
+      RequestContextDto context,
+      RunPermit runPermit,
+      RunCancellation cancellation) {
+    mdcManager.setWorkflowContext(
+        workflowRun.getWorkflowId(),
+        context.getTraceId(),
+        context.getClientIp(),
+        context.getUserAgent());
+    Job job = jobPlan.job();
+    mdcManager.setJobContext(job.getId());
+    try {
+      if (cancellation.isCancelled()) {
+        workflowLogger.info("---------- Job 스킵 (실행 취소): JobId={} ----------", job.getId());
+        return false;
+      }
+
+      // 📌 이미 성공한 Job인지 확인하여 중복 실행 방지 (Resume 기능)
+      JobRun existingSuccessfulJob =
+          jobRunMapper.findSuccessfulJobByWorkflowRunId(workflowRun.getId(), job.getId());
+      if (existingSuccessfulJob != null) {
+        workflowLogger.info(
+            "---------- Job 스킵 (이미 성공함): JobId={}, PreviousJobRunId={} ----------",
+            job.getId(),
+            existingSuccessfulJob.getId());
+        return true;
       }
+
+      JobRun jobRun = JobRun.start(workflowRun.getId(), job.getId());
+      jobRunMapper.insert(jobRun);
+      workflowLogger.info(
+          "---------- Job 실행 시작: JobId={}, JobRunId={} ----------", job.getId(), jobRun.getId());
+
+      boolean jobSucceeded = executeTasksForJob(jobRun, jobPlan, runPermit, cancellation);
+      jobRun.finish(
+          cancellation.isCancelled()
+              ? WorkflowCancellationService.cancelledStatus(cancellation)
+              : jobSucceeded ? "SUCCESS" : "FAILED");
+      runStatePersistenceManager.updateJobRun(jobRun);
+      return jobSucceeded;
     } finally {
       mdcManager.clearExecutionContext();
     }
   }
 
-  private boolean executeTasksForJob(JobRun jobRun, JsonNode setting) {
-    List<TaskDto> taskDtos = jobMapper.findTasksByJobId(jobRun.getJobId());
-    taskDtos.forEach(
-        dto -> {
-          JsonNode s = setting.get(String.valueOf(dto.getId()));
-          if (s != null) dto.setSettings(s);
-        });
-    taskDtos.sort(
-        Comparator.comparing(
-                TaskDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
-            .thenComparing(TaskDto::getId));
+  private boolean executeTasksForJob(
+      JobRun jobRun,
+      ExecutionPlan.JobPlan jobPlan,
+      RunPermit runPermit,
+      RunCancellation cancellation) {
+    DependencyGraph<String, ExecutionPlan.TaskPlan> graph = jobPlan.taskGraph();
+    Semaphore parallelism = new Semaphore(executionProperties.getTaskParallelism());
+    Map<String, Long> taskRunIds = new ConcurrentHashMap<>(); // 다른 Task가 참조할 task_run_id 저장용
+    Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+
+    // 📌 중단되었던 Job을 이어서 실행할 때는 이전 시도에서 이미 성공한 Task를 다시 실행하지 않습니다.
+    Map<Long, TaskRun> completedTasks = new HashMap<>();
+    for (TaskRun previous :
+        taskRunMapper.findSuccessfulTaskRunsByJob(jobRun.getWorkflowRunId(), jobRun.getJobId())) {
+      completedTasks.put(previous.getTaskId(), previous);
+    }
+
+    for (ExecutionPlan.TaskPlan taskPlan : graph.getOrderedNodes()) {
+      CompletableFuture<?>[] upstream =
+          graph.getDependencies(taskPlan).stream()
+              .map(results::get)
+              .toArray(CompletableFuture[]::new);
+      TaskRun completed = completedTasks.get(taskPlan.task().getId());
+      if (completed != null) {
+        workflowLogger.info(
+            "Task 스킵 (이미 성공함): TaskId={}, PreviousTaskRunId={}",
+            completed.getTaskId(),
+            completed.getId());
+        taskRunIds.put(taskPlan.task().getName(), completed.getId());
+        results.put(taskPlan.task().getName(), CompletableFuture.completedFuture(true));
+        continue;
+      }
+      CompletableFuture<Boolean> result =
+          CompletableFuture.allOf(upstream)
+              .thenApplyAsync(
+                  ignored ->
+                      cancellation.runBound(
+                          () ->
+                              executeTaskWithPermit(
+                                  jobRun, taskPlan, taskRunIds, parallelism, runPermit)),
+                  workflowTaskExecutor)
+              .exceptionally(
+                  e -> {
+                    workflowLogger.error(
+                        "Task 스케줄링 중 오류 발생: JobRunId={}, TaskName={}",
+                        jobRun.getId(),
+                        taskPlan.task().getName(),
+                        e);
+                    return false;
+                  });
+      results.put(taskPlan.task().getName(), result);
+    }
 
     boolean hasAnyTaskFailed = false;
-    Long s3UploadTaskRunId = null; // S3 업로드 태스크의 task_run_id 저장용
-
-    for (TaskDto taskDto : taskDtos) {
-      TaskRun taskRun = null;
-      try {
-        taskRun = TaskRun.start(jobRun.getId(), taskDto.getId(), taskDto.getExecutionOrder());
-        taskRunMapper.insert(taskRun);
-        mdcManager.setTaskContext(taskRun.getId());
-
-        Task task = new Task(taskDto);
-        workflowLogger.info("Task 실행 시작: TaskId={}, Name={}", task.getId(), task.getName());
-
-        ObjectNode requestBody =
-            bodyBuilders.stream()
-                .filter(builder -> builder.supports(task.getName()))
-                .findFirst()
-                .map(builder -> builder.build(task, jobRun))
-                .orElse(objectMapper.createObjectNode());
-
-        // TODO: 아래 로직 다른 곳으로 분리시키기
-        if ("S3 업로드 태스크".equals(task.getName())) {
-          requestBody.put("task_run_id", taskRun.getId());
-          s3UploadTaskRunId = taskRun.getId(); // S3 업로드의 task_run_id 저장
-        } else if ("상품 선택 태스크".equals(task.getName())) {
-          // S3 업로드에서 사용한 task_run_id를 사용
-          if (s3UploadTaskRunId != null) {
-            requestBody.put("task_run_id", s3UploadTaskRunId);
-          } else {
-            workflowLogger.error("S3 업로드 태스크가 먼저 실행되지 않아 task_run_id를 찾을 수 없습니다.");
-            // 또는 이전 Job에서 S3 업로드를 찾는 로직 추가 가능
-          }
-        }
+    for (CompletableFuture<Boolean> result : results.values()) {
+      if (!result.join()) {
+        hasAnyTaskFailed = true;
+      }
+    }
+    return !hasAnyTaskFailed;
+  }
 
-        saveIoData(taskRun.getId(), "INPUT", "request_body", requestBody);
-        TaskRunner.TaskExecutionResult result =
-            taskExecutionService.executeWithRetry(task, taskRun, requestBody);
-        taskRun.finish(result.status(), result.message());
-
-        if (result.isFailure()) {
-          hasAnyTaskFailed = true;
-          saveIoData(
-              taskRun.getId(),
-              "OUTPUT",
-              "error_message",
-              objectMapper.valueToTree(result.message()));
+  private boolean executeTaskWithPermit(
+      JobRun jobRun,
+      ExecutionPlan.TaskPlan taskPlan,
+      Map<String, Long> taskRunIds,
+      Semaphore parallelism,
+      RunPermit runPermit) {
+    if (RunCancellation.current().isCancelled()) {
+      return false;
+    }
+    try {
+      parallelism.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      workflowLogger.error(
+          "Task 실행 대기 중 인터럽트 발생: JobRunId={}, TaskName={}",
+          jobRun.getId(),
+          taskPlan.task().getName());
+      return false;
+    }
+    if (runPermit != null) {
+      runPermit.enter();
+    }
+    try {
+      // 📌 외부 작업을 기다리는 Runner가 기다리는 동안 허가를 반납할 수 있도록 바인딩합니다.
+      return new TaskSuspension(runPermit, parallelism)
+          .runBound(() -> executeTask(jobRun, taskPlan, taskRunIds));
+    } finally {
+      if (runPermit != null) {
+        runPermit.exit();
+      }
+      parallelism.release();
+    }
+  }
+
+  private boolean executeTask(
+      JobRun jobRun, ExecutionPlan.TaskPlan taskPlan, Map<String, Long> taskRunIds) {
+    Task task = taskPlan.task();
+    boolean succeeded = false;
+    TaskRun taskRun = null;
+    try {
+      taskRun = TaskRun.start(jobRun.getId(), task.getId(), taskPlan.executionOrder());
+      taskRunMapper.insert(taskRun);
+      taskRunIds.put(task.getName(), taskRun.getId());
+      mdcManager.setTaskContext(taskRun.getId());
+
+      workflowLogger.info("Task 실행 시작: TaskId={}, Name={}", task.getId(), task.getName());
+
+      // 📌 빌더가 선언한 입력 매핑에 필요한 이전 Task 결과만 한 번에 조회하여 Body를 생성합니다.
+      // 실행 순서만을 위한 의존 Task(예: S3 업로드)의 큰 결과는 읽지 않습니다.
+      TaskBodyBuilder bodyBuilder = taskPlan.bodyBuilder();
+      ObjectNode requestBody = objectMapper.createObjectNode();
+      if (bodyBuilder != null) {
+        Map<String, JsonNode> sourceOutputs =
+            workflowContextService.getPreviousTaskOutputs(
+                jobRun, bodyBuilder.getInputSourceTaskNames());
+        requestBody =
+            bodyBuilder.build(
+                task, jobRun, TaskInputs.resolve(bodyBuilder.getInputMappings(), sourceOutputs));
+      }
+
+      // TODO: 아래 로직 다른 곳으로 분리시키기
+      if ("S3 업로드 태스크".equals(task.getName())) {
+        requestBody.put("task_run_id", taskRun.getId());
+      } else if ("상품 선택 태스크".equals(task.getName())) {
+        // S3 업로드에서 사용한 task_run_id를 사용
+        Long s3UploadTaskRunId = taskRunIds.get("S3 업로드 태스크");
+        if (s3UploadTaskRunId != null) {
+          requestBody.put("task_run_id", s3UploadTaskRunId);
         } else {
-          JsonNode resultJson = objectMapper.readTree(result.message());
-          saveIoData(taskRun.getId(), "OUTPUT", "response_body", resultJson);
-        }
-      } catch (Exception e) {
-        workflowLogger.error(
-            "Task 처리 중 심각한 오류 발생: JobRunId={}, TaskName={}", jobRun.getId(), taskDto.getName(), e);
-        hasAnyTaskFailed = true;
-        if (taskRun != null) {
-          taskRun.finish("FAILED", e.getMessage());
-          saveIoData(
-              taskRun.getId(), "OUTPUT", "error_message", objectMapper.valueToTree(e.getMessage()));
+          workflowLogger.error("S3 업로드 태스크가 먼저 실행되지 않아 task_run_id를 찾을 수 없습니다.");
+          // 또는 이전 Job에서 S3 업로드를 찾는 로직 추가 가능
         }
-      } finally {
-        if (taskRun != null) taskRunMapper.update(taskRun);
-        mdcManager.setJobContext(jobRun.getId());
       }
+
+      saveIoData(taskRun.getId(), "INPUT", "request_body", requestBody);
+      TaskRunner.TaskExecutionResult result =
+          taskExecutionService.executeWithFanOut(
+              task, taskRun, requestBody, taskPlan.runner(), taskPlan.fanOut());
+      // 📌 취소로 중단된 Task는 실패가 아니라 취소로 기록합니다.
+      boolean cancelled = result.isFailure() && RunCancellation.current().isCancelled();
+      taskRun.finish(
+          cancelled
+              ? WorkflowCancellationService.cancelledStatus(RunCancellation.current())
+              : result.status(),
+          result.message());
+
+      if (result.isFailure()) {
+        saveIoData(
+            taskRun.getId(), "OUTPUT", "error_message", objectMapper.valueToTree(result.message()));
+      } else {
+        // 📌 응답을 스트리밍으로 파싱한 Runner는 JsonNode를 그대로 넘기므로 문자열을 다시 파싱하지 않습니다.
+        JsonNode resultJson =
+            result.body() != null ? result.body() : objectMapper.readTree(result.message());
+        saveIoData(taskRun.getId(), "OUTPUT", "response_body", resultJson);
+        workflowContextService.recordTaskOutput(
+            jobRun.getWorkflowRunId(), task.getName(), resultJson);
+        succeeded = true;
+      }
+    } catch (Exception e) {
+      workflowLogger.error(
+          "Task 처리 중 심각한 오류 발생: JobRunId={}, TaskName={}", jobRun.getId(), task.getName(), e);
+      if (taskRun != null) {
+        RunCancellation cancellation = RunCancellation.current();
+        taskRun.finish(
+            cancellation.isCancelled()
+                ? WorkflowCancellationService.cancelledStatus(cancellation)
+                : "FAILED",
+            e.getMessage());
+        saveIoData(
+            taskRun.getId(), "OUTPUT", "error_message", objectMapper.valueToTree(e.getMessage()));
+      }
+    } finally {
+      if (taskRun != null) runStatePersistenceManager.updateTaskRun(taskRun);
+      mdcManager.setJobContext(jobRun.getId());
     }
-    return !hasAnyTaskFailed;
+    return succeeded;
   }
 
   private void saveIoData(Long taskRunId, String ioType, String name, JsonNode data) {
     try {
-      String dataValue = data.toString();
-      TaskIoData ioData =
-          new TaskIoData(
-              taskRunId, ioType, name, "JSON", dataValue, (long) dataValue.getBytes().length);
-      taskIoDataMapper.insert(ioData);
+      // 큰 데이터는 파일 저장소에 기록되고, DB에는 참조만 남습니다.
+      TaskIoData ioData = taskIoDataStore.toRecord(taskRunId, ioType, name, data);
+      runStatePersistenceManager.insertTaskIoData(ioData);
     } catch (Exception e) {
       workflowLogger.error("Task IO 데이터 저장 실패: TaskRunId={}, Type={}", taskRunId, ioType, e);
     }
@@ -0,0 +1,296 @@
+package site.icebang.domain.workflow.service;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.WorkflowLeaseMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.OverlapPolicy;
+import site.icebang.domain.workflow.model.WorkflowLease;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 같은 워크플로우의 실행이 겹치지 않도록 워크플로우별 실행 임대(Lease)를 관리하는 서비스입니다.
+ *
+ * <p>실행은 {@code executeWorkflow}를 호출한 뒤 별도의 스레드에서 진행되므로, Quartz의
+ * {@code @DisallowConcurrentExecution}으로는 이전 트리거의 실행이 끝났는지 알 수 없습니다. 대신 실행을 시작하기 전에 DB의
+ * {@code workflow_lease}를 잠가 임대를 얻고, 이미 다른 실행이 보유하고 있으면 워크플로우의 {@link OverlapPolicy}에 따라
+ * 처리합니다. 임대는 DB에 있으므로 여러 서버에 걸쳐 적용됩니다.
+ *
+ * <ul>
+ *   <li>건너뛴 실행과 기다리는 실행도 {@code workflow_run}에 {@code SKIPPED}, {@code QUEUED}로 기록합니다.
+ *   <li>임대를 보유한 서버는 {@code heartbeat-interval-ms}마다 만료 시각을 연장합니다. 서버가 죽어 연장하지 못하면 {@code
+ *       ttl-ms} 뒤에 다른 실행이 임대를 가져갑니다.
+ *   <li>{@code CANCEL_PREVIOUS}는 보유한 실행에 취소를 요청하며, 요청은 {@link WorkflowCancellationService}가
+ *       실행 중인 서버에서 처리합니다.
+ *   <li>실행이 끝나 임대를 반납할 때 기다리는 실행이 있으면, 임대를 그 실행에 넘기고 반납한 서버에서 이어서 실행합니다.
+ * </ul>
+ *
+ * <p>겹침 처리 방식과 관계없이 모든 실행은 시작할 때 실행을 소유한 서버({@code workflow_run.owner_node})를 기록하고, 같은 주기로 소유
+ * 기간을 연장합니다. 다른 서버가 소유 중인 실행은 가져올 수 없으므로, 복구({@code WorkflowRecoveryInitializer})가 아직 살아 있거나 종료
+ * 중인 서버의 실행을 다시 실행하지 않습니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowLeaseService {
+
+  private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
+
+  /** 임대를 요청한 실행의 처리 결과 */
+  public enum Decision {
+    /** 임대를 얻었으므로 실행합니다. */
+    RUN,
+    /** 이전 실행이 끝나면 이어서 실행하도록 기록했습니다. */
+    QUEUED,
+    /** 실행하지 않고 건너뛰었습니다. */
+    SKIPPED
+  }
+
+  private final WorkflowLeaseMapper workflowLeaseMapper;
+  private final WorkflowRunMapper workflowRunMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final WorkflowExecutionProperties executionProperties;
+
+  /** 이 서버가 보유한 임대 (workflow_run ID → workflow ID) */
+  private final Map<Long, Long> heldLeases = new ConcurrentHashMap<>();
+
+  /** 이 서버가 소유한 실행 (workflow_run ID) */
+  private final Set<Long> ownedRuns = ConcurrentHashMap.newKeySet();
+
+  private String nodeId;
+
+  private TransactionTemplate transactionTemplate;
+  private ScheduledExecutorService heartbeatExecutor;
+
+  @PostConstruct
+  void start() {
+    nodeId = resolveNodeId();
+    log.info("워크플로우 실행 소유 서버 ID: {}", nodeId);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    heartbeatExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "workflow-lease-heartbeat");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = executionProperties.getLease().getHeartbeatIntervalMs();
+    heartbeatExecutor.scheduleWithFixedDelay(
+        this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    heartbeatExecutor.shutdownNow();
+  }
+
+  /** 실행 소유자로 기록되는 이 서버의 ID를 반환합니다. */
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 실행을 시작하기 전에 이 서버가 실행을 소유합니다. 소유한 동안에는 임대와 같은 주기로 소유 기간을 연장합니다.
+   *
+   * @param runId 시작할 실행의 ID
+   * @return 소유했으면 true, 다른 서버가 소유 중이거나 이미 끝난 실행이면 false
+   */
+  public boolean claimRun(Long runId) {
+    long ttlMs = executionProperties.getLease().getTtlMs();
+    if (workflowRunMapper.claimOwner(runId, nodeId, ttlMs) == 0) {
+      return false;
+    }
+    ownedRuns.add(runId);
+    return true;
+  }
+
+  /** 실행을 끝냈거나 이 서버에서 더 이상 진행하지 않는 실행의 소유를 해제합니다. */
+  public void releaseRun(Long runId) {
+    if (!ownedRuns.remove(runId)) {
+      return;
+    }
+    try {
+      workflowRunMapper.releaseOwner(runId, nodeId);
+    } catch (Exception e) {
+      log.warn("워크플로우 실행 소유 해제 실패, 소유 기간이 지나면 다른 서버가 가져갑니다: WorkflowRunId={}", runId, e);
+    }
+  }
+
+  /**
+   * 실행을 시작하기 전에 워크플로우의 임대를 요청합니다.
+   *
+   * <p>임대를 얻지 못해 건너뛰거나 기다리게 된 실행은 임대를 잠근 트랜잭션 안에서 상태를 기록하므로, 이전 실행이 그 사이에 끝나더라도 기다리는 실행을
+   * 놓치지 않습니다.
+   *
+   * @param workflowRun 시작할 실행 (이미 저장되어 ID가 있어야 함)
+   * @return 처리 결과
+   */
+  public Decision acquire(WorkflowRun workflowRun) {
+    Long workflowId = workflowRun.getWorkflowId();
+    OverlapPolicy policy = overlapPolicy(workflowId);
+    if (policy == OverlapPolicy.ALLOW) {
+      return Decision.RUN;
+    }
+
+    long ttlMs = executionProperties.getLease().getTtlMs();
+    Long runId = workflowRun.getId();
+    Decision decision =
+        transactionTemplate.execute(
+            status -> {
+              WorkflowLease lease = lockLease(workflowId);
+              // 📌 이 실행이 이미 보유한 임대는 중단된 실행을 이어서 실행하는 경우입니다. 실행을 먼저 소유(claimRun)해야
+              // 이 단계에 오므로, 다른 서버에서 진행 중인 실행이 임대를 빼앗기지 않습니다.
+              if (lease.isFree() || runId.equals(lease.getHolderRunId())) {
+                Long queuedRunId =
+                    runId.equals(lease.getQueuedRunId()) ? null : lease.getQueuedRunId();
+                workflowLeaseMapper.assign(workflowId, runId, queuedRunId, ttlMs);
+                return Decision.RUN;
+              }
+              return handleOverlap(workflowRun, lease, policy);
+            });
+
+    if (decision == Decision.RUN) {
+      heldLeases.put(runId, workflowId);
+    } else {
+      workflowLogger.info(
+          "이전 실행이 끝나지 않아 워크플로우 실행을 {}: WorkflowId={}, WorkflowRunId={}, Policy={}",
+          decision == Decision.QUEUED ? "대기시킵니다" : "건너뜁니다",
+          workflowId,
+          runId,
+          policy);
+    }
+    return decision;
+  }
+
+  /**
+   * 실행이 끝났을 때 임대를 반납합니다. 기다리는 실행이 있으면 임대를 그 실행에 넘깁니다.
+   *
+   * @param runId 끝난 실행의 ID
+   * @return 임대를 넘겨받아 이어서 실행해야 할 실행의 ID, 없으면 null
+   */
+  public Long release(Long runId) {
+    Long workflowId = heldLeases.remove(runId);
+    if (workflowId == null) {
+      return null;
+    }
+
+    long ttlMs = executionProperties.getLease().getTtlMs();
+    Long nextRunId =
+        transactionTemplate.execute(
+            status -> {
+              WorkflowLease lease = workflowLeaseMapper.findForUpdate(workflowId);
+              if (lease == null || !runId.equals(lease.getHolderRunId())) {
+                log.warn("이미 잃은 워크플로우 임대입니다: WorkflowId={}, WorkflowRunId={}", workflowId, runId);
+                return null;
+              }
+              Long queuedRunId = lease.getQueuedRunId();
+              workflowLeaseMapper.assign(workflowId, queuedRunId, null, ttlMs);
+              return queuedRunId;
+            });
+    if (nextRunId != null) {
+      heldLeases.put(nextRunId, workflowId);
+    }
+    return nextRunId;
+  }
+
+  private Decision handleOverlap(
+      WorkflowRun workflowRun, WorkflowLease lease, OverlapPolicy policy) {
+    Long runId = workflowRun.getId();
+    Long queuedRunId = lease.getQueuedRunId();
+    boolean alreadyQueued = queuedRunId != null && !runId.equals(queuedRunId);
+
+    if (policy == OverlapPolicy.SKIP || (policy == OverlapPolicy.QUEUE_ONE && alreadyQueued)) {
+      workflowRun.skip();
+      workflowRunMapper.update(workflowRun);
+      return Decision.SKIPPED;
+    }
+
+    if (policy == OverlapPolicy.CANCEL_PREVIOUS) {
+      if (alreadyQueued) {
+        // 📌 더 새로운 실행이 기다리게 되므로, 이전에 기다리던 실행은 건너뜁니다.
+        WorkflowRun replaced = workflowRunMapper.findById(queuedRunId);
+        if (replaced != null && "QUEUED".equals(replaced.getStatus())) {
+          replaced.skip();
+          workflowRunMapper.update(replaced);
+        }
+      }
+      workflowRunMapper.requestCancel(lease.getHolderRunId());
+    }
+    workflowLeaseMapper.updateQueue(workflowRun.getWorkflowId(), runId);
+    workflowRun.queue();
+    workflowRunMapper.update(workflowRun);
+    return Decision.QUEUED;
+  }
+
+  private OverlapPolicy overlapPolicy(Long workflowId) {
+    String policy = workflowLeaseMapper.findOverlapPolicy(workflowId);
+    return policy != null ? OverlapPolicy.valueOf(policy) : OverlapPolicy.ALLOW;
+  }
+
+  private WorkflowLease lockLease(Long workflowId) {
+    WorkflowLease lease = workflowLeaseMapper.findForUpdate(workflowId);
+    if (lease != null) {
+      return lease;
+    }
+    try {
+      workflowLeaseMapper.insert(workflowId);
+    } catch (DuplicateKeyException e) {
+      // 다른 서버가 먼저 만들었으므로 그 임대를 사용합니다.
+    }
+    return workflowLeaseMapper.findForUpdate(workflowId);
+  }
+
+  private static String resolveNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    // 📌 같은 호스트에서 재시작한 서버가 이전 서버의 소유를 이어받지 않도록 실행마다 다른 ID를 사용합니다.
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  private void heartbeat() {
+    long ttlMs = executionProperties.getLease().getTtlMs();
+    if (!ownedRuns.isEmpty()) {
+      try {
+        workflowRunMapper.renewOwner(nodeId, ttlMs);
+      } catch (Exception e) {
+        log.warn("워크플로우 실행 소유 연장 실패: NodeId={}", nodeId, e);
+      }
+    }
+    heldLeases.forEach(
+        (runId, workflowId) -> {
+          try {
+            if (workflowLeaseMapper.renew(workflowId, runId, ttlMs) == 0) {
+              log.warn("워크플로우 임대를 연장하지 못했습니다: WorkflowId={}, WorkflowRunId={}", workflowId, runId);
+            }
+          } catch (Exception e) {
+            log.warn("워크플로우 임대 연장 실패: WorkflowId={}, WorkflowRunId={}", workflowId, runId, e);
+          }
+        });
+  }
+}
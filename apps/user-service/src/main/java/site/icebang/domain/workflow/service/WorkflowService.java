@@ -19,6 +19,7 @@ import site.icebang.common.service.PageableService;
 import site.icebang.domain.schedule.dto.ScheduleDto;
 import site.icebang.domain.schedule.service.ScheduleService;
 import site.icebang.domain.workflow.dto.*;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
 import site.icebang.domain.workflow.mapper.JobMapper;
 import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
 import site.icebang.domain.workflow.mapper.TaskMapper;
@@ -50,6 +51,8 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
   private final JobMapper jobMapper;
   private final TaskMapper taskMapper;
   private final TaskIoDataMapper taskIoDataMapper;
+  private final TaskIoDataStore taskIoDataStore;
+  private final ExecutionPlanService executionPlanService;
 
   /**
    * 워크플로우 목록을 페이징 처리하여 조회합니다.
@@ -188,6 +191,7 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
 
     // 4. DB 저장
     jobMapper.insertJob(dto);
+    executionPlanService.invalidateAll();
 
     // 5. 저장된 Job 반환
     return jobMapper.findJobById(dto.getId());
@@ -228,6 +232,7 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
 
     // 4. DB 저장
     taskMapper.insertTask(dto);
+    executionPlanService.invalidateAll();
 
     // 5. 저장된 Task 반환
     return taskMapper.findTaskById(dto.getId());
@@ -258,7 +263,10 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
     if (taskRunIds == null || taskRunIds.isEmpty()) {
       return List.of();
     }
-    return taskIoDataMapper.findByTaskRunIds(taskRunIds, ioType, limit);
+    // 파일 저장소에 있는 데이터는 참조 대신 실제 값을 채워서 반환합니다.
+    return taskIoDataMapper.findByTaskRunIds(taskRunIds, ioType, limit).stream()
+        .map(taskIoDataStore::resolve)
+        .toList();
   }
 
   /** 기본 입력값 검증 */
@@ -314,6 +322,7 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
     if (result != 1) {
       throw new RuntimeException("워크플로우 비활성화에 실패했습니다: " + workflowId);
     }
+    executionPlanService.invalidate(workflowId.longValue());
 
     // 3. 스케줄 비활성화 - ScheduleService로 위임
     scheduleService.deactivateAllByWorkflowId(workflowId.longValue());
@@ -344,6 +353,7 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
     if (result != 1) {
       throw new RuntimeException("워크플로우 활성화에 실패했습니다: " + workflowId);
     }
+    executionPlanService.invalidate(workflowId.longValue());
 
     // 3. 스케줄 재활성화 - ScheduleService로 위임
     int reactivatedCount = scheduleService.reactivateAllByWorkflowId(workflowId.longValue());
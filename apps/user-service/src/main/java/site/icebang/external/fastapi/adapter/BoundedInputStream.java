@@ -0,0 +1,66 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import site.icebang.common.exception.PayloadTooLargeException;
+
+/**
+ * 읽은 바이트 수를 세다가 제한을 넘으면 즉시 {@link PayloadTooLargeException}을 던지는 입력 스트림입니다.
+ *
+ * <p>응답을 스트리밍으로 파싱하는 도중에 크기를 검사하므로, 제한을 넘는 응답이 메모리에 모두 올라가기 전에 중단됩니다.
+ */
+class BoundedInputStream extends FilterInputStream {
+
+  private final long limitBytes;
+  private long count;
+
+  BoundedInputStream(InputStream in, long limitBytes) {
+    super(in);
+    this.limitBytes = limitBytes;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b != -1) {
+      consumed(1);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    int read = super.read(buffer, offset, length);
+    if (read > 0) {
+      consumed(read);
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = super.skip(n);
+    consumed(skipped);
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  /** 지금까지 읽은 바이트 수를 반환합니다. */
+  long getCount() {
+    return count;
+  }
+
+  private void consumed(long bytes) {
+    count += bytes;
+    if (count > limitBytes) {
+      throw new PayloadTooLargeException(
+          limitBytes, String.format("응답 크기가 제한(%d bytes)을 초과했습니다.", limitBytes));
+    }
+  }
+}
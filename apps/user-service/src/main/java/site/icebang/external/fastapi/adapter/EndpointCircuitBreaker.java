@@ -0,0 +1,172 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.util.function.LongSupplier;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 하나의 엔드포인트에 대한 호출 횟수 기반 서킷 브레이커입니다.
+ *
+ * <ul>
+ *   <li><b>CLOSED</b>: 모든 호출을 허용하며, 최근 {@code sliding-window-size}개 호출의 실패 비율이 기준 이상이면 OPEN으로 전환
+ *   <li><b>OPEN</b>: {@code open-state-ms} 동안 모든 호출을 거절한 뒤 HALF_OPEN으로 전환
+ *   <li><b>HALF_OPEN</b>: {@code half-open-calls}개의 시험 호출만 허용하며, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * </ul>
+ *
+ * <p>상태 변경은 모두 이 객체의 모니터 안에서 이루어집니다. 호출 자체는 잠금 밖에서 실행되므로 잠금 구간은 짧습니다.
+ *
+ * <p>상태가 바뀔 때마다 세대(generation)가 증가하며, 허가({@link Permission})는 허가를 받은 세대를 기억합니다. 이전 세대에 시작된 호출의
+ * 늦은 결과는 현재 상태에 반영하지 않습니다. 예를 들어 서킷이 열리기 전에 시작된 호출이 HALF_OPEN에서 끝나도 시험 호출로 세지 않습니다.
+ */
+class EndpointCircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /** 상태가 바뀔 때 호출되는 리스너 */
+  interface TransitionListener {
+    void onTransition(State from, State to);
+  }
+
+  /**
+   * 허용된 호출 하나의 허가입니다.
+   *
+   * @param state 허가를 받은 시점의 상태
+   * @param generation 허가를 받은 시점의 세대
+   */
+  record Permission(State state, long generation) {}
+
+  private final FastApiProperties.CircuitBreaker config;
+  private final TransitionListener listener;
+  private final LongSupplier nanoClock;
+
+  private final boolean[] failures;
+  private int windowIndex;
+  private int recordedCalls;
+  private int failedCalls;
+
+  private State state = State.CLOSED;
+  private long generation;
+  private long openedAtNanos;
+  private int halfOpenInFlight;
+  private int halfOpenSucceeded;
+
+  EndpointCircuitBreaker(
+      FastApiProperties.CircuitBreaker config,
+      TransitionListener listener,
+      LongSupplier nanoClock) {
+    this.config = config;
+    this.listener = listener;
+    this.nanoClock = nanoClock;
+    this.failures = new boolean[config.getSlidingWindowSize()];
+  }
+
+  /**
+   * 호출을 보내도 되는지 확인하고, 허용되면 호출 하나를 시작한 것으로 기록합니다.
+   *
+   * @return 호출이 허용되면 허가, 거절되면 null
+   */
+  synchronized Permission tryAcquirePermission() {
+    if (state == State.OPEN) {
+      long openNanos = config.getOpenStateMs() * 1_000_000L;
+      if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+        return null;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenInFlight >= config.getHalfOpenCalls()) {
+        return null;
+      }
+      halfOpenInFlight++;
+    }
+    return new Permission(state, generation);
+  }
+
+  /**
+   * 허용된 호출을 실제로 보내지 못했거나 호출한 쪽이 취소했을 때 허가를 되돌립니다.
+   *
+   * @param permission {@link #tryAcquirePermission()}이 반환한 허가
+   */
+  synchronized void releasePermission(Permission permission) {
+    if (isCurrent(permission) && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+      halfOpenInFlight--;
+    }
+  }
+
+  /**
+   * 허용된 호출의 결과를 기록합니다. 허가를 받은 뒤 상태가 바뀌었으면 결과를 무시합니다.
+   *
+   * @param permission {@link #tryAcquirePermission()}이 반환한 허가
+   * @param success 호출 성공 여부
+   */
+  synchronized void onResult(Permission permission, boolean success) {
+    if (!isCurrent(permission)) {
+      // 이전 세대에 시작된 호출의 늦은 결과는 현재 상태와 무관하므로 무시합니다.
+      return;
+    }
+    switch (state) {
+      case HALF_OPEN -> {
+        halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        if (!success) {
+          transitionTo(State.OPEN);
+        } else if (++halfOpenSucceeded >= config.getHalfOpenCalls()) {
+          transitionTo(State.CLOSED);
+        }
+      }
+      case CLOSED -> {
+        record(!success);
+        if (recordedCalls >= config.getMinimumCalls()
+            && failedCalls * 100 >= config.getFailureRateThreshold() * recordedCalls) {
+          transitionTo(State.OPEN);
+        }
+      }
+      case OPEN -> {
+        // OPEN에서는 허가를 내주지 않으므로 현재 세대의 결과가 올 수 없습니다.
+      }
+    }
+  }
+
+  private boolean isCurrent(Permission permission) {
+    return permission.generation() == generation;
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failed) {
+    if (recordedCalls == failures.length) {
+      if (failures[windowIndex]) {
+        failedCalls--;
+      }
+    } else {
+      recordedCalls++;
+    }
+    failures[windowIndex] = failed;
+    if (failed) {
+      failedCalls++;
+    }
+    windowIndex = (windowIndex + 1) % failures.length;
+  }
+
+  private void transitionTo(State next) {
+    State previous = state;
+    state = next;
+    generation++;
+    halfOpenInFlight = 0;
+    halfOpenSucceeded = 0;
+    if (next == State.OPEN) {
+      openedAtNanos = nanoClock.getAsLong();
+    }
+    if (next == State.CLOSED) {
+      windowIndex = 0;
+      recordedCalls = 0;
+      failedCalls = 0;
+    }
+    listener.onTransition(previous, next);
+  }
+}
@@ -1,21 +1,38 @@
 package site.icebang.external.fastapi.adapter;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
 import org.slf4j.MDC;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.PayloadTooLargeException;
+import site.icebang.global.config.http.RequestTimeoutContext;
 
 /**
  * 외부 FastAPI 서버와의 모든 HTTP 통신을 전담하는 어댑터 클래스입니다.
  *
  * <p>이 클래스는 내부 시스템의 다른 부분들이 외부 시스템의 상세한 통신 방법을 알 필요가 없도록 HTTP 요청/응답 로직을 캡슐화합니다. {@code RestClient}을
- * 사용하여 실제 통신을 수행하며, 모든 FastAPI 요청은 이 클래스의 {@code call} 메소드를 통해 이루어져야 합니다.
+ * 사용하여 실제 통신을 수행하며, 모든 FastAPI 요청은 이 클래스의 {@code callForJson} 메소드를 통해 이루어져야 합니다.
+ *
+ * <p>FastAPI 인스턴스가 여러 개이면 {@link FastApiUpstreamPool}이 고른 인스턴스로 요청을 보내며, 요청을 받은 인스턴스는 {@code
+ * X-Upstream-Instance} 헤더로 함께 전달됩니다.
  *
  * <h2>사용 예제:</h2>
  *
@@ -23,7 +40,13 @@ import site.icebang.global.config.properties.FastApiProperties;
  * @Autowired
  * private FastApiAdapter fastApiAdapter;
  *
- * String response = fastApiAdapter.call("/keywords/search", HttpMethod.POST, "{\"tag\":\"naver\"}");
+ * ObjectNode requestBody = objectMapper.createObjectNode().put("tag", "naver");
+ * FastApiCallResult result =
+ *     fastApiAdapter.callForJson(
+ *         "/keywords/search", HttpMethod.POST, requestBody, 1024 * 1024, Duration.ofSeconds(10));
+ * if (result.isSuccess()) {
+ *   JsonNode keyword = result.body().path("keyword");
+ * }
  * }</pre>
  *
  * @author jihu0210@naver.com
@@ -34,51 +57,291 @@ import site.icebang.global.config.properties.FastApiProperties;
 @RequiredArgsConstructor
 public class FastApiAdapter {
 
+  /** 요청을 받은 인스턴스를 FastAPI 서버의 로그와 추적 정보에서 확인할 수 있도록 보내는 헤더 */
+  private static final String UPSTREAM_HEADER = "X-Upstream-Instance";
+
   private final RestClient restClient;
-  private final FastApiProperties properties;
+  private final ObjectMapper objectMapper;
+  private final FastApiLatencyTracker latencyTracker;
+  private final FastApiEndpointGuard endpointGuard;
+  private final FastApiRequestHedger requestHedger;
+  private final FastApiSingleFlight singleFlight;
+  private final FastApiUpstreamPool upstreamPool;
+  private final FastApiCompression compression;
 
   /**
-   * FastAPI 서버에 API 요청을 보내는 범용 메소드입니다.
+   * FastAPI 서버에 JSON 요청을 보내고, 응답을 스트리밍으로 파싱하여 {@link FastApiCallResult}로 반환합니다.
+   *
+   * <p>요청 Body를 문자열로 만들지 않고 바로 직렬화하며, 응답도 문자열로 읽지 않고 입력 스트림에서 곧바로 파싱합니다. 응답
+   * 크기는 읽는 도중에 검사하므로, {@code maxResponseBytes}를 넘는 응답은 메모리에 모두 올라가기 전에 중단됩니다. {@code
+   * Content-Length}가 제한을 넘으면 Body를 읽지 않고 바로 중단합니다.
    *
-   * <p>지정된 엔드포인트, HTTP 메소드, 요청 Body를 사용하여 외부 API를 호출합니다. 통신 성공 시 응답 Body를 문자열로 반환하고, 실패 시 에러 로그를
-   * 남기고 null을 반환합니다.
+   * <p>응답 시간은 엔드포인트별로 {@link FastApiLatencyTracker}에 기록되며, 엔드포인트별 서킷 브레이커와 동시 호출 제한이 적용됩니다.
+   * 거절된 호출은 요청을 보내지 않고 즉시 예외로 끝납니다. 잘못된 요청(4xx)처럼 재시도해도 성공할 수 없는 실패는 서킷 브레이커의 실패로 집계하지
+   * 않습니다.
    *
-   * @param endpoint 호출할 엔드포인트 경로 (예: "/keywords/search")
-   * @param method 사용할 HTTP 메소드 (예: HttpMethod.POST)
-   * @param requestBody 요청에 담을 JSON 문자열
-   * @return 성공 시 API 응답 Body 문자열, 실패 시 null
-   * @see RestClient
+   * @param endpoint 호출할 엔드포인트 경로 (예: "/products/crawl")
+   * @param method 사용할 HTTP 메소드
+   * @param requestBody 요청에 담을 JSON
+   * @param maxResponseBytes 허용할 최대 응답 크기 (바이트 단위)
+   * @param timeout 응답 타임아웃
+   * @return 호출 결과. 통신 실패나 에러 응답도 상태 코드, 재시도 가능 여부와 함께 결과로 반환합니다.
+   * @throws PayloadTooLargeException 응답 크기가 제한을 초과한 경우
+   * @throws CallNotPermittedException 서킷이 열려 있거나 동시 호출 자리를 얻지 못한 경우
    * @since v0.1.0
    */
-  public String call(String endpoint, HttpMethod method, String requestBody) {
-    String fullUrl = properties.getUrl() + endpoint;
+  public FastApiCallResult callForJson(
+      String endpoint,
+      HttpMethod method,
+      JsonNode requestBody,
+      long maxResponseBytes,
+      Duration timeout) {
+    return callForJson(endpoint, Map.of(), method, requestBody, maxResponseBytes, timeout);
+  }
+
+  /**
+   * 멱등(idempotent) 요청으로 {@link #callForJson(String, HttpMethod, JsonNode, long, Duration)}을
+   * 호출합니다.
+   *
+   * <ul>
+   *   <li>같은 요청이 이미 진행 중이면 새로 보내지 않고 그 응답을 함께 사용합니다. ({@link FastApiSingleFlight})
+   *   <li>요청이 엔드포인트의 최근 응답 시간 백분위수만큼 기다려도 끝나지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용합니다.
+   *       ({@link FastApiRequestHedger})
+   * </ul>
+   *
+   * <p>같은 요청이 여러 번 처리되거나 한 번만 처리될 수 있으므로, 멱등한 요청에만 사용해야 합니다.
+   */
+  public FastApiCallResult callForJsonIdempotent(
+      String endpoint,
+      HttpMethod method,
+      JsonNode requestBody,
+      long maxResponseBytes,
+      Duration timeout) {
+    return singleFlight.execute(
+        endpoint,
+        method,
+        requestBody,
+        () ->
+            requestHedger.execute(
+                endpoint,
+                () -> callForJson(endpoint, method, requestBody, maxResponseBytes, timeout),
+                FastApiCallResult::isSuccess));
+  }
+
+  /**
+   * 경로 변수가 있는 엔드포인트 템플릿으로 {@link #callForJson(String, HttpMethod, JsonNode, long, Duration)}을
+   * 호출합니다.
+   *
+   * <p>서킷 브레이커와 응답 시간 메트릭은 변수를 채우기 전의 템플릿(예: "/jobs/{job_id}") 단위로 집계되므로, 작업 ID마다 메트릭이 따로 생기지
+   * 않습니다.
+   *
+   * @param endpoint 엔드포인트 템플릿 (예: "/jobs/{job_id}")
+   * @param uriVariables 템플릿에 채울 경로 변수
+   * @param requestBody 요청에 담을 JSON (없으면 null)
+   */
+  public FastApiCallResult callForJson(
+      String endpoint,
+      Map<String, ?> uriVariables,
+      HttpMethod method,
+      JsonNode requestBody,
+      long maxResponseBytes,
+      Duration timeout) {
+    return endpointGuard.execute(
+        endpoint,
+        () ->
+            doCallForJson(endpoint, uriVariables, method, requestBody, maxResponseBytes, timeout),
+        result -> !result.isTransientFailure());
+  }
+
+  private FastApiCallResult doCallForJson(
+      String endpoint,
+      Map<String, ?> uriVariables,
+      HttpMethod method,
+      JsonNode requestBody,
+      long maxResponseBytes,
+      Duration timeout) {
+    FastApiUpstreamPool.Upstream upstream = upstreamPool.acquire();
+    String fullUrl = upstream.baseUrl() + endpoint;
+    long startedAt = System.nanoTime();
+    FastApiCallResult result = null;
 
     try {
-      log.debug("FastAPI 요청: URL={}, Method={}, Body={}", fullUrl, method, requestBody);
-
-      ResponseEntity<String> responseEntity =
-          restClient
-              .method(method)
-              .uri(fullUrl)
-              .contentType(MediaType.APPLICATION_JSON)
-              .headers(
-                  headers -> {
-                    String traceId = MDC.get("traceId");
-                    if (traceId != null) {
-                      headers.set("X-Request-ID", traceId);
-                      log.debug("TraceID 헤더 추가: {}", traceId);
-                    }
-                  })
-              .body(requestBody)
-              .retrieve()
-              .toEntity(String.class);
-
-      String responseBody = responseEntity.getBody();
-      log.debug("FastAPI 응답: Status={}, Body={}", responseEntity.getStatusCode(), responseBody);
-      return responseBody;
+      log.debug(
+          "FastAPI 요청: URL={}, Method={}, Timeout={}ms, Body={}",
+          fullUrl,
+          method,
+          timeout.toMillis(),
+          requestBody);
+
+      result =
+          RequestTimeoutContext.with(
+              timeout,
+              () ->
+                  exchange(
+                      upstream,
+                      endpoint,
+                      fullUrl,
+                      uriVariables,
+                      method,
+                      requestBody,
+                      maxResponseBytes,
+                      startedAt));
+      return result;
+    } catch (ResourceAccessException e) {
+      // 연결 실패, 타임아웃, 응답을 읽는 도중 끊긴 경우입니다.
+      log.error("FastAPI 호출 실패: URL={}, Error={}", fullUrl, e.getMessage());
+      result =
+          FastApiCallResult.ioError(e.getMessage(), elapsedSince(startedAt))
+              .withUpstream(upstream.baseUrl());
+      return result;
     } catch (RestClientException e) {
       log.error("FastAPI 호출 실패: URL={}, Error={}", fullUrl, e.getMessage());
+      result =
+          FastApiCallResult.invalidResponse(0, e.getMessage(), elapsedSince(startedAt))
+              .withUpstream(upstream.baseUrl());
+      return result;
+    } finally {
+      // 취소된 요청의 응답 시간은 엔드포인트와 인스턴스의 상태를 나타내지 않으므로 기록하지 않습니다.
+      boolean cancelled = Thread.currentThread().isInterrupted();
+      if (!cancelled) {
+        latencyTracker.record(
+            endpoint, System.nanoTime() - startedAt, result != null && result.isSuccess());
+      }
+      upstreamPool.release(
+          upstream, cancelled ? FastApiUpstreamPool.Outcome.IGNORED : outcome(result));
+    }
+  }
+
+  private FastApiCallResult exchange(
+      FastApiUpstreamPool.Upstream upstream,
+      String endpoint,
+      String fullUrl,
+      Map<String, ?> uriVariables,
+      HttpMethod method,
+      JsonNode requestBody,
+      long maxResponseBytes,
+      long startedAt) {
+    RestClient.RequestBodySpec request =
+        restClient
+            .method(method)
+            .uri(fullUrl, uriVariables)
+            .accept(MediaType.APPLICATION_JSON)
+            .headers(
+                headers -> {
+                  String traceId = MDC.get("traceId");
+                  if (traceId != null) {
+                    headers.set("X-Request-ID", traceId);
+                  }
+                  headers.set(UPSTREAM_HEADER, upstream.instance());
+                });
+    if (requestBody != null) {
+      request.contentType(MediaType.APPLICATION_JSON);
+      FastApiCompression.EncodedBody encoded = compression.encodeRequest(endpoint, requestBody);
+      if (encoded == null) {
+        request.body(requestBody);
+      } else {
+        if (encoded.contentEncoding() != null) {
+          request.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+        }
+        request.body(encoded.bytes());
+      }
+    }
+    String acceptEncoding = compression.acceptEncoding(endpoint);
+    if (acceptEncoding != null) {
+      request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+    return request.exchange(
+        (clientRequest, response) -> {
+          HttpStatusCode status = response.getStatusCode();
+          if (status.isError()) {
+            Duration retryAfter =
+                parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            log.error(
+                "FastAPI 호출 실패: URL={}, Status={}, Retry-After={}", fullUrl, status, retryAfter);
+            return FastApiCallResult.httpError(status.value(), retryAfter, elapsedSince(startedAt))
+                .withUpstream(upstream.baseUrl());
+          }
+          String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+          if (!compression.isSupported(contentEncoding)) {
+            return FastApiCallResult.invalidResponse(
+                    status.value(),
+                    "지원하지 않는 Content-Encoding: " + contentEncoding,
+                    elapsedSince(startedAt))
+                .withUpstream(upstream.baseUrl());
+          }
+          // 압축된 응답이면 전송된 크기로 검사합니다. 압축을 푼 크기는 읽는 도중에 검사합니다.
+          long contentLength = response.getHeaders().getContentLength();
+          if (contentLength > maxResponseBytes) {
+            throw new PayloadTooLargeException(
+                maxResponseBytes,
+                String.format(
+                    "응답 크기(%d bytes)가 제한(%d bytes)을 초과했습니다.",
+                    contentLength, maxResponseBytes));
+          }
+          try (BoundedInputStream encoded =
+                  new BoundedInputStream(response.getBody(), Long.MAX_VALUE);
+              BoundedInputStream body =
+                  new BoundedInputStream(
+                      compression.decodeResponse(contentEncoding, encoded), maxResponseBytes)) {
+            JsonNode parsed = objectMapper.readTree(body);
+            compression.recordResponse(
+                endpoint, contentEncoding, encoded.getCount(), body.getCount());
+            log.debug(
+                "FastAPI 응답: Status={}, Size={} bytes, Transferred={} bytes",
+                status,
+                body.getCount(),
+                encoded.getCount());
+            return FastApiCallResult.success(status.value(), parsed, elapsedSince(startedAt))
+                .withUpstream(upstream.baseUrl());
+          } catch (JsonProcessingException e) {
+            // 같은 요청을 다시 보내도 같은 응답을 받을 것이므로 재시도하지 않습니다.
+            log.error("FastAPI 응답 파싱 실패: URL={}, Error={}", fullUrl, e.getOriginalMessage());
+            return FastApiCallResult.invalidResponse(
+                    status.value(), e.getOriginalMessage(), elapsedSince(startedAt))
+                .withUpstream(upstream.baseUrl());
+          }
+        });
+  }
+
+  /**
+   * {@code Retry-After} 헤더를 대기 시간으로 변환합니다. 초 단위 숫자와 HTTP 날짜 형식을 모두 지원합니다.
+   *
+   * @return 대기 시간, 헤더가 없거나 해석할 수 없으면 null
+   */
+  static Duration parseRetryAfter(String value) {
+    if (value == null || value.isBlank()) {
       return null;
     }
+    String trimmed = value.trim();
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+    } catch (NumberFormatException ignored) {
+      // HTTP 날짜 형식(예: "Wed, 21 Oct 2015 07:28:00 GMT")인지 확인합니다.
+    }
+    try {
+      Instant retryAt =
+          ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      Duration remaining = Duration.between(Instant.now(), retryAt);
+      return remaining.isNegative() ? Duration.ZERO : remaining;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static FastApiUpstreamPool.Outcome outcome(FastApiCallResult result) {
+    if (result == null) {
+      // 응답 크기 제한 초과처럼 요청 자체의 문제로 끝난 경우입니다.
+      return FastApiUpstreamPool.Outcome.IGNORED;
+    }
+    if (result.isSuccess()) {
+      return FastApiUpstreamPool.Outcome.SUCCESS;
+    }
+    return result.isTransientFailure()
+        ? FastApiUpstreamPool.Outcome.FAILURE
+        : FastApiUpstreamPool.Outcome.IGNORED;
+  }
+
+  private static Duration elapsedSince(long startedAt) {
+    return Duration.ofNanos(System.nanoTime() - startedAt);
   }
 }
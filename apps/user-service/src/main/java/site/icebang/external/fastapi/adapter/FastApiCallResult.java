@@ -0,0 +1,113 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.time.Duration;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * FastAPI 호출 한 번의 결과를 담는 객체입니다.
+ *
+ * <p>실패를 null 하나로 표현하면 호출하는 쪽은 서버가 잠시 과부하 상태인지(다시 보내면 성공할 수 있음), 요청 자체가 잘못되었는지(다시 보내도
+ * 실패함) 구분할 수 없습니다. 이 객체는 상태 코드, 재시도 가능 여부, 서버가 알려준 {@code Retry-After}, 소요 시간을 함께 담아 재시도 정책이
+ * 원인에 따라 판단할 수 있도록 합니다.
+ *
+ * <h2>재시도 가능 여부:</h2>
+ *
+ * <ul>
+ *   <li>재시도 가능: 연결 실패, 타임아웃, 408, 425, 429, 500, 502, 503, 504
+ *   <li>재시도 불가: 그 밖의 4xx, 501 등 나머지 에러 응답, 파싱할 수 없는 응답
+ * </ul>
+ *
+ * @param statusCode HTTP 상태 코드 (응답을 받지 못했으면 0)
+ * @param body 파싱된 응답 Body (실패하면 null)
+ * @param retryable 같은 요청을 다시 보내면 성공할 수 있는지 여부
+ * @param retryAfter 서버가 {@code Retry-After} 헤더로 알려준 대기 시간 (없으면 null)
+ * @param elapsed 요청을 보내고 결과를 받기까지 걸린 시간
+ * @param error 실패 사유 (성공하면 null)
+ * @param upstream 요청을 보낸 인스턴스의 기본 URL
+ * @since v0.1.0
+ */
+public record FastApiCallResult(
+    int statusCode,
+    JsonNode body,
+    boolean retryable,
+    Duration retryAfter,
+    Duration elapsed,
+    String error,
+    String upstream) {
+
+  /** 다시 보내면 성공할 수 있는 HTTP 상태 코드 */
+  private static final Set<Integer> RETRYABLE_STATUS = Set.of(408, 425, 429, 500, 502, 503, 504);
+
+  /** 응답 Body를 정상적으로 받은 결과를 생성합니다. */
+  public static FastApiCallResult success(int statusCode, JsonNode body, Duration elapsed) {
+    return new FastApiCallResult(statusCode, body, false, null, elapsed, null, null);
+  }
+
+  /** 서버가 에러 상태 코드로 응답한 결과를 생성합니다. 재시도 가능 여부는 상태 코드로 판단합니다. */
+  public static FastApiCallResult httpError(
+      int statusCode, Duration retryAfter, Duration elapsed) {
+    return new FastApiCallResult(
+        statusCode,
+        null,
+        RETRYABLE_STATUS.contains(statusCode),
+        retryAfter,
+        elapsed,
+        "에러 응답: Status=" + statusCode,
+        null);
+  }
+
+  /** 연결 실패, 타임아웃처럼 응답을 받지 못한 결과를 생성합니다. 항상 재시도 가능합니다. */
+  public static FastApiCallResult ioError(String message, Duration elapsed) {
+    return new FastApiCallResult(0, null, true, null, elapsed, "통신 실패: " + message, null);
+  }
+
+  /** 응답은 받았지만 사용할 수 없는 결과(예: 파싱 실패)를 생성합니다. 재시도하지 않습니다. */
+  public static FastApiCallResult invalidResponse(
+      int statusCode, String message, Duration elapsed) {
+    return new FastApiCallResult(
+        statusCode, null, false, null, elapsed, "잘못된 응답: " + message, null);
+  }
+
+  /** 응답 Body를 정상적으로 받았는지 여부를 반환합니다. */
+  public boolean isSuccess() {
+    return error == null && body != null;
+  }
+
+  /**
+   * 서버나 네트워크 상태 때문에 실패했는지 여부를 반환합니다.
+   *
+   * <p>서킷 브레이커는 이 값으로 실패를 집계합니다. 잘못된 요청(4xx)은 엔드포인트의 상태와 무관하므로 실패로 집계하지 않습니다.
+   */
+  public boolean isTransientFailure() {
+    return !isSuccess() && retryable;
+  }
+
+  /** 요청을 보낸 인스턴스를 기록한 결과를 반환합니다. */
+  public FastApiCallResult withUpstream(String upstream) {
+    return new FastApiCallResult(
+        statusCode, body, retryable, retryAfter, elapsed, error, upstream);
+  }
+
+  /** 다른 호출과 공유할 수 있도록 응답 Body를 복사한 결과를 반환합니다. */
+  public FastApiCallResult copy() {
+    return body == null
+        ? this
+        : new FastApiCallResult(
+            statusCode, body.deepCopy(), retryable, retryAfter, elapsed, error, upstream);
+  }
+
+  /** 로그와 실패 메시지에 사용할 요약 문자열을 반환합니다. */
+  public String describe() {
+    StringBuilder description = new StringBuilder(error != null ? error : "성공");
+    description.append(" (Elapsed=").append(elapsed.toMillis()).append("ms");
+    if (retryAfter != null) {
+      description.append(", Retry-After=").append(retryAfter.toSeconds()).append("s");
+    }
+    if (upstream != null) {
+      description.append(", Upstream=").append(upstream);
+    }
+    return description.append(")").toString();
+  }
+}
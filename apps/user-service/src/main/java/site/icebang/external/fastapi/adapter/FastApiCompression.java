@@ -0,0 +1,189 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * FastAPI 요청/응답 Body의 압축을 담당하는 컴포넌트입니다.
+ *
+ * <p>상품 유사도 분석 요청({@code matched_products}, {@code search_results})이나 크롤링 결과처럼 반복이 많은 큰 JSON은 압축하면
+ * 크기가 크게 줄어듭니다. 요청 Body는 직렬화한 크기가 기준 이상일 때만 압축하고 {@code Content-Encoding}을 붙여 보내며, 응답은 {@code
+ * Accept-Encoding}으로 압축을 요청한 뒤 서버가 선택한 {@code Content-Encoding}에 맞게 풀어서 읽습니다. 압축을 푼 응답에도 응답 크기
+ * 제한이 그대로 적용됩니다.
+ *
+ * <p>요청 압축은 FastAPI 서버가 압축된 요청을 풀 수 있어야 하므로 기본적으로 꺼져 있으며, 엔드포인트별 {@code compress-request}로 켤 수
+ * 있습니다.
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.compression.ratio}: 압축 후 크기 / 원본 크기 (태그: endpoint,
+ *       direction=request|response)
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiCompression {
+
+  private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+  private final FastApiProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 압축해서 보낼 요청 Body입니다.
+   *
+   * @param bytes 전송할 바이트
+   * @param contentEncoding 압축 방식 (압축하지 않았으면 null)
+   */
+  public record EncodedBody(byte[] bytes, String contentEncoding) {}
+
+  /**
+   * 엔드포인트에 요청 압축이 켜져 있으면 요청 Body를 직렬화하고, 기준 크기 이상이면 압축합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param requestBody 요청 Body
+   * @return 직렬화된 요청 Body, 요청 압축이 꺼져 있으면 null (평소처럼 스트리밍으로 직렬화)
+   */
+  public EncodedBody encodeRequest(String endpoint, JsonNode requestBody) {
+    FastApiProperties.Compression config = properties.getCompression();
+    FastApiProperties.Endpoint endpointConfig = properties.endpoint(endpoint);
+    boolean enabled =
+        endpointConfig.getCompressRequest() != null
+            ? endpointConfig.getCompressRequest()
+            : config.isRequestEnabled();
+    if (!enabled) {
+      return null;
+    }
+
+    byte[] serialized;
+    try {
+      serialized = objectMapper.writeValueAsBytes(requestBody);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("요청 Body를 직렬화할 수 없습니다.", e);
+    }
+    long threshold =
+        endpointConfig.getRequestCompressionThresholdBytes() != null
+            ? endpointConfig.getRequestCompressionThresholdBytes()
+            : config.getRequestThresholdBytes();
+    if (serialized.length < threshold) {
+      return new EncodedBody(serialized, null);
+    }
+
+    FastApiProperties.Compression.Encoding encoding = config.getRequestEncoding();
+    byte[] compressed = compress(serialized, encoding);
+    recordRatio(endpoint, "request", compressed.length, serialized.length);
+    return new EncodedBody(compressed, encoding.headerValue());
+  }
+
+  /**
+   * 응답 압축을 요청할 때 보낼 {@code Accept-Encoding} 값을 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @return 헤더 값, 응답 압축이 꺼져 있으면 null
+   */
+  public String acceptEncoding(String endpoint) {
+    Boolean endpointEnabled = properties.endpoint(endpoint).getCompressResponse();
+    boolean enabled =
+        endpointEnabled != null ? endpointEnabled : properties.getCompression().isResponseEnabled();
+    return enabled ? ACCEPT_ENCODING : null;
+  }
+
+  /**
+   * 응답의 {@code Content-Encoding}을 풀 수 있는지 확인합니다.
+   *
+   * @param contentEncoding 응답의 {@code Content-Encoding} (없으면 null)
+   * @return 압축되지 않았거나 풀 수 있는 방식이면 true
+   */
+  public boolean isSupported(String contentEncoding) {
+    return switch (normalize(contentEncoding)) {
+      case "", "identity", "gzip", "x-gzip", "deflate" -> true;
+      default -> false;
+    };
+  }
+
+  /**
+   * {@code Content-Encoding}에 맞게 응답 Body의 압축을 풀어서 읽는 스트림을 반환합니다.
+   *
+   * @param contentEncoding 응답의 {@code Content-Encoding} (없으면 null)
+   * @param body 응답 Body
+   * @return 압축을 푼 내용을 읽는 스트림
+   */
+  public InputStream decodeResponse(String contentEncoding, InputStream body) throws IOException {
+    return switch (normalize(contentEncoding)) {
+      case "gzip", "x-gzip" -> new GZIPInputStream(body);
+      case "deflate" -> new InflaterInputStream(body);
+      default -> body;
+    };
+  }
+
+  /**
+   * 압축된 응답의 압축률을 기록합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param contentEncoding 응답의 {@code Content-Encoding}
+   * @param compressedBytes 전송된 크기
+   * @param originalBytes 압축을 푼 크기
+   */
+  public void recordResponse(
+      String endpoint, String contentEncoding, long compressedBytes, long originalBytes) {
+    String encoding = normalize(contentEncoding);
+    if (!encoding.isEmpty() && !"identity".equals(encoding)) {
+      recordRatio(endpoint, "response", compressedBytes, originalBytes);
+    }
+  }
+
+  private void recordRatio(
+      String endpoint, String direction, long compressedBytes, long originalBytes) {
+    if (originalBytes <= 0) {
+      return;
+    }
+    DistributionSummary.builder("fastapi.compression.ratio")
+        .description("FastAPI 요청/응답 Body의 압축 후 크기 / 원본 크기")
+        .tag("endpoint", endpoint)
+        .tag("direction", direction)
+        .register(meterRegistry)
+        .record((double) compressedBytes / originalBytes);
+  }
+
+  private static byte[] compress(
+      byte[] serialized, FastApiProperties.Compression.Encoding encoding) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(serialized.length / 4 + 64);
+    try (OutputStream out =
+        encoding == FastApiProperties.Compression.Encoding.GZIP
+            ? new GZIPOutputStream(buffer)
+            : new DeflaterOutputStream(buffer)) {
+      out.write(serialized);
+    } catch (IOException e) {
+      throw new UncheckedIOException("요청 Body 압축에 실패했습니다.", e);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static String normalize(String contentEncoding) {
+    return contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+  }
+}
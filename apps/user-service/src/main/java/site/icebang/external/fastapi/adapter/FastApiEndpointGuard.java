@@ -0,0 +1,152 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.PayloadTooLargeException;
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * FastAPI 엔드포인트별로 서킷 브레이커와 동시 호출 제한(Bulkhead)을 적용하는 컴포넌트입니다.
+ *
+ * <p>한 엔드포인트가 느려지거나 실패하기 시작하면, 그 엔드포인트를 호출하는 Task들이 매번 타임아웃과 재시도를 기다리며 워크플로우 실행 허가를 붙잡고
+ * 있게 됩니다. 서킷이 열리면 호출을 보내지 않고 즉시 {@link CallNotPermittedException}을 던지며, 동시 호출 제한은 한 엔드포인트가 커넥션 풀과
+ * 실행 스레드를 독차지하지 못하도록 합니다.
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.circuit.state}: 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)
+ *   <li>{@code fastapi.circuit.transitions}: 상태 전환 횟수 (태그: to)
+ *   <li>{@code fastapi.bulkhead.available}: 남은 동시 호출 자리 수
+ *   <li>{@code fastapi.calls.rejected}: 거절된 호출 수 (태그: reason)
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiEndpointGuard {
+
+  private final FastApiProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+  /** 엔드포인트 하나의 서킷 브레이커와 동시 호출 제한 */
+  private record EndpointState(EndpointCircuitBreaker circuitBreaker, Semaphore bulkhead) {}
+
+  /**
+   * 서킷 브레이커와 동시 호출 제한을 적용하여 호출을 실행합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param call 실행할 호출
+   * @param isSuccess 호출 결과가 성공인지 판단하는 조건 (실패는 서킷 브레이커의 실패 비율에 반영됨)
+   * @return 호출 결과
+   * @throws CallNotPermittedException 서킷이 열려 있거나 동시 호출 자리를 얻지 못한 경우
+   */
+  public <T> T execute(String endpoint, Supplier<T> call, Predicate<T> isSuccess) {
+    EndpointState state = endpoints.computeIfAbsent(endpoint, this::createState);
+    boolean circuitBreakerEnabled = properties.getCircuitBreaker().isEnabled();
+
+    EndpointCircuitBreaker.Permission permission = null;
+    if (circuitBreakerEnabled) {
+      permission = state.circuitBreaker().tryAcquirePermission();
+      if (permission == null) {
+        throw reject(endpoint, CallNotPermittedException.Reason.CIRCUIT_OPEN);
+      }
+    }
+    if (!acquireBulkhead(state.bulkhead())) {
+      if (permission != null) {
+        state.circuitBreaker().releasePermission(permission);
+      }
+      throw reject(endpoint, CallNotPermittedException.Reason.BULKHEAD_FULL);
+    }
+
+    boolean success = false;
+    try {
+      T result = call.get();
+      success = isSuccess.test(result);
+      return result;
+    } catch (PayloadTooLargeException e) {
+      // 엔드포인트는 정상적으로 응답했고 응답이 Task의 크기 제한을 넘은 것이므로, 4xx 응답처럼 실패 비율에 반영하지 않습니다.
+      success = true;
+      throw e;
+    } finally {
+      state.bulkhead().release();
+      if (permission != null) {
+        if (Thread.currentThread().isInterrupted()) {
+          // 헤징에서 진 요청처럼 호출한 쪽이 취소한 요청은 엔드포인트 상태와 무관하므로 실패 비율에 반영하지 않습니다.
+          state.circuitBreaker().releasePermission(permission);
+        } else {
+          state.circuitBreaker().onResult(permission, success);
+        }
+      }
+    }
+  }
+
+  private boolean acquireBulkhead(Semaphore bulkhead) {
+    long maxWaitMs = properties.getBulkhead().getMaxWaitMs();
+    if (maxWaitMs == 0) {
+      return bulkhead.tryAcquire();
+    }
+    try {
+      return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private CallNotPermittedException reject(
+      String endpoint, CallNotPermittedException.Reason reason) {
+    Counter.builder("fastapi.calls.rejected")
+        .description("서킷 브레이커 또는 동시 호출 제한으로 거절된 FastAPI 호출 수")
+        .tags("endpoint", endpoint, "reason", reason.name().toLowerCase())
+        .register(meterRegistry)
+        .increment();
+    return new CallNotPermittedException(endpoint, reason);
+  }
+
+  private EndpointState createState(String endpoint) {
+    EndpointCircuitBreaker circuitBreaker =
+        new EndpointCircuitBreaker(
+            properties.getCircuitBreaker(),
+            (from, to) -> {
+              log.warn("FastAPI 서킷 상태 변경: Endpoint={}, {} -> {}", endpoint, from, to);
+              Counter.builder("fastapi.circuit.transitions")
+                  .tags("endpoint", endpoint, "to", to.name().toLowerCase())
+                  .register(meterRegistry)
+                  .increment();
+            },
+            System::nanoTime);
+    Integer endpointLimit = properties.endpoint(endpoint).getMaxConcurrentCalls();
+    int maxConcurrentCalls =
+        endpointLimit != null ? endpointLimit : properties.getBulkhead().getMaxConcurrentCalls();
+    Semaphore bulkhead = new Semaphore(maxConcurrentCalls, true);
+
+    Gauge.builder("fastapi.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+        .description("FastAPI 엔드포인트 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+    Gauge.builder("fastapi.bulkhead.available", bulkhead, Semaphore::availablePermits)
+        .description("FastAPI 엔드포인트의 남은 동시 호출 자리 수")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+    return new EndpointState(circuitBreaker, bulkhead);
+  }
+}
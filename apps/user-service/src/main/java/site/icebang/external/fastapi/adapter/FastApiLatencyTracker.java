@@ -0,0 +1,104 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * FastAPI 엔드포인트별 응답 시간을 기록하고, 최근 응답 시간의 백분위수를 제공하는 컴포넌트입니다.
+ *
+ * <p>응답 시간은 {@code fastapi.client.requests} 타이머(태그: endpoint, outcome)로 Prometheus에 노출되며, 성공한 요청의
+ * 백분위수(p50, p95, p99 및 적응형 타임아웃/헤징에 설정된 백분위수)는 최근 구간 기준으로 계산됩니다. 적응형 타임아웃과 헤징처럼 엔드포인트의
+ * 현재 응답 속도에 맞춰 동작해야 하는 기능에서 사용합니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiLatencyTracker {
+
+  private static final String METRIC_NAME = "fastapi.client.requests";
+
+  private final MeterRegistry meterRegistry;
+  private final FastApiProperties properties;
+
+  private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+  /**
+   * 요청 하나의 응답 시간을 기록합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param elapsedNanos 응답 시간 (나노초)
+   * @param success 요청 성공 여부. 성공한 요청만 백분위수 계산에 사용됩니다.
+   */
+  public void record(String endpoint, long elapsedNanos, boolean success) {
+    Timer timer =
+        success
+            ? successTimers.computeIfAbsent(endpoint, this::successTimer)
+            : errorTimers.computeIfAbsent(endpoint, this::errorTimer);
+    timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 엔드포인트에서 성공한 요청의 수를 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @return 성공한 요청 수
+   */
+  public long successCount(String endpoint) {
+    Timer timer = successTimers.get(endpoint);
+    return timer != null ? timer.count() : 0;
+  }
+
+  /**
+   * 엔드포인트에서 최근 성공한 요청의 응답 시간 백분위수를 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param percentile 백분위수 (0.5, 0.95, 0.99 또는 적응형 타임아웃/헤징에 설정된 값)
+   * @return 응답 시간, 관측된 요청이 없거나 추적하지 않는 백분위수면 빈 값
+   */
+  public Optional<Duration> percentile(String endpoint, double percentile) {
+    Timer timer = successTimers.get(endpoint);
+    if (timer == null) {
+      return Optional.empty();
+    }
+    for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+      if (Math.abs(value.percentile() - percentile) < 1e-9 && value.value() > 0) {
+        return Optional.of(Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS)));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Timer successTimer(String endpoint) {
+    TreeSet<Double> percentiles = new TreeSet<>(List.of(0.5, 0.95, 0.99));
+    percentiles.add(properties.getAdaptiveTimeout().getPercentile());
+    percentiles.add(properties.getHedging().getDelayPercentile());
+    return Timer.builder(METRIC_NAME)
+        .description("FastAPI 엔드포인트별 응답 시간")
+        .tags("endpoint", endpoint, "outcome", "success")
+        .publishPercentiles(percentiles.stream().mapToDouble(Double::doubleValue).toArray())
+        .register(meterRegistry);
+  }
+
+  private Timer errorTimer(String endpoint) {
+    return Timer.builder(METRIC_NAME)
+        .description("FastAPI 엔드포인트별 응답 시간")
+        .tags("endpoint", endpoint, "outcome", "error")
+        .register(meterRegistry);
+  }
+}
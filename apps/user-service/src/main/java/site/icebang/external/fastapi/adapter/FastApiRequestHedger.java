@@ -0,0 +1,212 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 멱등(idempotent) 요청이 늦어질 때 같은 요청을 한 번 더 보내고, 먼저 도착한 성공 응답을 사용하는 컴포넌트입니다.
+ *
+ * <p>전처리 서버의 워커 하나가 느려지면 그 워커에 배정된 요청 때문에 파이프라인 전체가 멈출 수 있습니다. 첫 요청이 엔드포인트의 최근 응답 시간
+ * 백분위수(기본 p95)만큼 기다려도 끝나지 않으면 헤징 요청을 보내고, 둘 중 먼저 성공한 응답을 반환한 뒤 나머지 요청은 취소합니다. 엔드포인트별로
+ * {@code hedge-delay-ms}를 지정하면 관측값 대신 그 값을 사용하며, 관측된 응답이 충분하지 않은 엔드포인트에는 헤징을 적용하지 않습니다.
+ *
+ * <p>헤징 요청은 전체 요청의 {@code budget-percent}% 이내로 제한됩니다. 요청마다 예산이 조금씩 쌓이고({@code max-burst}개까지) 헤징
+ * 요청을 보낼 때 하나씩 사용하므로, 서버 전체가 느려져 모든 요청이 늦어지는 상황에서도 부하가 두 배로 늘지 않습니다.
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.hedge.requests}: 보낸 헤징 요청 수 (태그: endpoint)
+ *   <li>{@code fastapi.hedge.wins}: 먼저 성공한 요청 (태그: endpoint, winner=primary|hedge)
+ *   <li>{@code fastapi.hedge.budget.exhausted}: 예산이 부족하여 보내지 못한 헤징 요청 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiRequestHedger {
+
+  /** 예산을 정수로 계산하기 위한 헤징 요청 하나의 비용 */
+  private static final long TOKEN = 100;
+
+  private final FastApiProperties properties;
+  private final FastApiLatencyTracker latencyTracker;
+  private final MeterRegistry meterRegistry;
+
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fastapi-hedge-", 0).factory());
+  private final AtomicLong budget = new AtomicLong();
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 헤징을 적용하여 요청을 실행합니다. 헤징이 꺼져 있거나 대기 시간을 정할 수 없으면 요청을 그대로 실행합니다.
+   *
+   * @param endpoint 엔드포인트 경로 (대기 시간과 메트릭 기준)
+   * @param call 실행할 요청. 여러 번 동시에 호출될 수 있어야 합니다.
+   * @param isSuccess 요청 결과가 성공인지 판단하는 조건
+   * @return 먼저 성공한 결과, 모두 실패하면 마지막으로 끝난 요청의 결과
+   * @throws ExternalCallFailedException 결과를 기다리는 중 호출한 스레드가 인터럽트된 경우 (재시도 가능)
+   */
+  public <T> T execute(String endpoint, Supplier<T> call, Predicate<T> isSuccess) {
+    FastApiProperties.Hedging hedging = properties.getHedging();
+    if (!hedging.isEnabled()) {
+      return call.get();
+    }
+    deposit(hedging);
+    Duration delay = hedgeDelay(endpoint, hedging);
+    if (delay == null) {
+      return call.get();
+    }
+
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    // 📌 워크플로우 실행이 취소되면 헤징 요청도 함께 중단되도록 취소 상태를 넘겨줍니다.
+    Supplier<T> boundCall = RunCancellation.propagate(call);
+    CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+    List<Future<T>> attempts = new ArrayList<>(2);
+    Future<T> primary = completion.submit(() -> withMdc(mdc, boundCall));
+    attempts.add(primary);
+    try {
+      Future<T> done = completion.poll(delay.toNanos(), TimeUnit.NANOSECONDS);
+      if (done == null) {
+        if (tryWithdraw()) {
+          log.debug("FastAPI 헤징 요청: Endpoint={}, Delay={}ms", endpoint, delay.toMillis());
+          counter("fastapi.hedge.requests", "endpoint", endpoint).increment();
+          attempts.add(completion.submit(() -> withMdc(mdc, boundCall)));
+        } else {
+          counter("fastapi.hedge.budget.exhausted", "endpoint", endpoint).increment();
+        }
+        done = completion.take();
+      }
+      return firstSuccess(endpoint, completion, attempts, primary, done, isSuccess);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // 📌 null을 반환하면 응답이 없는 실패로 처리되므로, 취소된 요청임을 알 수 있도록 예외로 알립니다.
+      throw new ExternalCallFailedException("FastAPI 요청 대기 중 인터럽트 발생: " + endpoint, true, null);
+    } finally {
+      attempts.forEach(attempt -> attempt.cancel(true));
+    }
+  }
+
+  private <T> T firstSuccess(
+      String endpoint,
+      CompletionService<T> completion,
+      List<Future<T>> attempts,
+      Future<T> primary,
+      Future<T> done,
+      Predicate<T> isSuccess)
+      throws InterruptedException {
+    RuntimeException lastFailure = null;
+    T lastResult = null;
+    for (int finished = 1; ; finished++) {
+      try {
+        T result = done.get();
+        if (result != null && isSuccess.test(result)) {
+          if (attempts.size() > 1) {
+            counter("fastapi.hedge.wins", "endpoint", endpoint, "winner", winner(done, primary))
+                .increment();
+          }
+          return result;
+        }
+        lastResult = result;
+      } catch (ExecutionException e) {
+        lastFailure =
+            e.getCause() instanceof RuntimeException runtime
+                ? runtime
+                : new IllegalStateException(e.getCause());
+      }
+      if (finished == attempts.size()) {
+        // 모든 요청이 실패한 경우, 실패 결과가 있으면 그 결과를, 예외만 있었다면 그 예외를 그대로 전달합니다.
+        if (lastResult == null && lastFailure != null) {
+          throw lastFailure;
+        }
+        return lastResult;
+      }
+      done = completion.take();
+    }
+  }
+
+  private Duration hedgeDelay(String endpoint, FastApiProperties.Hedging hedging) {
+    Long configuredMs = properties.endpoint(endpoint).getHedgeDelayMs();
+    if (configuredMs != null) {
+      return Duration.ofMillis(configuredMs);
+    }
+    if (latencyTracker.successCount(endpoint) < hedging.getMinSamples()) {
+      return null;
+    }
+    Duration observed =
+        latencyTracker.percentile(endpoint, hedging.getDelayPercentile()).orElse(null);
+    if (observed == null) {
+      return null;
+    }
+    Duration minDelay = Duration.ofMillis(hedging.getMinDelayMs());
+    return observed.compareTo(minDelay) < 0 ? minDelay : observed;
+  }
+
+  /** 요청마다 헤징 요청 하나 비용의 {@code budget-percent}%만큼 예산을 쌓습니다. */
+  private void deposit(FastApiProperties.Hedging hedging) {
+    long max = TOKEN * hedging.getMaxBurst();
+    budget.accumulateAndGet(
+        hedging.getBudgetPercent(), (current, added) -> Math.min(max, current + added));
+  }
+
+  private boolean tryWithdraw() {
+    long current;
+    do {
+      current = budget.get();
+      if (current < TOKEN) {
+        return false;
+      }
+    } while (!budget.compareAndSet(current, current - TOKEN));
+    return true;
+  }
+
+  private static <T> String winner(Future<T> done, Future<T> primary) {
+    return done == primary ? "primary" : "hedge";
+  }
+
+  private static <T> T withMdc(Map<String, String> mdc, Supplier<T> call) {
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    try {
+      return call.get();
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  private Counter counter(String name, String... tags) {
+    return Counter.builder(name).tags(tags).register(meterRegistry);
+  }
+}
@@ -0,0 +1,195 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 동시에 실행되는 같은 FastAPI 요청을 하나로 합치는(Single-flight) 컴포넌트입니다.
+ *
+ * <p>같은 cron 시각에 같은 설정으로 실행되는 여러 워크플로우는 같은 요청(예: {@code /keywords/search}에 {@code
+ * {"tag":"naver"}})을 동시에 보냅니다. 엔드포인트, HTTP 메소드, 정규화한 요청 Body의 해시가 같은 요청이 이미 진행 중이면 새 요청을 보내지 않고
+ * 진행 중인 요청의 응답을 함께 사용합니다. Body는 필드 순서를 정렬하여 해시하므로 필드 순서만 다른 요청도 같은 요청으로 봅니다.
+ *
+ * <p>같은 요청이 한 번만 처리되므로 멱등(idempotent)한 요청에만 사용해야 합니다. 합쳐진 요청은 응답의 복사본을 받으므로, 한 Task가 응답을
+ * 수정해도 다른 Task에 영향을 주지 않습니다.
+ *
+ * <p>먼저 보낸 요청의 워크플로우 실행이 취소되어 요청이 인터럽트되면, 그 결과는 엔드포인트의 응답이 아니므로 합쳐진 요청에 넘기지 않습니다. 합쳐진 요청은
+ * 같은 요청을 직접 다시 보내거나, 그 사이에 새로 진행 중인 같은 요청에 합쳐집니다.
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.singleflight.coalesced}: 진행 중인 요청에 합쳐진 요청 수 (태그: endpoint)
+ *   <li>{@code fastapi.singleflight.inflight}: 진행 중인 고유 요청 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiSingleFlight {
+
+  private final FastApiProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, CompletableFuture<FastApiCallResult>> inFlight =
+      new ConcurrentHashMap<>();
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("fastapi.singleflight.inflight", inFlight, Map::size)
+        .description("진행 중인 고유 FastAPI 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 같은 요청이 진행 중이면 그 응답을 기다려 사용하고, 없으면 요청을 실행합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @param method HTTP 메소드
+   * @param requestBody 요청 Body (없으면 null)
+   * @param call 실제 요청
+   * @return 호출 결과. 합쳐진 요청은 먼저 보낸 요청의 결과를 받으며, 실패 결과도 함께 받습니다.
+   */
+  public FastApiCallResult execute(
+      String endpoint,
+      HttpMethod method,
+      JsonNode requestBody,
+      Supplier<FastApiCallResult> call) {
+    if (!properties.getSingleFlight().isEnabled()) {
+      return call.get();
+    }
+
+    String key = method.name() + " " + endpoint + " " + bodyHash(requestBody);
+    CompletableFuture<FastApiCallResult> leader = new CompletableFuture<>();
+    CompletableFuture<FastApiCallResult> existing = inFlight.putIfAbsent(key, leader);
+    if (existing != null) {
+      Counter.builder("fastapi.singleflight.coalesced")
+          .description("진행 중인 같은 요청에 합쳐진 FastAPI 요청 수")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry)
+          .increment();
+      log.debug("진행 중인 FastAPI 요청에 합류: Endpoint={}", endpoint);
+      return awaitShared(existing, endpoint, method, requestBody, call);
+    }
+
+    FastApiCallResult result;
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      // 📌 합쳐진 요청이 다시 요청할 때 끝난 요청에 다시 합쳐지지 않도록, 결과를 알리기 전에 진행 중인 요청에서 뺍니다.
+      inFlight.remove(key, leader);
+      leader.completeExceptionally(
+          Thread.currentThread().isInterrupted() ? cancelled(endpoint) : e);
+      throw e;
+    }
+    inFlight.remove(key, leader);
+    if (result == null || Thread.currentThread().isInterrupted()) {
+      leader.completeExceptionally(cancelled(endpoint));
+    } else {
+      leader.complete(result);
+    }
+    return result;
+  }
+
+  private FastApiCallResult awaitShared(
+      CompletableFuture<FastApiCallResult> shared,
+      String endpoint,
+      HttpMethod method,
+      JsonNode requestBody,
+      Supplier<FastApiCallResult> call) {
+    long startedAt = System.nanoTime();
+    try {
+      return shared.get().copy();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return FastApiCallResult.ioError(
+          "합쳐진 요청 대기 중 인터럽트 발생", Duration.ofNanos(System.nanoTime() - startedAt));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof LeaderCancelledException) {
+        log.debug("먼저 보낸 같은 요청이 취소되어 다시 요청합니다: Endpoint={}", endpoint);
+        return execute(endpoint, method, requestBody, call);
+      }
+      // 먼저 보낸 요청이 예외로 끝났다면 합쳐진 요청도 같은 예외로 처리합니다.
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static LeaderCancelledException cancelled(String endpoint) {
+    return new LeaderCancelledException("먼저 보낸 같은 요청이 취소되었습니다: " + endpoint);
+  }
+
+  /** 먼저 보낸 요청이 취소되어, 합쳐진 요청이 같은 요청을 직접 다시 보내야 함을 알리는 예외 */
+  private static final class LeaderCancelledException extends RuntimeException {
+
+    LeaderCancelledException(String message) {
+      super(message, null, false, false);
+    }
+  }
+
+  private String bodyHash(JsonNode requestBody) {
+    if (requestBody == null) {
+      return "-";
+    }
+    try {
+      byte[] canonical = objectMapper.writeValueAsBytes(canonicalize(requestBody));
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+    } catch (JsonProcessingException e) {
+      // 직렬화할 수 없는 Body는 합치지 않도록 고유한 키를 사용합니다.
+      return "unhashable-" + System.identityHashCode(requestBody);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /** 객체의 필드를 이름순으로 정렬한 복사본을 만듭니다. 배열의 순서는 유지합니다. */
+  private JsonNode canonicalize(JsonNode node) {
+    if (node.isObject()) {
+      List<String> names = new ArrayList<>();
+      node.fieldNames().forEachRemaining(names::add);
+      Collections.sort(names);
+      ObjectNode sorted = objectMapper.createObjectNode();
+      names.forEach(name -> sorted.set(name, canonicalize(node.get(name))));
+      return sorted;
+    }
+    if (node.isArray()) {
+      ArrayNode array = objectMapper.createArrayNode();
+      node.forEach(element -> array.add(canonicalize(element)));
+      return array;
+    }
+    return node;
+  }
+}
@@ -0,0 +1,65 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * FastAPI 요청에 적용할 응답 타임아웃을 결정하는 컴포넌트입니다.
+ *
+ * <h2>우선순위:</h2>
+ *
+ * <ol>
+ *   <li>Task 파라미터의 {@code timeout_ms}
+ *   <li>엔드포인트별 설정 ({@code api.fastapi.endpoints.[경로].timeout-ms})
+ *   <li>적응형 타임아웃: 활성화되어 있고 충분한 응답이 관측된 경우, 최근 응답 시간 백분위수 × 배수를 하한/상한으로 제한한 값
+ *   <li>기본 타임아웃 ({@code api.fastapi.timeout})
+ * </ol>
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiTimeoutPolicy {
+
+  private final FastApiProperties properties;
+  private final FastApiLatencyTracker latencyTracker;
+
+  /**
+   * 요청에 적용할 응답 타임아웃을 결정합니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @param taskParameters Task 파라미터 (없으면 null)
+   * @return 응답 타임아웃
+   */
+  public Duration resolve(String endpoint, JsonNode taskParameters) {
+    long taskTimeoutMs = taskParameters != null ? taskParameters.path("timeout_ms").asLong(0) : 0;
+    if (taskTimeoutMs > 0) {
+      return Duration.ofMillis(taskTimeoutMs);
+    }
+
+    Long endpointTimeoutMs = properties.endpoint(endpoint).getTimeoutMs();
+    if (endpointTimeoutMs != null) {
+      return Duration.ofMillis(endpointTimeoutMs);
+    }
+
+    FastApiProperties.AdaptiveTimeout adaptive = properties.getAdaptiveTimeout();
+    if (adaptive.isEnabled() && latencyTracker.successCount(endpoint) >= adaptive.getMinSamples()) {
+      Duration observed =
+          latencyTracker.percentile(endpoint, adaptive.getPercentile()).orElse(null);
+      if (observed != null) {
+        long adaptiveMs = (long) Math.ceil(observed.toMillis() * adaptive.getMultiplier());
+        return Duration.ofMillis(
+            Math.min(adaptive.getMaxMs(), Math.max(adaptive.getMinMs(), adaptiveMs)));
+      }
+    }
+
+    return Duration.ofMillis(properties.getTimeout());
+  }
+}
@@ -0,0 +1,309 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.health.service.HealthCheckService;
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 여러 FastAPI 인스턴스 중 요청을 보낼 인스턴스를 고르는 컴포넌트입니다.
+ *
+ * <p>진행 중인 요청이 가장 적은 인스턴스를 고르며(Least outstanding requests), 같으면 무작위로 고릅니다. 크롤링처럼 응답 시간이 크게 다른
+ * 요청이 섞여 있어도 느린 요청이 몰린 인스턴스를 피할 수 있습니다.
+ *
+ * <h2>장애 인스턴스 제외:</h2>
+ *
+ * <ul>
+ *   <li>연결 실패, 타임아웃, 5xx, 429가 연속으로 {@code consecutive-failures}번 발생한 인스턴스는 {@code
+ *       base-ejection-ms} 동안 제외됩니다. 다시 제외될 때마다 제외 시간이 늘어나며, 성공하면 처음부터 다시 셉니다.
+ *   <li>인스턴스가 둘 이상이면 {@code /ping}으로 주기적으로 상태를 확인하여, 연속으로 실패한 인스턴스를 응답할 때까지 제외합니다.
+ *   <li>보낼 수 있는 인스턴스가 하나도 없으면 제외를 무시하고 모든 인스턴스 중에서 고릅니다.
+ * </ul>
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.upstream.requests}: 인스턴스별 요청 수 (태그: instance)
+ *   <li>{@code fastapi.upstream.outstanding}: 인스턴스별 진행 중인 요청 수
+ *   <li>{@code fastapi.upstream.available}: 요청을 받을 수 있으면 1, 제외되었으면 0
+ *   <li>{@code fastapi.upstream.ejections}: 연속 실패로 제외된 횟수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiUpstreamPool {
+
+  /** 요청 결과가 인스턴스의 상태 판단에 주는 영향 */
+  public enum Outcome {
+    /** 정상 응답. 연속 실패 횟수를 초기화합니다. */
+    SUCCESS,
+    /** 인스턴스 상태로 인한 실패 (연결 실패, 타임아웃, 5xx, 429) */
+    FAILURE,
+    /** 인스턴스 상태와 무관한 결과 (잘못된 요청, 취소된 요청 등) */
+    IGNORED
+  }
+
+  private static final ThreadLocal<String> PINNED = new ThreadLocal<>();
+
+  private final FastApiProperties properties;
+  private final HealthCheckService healthCheckService;
+  private final MeterRegistry meterRegistry;
+
+  private List<Upstream> upstreams;
+  private ScheduledExecutorService probeExecutor;
+
+  @PostConstruct
+  void start() {
+    upstreams = properties.upstreamUrls().stream().map(Upstream::new).toList();
+    upstreams.forEach(this::registerMetrics);
+    log.info("FastAPI 인스턴스 {}개 등록: {}", upstreams.size(), properties.upstreamUrls());
+
+    FastApiProperties.HealthCheck healthCheck = properties.getLoadBalancing().getHealthCheck();
+    if (!healthCheck.isEnabled() || upstreams.size() < 2) {
+      return;
+    }
+    probeExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "fastapi-health-probe");
+              thread.setDaemon(true);
+              return thread;
+            });
+    probeExecutor.scheduleWithFixedDelay(
+        this::probeAll, 0, healthCheck.getIntervalMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (probeExecutor != null) {
+      probeExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * 요청을 보낼 인스턴스를 고르고 진행 중인 요청 수를 늘립니다. 요청이 끝나면 반드시 {@link #release}를 호출해야 합니다.
+   *
+   * @return 요청을 보낼 인스턴스
+   */
+  public Upstream acquire() {
+    String pinned = PINNED.get();
+    Upstream selected = pinned != null ? find(pinned) : leastOutstanding(true);
+    if (selected == null) {
+      // 📌 모든 인스턴스가 제외되었다면 요청을 모두 실패시키는 대신 제외를 무시하고 보냅니다.
+      selected = leastOutstanding(false);
+    }
+    selected.outstanding.incrementAndGet();
+    if (selected.tracked) {
+      Counter.builder("fastapi.upstream.requests")
+          .description("FastAPI 인스턴스별 요청 수")
+          .tag("instance", selected.instance)
+          .register(meterRegistry)
+          .increment();
+    }
+    return selected;
+  }
+
+  /**
+   * 요청이 끝났음을 기록하고, 결과에 따라 인스턴스를 제외합니다.
+   *
+   * @param upstream {@link #acquire}로 고른 인스턴스
+   * @param outcome 요청 결과
+   */
+  public void release(Upstream upstream, Outcome outcome) {
+    upstream.outstanding.decrementAndGet();
+    if (!upstream.tracked || outcome == Outcome.IGNORED) {
+      return;
+    }
+    if (outcome == Outcome.SUCCESS) {
+      upstream.consecutiveFailures.set(0);
+      upstream.ejections.set(0);
+      return;
+    }
+    FastApiProperties.LoadBalancing config = properties.getLoadBalancing();
+    if (upstream.consecutiveFailures.incrementAndGet() >= config.getConsecutiveFailures()) {
+      eject(upstream, config);
+    }
+  }
+
+  /**
+   * 작업 중 요청을 지정한 인스턴스로만 보냅니다.
+   *
+   * <p>비동기 작업의 상태는 작업을 받은 인스턴스만 알고 있으므로, 상태 조회는 제출한 인스턴스로 보내야 합니다. 지정한 인스턴스가 제외된 상태여도 그
+   * 인스턴스로 보냅니다.
+   *
+   * @param baseUrl 인스턴스의 기본 URL (null이면 평소처럼 고릅니다)
+   * @param call 실행할 작업
+   * @return 작업의 결과
+   */
+  public <T> T withPinned(String baseUrl, Supplier<T> call) {
+    if (baseUrl == null) {
+      return call.get();
+    }
+    String previous = PINNED.get();
+    PINNED.set(baseUrl);
+    try {
+      return call.get();
+    } finally {
+      if (previous != null) {
+        PINNED.set(previous);
+      } else {
+        PINNED.remove();
+      }
+    }
+  }
+
+  private Upstream find(String baseUrl) {
+    return upstreams.stream()
+        .filter(upstream -> upstream.baseUrl.equals(baseUrl))
+        .findFirst()
+        // 설정에서 빠진 인스턴스라도 진행 중인 작업이 있으면 그 인스턴스로 보냅니다.
+        .orElseGet(() -> new Upstream(baseUrl, false));
+  }
+
+  private Upstream leastOutstanding(boolean availableOnly) {
+    long now = System.nanoTime();
+    Upstream best = null;
+    int ties = 0;
+    for (Upstream upstream : upstreams) {
+      if (availableOnly && !upstream.isAvailable(now)) {
+        continue;
+      }
+      int outstanding = upstream.outstanding.get();
+      if (best == null || outstanding < best.outstanding.get()) {
+        best = upstream;
+        ties = 1;
+      } else if (outstanding == best.outstanding.get()
+          && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+        best = upstream;
+      }
+    }
+    return best;
+  }
+
+  private synchronized void eject(Upstream upstream, FastApiProperties.LoadBalancing config) {
+    long now = System.nanoTime();
+    if (!upstream.isAvailable(now)) {
+      return;
+    }
+    long ejected = upstreams.stream().filter(other -> other.isEjected(now)).count();
+    if (ejected * 100 >= (long) upstreams.size() * config.getMaxEjectionPercent()) {
+      return;
+    }
+    int ejections = upstream.ejections.incrementAndGet();
+    long ejectionMs =
+        Math.min(config.getBaseEjectionMs() * ejections, config.getMaxEjectionMs());
+    upstream.ejectedUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+    upstream.consecutiveFailures.set(0);
+    Counter.builder("fastapi.upstream.ejections")
+        .description("연속 실패로 제외된 FastAPI 인스턴스 수")
+        .tag("instance", upstream.instance)
+        .register(meterRegistry)
+        .increment();
+    log.warn("FastAPI 인스턴스 제외: Instance={}, Duration={}ms", upstream.instance, ejectionMs);
+  }
+
+  private void probeAll() {
+    FastApiProperties.HealthCheck config = properties.getLoadBalancing().getHealthCheck();
+    Duration timeout = Duration.ofMillis(config.getTimeoutMs());
+    for (Upstream upstream : upstreams) {
+      boolean healthy = healthCheckService.isHealthy(upstream.baseUrl, timeout);
+      if (healthy) {
+        upstream.failedProbes = 0;
+        if (!upstream.healthy) {
+          upstream.healthy = true;
+          log.info("FastAPI 인스턴스 헬스 체크 복구: Instance={}", upstream.instance);
+        }
+      } else if (++upstream.failedProbes >= config.getUnhealthyThreshold() && upstream.healthy) {
+        upstream.healthy = false;
+        log.warn("FastAPI 인스턴스 헬스 체크 실패: Instance={}", upstream.instance);
+      }
+    }
+  }
+
+  private void registerMetrics(Upstream upstream) {
+    Gauge.builder("fastapi.upstream.outstanding", upstream.outstanding, AtomicInteger::get)
+        .description("FastAPI 인스턴스별 진행 중인 요청 수")
+        .tag("instance", upstream.instance)
+        .register(meterRegistry);
+    Gauge.builder(
+            "fastapi.upstream.available",
+            upstream,
+            target -> target.isAvailable(System.nanoTime()) ? 1 : 0)
+        .description("FastAPI 인스턴스가 요청을 받을 수 있는지 여부 (1: 가능, 0: 제외)")
+        .tag("instance", upstream.instance)
+        .register(meterRegistry);
+  }
+
+  /** 요청을 보낼 FastAPI 인스턴스 하나의 상태입니다. */
+  public static final class Upstream {
+
+    private final String baseUrl;
+    private final String instance;
+    private final boolean tracked;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger ejections = new AtomicInteger();
+    private volatile long ejectedUntilNanos;
+    private volatile boolean healthy = true;
+    private int failedProbes; // 헬스 체크 스레드에서만 사용
+
+    Upstream(String baseUrl) {
+      this(baseUrl, true);
+    }
+
+    private Upstream(String baseUrl, boolean tracked) {
+      this.baseUrl = baseUrl;
+      this.instance = instanceName(baseUrl);
+      this.tracked = tracked;
+      this.ejectedUntilNanos = System.nanoTime();
+    }
+
+    /** 인스턴스의 기본 URL (예: "http://fastapi-1:8000") */
+    public String baseUrl() {
+      return baseUrl;
+    }
+
+    /** 메트릭과 헤더에 사용할 인스턴스 이름 (예: "fastapi-1:8000") */
+    public String instance() {
+      return instance;
+    }
+
+    private boolean isEjected(long now) {
+      return now - ejectedUntilNanos < 0;
+    }
+
+    private boolean isAvailable(long now) {
+      return healthy && !isEjected(now);
+    }
+
+    private static String instanceName(String baseUrl) {
+      try {
+        String authority = URI.create(baseUrl).getAuthority();
+        return authority != null ? authority : baseUrl;
+      } catch (IllegalArgumentException e) {
+        return baseUrl;
+      }
+    }
+  }
+}
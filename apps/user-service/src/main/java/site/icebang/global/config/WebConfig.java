@@ -1,12 +1,11 @@
 package site.icebang.global.config;
 
-import java.time.Duration;
 import java.util.TimeZone;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,7 +21,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  * <h2>주요 기능:</h2>
  *
  * <ul>
- *   <li>커넥션 및 읽기 타임아웃이 설정된 RestClient 빈 생성
+ *   <li>커넥션 풀이 적용된 RestClient 빈 생성
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -34,19 +33,16 @@ public class WebConfig {
   /**
    * 외부 API 통신을 위한 RestClient 빈을 생성하여 스프링 컨테이너에 등록합니다.
    *
-   * <p>커넥션 및 읽기 타임아웃을 각각 30초로 설정한 {@code SimpleClientHttpRequestFactory}를 사용하여 RestClient를 구성합니다.
-   * 이렇게 생성된 RestClient 빈은 애플리케이션의 다른 컴포넌트에서 주입받아 외부 시스템과의 HTTP 통신에 사용됩니다.
+   * <p>{@code FastApiClientConfig}에서 구성한 커넥션 풀 기반 요청 팩토리를 사용하여 RestClient를 구성합니다. 이렇게 생성된
+   * RestClient 빈은 애플리케이션의 다른 컴포넌트에서 주입받아 외부 시스템과의 HTTP 통신에 사용됩니다.
    *
-   * @return 타임아웃이 설정된 RestClient 인스턴스
+   * @param fastApiRequestFactory 커넥션 풀과 타임아웃이 설정된 요청 팩토리
+   * @return 커넥션 풀이 적용된 RestClient 인스턴스
    * @since v0.1.0
    */
   @Bean
-  public RestClient restClient() {
-    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-    requestFactory.setConnectTimeout(Duration.ofSeconds(30));
-    requestFactory.setReadTimeout(Duration.ofSeconds(30));
-
-    return RestClient.builder().requestFactory(requestFactory).build();
+  public RestClient restClient(ClientHttpRequestFactory fastApiRequestFactory) {
+    return RestClient.builder().requestFactory(fastApiRequestFactory).build();
   }
 
   /**
@@ -0,0 +1,111 @@
+package site.icebang.global.config;
+
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 서버 종료 시 실행 중인 워크플로우를 마무리하는 클래스입니다.
+ *
+ * <p>종료가 시작되면 다음 순서로 진행합니다.
+ *
+ * <ol>
+ *   <li>새 실행을 받지 않고, 허가를 기다리던 실행을 대기열에서 뺍니다. ({@link WorkflowAdmissionQueue#close()})
+ *   <li>Quartz가 이 서버에서 새 트리거를 실행하지 않도록 대기 상태로 전환합니다. 클러스터의 다른 서버가 이어서 트리거를 실행합니다.
+ *   <li>실행 중인 워크플로우가 끝나기를 {@code grace-period-ms}만큼 기다립니다.
+ *   <li>그래도 끝나지 않은 실행은 중단하여 {@code INTERRUPTED}로 기록하고, {@code interrupt-wait-ms}만큼 기록을 기다립니다.
+ *   <li>지연 기록 중인 실행 상태를 모두 DB에 반영합니다.
+ * </ol>
+ *
+ * <p>중단된 실행은 임대를 보유한 채로 소유만 해제되며, 다른 서버나 다음 서버 시작 시 {@link WorkflowRecoveryInitializer}가 이미
+ * 성공한 Job과 Task를 건너뛰고 이어서 실행합니다. 마무리하는 동안에는 이 서버가 실행을 계속 소유하므로 다른 서버가 가져가지 않습니다.
+ *
+ * <p>웹 서버의 Graceful shutdown보다 먼저 멈추므로, 마무리하는 동안에는 웹 서버가 아직 요청을 받습니다. FastAPI의 완료 콜백을 계속 받을 수
+ * 있고, 새 실행 요청은 대기열이 닫혀 503으로 거절됩니다. 전체 대기 시간은 {@code
+ * spring.lifecycle.timeout-per-shutdown-phase}보다 짧아야 합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowDrainLifecycle implements SmartLifecycle {
+
+  /** 웹 서버의 Graceful shutdown(DEFAULT_PHASE - 1024)보다 phase가 높으므로 나중에 시작하고 먼저 멈춥니다. */
+  private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+  private final WorkflowAdmissionQueue admissionQueue;
+  private final WorkflowCancellationService workflowCancellationService;
+  private final RunStatePersistenceManager runStatePersistenceManager;
+  private final WorkflowExecutionProperties executionProperties;
+  private final Scheduler scheduler;
+
+  private volatile boolean running;
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    try {
+      drain();
+    } finally {
+      running = false;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private void drain() {
+    WorkflowExecutionProperties.Drain drain = executionProperties.getDrain();
+    admissionQueue.close();
+    try {
+      scheduler.standby();
+    } catch (SchedulerException e) {
+      log.warn("Quartz 스케줄러 대기 전환 실패", e);
+    }
+
+    int activeRuns = workflowCancellationService.activeRunCount();
+    try {
+      if (activeRuns > 0) {
+        log.info("서버 종료: 실행 중인 워크플로우 {}건이 끝나기를 기다립니다.", activeRuns);
+        if (!workflowCancellationService.awaitNoActiveRuns(drain.getGracePeriodMs())) {
+          log.warn(
+              "서버 종료: 끝나지 않은 워크플로우 {}건을 중단합니다. 다른 서버가 이어서 실행합니다.",
+              workflowCancellationService.activeRunCount());
+          workflowCancellationService.interruptAll();
+          if (!workflowCancellationService.awaitNoActiveRuns(drain.getInterruptWaitMs())) {
+            log.error(
+                "서버 종료: 워크플로우 {}건의 중단 상태를 기록하지 못했습니다. 소유 기간이 지나면 RUNNING 상태로 복구됩니다.",
+                workflowCancellationService.activeRunCount());
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      workflowCancellationService.interruptAll();
+    } finally {
+      // 📌 중단된 실행의 상태가 지연 기록 큐에 남지 않도록 바로 반영합니다.
+      runStatePersistenceManager.flush();
+    }
+  }
+}
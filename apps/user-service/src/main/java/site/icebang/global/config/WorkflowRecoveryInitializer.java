@@ -1,11 +1,18 @@
 package site.icebang.global.config;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -13,12 +20,19 @@ import site.icebang.domain.workflow.dto.RequestContextDto;
 import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
 import site.icebang.domain.workflow.model.WorkflowRun;
 import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
 
 /**
- * 애플리케이션 시작 시, 비정상 종료된 워크플로우를 감지하고 '실제로 복구(재실행)'하는 클래스입니다.
+ * 비정상 종료되거나 서버 종료로 중단된 워크플로우를 감지하고 '실제로 복구(재실행)'하는 클래스입니다.
  *
- * <p>서버가 시작될 때 DB에 'RUNNING' 상태로 남아있는 워크플로우는 시스템 장애(전원 차단, OOM 등)로 인해 중단된 작업입니다. 이 클래스는 해당 작업들을
- * 찾아내어 이전 기록을 정리하고, 작업을 <b>자동으로 재시작</b>합니다.
+ * <p>DB에 'RUNNING' 상태로 남아있지만 소유한 서버가 없거나 소유 기간이 만료된 워크플로우는 시스템 장애(전원 차단, OOM 등)로 인해 중단된
+ * 작업입니다. 서버가 정상 종료되면서 끝나지 않아 중단된 'INTERRUPTED' 상태의 워크플로우는 소유가 바로 해제됩니다. 이 클래스는 서버가 시작될 때와
+ * 이후 {@code recovery-interval-ms}마다 해당 작업들을 찾아내어 같은 실행 기록(WorkflowRun)으로 <b>자동으로 이어서 실행</b>합니다.
+ * 이미 성공한 Job과 Task는 다시 실행하지 않습니다.
+ *
+ * <p>아직 살아 있거나 종료 중인 서버가 소유한 실행은 복구하지 않으므로, 롤링 배포 중 새로 시작한 서버가 같은 실행을 다시 실행하지 않습니다. 여러
+ * 서버가 같은 실행을 찾더라도 실행을 소유한 서버 하나만 이어서 실행합니다.
  */
 @Slf4j
 @Component
@@ -27,21 +41,60 @@ public class WorkflowRecoveryInitializer implements ApplicationRunner {
 
   private final WorkflowRunMapper workflowRunMapper;
   private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowAdmissionQueue admissionQueue;
+  private final WorkflowExecutionProperties executionProperties;
+
+  /** 복구를 요청했지만 아직 시작되지 않은 실행 (대기열에 중복으로 넣지 않기 위함) */
+  private final Set<Long> requestedRuns = ConcurrentHashMap.newKeySet();
+
+  private ScheduledExecutorService recoveryExecutor;
 
   @Override
   public void run(ApplicationArguments args) {
+    recover();
+    recoveryExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "workflow-run-recovery");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = executionProperties.getLease().getRecoveryIntervalMs();
+    recoveryExecutor.scheduleWithFixedDelay(
+        this::recover, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (recoveryExecutor != null) {
+      recoveryExecutor.shutdownNow();
+    }
+  }
+
+  private void recover() {
+    if (admissionQueue.isClosed()) {
+      return;
+    }
     try {
-      List<WorkflowRun> runningWorkflows = workflowRunMapper.findByStatus("RUNNING");
+      List<WorkflowRun> recoverableRuns = workflowRunMapper.findRecoverable();
+
+      // 📌 더 이상 복구 대상이 아닌 실행은 시작되었거나 다른 서버가 가져간 것이므로 목록에서 뺍니다.
+      Set<Long> recoverableIds =
+          recoverableRuns.stream().map(WorkflowRun::getId).collect(Collectors.toSet());
+      requestedRuns.retainAll(recoverableIds);
 
-      if (runningWorkflows.isEmpty()) {
+      List<WorkflowRun> newRuns =
+          recoverableRuns.stream().filter(run -> !requestedRuns.contains(run.getId())).toList();
+      if (newRuns.isEmpty()) {
         return;
       }
 
-      log.warn("비정상 종료된 워크플로우 {}건 발견. 자동 복구(재실행) 프로세스를 시작합니다.", runningWorkflows.size());
+      log.warn("중단된 워크플로우 {}건 발견. 자동 복구(재실행) 프로세스를 시작합니다.", newRuns.size());
 
       int recoveredCount = 0;
-      for (WorkflowRun run : runningWorkflows) {
+      for (WorkflowRun run : newRuns) {
         if (recoverAndRestart(run)) {
+          requestedRuns.add(run.getId());
           recoveredCount++;
         }
       }
@@ -54,19 +107,14 @@ public class WorkflowRecoveryInitializer implements ApplicationRunner {
 
   private boolean recoverAndRestart(WorkflowRun run) {
     try {
-      // 1. 기존 실행 이력 마감 (Cleaning)
-      // 중단된 시점의 상태를 FAILED로 확정지어 데이터 정합성을 맞춥니다.
-      run.finish("FAILED");
-      workflowRunMapper.update(run);
-      log.info("[복구 1단계] 기존 이력 정리 완료: RunID={}, WorkflowID={}", run.getId(), run.getWorkflowId());
-
-      // 2. 워크플로우 재실행 (Restarting)
-      // 기존 Trace ID를 승계하여 로그 추적성을 유지하며 서비스를 다시 시작합니다.
+      // 기존 Trace ID를 승계하여 같은 WorkflowRun을 이어서 실행합니다.
+      // 이미 성공한 Job은 건너뛰고, 완료를 기다리던 비동기 Task는 다시 제출하지 않고 이어서 기다립니다.
       RequestContextDto recoveryContext = RequestContextDto.forRecovery(run.getTraceId());
 
-      workflowExecutionService.executeWorkflow(run.getWorkflowId(), recoveryContext);
+      workflowExecutionService.resumeWorkflow(run, recoveryContext);
       log.info(
-          "[복구 2단계] 워크플로우 재실행 요청 완료: WorkflowID={}, TraceID={}",
+          "워크플로우 재개 요청 완료: RunID={}, WorkflowID={}, TraceID={}",
+          run.getId(),
           run.getWorkflowId(),
           run.getTraceId());
 
@@ -0,0 +1,22 @@
+package site.icebang.global.config.async;
+
+import java.util.Locale;
+
+/**
+ * 워크플로우 실행이 대기열에서 실행 허가를 받는 우선순위입니다. 선언된 순서대로 우선순위가 높습니다.
+ *
+ * @since v0.1.0
+ */
+public enum AdmissionPriority {
+  /** 사용자가 직접 요청한 실행 */
+  MANUAL,
+  /** Quartz 스케줄에 의해 시작된 실행 */
+  SCHEDULED,
+  /** 서버 재시작 후 중단된 실행을 이어서 하는 복구 실행 */
+  RECOVERY;
+
+  /** 메트릭 태그에 사용할 이름 (예: "manual") */
+  public String tagValue() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -7,36 +7,44 @@ import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
-import org.springframework.core.task.TaskDecorator;
 import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Configuration
 @EnableAsync
-@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
-  private final SemaphoreTaskDecorator semaphoreTaskDecorator;
-
+  /**
+   * 워크플로우 실행 스레드를 만드는 Executor입니다.
+   *
+   * <p>동시 실행 수 제한과 대기는 {@link WorkflowAdmissionQueue}가 담당하며, 허가를 받은 실행만 이 Executor에 전달되므로 허가를
+   * 기다리는 동안에는 스레드가 만들어지지 않습니다. MDC 등 컨텍스트는 대기열이 실행을 요청한 스레드에서 미리 복사해 둡니다.
+   */
   @Bean("traceExecutor")
   public Executor traceExecutor() {
     SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
     executor.setVirtualThreads(true);
     executor.setThreadNamePrefix("trace-");
+    return executor;
+  }
 
-    // MDC 전파 데코레이터 생성
-    TaskDecorator contextDecorator = new ContextPropagatingTaskDecorator();
-
-    // 두 데코레이터의 조합:
-    // Context 설정(MDC 복사) 후 Semaphore 제어가 적용되도록 구성
-    executor.setTaskDecorator(
-        runnable -> contextDecorator.decorate(semaphoreTaskDecorator.decorate(runnable)));
-
+  /**
+   * Job 내부에서 서로 독립적인 Task들을 병렬로 실행하기 위한 Executor입니다.
+   *
+   * <p>워크플로우 실행 스레드는 이미 {@link WorkflowAdmissionQueue}에서 허가(permit)를 받았으므로, 하위 Task에는 허가를
+   * 다시 적용하지 않습니다. (부모가 허가를 보유한 채 자식이 허가를 기다리는 교착 상태 방지) 동시 실행 수는 {@code
+   * workflow.execution.task-parallelism} 설정으로 제한됩니다.
+   */
+  @Bean("workflowTaskExecutor")
+  public Executor workflowTaskExecutor() {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+    executor.setVirtualThreads(true);
+    executor.setThreadNamePrefix("task-");
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
     return executor;
   }
 
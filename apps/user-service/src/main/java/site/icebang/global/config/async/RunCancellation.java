@@ -0,0 +1,179 @@
+package site.icebang.global.config.async;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 워크플로우 실행 하나의 취소 상태입니다.
+ *
+ * <p>실행을 위해 일하는 스레드는 {@link #runBound(Supplier)}로 이 객체를 바인딩하며, 바인딩된 스레드에서는 {@link #current()}로
+ * 꺼내어 사용할 수 있습니다. 실행이 취소되면({@link #cancel(String)}) 바인딩된 스레드를 모두 인터럽트하고, 진행 중인 HTTP 요청처럼
+ * 인터럽트로 멈추지 않는 작업은 {@link #abortOnCancel(Object, Consumer)}로 등록한 방법으로 중단합니다.
+ *
+ * <p>스레드는 바인딩된 동안에만 인터럽트되며, 바인딩이 풀릴 때 남은 인터럽트 상태를 지우므로 취소가 실행과 관계없는 작업으로 번지지 않습니다.
+ *
+ * @since v0.1.0
+ */
+public final class RunCancellation {
+
+  private static final ThreadLocal<RunCancellation> CURRENT = new ThreadLocal<>();
+
+  private final Long workflowRunId;
+  private final Instant deadline;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Set<Thread> threads = new HashSet<>();
+
+  /** 중단할 자원과 중단 방법. 끝난 요청은 참조가 사라지면 함께 제거됩니다. */
+  private final Map<Object, Consumer<Object>> aborts = new WeakHashMap<>();
+
+  private volatile String reason;
+
+  /**
+   * @param workflowRunId 워크플로우 실행 ID
+   * @param deadline 실행 마감 시각 (없으면 null)
+   */
+  public RunCancellation(Long workflowRunId, Instant deadline) {
+    this.workflowRunId = workflowRunId;
+    this.deadline = deadline;
+  }
+
+  /**
+   * 현재 스레드에 바인딩된 취소 상태를 반환합니다.
+   *
+   * @return 취소 상태, 워크플로우 실행 밖에서 호출하면 null
+   */
+  public static RunCancellation current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 현재 스레드에 바인딩된 취소 상태를 다른 스레드에서도 사용할 수 있도록 작업을 감쌉니다.
+   *
+   * @param action 다른 스레드에서 실행할 작업
+   * @return 바인딩된 취소 상태가 있으면 바인딩한 뒤 실행하는 작업, 없으면 원래 작업
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> action) {
+    RunCancellation cancellation = CURRENT.get();
+    return cancellation != null ? () -> cancellation.runBound(action) : action;
+  }
+
+  /** 현재 스레드에 바인딩한 뒤 작업을 실행합니다. 실행 중에 취소되면 이 스레드를 인터럽트합니다. */
+  public <T> T runBound(Supplier<T> action) {
+    RunCancellation previous = CURRENT.get();
+    if (previous == this) {
+      return action.get();
+    }
+    Thread thread = Thread.currentThread();
+    lock.lock();
+    try {
+      threads.add(thread);
+      if (reason != null) {
+        thread.interrupt();
+      }
+    } finally {
+      lock.unlock();
+    }
+    CURRENT.set(this);
+    try {
+      return action.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+      lock.lock();
+      try {
+        threads.remove(thread);
+        if (reason != null) {
+          // 📌 취소로 생긴 인터럽트 상태가 이 스레드의 다음 작업에 남지 않도록 지웁니다.
+          Thread.interrupted();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * 실행이 취소되면 자원을 중단하도록 등록합니다. 이미 취소되었으면 바로 중단합니다.
+   *
+   * <p>자원은 약하게 참조되므로, 끝난 요청을 따로 등록 해제하지 않아도 됩니다. 중단 방법이 자원을 다시 참조하지 않도록 메서드 참조를 사용해야
+   * 합니다. (예: {@code HttpUriRequestBase::cancel})
+   *
+   * @param resource 중단할 자원 (예: 진행 중인 HTTP 요청)
+   * @param abort 자원을 중단하는 방법
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void abortOnCancel(T resource, Consumer<? super T> abort) {
+    lock.lock();
+    try {
+      if (reason == null) {
+        aborts.put(resource, (Consumer<Object>) abort);
+        return;
+      }
+    } finally {
+      lock.unlock();
+    }
+    abort.accept(resource);
+  }
+
+  /**
+   * 실행을 취소합니다. 바인딩된 스레드를 인터럽트하고 등록된 자원을 중단합니다.
+   *
+   * @param reason 취소 사유 (예: "사용자 요청")
+   * @return 이번 호출로 취소되었으면 true, 이미 취소된 실행이면 false
+   */
+  public boolean cancel(String reason) {
+    List<Map.Entry<Object, Consumer<Object>>> toAbort;
+    lock.lock();
+    try {
+      if (this.reason != null) {
+        return false;
+      }
+      this.reason = reason;
+      threads.forEach(Thread::interrupt);
+      toAbort = new ArrayList<>(aborts.entrySet());
+      aborts.clear();
+    } finally {
+      lock.unlock();
+    }
+    toAbort.forEach(entry -> entry.getValue().accept(entry.getKey()));
+    return true;
+  }
+
+  /** 실행이 취소되었는지 확인합니다. */
+  public boolean isCancelled() {
+    return reason != null;
+  }
+
+  /**
+   * 취소 사유를 반환합니다.
+   *
+   * @return 취소 사유, 취소되지 않았으면 null
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  /** 마감 시각이 지났는지 확인합니다. */
+  public boolean isPastDeadline(Instant now) {
+    return deadline != null && !now.isBefore(deadline);
+  }
+
+  public Long getWorkflowRunId() {
+    return workflowRunId;
+  }
+
+  public Instant getDeadline() {
+    return deadline;
+  }
+}
@@ -0,0 +1,119 @@
+package site.icebang.global.config.async;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 워크플로우 실행 하나가 보유한 동시 실행 허가(permit)입니다.
+ *
+ * <p>{@link WorkflowAdmissionQueue}가 허가를 받은 워크플로우 실행 스레드에 이 객체를 {@link #current()}로 노출합니다.
+ * 실행 중인 Task가 모두 외부 작업의 완료를 기다리는 중({@link #suspend()})이면 허가를 반납하여 다른 워크플로우가 실행될 수 있도록 하고, 대기 중이던
+ * Task가 깨어나거나({@link #resume()}) 새 Task가 시작되면({@link #enter()}) 허가를 다시 얻습니다.
+ *
+ * <p>허가를 다시 얻을 때는 다른 워크플로우가 허가를 반납할 때까지 기다릴 수 있으며, 대기열에서 기다리는 새 실행보다 먼저 허가를 받습니다.
+ *
+ * @since v0.1.0
+ */
+public final class RunPermit {
+
+  private static final ThreadLocal<RunPermit> CURRENT = new ThreadLocal<>();
+
+  private final WorkflowAdmissionQueue admissionQueue;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private boolean held = true;
+  private int running;
+  private int suspended;
+
+  RunPermit(WorkflowAdmissionQueue admissionQueue) {
+    this.admissionQueue = admissionQueue;
+  }
+
+  /**
+   * 현재 스레드에서 실행 중인 워크플로우의 허가를 반환합니다.
+   *
+   * @return 허가, {@code traceExecutor} 밖에서 호출하면 null
+   */
+  public static RunPermit current() {
+    return CURRENT.get();
+  }
+
+  static void bind(RunPermit permit) {
+    CURRENT.set(permit);
+  }
+
+  static void unbind() {
+    CURRENT.remove();
+  }
+
+  /** Task 실행을 시작합니다. 허가를 반납한 상태라면 다시 얻을 때까지 기다립니다. */
+  public void enter() {
+    lock.lock();
+    try {
+      running++;
+      reacquireIfReleased();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Task 실행을 마칩니다. */
+  public void exit() {
+    lock.lock();
+    try {
+      running--;
+      releaseIfAllSuspended();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 현재 Task가 외부 작업을 기다리기 시작합니다. 실행 중인 모든 Task가 기다리는 중이면 허가를 반납합니다. */
+  public void suspend() {
+    lock.lock();
+    try {
+      suspended++;
+      releaseIfAllSuspended();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 기다리던 Task가 실행을 이어갑니다. 허가를 반납한 상태라면 다시 얻을 때까지 기다립니다. */
+  public void resume() {
+    lock.lock();
+    try {
+      suspended--;
+      reacquireIfReleased();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 워크플로우 실행이 끝났을 때 보유 중인 허가를 반납합니다. */
+  void close() {
+    lock.lock();
+    try {
+      if (held) {
+        held = false;
+        admissionQueue.release();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void releaseIfAllSuspended() {
+    if (held && suspended > 0 && suspended == running) {
+      held = false;
+      admissionQueue.release();
+    }
+  }
+
+  private void reacquireIfReleased() {
+    if (!held && running > suspended) {
+      // 같은 실행의 다른 Task는 이 허가를 기다리므로, 인터럽트와 관계없이 허가를 얻습니다.
+      admissionQueue.reacquire();
+      held = true;
+    }
+  }
+}
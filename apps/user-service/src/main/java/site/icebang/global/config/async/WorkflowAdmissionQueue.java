@@ -0,0 +1,330 @@
+package site.icebang.global.config.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.exception.WorkflowAdmissionRejectedException;
+import site.icebang.global.config.mybatis.DbConcurrencyInterceptor;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 워크플로우 실행의 동시 실행 수를 제한하고, 허가를 기다리는 실행을 우선순위에 따라 관리하는 대기열입니다.
+ *
+ * <p>동시에 실행될 수 있는 워크플로우 수는 {@code max-concurrent-runs}입니다. 허가를 받지 못한 실행은 스레드를 만들지 않고 대기열에서
+ * 기다리며, 허가가 반납되면 우선순위가 높은 실행부터({@link AdmissionPriority}), 같은 우선순위에서는 먼저 요청된 실행부터 {@code
+ * traceExecutor}에서 시작됩니다. DB 커넥션은 실행 허가와 별개로 {@link DbConcurrencyInterceptor}가 매퍼 호출 동안에만 제한합니다.
+ *
+ * <ul>
+ *   <li>외부 작업을 기다리느라 허가를 반납했던 실행({@link RunPermit})이 허가를 다시 요청하면, 대기열의 새 실행보다 먼저 허가를 받습니다.
+ *   <li>대기열이 {@code max-queue-size}만큼 차면 {@code rejection-policy}에 따라 새 실행을 거절하거나, 더 낮은 우선순위의
+ *       가장 늦게 들어온 실행을 대기열에서 빼고 새 실행을 넣습니다.
+ *   <li>대기열에서 빠진 실행은 요청할 때 함께 넘긴 {@code onDropped}로 알려, 실행을 요청한 쪽이 실행 기록과 임대를 정리하게 합니다.
+ *   <li>서버가 종료를 시작하면({@link #close()}) 새 실행을 받지 않고, 허가를 기다리던 실행도 시작하지 않습니다.
+ * </ul>
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.admission.queue.depth}: 허가를 기다리는 실행 수 (태그: priority)
+ *   <li>{@code workflow.admission.wait}: 실행을 요청하고 허가를 받기까지 기다린 시간 (태그: priority)
+ *   <li>{@code workflow.admission.rejected}: 거절되거나 대기열에서 빠진 실행 수 (태그: priority, reason)
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowAdmissionQueue {
+
+  private final WorkflowExecutionProperties executionProperties;
+  private final MeterRegistry meterRegistry;
+  private final Executor traceExecutor;
+
+  private final TaskDecorator contextDecorator = new ContextPropagatingTaskDecorator();
+  private final Map<AdmissionPriority, Deque<Pending>> waiting =
+      new EnumMap<>(AdmissionPriority.class);
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+
+  private int available;
+  private int queued;
+  private int reacquiring;
+  private boolean closed;
+
+  @PostConstruct
+  public void init() {
+    WorkflowExecutionProperties.Admission config = executionProperties.getAdmission();
+    available = config.getMaxConcurrentRuns();
+    for (AdmissionPriority priority : AdmissionPriority.values()) {
+      waiting.put(priority, new ArrayDeque<>());
+      Gauge.builder("workflow.admission.queue.depth", this, queue -> queue.depth(priority))
+          .description("허가를 기다리는 워크플로우 실행 수")
+          .tag("priority", priority.tagValue())
+          .register(meterRegistry);
+    }
+    log.info(
+        "WorkflowAdmissionQueue 초기화: 동시 실행 제한 수({}), 대기열 크기({})",
+        config.getMaxConcurrentRuns(),
+        config.getMaxQueueSize());
+  }
+
+  /**
+   * 워크플로우 실행을 요청합니다. 허가가 남아 있으면 바로 시작하고, 없으면 대기열에 넣습니다.
+   *
+   * <p>실행의 MDC 등 컨텍스트는 이 메서드를 호출한 스레드에서 복사됩니다.
+   *
+   * @param priority 실행의 우선순위
+   * @param run 로그와 예외 메시지에 사용할 실행 설명 (예: "WorkflowId=1")
+   * @param task 허가를 받은 뒤 실행할 작업
+   * @throws WorkflowAdmissionRejectedException 대기열이 가득 차 실행을 받을 수 없는 경우
+   */
+  public void submit(AdmissionPriority priority, String run, Runnable task) {
+    submit(priority, run, task, () -> {});
+  }
+
+  /**
+   * 워크플로우 실행을 요청합니다. 허가를 받기 전에 대기열에서 빠지면 {@code onDropped}를 호출합니다.
+   *
+   * <p>{@code onDropped}는 더 높은 우선순위의 실행에 밀려나거나({@code DROP_LOWEST}) 서버 종료로 대기열이 닫힐 때({@link
+   * #close()}), 이를 일으킨 스레드에서 잠금 밖에서 호출됩니다. 호출될 때 {@link #isClosed()}로 둘 중 어느 경우인지 구분할 수 있습니다.
+   *
+   * @param priority 실행의 우선순위
+   * @param run 로그와 예외 메시지에 사용할 실행 설명 (예: "WorkflowId=1")
+   * @param task 허가를 받은 뒤 실행할 작업
+   * @param onDropped 허가를 받지 못하고 대기열에서 빠졌을 때 실행할 정리 작업
+   * @throws WorkflowAdmissionRejectedException 대기열이 가득 차 실행을 받을 수 없는 경우
+   */
+  public void submit(AdmissionPriority priority, String run, Runnable task, Runnable onDropped) {
+    Pending pending =
+        new Pending(
+            priority,
+            run,
+            contextDecorator.decorate(task),
+            contextDecorator.decorate(onDropped),
+            System.nanoTime());
+    WorkflowExecutionProperties.Admission config = executionProperties.getAdmission();
+    Pending evicted = null;
+    lock.lock();
+    try {
+      if (closed) {
+        recordRejected(priority, "shutdown");
+        throw WorkflowAdmissionRejectedException.shuttingDown(run, priority);
+      }
+      if (queued >= config.getMaxQueueSize() && !canStartImmediately()) {
+        if (config.getRejectionPolicy()
+            == WorkflowExecutionProperties.Admission.RejectionPolicy.DROP_LOWEST) {
+          evicted = evictLowerThan(priority);
+        }
+        if (evicted == null) {
+          recordRejected(priority, "queue_full");
+          throw new WorkflowAdmissionRejectedException(run, priority);
+        }
+      }
+      waiting.get(priority).addLast(pending);
+      queued++;
+    } finally {
+      lock.unlock();
+    }
+
+    if (evicted != null) {
+      recordRejected(evicted.priority(), "evicted");
+      log.warn(
+          "대기열이 가득 차 우선순위가 낮은 워크플로우 실행을 대기열에서 뺐습니다: {}, Priority={}",
+          evicted.run(),
+          evicted.priority());
+      notifyDropped(evicted);
+    }
+    dispatch();
+  }
+
+  /**
+   * 허가를 기다리는 실행 수를 반환합니다.
+   *
+   * @param priority 우선순위
+   * @return 해당 우선순위로 기다리는 실행 수
+   */
+  public int depth(AdmissionPriority priority) {
+    lock.lock();
+    try {
+      return waiting.get(priority).size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 새 실행을 더 이상 받지 않고, 허가를 기다리던 실행을 대기열에서 뺍니다. 이미 시작된 실행은 그대로 진행됩니다.
+   *
+   * <p>대기열에서 빠진 실행마다 요청할 때 넘긴 {@code onDropped}를 호출합니다.
+   *
+   * @return 대기열에서 뺀 실행 수
+   */
+  public int close() {
+    List<Pending> dropped = new ArrayList<>();
+    lock.lock();
+    try {
+      closed = true;
+      waiting.values().forEach(dropped::addAll);
+      waiting.values().forEach(Deque::clear);
+      queued = 0;
+    } finally {
+      lock.unlock();
+    }
+    dropped.forEach(pending -> recordRejected(pending.priority(), "shutdown"));
+    if (!dropped.isEmpty()) {
+      log.warn("서버 종료로 허가를 기다리던 워크플로우 실행 {}건을 대기열에서 뺐습니다.", dropped.size());
+    }
+    dropped.forEach(this::notifyDropped);
+    return dropped.size();
+  }
+
+  /** 서버 종료로 새 실행을 받지 않는 상태인지 확인합니다. */
+  public boolean isClosed() {
+    lock.lock();
+    try {
+      return closed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 실행이 반납한 허가를 돌려받고, 다시 요청한 실행이나 대기열의 실행에 넘겨줍니다. */
+  void release() {
+    lock.lock();
+    try {
+      available++;
+      permitReleased.signal();
+    } finally {
+      lock.unlock();
+    }
+    dispatch();
+  }
+
+  /** 반납했던 허가를 다시 얻습니다. 대기열의 새 실행보다 먼저 허가를 받으며, 인터럽트와 관계없이 허가를 얻을 때까지 기다립니다. */
+  void reacquire() {
+    lock.lock();
+    try {
+      reacquiring++;
+      while (available == 0) {
+        permitReleased.awaitUninterruptibly();
+      }
+      available--;
+      reacquiring--;
+    } finally {
+      lock.unlock();
+    }
+    // 📌 여러 허가가 한꺼번에 반납되었다면 남은 허가로 대기열의 실행을 시작합니다.
+    dispatch();
+  }
+
+  private boolean canStartImmediately() {
+    return queued == 0 && reacquiring == 0 && available > 0;
+  }
+
+  private Pending evictLowerThan(AdmissionPriority priority) {
+    AdmissionPriority[] priorities = AdmissionPriority.values();
+    for (int i = priorities.length - 1; i > priority.ordinal(); i--) {
+      Pending evicted = waiting.get(priorities[i]).pollLast();
+      if (evicted != null) {
+        queued--;
+        return evicted;
+      }
+    }
+    return null;
+  }
+
+  private void dispatch() {
+    List<Pending> ready = new ArrayList<>();
+    lock.lock();
+    try {
+      while (reacquiring == 0 && available > 0 && queued > 0) {
+        for (AdmissionPriority priority : AdmissionPriority.values()) {
+          Pending next = waiting.get(priority).pollFirst();
+          if (next != null) {
+            ready.add(next);
+            break;
+          }
+        }
+        available--;
+        queued--;
+      }
+    } finally {
+      lock.unlock();
+    }
+    ready.forEach(this::start);
+  }
+
+  private void start(Pending pending) {
+    Timer.builder("workflow.admission.wait")
+        .description("워크플로우 실행이 허가를 받기까지 기다린 시간")
+        .tag("priority", pending.priority().tagValue())
+        .register(meterRegistry)
+        .record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+    RunPermit permit = new RunPermit(this);
+    try {
+      traceExecutor.execute(() -> run(pending, permit));
+    } catch (RuntimeException e) {
+      log.error("워크플로우 실행 스레드 시작 실패: {}", pending.run(), e);
+      permit.close();
+    }
+  }
+
+  private void run(Pending pending, RunPermit permit) {
+    // 📌 외부 작업을 기다리는 동안 허가를 반납할 수 있도록 RunPermit으로 노출합니다.
+    RunPermit.bind(permit);
+    try {
+      pending.task().run();
+    } catch (RuntimeException e) {
+      log.error("워크플로우 실행 중 처리되지 않은 예외 발생: {}", pending.run(), e);
+    } finally {
+      RunPermit.unbind();
+      permit.close();
+    }
+  }
+
+  private void notifyDropped(Pending pending) {
+    try {
+      pending.onDropped().run();
+    } catch (RuntimeException e) {
+      log.error("대기열에서 빠진 워크플로우 실행 정리 실패: {}", pending.run(), e);
+    }
+  }
+
+  private void recordRejected(AdmissionPriority priority, String reason) {
+    Counter.builder("workflow.admission.rejected")
+        .description("대기열이 가득 차 거절되거나 대기열에서 빠진 워크플로우 실행 수")
+        .tag("priority", priority.tagValue())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private record Pending(
+      AdmissionPriority priority,
+      String run,
+      Runnable task,
+      Runnable onDropped,
+      long enqueuedAt) {}
+}
@@ -0,0 +1,160 @@
+package site.icebang.global.config.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * FastAPI 서버와 통신하는 HTTP 클라이언트를 구성하는 설정 클래스입니다.
+ *
+ * <p>기본적으로 Apache HttpClient 5의 커넥션 풀을 사용하여, 동시에 실행되는 많은 Task가 매번 새 커넥션을 맺지 않고 Keep-alive
+ * 커넥션을 재사용하도록 합니다. 풀 크기, 라우트별 최대 커넥션 수, 유휴 커넥션 정리 주기, Keep-alive 시간은 {@code
+ * api.fastapi.pool} 설정으로 조정하며, 풀 상태(사용 중/유휴/대기 커넥션 수)는 {@code httpcomponents.httpclient.pool.*}
+ * 메트릭으로 Prometheus에 노출됩니다.
+ *
+ * <p>{@code api.fastapi.http2}를 true로 설정하면 HTTP/2를 지원하는 JDK HttpClient를 대신 사용합니다. 이 경우 하나의 커넥션에서
+ * 요청이 다중화되며, 커넥션 관리는 JDK HttpClient가 담당하므로 풀 메트릭은 노출되지 않습니다.
+ *
+ * <p>응답 타임아웃은 요청마다 {@link RequestTimeoutContext}에 설정된 값을 사용하고, 설정되지 않은 요청에는 {@code
+ * api.fastapi.timeout}을 적용합니다.
+ *
+ * <p>워크플로우 실행({@link RunCancellation})을 위해 보낸 요청은 실행이 취소되면 응답을 기다리는 도중에도 커넥션을 끊어 중단합니다. JDK
+ * HttpClient는 요청을 보낸 스레드가 인터럽트되면 응답을 기다리지 않고 끝나므로 따로 등록하지 않습니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Configuration
+public class FastApiClientConfig {
+
+  /**
+   * FastAPI 통신에 사용할 {@code ClientHttpRequestFactory}를 생성합니다.
+   *
+   * @param properties FastAPI 연동 설정
+   * @param meterRegistry 풀 메트릭을 등록할 레지스트리 (없으면 메트릭을 등록하지 않음)
+   * @return 커넥션 풀 또는 HTTP/2가 적용된 요청 팩토리
+   */
+  @Bean
+  public ClientHttpRequestFactory fastApiRequestFactory(
+      FastApiProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    Duration connectTimeout = Duration.ofMillis(properties.getConnectTimeoutMs());
+    Duration defaultTimeout = Duration.ofMillis(properties.getTimeout());
+    if (properties.isHttp2()) {
+      log.info("FastAPI 클라이언트: HTTP/2 (JDK HttpClient)");
+      return http2RequestFactory(connectTimeout, defaultTimeout);
+    }
+
+    FastApiProperties.Pool pool = properties.getPool();
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    // 서버가 먼저 닫았을 수 있는 유휴 커넥션은 재사용 전에 검사합니다.
+                    .setValidateAfterInactivity(
+                        TimeValue.ofMilliseconds(pool.getValidateAfterInactivityMs()))
+                    .build())
+            .build();
+    meterRegistry.ifAvailable(
+        registry ->
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "fastapi")
+                .bindTo(registry));
+
+    TimeValue maxKeepAlive = TimeValue.ofMilliseconds(pool.getKeepAliveMs());
+    CloseableHttpClient httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            // 서버가 알려준 Keep-alive 시간과 설정값 중 짧은 쪽을 사용합니다.
+            .setKeepAliveStrategy(
+                (response, context) -> {
+                  TimeValue fromServer =
+                      DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(
+                          response, context);
+                  return fromServer.min(maxKeepAlive);
+                })
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictMs()))
+            // 재시도는 TaskExecutionService의 RetryTemplate이 담당하므로 클라이언트 자체 재시도는 끕니다.
+            .disableAutomaticRetries()
+            // 응답 압축은 FastApiAdapter가 엔드포인트별로 협상하고 풀어서 읽으므로 클라이언트의 자동 압축 해제는 끕니다.
+            .disableContentCompression()
+            .build();
+
+    log.info(
+        "FastAPI 클라이언트: 커넥션 풀 (MaxTotal={}, MaxPerRoute={}, KeepAlive={}ms)",
+        pool.getMaxTotal(),
+        pool.getMaxPerRoute(),
+        pool.getKeepAliveMs());
+    HttpComponentsClientHttpRequestFactory requestFactory =
+        new HttpComponentsClientHttpRequestFactory(httpClient) {
+          @Override
+          protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+            ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+            RunCancellation cancellation = RunCancellation.current();
+            if (cancellation != null && request instanceof HttpUriRequestBase cancellable) {
+              // 📌 블로킹 소켓 읽기는 인터럽트로 멈추지 않으므로, 취소되면 요청을 중단하여 커넥션을 끊습니다.
+              cancellation.abortOnCancel(cancellable, HttpUriRequestBase::cancel);
+            }
+            return request;
+          }
+        };
+    requestFactory.setHttpContextFactory(
+        (method, uri) -> {
+          Duration timeout = RequestTimeoutContext.current();
+          HttpClientContext context = HttpClientContext.create();
+          context.setRequestConfig(
+              RequestConfig.custom()
+                  .setResponseTimeout(Timeout.of(timeout != null ? timeout : defaultTimeout))
+                  // 풀에서 커넥션을 기다리는 시간도 커넥션 타임아웃으로 제한합니다.
+                  .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                  .build());
+          return context;
+        });
+    return requestFactory;
+  }
+
+  private ClientHttpRequestFactory http2RequestFactory(
+      Duration connectTimeout, Duration defaultTimeout) {
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .build();
+    // JDK 요청 팩토리는 타임아웃을 팩토리 단위로만 설정할 수 있으므로, 공유 HttpClient를 감싸는 팩토리를 요청마다 만듭니다.
+    return (uri, method) -> {
+      Duration timeout = RequestTimeoutContext.current();
+      JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+      requestFactory.setReadTimeout(timeout != null ? timeout : defaultTimeout);
+      return requestFactory.createRequest(uri, method);
+    };
+  }
+}
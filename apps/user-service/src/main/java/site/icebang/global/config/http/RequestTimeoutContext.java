@@ -0,0 +1,50 @@
+package site.icebang.global.config.http;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 보내는 HTTP 요청에 적용할 응답 타임아웃을 전달하는 컨텍스트입니다.
+ *
+ * <p>{@code RestClient}는 요청별 타임아웃을 지정하는 방법을 제공하지 않으므로, 호출하는 쪽에서 이 컨텍스트에 타임아웃을 설정하면 {@link
+ * FastApiClientConfig}의 요청 팩토리가 요청을 만들 때 읽어서 적용합니다. 요청은 호출한 스레드에서 동기적으로 실행되므로 스레드 로컬로
+ * 충분합니다.
+ *
+ * @since v0.1.0
+ */
+public final class RequestTimeoutContext {
+
+  private static final ThreadLocal<Duration> CURRENT = new ThreadLocal<>();
+
+  private RequestTimeoutContext() {}
+
+  /**
+   * 지정된 타임아웃을 적용한 상태로 요청을 실행합니다.
+   *
+   * @param timeout 응답 타임아웃 (null이면 기본값 사용)
+   * @param call 실행할 요청
+   * @return 요청 결과
+   */
+  public static <T> T with(Duration timeout, Supplier<T> call) {
+    Duration previous = CURRENT.get();
+    CURRENT.set(timeout);
+    try {
+      return call.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * 현재 스레드에 설정된 응답 타임아웃을 반환합니다.
+   *
+   * @return 응답 타임아웃, 설정되지 않았으면 null
+   */
+  public static Duration current() {
+    return CURRENT.get();
+  }
+}
@@ -0,0 +1,156 @@
+package site.icebang.global.config.mybatis;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 백그라운드 작업(워크플로우 실행, 스케줄러, 지연 기록 등)이 동시에 사용하는 DB 커넥션 수를 제한하는 MyBatis 인터셉터입니다.
+ *
+ * <p>허가는 매퍼 호출 동안에만 보유하므로, 워크플로우가 FastAPI 응답을 기다리는 동안에는 DB 몫의 허가를 차지하지 않습니다. 트랜잭션 안에서 호출된
+ * 매퍼는 트랜잭션이 끝날 때까지 커넥션을 붙잡고 있으므로, 첫 매퍼 호출에서 얻은 허가를 트랜잭션이 끝날 때 반납합니다.
+ *
+ * <p>HTTP 요청을 처리하는 스레드는 제한하지 않습니다. 허가 수를 커넥션 풀 크기보다 작게 두면, 워크플로우가 몰려도 API 요청이 사용할 커넥션이
+ * 남습니다.
+ *
+ * <h2>메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.db.permits.available}: 남은 DB 허가 수
+ *   <li>{@code workflow.db.permit.wait}: DB 허가를 얻기까지 기다린 시간
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      })
+})
+public class DbConcurrencyInterceptor implements Interceptor {
+
+  private static final int SAFETY_BUFFER = 5;
+
+  private final WorkflowExecutionProperties executionProperties;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+  private int maximumPoolSize;
+
+  private Semaphore permits;
+  private Timer waitTimer;
+
+  @PostConstruct
+  public void init() {
+    Integer configured = executionProperties.getDbConcurrency().getMaxConcurrentCalls();
+    int limit = configured != null ? configured : Math.max(1, maximumPoolSize - SAFETY_BUFFER);
+    permits = new Semaphore(limit, true);
+
+    Gauge.builder("workflow.db.permits.available", permits, Semaphore::availablePermits)
+        .description("백그라운드 작업이 사용할 수 있는 남은 DB 허가 수")
+        .register(meterRegistry);
+    waitTimer =
+        Timer.builder("workflow.db.permit.wait")
+            .description("백그라운드 작업이 DB 허가를 얻기까지 기다린 시간")
+            .register(meterRegistry);
+    log.info(
+        "DbConcurrencyInterceptor 초기화: DB 풀({}), 백그라운드 DB 동시 사용 제한 수({})", maximumPoolSize, limit);
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if (!executionProperties.getDbConcurrency().isEnabled()
+        || RequestContextHolder.getRequestAttributes() != null) {
+      return invocation.proceed();
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // 📌 트랜잭션은 끝날 때까지 커넥션을 보유하므로, 허가도 트랜잭션이 끝날 때 반납합니다.
+      if (!TransactionSynchronizationManager.hasResource(this)) {
+        acquire();
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new PermitRelease());
+      }
+      return invocation.proceed();
+    }
+
+    acquire();
+    try {
+      return invocation.proceed();
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void acquire() {
+    long maxWaitMs = executionProperties.getDbConcurrency().getMaxWaitMs();
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TransientDataAccessResourceException("DB 허가를 기다리는 중 인터럽트 발생", e);
+    } finally {
+      waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    if (!acquired) {
+      throw new TransientDataAccessResourceException(
+          String.format("DB 허가를 %dms 안에 얻지 못했습니다.", maxWaitMs));
+    }
+  }
+
+  /** 트랜잭션이 끝나면 트랜잭션이 보유한 허가를 반납합니다. */
+  private final class PermitRelease implements TransactionSynchronization {
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(DbConcurrencyInterceptor.this);
+      permits.release();
+    }
+  }
+}
@@ -1,10 +1,22 @@
 package site.icebang.global.config.properties;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -50,9 +62,376 @@ public class FastApiProperties {
   private String url;
 
   /**
-   * API 호출 시 적용될 타임아웃 시간 (밀리초 단위)입니다.
+   * 요청을 나누어 보낼 FastAPI 인스턴스들의 기본 URL 목록입니다.
    *
-   * <p>별도로 설정하지 않을 경우 기본값으로 5000ms (5초)가 적용됩니다.
+   * <p>비어 있으면 {@link #url} 하나만 사용합니다. 여러 개를 설정하면 진행 중인 요청이 가장 적은 인스턴스로 요청을 보냅니다. (예:
+   * "http://fastapi-1:8000,http://fastapi-2:8000")
    */
+  private List<String> instances = new ArrayList<>();
+
+  /** 여러 인스턴스 사이의 부하 분산, 장애 인스턴스 제외, 헬스 체크 설정입니다. */
+  @Valid private LoadBalancing loadBalancing = new LoadBalancing();
+
+  /**
+   * API 호출 시 적용될 기본 응답 타임아웃 시간 (밀리초 단위)입니다.
+   *
+   * <p>Task 파라미터의 {@code timeout_ms}, 엔드포인트별 설정, 적응형 타임아웃이 모두 없을 때 적용됩니다. 별도로 설정하지 않을 경우
+   * 기본값으로 5000ms (5초)가 적용됩니다.
+   */
+  @Min(1)
   private int timeout = 5000; // 기본값 5초 설정
+
+  /** FastAPI 서버와 커넥션을 맺을 때의 타임아웃 (밀리초 단위)입니다. 풀에서 커넥션을 기다리는 시간에도 적용됩니다. */
+  @Min(1)
+  private long connectTimeoutMs = 5000;
+
+  /**
+   * 엔드포인트별 설정입니다. 키는 엔드포인트 경로이며, yml에서는 {@code "[/products/crawl]"}처럼 대괄호로 감싸야 합니다.
+   *
+   * <pre>{@code
+   * endpoints:
+   *   "[/products/crawl]":
+   *     timeout-ms: 120000
+   * }</pre>
+   */
+  @Valid private Map<String, Endpoint> endpoints = new HashMap<>();
+
+  /** 엔드포인트별 관측된 응답 시간으로 타임아웃을 정하는 적응형 타임아웃 설정입니다. */
+  @Valid private AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout();
+
+  /** 엔드포인트별로 적용되는 서킷 브레이커 설정입니다. */
+  @Valid private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+  /** 엔드포인트별로 적용되는 동시 호출 제한(Bulkhead) 설정입니다. */
+  @Valid private Bulkhead bulkhead = new Bulkhead();
+
+  /**
+   * FastAPI 응답으로 허용할 최대 크기 (바이트 단위)입니다.
+   *
+   * <p>응답은 스트리밍으로 파싱되며, 이 크기를 넘는 순간 읽기를 중단하고 Task를 실패 처리합니다. Task 파라미터의 {@code
+   * max_response_bytes}로 Task별로 덮어쓸 수 있습니다. 기본값은 16MB입니다.
+   */
+  @Min(1)
+  private long maxResponseBytes = 16L * 1024 * 1024;
+
+  /**
+   * FastAPI 서버와 HTTP/2로 통신할지 여부입니다.
+   *
+   * <p>true로 설정하면 커넥션 풀 대신 JDK HttpClient의 HTTP/2 다중화를 사용합니다. 서버가 HTTP/2를 지원하지 않으면 HTTP/1.1로
+   * 통신합니다. 기본값은 false입니다.
+   */
+  private boolean http2 = false;
+
+  /** 요청/응답 Body 압축 설정입니다. 엔드포인트별 설정으로 덮어쓸 수 있습니다. */
+  @Valid private Compression compression = new Compression();
+
+  /** HTTP/1.1 커넥션 풀 설정입니다. */
+  @Valid private Pool pool = new Pool();
+
+  /** 멱등(idempotent) Task의 요청이 늦어질 때 같은 요청을 한 번 더 보내는 헤징(Hedging) 설정입니다. */
+  @Valid private Hedging hedging = new Hedging();
+
+  /** 동시에 실행되는 같은 멱등 요청을 하나로 합치는 설정입니다. */
+  @Valid private SingleFlight singleFlight = new SingleFlight();
+
+  /** 오래 걸리는 작업을 제출한 뒤 완료를 기다리는 비동기 실행 모드 설정입니다. */
+  @Valid private Async async = new Async();
+
+  @Getter
+  @Setter
+  public static class Pool {
+
+    /** 풀 전체의 최대 커넥션 수 */
+    @Min(1)
+    private int maxTotal = 200;
+
+    /** 라우트(호스트)별 최대 커넥션 수. 동시에 실행되는 Task 수보다 작으면 커넥션을 기다리게 됩니다. */
+    @Min(1)
+    private int maxPerRoute = 100;
+
+    /**
+     * 커넥션을 Keep-alive로 유지할 최대 시간 (밀리초). 서버의 Keep-alive 시간보다 짧아야 서버가 닫은 커넥션을 재사용하지 않습니다.
+     * (uvicorn 기본값 5초)
+     */
+    @Min(0)
+    private long keepAliveMs = 4000;
+
+    /** 이 시간 이상 사용되지 않은 유휴 커넥션은 백그라운드에서 정리합니다. (밀리초) */
+    @Min(1)
+    private long idleEvictMs = 30000;
+
+    /** 이 시간 이상 유휴 상태였던 커넥션은 재사용 전에 유효한지 검사합니다. (밀리초) */
+    @Min(0)
+    private long validateAfterInactivityMs = 2000;
+  }
+
+  /**
+   * 요청을 보낼 인스턴스들의 기본 URL 목록을 반환합니다.
+   *
+   * @return {@link #instances}에 설정된 URL 목록, 비어 있으면 {@link #url} 하나
+   */
+  public List<String> upstreamUrls() {
+    List<String> urls = instances.stream().filter(StringUtils::hasText).map(String::trim).toList();
+    return urls.isEmpty() ? List.of(url) : urls;
+  }
+
+  /**
+   * 엔드포인트의 설정을 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로 (예: "/products/crawl")
+   * @return 엔드포인트 설정, 없으면 모든 값이 비어 있는 기본 설정
+   */
+  public Endpoint endpoint(String endpoint) {
+    return endpoints.getOrDefault(endpoint, Endpoint.DEFAULT);
+  }
+
+  @Getter
+  @Setter
+  public static class Endpoint {
+
+    private static final Endpoint DEFAULT = new Endpoint();
+
+    /** 이 엔드포인트의 응답 타임아웃 (밀리초). 없으면 적응형 타임아웃 또는 기본 타임아웃을 사용합니다. */
+    @Min(1)
+    private Long timeoutMs;
+
+    /** 이 엔드포인트에 동시에 보낼 수 있는 최대 요청 수. 없으면 {@code bulkhead.max-concurrent-calls}를 사용합니다. */
+    @Min(1)
+    private Integer maxConcurrentCalls;
+
+    /** 헤징 요청을 보내기까지 기다리는 시간 (밀리초). 없으면 관측된 응답 시간 백분위수를 사용합니다. */
+    @Min(1)
+    private Long hedgeDelayMs;
+
+    /** 이 엔드포인트의 요청 Body를 압축할지 여부. 없으면 {@code compression.request-enabled}를 사용합니다. */
+    private Boolean compressRequest;
+
+    /**
+     * 이 엔드포인트의 요청 Body를 압축할 최소 크기 (바이트). 없으면 {@code compression.request-threshold-bytes}를
+     * 사용합니다.
+     */
+    @Min(0)
+    private Long requestCompressionThresholdBytes;
+
+    /** 이 엔드포인트의 응답 압축을 요청할지 여부. 없으면 {@code compression.response-enabled}를 사용합니다. */
+    private Boolean compressResponse;
+  }
+
+  @Getter
+  @Setter
+  public static class LoadBalancing {
+
+    /** 연속으로 이 횟수만큼 실패(연결 실패, 타임아웃, 5xx, 429)한 인스턴스는 잠시 요청 대상에서 제외합니다. */
+    @Min(1)
+    private int consecutiveFailures = 5;
+
+    /** 처음 제외될 때의 제외 시간 (밀리초). 다시 제외될 때마다 이 값의 배수만큼 늘어납니다. */
+    @Min(1)
+    private long baseEjectionMs = 30000;
+
+    /** 제외 시간의 상한 (밀리초) */
+    @Min(1)
+    private long maxEjectionMs = 300000;
+
+    /** 동시에 제외할 수 있는 인스턴스 비율의 상한 (%). 모든 인스턴스가 제외되면 제외를 무시하고 모든 인스턴스로 보냅니다. */
+    @Min(0)
+    @Max(100)
+    private int maxEjectionPercent = 50;
+
+    /** {@code /ping}으로 인스턴스의 상태를 주기적으로 확인하는 설정입니다. */
+    @Valid private HealthCheck healthCheck = new HealthCheck();
+  }
+
+  @Getter
+  @Setter
+  public static class HealthCheck {
+
+    /** false로 설정하면 주기적인 헬스 체크를 하지 않습니다. 인스턴스가 하나뿐이면 설정과 관계없이 하지 않습니다. */
+    private boolean enabled = true;
+
+    /** 헬스 체크 주기 (밀리초) */
+    @Min(100)
+    private long intervalMs = 10000;
+
+    /** 헬스 체크 요청 하나의 타임아웃 (밀리초) */
+    @Min(1)
+    private long timeoutMs = 2000;
+
+    /** 연속으로 이 횟수만큼 헬스 체크에 실패하면 인스턴스를 비정상으로 보고, 한 번 성공하면 다시 정상으로 봅니다. */
+    @Min(1)
+    private int unhealthyThreshold = 2;
+  }
+
+  @Getter
+  @Setter
+  public static class Compression {
+
+    /** 요청 Body 압축의 기본값. FastAPI 서버가 {@code Content-Encoding}이 지정된 요청을 풀 수 있어야 합니다. */
+    private boolean requestEnabled = false;
+
+    /** 요청 Body를 압축할 때 사용할 방식 */
+    @NotNull private Encoding requestEncoding = Encoding.GZIP;
+
+    /** 직렬화한 요청 Body가 이 크기 이상일 때만 압축합니다. 작은 Body는 압축해도 줄어드는 크기보다 비용이 큽니다. (바이트) */
+    @Min(0)
+    private long requestThresholdBytes = 8192;
+
+    /** 응답 압축을 요청({@code Accept-Encoding: gzip, deflate})할지 여부의 기본값 */
+    private boolean responseEnabled = true;
+
+    public enum Encoding {
+      GZIP("gzip"),
+      DEFLATE("deflate");
+
+      private final String headerValue;
+
+      Encoding(String headerValue) {
+        this.headerValue = headerValue;
+      }
+
+      /** {@code Content-Encoding} 헤더 값 */
+      public String headerValue() {
+        return headerValue;
+      }
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class AdaptiveTimeout {
+
+    /** true면 명시적인 타임아웃이 없는 엔드포인트에 관측된 응답 시간 기반 타임아웃을 적용합니다. */
+    private boolean enabled = false;
+
+    /** 기준이 되는 응답 시간 백분위수 (예: 0.99 = p99) */
+    @DecimalMin("0.5")
+    @DecimalMax("0.999")
+    private double percentile = 0.99;
+
+    /** 백분위수 응답 시간에 곱할 배수 */
+    @DecimalMin("1.0")
+    private double multiplier = 3.0;
+
+    /** 적응형 타임아웃의 하한 (밀리초) */
+    @Min(1)
+    private long minMs = 1000;
+
+    /** 적응형 타임아웃의 상한 (밀리초) */
+    @Min(1)
+    private long maxMs = 600000;
+
+    /** 이 횟수 이상 성공한 응답이 관측된 엔드포인트에만 적응형 타임아웃을 적용합니다. */
+    @Min(1)
+    private long minSamples = 20;
+  }
+
+  @Getter
+  @Setter
+  public static class CircuitBreaker {
+
+    /** false로 설정하면 서킷 브레이커를 적용하지 않습니다. */
+    private boolean enabled = true;
+
+    /** 최근 호출 중 실패 비율이 이 값(%) 이상이면 서킷을 엽니다. */
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    /** 실패 비율을 계산할 최근 호출 수 */
+    @Min(1)
+    private int slidingWindowSize = 20;
+
+    /** 실패 비율을 계산하기 위한 최소 호출 수 */
+    @Min(1)
+    private int minimumCalls = 10;
+
+    /** 서킷이 열린 뒤 시험 호출을 허용하기까지 기다리는 시간 (밀리초) */
+    @Min(1)
+    private long openStateMs = 30000;
+
+    /** 반열림(Half-open) 상태에서 허용할 시험 호출 수. 모두 성공하면 서킷을 닫습니다. */
+    @Min(1)
+    private int halfOpenCalls = 3;
+  }
+
+  @Getter
+  @Setter
+  public static class Bulkhead {
+
+    /** 엔드포인트별로 동시에 보낼 수 있는 최대 요청 수의 기본값 */
+    @Min(1)
+    private int maxConcurrentCalls = 50;
+
+    /** 동시 요청 수가 가득 찼을 때 자리가 날 때까지 기다리는 최대 시간 (밀리초). 0이면 바로 거절합니다. */
+    @Min(0)
+    private long maxWaitMs = 2000;
+  }
+
+  @Getter
+  @Setter
+  public static class Hedging {
+
+    /** false로 설정하면 멱등 Task라도 헤징 요청을 보내지 않습니다. */
+    private boolean enabled = false;
+
+    /** 헤징 요청을 보내기까지 기다릴 시간으로 사용할 응답 시간 백분위수 (예: 0.95 = p95) */
+    @DecimalMin("0.5")
+    @DecimalMax("0.999")
+    private double delayPercentile = 0.95;
+
+    /** 헤징 대기 시간의 하한 (밀리초) */
+    @Min(1)
+    private long minDelayMs = 50;
+
+    /** 이 횟수 이상 성공한 응답이 관측된 엔드포인트에만 백분위수 기반 헤징을 적용합니다. */
+    @Min(1)
+    private long minSamples = 20;
+
+    /** 전체 요청 대비 헤징 요청 비율의 상한 (%) */
+    @Min(1)
+    @Max(100)
+    private int budgetPercent = 10;
+
+    /** 짧은 시간에 몰아서 보낼 수 있는 헤징 요청 수의 상한 */
+    @Min(1)
+    private int maxBurst = 10;
+  }
+
+  @Getter
+  @Setter
+  public static class SingleFlight {
+
+    /** false로 설정하면 같은 요청이라도 합치지 않고 각각 보냅니다. */
+    private boolean enabled = true;
+  }
+
+  @Getter
+  @Setter
+  public static class Async {
+
+    /** 작업 상태를 조회할 엔드포인트 템플릿. Task 파라미터 {@code status_endpoint}로 덮어쓸 수 있습니다. */
+    @NotBlank private String statusEndpoint = "/jobs/{job_id}";
+
+    /**
+     * FastAPI 서버가 작업 완료를 알릴 user-service의 주소 (예: "http://user-service:8080"). 설정하면 제출 요청에 {@code
+     * callback_url}을 담아 보내며, 콜백을 받으면 다음 조회 시점을 기다리지 않고 바로 결과를 반영합니다. 없으면 조회만 사용합니다.
+     */
+    private String callbackBaseUrl;
+
+    /** 첫 상태 조회까지의 대기 시간 (밀리초) */
+    @Min(1)
+    private long initialPollMs = 1000;
+
+    /** 상태 조회 간격의 상한 (밀리초) */
+    @Min(1)
+    private long maxPollMs = 30000;
+
+    /** 조회할 때마다 간격에 곱할 배수 */
+    @DecimalMin("1.0")
+    private double pollMultiplier = 2.0;
+
+    /** 작업 완료를 기다리는 최대 시간 (밀리초). Task 파라미터 {@code async_timeout_ms}로 덮어쓸 수 있습니다. */
+    @Min(1)
+    private long maxWaitMs = 3_600_000;
+  }
 }
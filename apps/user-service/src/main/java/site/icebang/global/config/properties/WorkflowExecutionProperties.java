@@ -0,0 +1,364 @@
+package site.icebang.global.config.properties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 실행 엔진의 동작 방식을 application.yml에서 타입-세이프(Type-safe)하게 바인딩하는 클래스입니다.
+ *
+ * <p>이 클래스는 {@code @ConfigurationProperties}를 통해 'workflow.execution' 경로의 설정값을 자동으로 주입받습니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   execution:
+ *     task-parallelism: 4
+ *     plan-cache-size: 128
+ *     write-behind:
+ *       enabled: true
+ *       batch-size: 100
+ *       flush-interval-ms: 200
+ *     io-store:
+ *       enabled: true
+ *       directory: ./data/task-io
+ *       inline-threshold-bytes: 65536
+ *       compression: gzip
+ *       compression-threshold-bytes: 1024
+ *     retry:
+ *       max-attempts: 3
+ *       initial-interval-ms: 1000
+ *       multiplier: 2.0
+ *       max-interval-ms: 30000
+ *       max-retry-after-ms: 60000
+ *     rate-limit:
+ *       enabled: true
+ *       max-wait-ms: 600000
+ *       rules:
+ *         "[/blogs/publish]":
+ *           bucket: blog-publish
+ *           key-fields: [tag, blog_id]
+ *           capacity: 2
+ *           refill-per-minute: 4
+ *     admission:
+ *       max-concurrent-runs: 50
+ *       max-queue-size: 100
+ *       rejection-policy: drop-lowest
+ *     db-concurrency:
+ *       enabled: true
+ *       max-concurrent-calls: 25
+ *       max-wait-ms: 30000
+ *     lease:
+ *       ttl-ms: 60000
+ *       heartbeat-interval-ms: 15000
+ *       recovery-interval-ms: 30000
+ *     cancellation:
+ *       default-run-timeout-ms: 3600000
+ *       check-interval-ms: 2000
+ *     drain:
+ *       grace-period-ms: 60000
+ *       interrupt-wait-ms: 10000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.execution")
+@Validated
+public class WorkflowExecutionProperties {
+
+  /**
+   * 하나의 Job 안에서 동시에 실행될 수 있는 Task의 최대 개수입니다.
+   *
+   * <p>서로 의존 관계가 없는 Task들만 동시에 실행되며, 1로 설정하면 기존과 같이 순차 실행됩니다.
+   */
+  @Min(1)
+  private int taskParallelism = 4;
+
+  /**
+   * 컴파일된 워크플로우 실행 계획을 캐싱할 최대 워크플로우 수입니다.
+   *
+   * <p>가장 오래 사용되지 않은 계획부터 제거되며, 0으로 설정하면 캐싱하지 않고 매 실행마다 정의를 조회합니다.
+   */
+  @Min(0)
+  private int planCacheSize = 128;
+
+  /**
+   * 캐싱된 실행 계획을 사용할 최대 시간 (밀리초 단위)입니다.
+   *
+   * <p>캐시 무효화는 정의를 변경한 서버에만 반영되므로, 다른 서버는 이 시간이 지난 뒤 변경된 정의로 계획을 다시 컴파일합니다.
+   */
+  @Min(1)
+  private long planCacheTtlMs = 60_000;
+
+  /** 실행 상태와 Task IO 데이터의 지연 기록(Write-behind) 설정입니다. */
+  @Valid private WriteBehind writeBehind = new WriteBehind();
+
+  /** 큰 Task IO 데이터를 DB 밖의 파일 저장소에 보관하는 설정입니다. */
+  @Valid private IoStore ioStore = new IoStore();
+
+  /** 실패한 Task의 재시도 횟수와 대기 시간 설정입니다. */
+  @Valid private Retry retry = new Retry();
+
+  /** 외부 플랫폼/계정별 호출 속도 제한(토큰 버킷) 설정입니다. */
+  @Valid private RateLimit rateLimit = new RateLimit();
+
+  /** 동시 실행 허가를 기다리는 워크플로우 실행 대기열 설정입니다. */
+  @Valid private Admission admission = new Admission();
+
+  /** 백그라운드 작업이 동시에 사용하는 DB 커넥션 수 제한 설정입니다. */
+  @Valid private DbConcurrency dbConcurrency = new DbConcurrency();
+
+  /** 같은 워크플로우의 실행이 겹치지 않도록 하는 워크플로우 임대와, 실행을 소유한 서버의 소유 기간 설정입니다. */
+  @Valid private Lease lease = new Lease();
+
+  /** 실행 중인 워크플로우의 취소와 실행 마감 시각 설정입니다. */
+  @Valid private Cancellation cancellation = new Cancellation();
+
+  /** 서버 종료 시 실행 중인 워크플로우를 마무리하는 설정입니다. */
+  @Valid private Drain drain = new Drain();
+
+  @Getter
+  @Setter
+  public static class WriteBehind {
+
+    /** false로 설정하면 모든 쓰기를 호출한 스레드에서 즉시 기록합니다. */
+    private boolean enabled = true;
+
+    /** 큐에 이 개수 이상 쌓이면 주기를 기다리지 않고 바로 기록합니다. */
+    @Min(1)
+    private int batchSize = 100;
+
+    /** 큐에 쌓인 쓰기 작업을 기록하는 주기 (밀리초) */
+    @Min(10)
+    private long flushIntervalMs = 200;
+
+    /** 기록에 실패한 쓰기 작업을 다음 주기에 다시 기록하는 최대 시도 횟수. 모두 실패하면 버리고 오류를 기록합니다. */
+    @Min(1)
+    private int maxAttempts = 10;
+  }
+
+  @Getter
+  @Setter
+  public static class IoStore {
+
+    /** false로 설정하면 파일 저장소를 사용하지 않고 크기와 상관없이 모든 IO 데이터를 DB에 저장합니다. */
+    private boolean enabled = true;
+
+    /** 파일 저장소의 루트 디렉토리입니다. 내용의 SHA-256 해시를 파일 이름으로 사용합니다. */
+    @NotBlank private String directory = "./data/task-io";
+
+    /** 직렬화된 크기가 이 값 이상인 IO 데이터는 파일 저장소에 저장하고, DB에는 참조만 남깁니다. (바이트) */
+    @Min(0)
+    private long inlineThresholdBytes = 64 * 1024;
+
+    /** IO 데이터를 저장할 때 사용할 압축 방식입니다. DB와 파일 저장소 모두에 적용됩니다. */
+    @NotNull private Compression compression = Compression.GZIP;
+
+    /** 직렬화된 크기가 이 값 이상인 IO 데이터만 압축합니다. (바이트) */
+    @Min(0)
+    private long compressionThresholdBytes = 1024;
+
+    /** 보존 기간이 지난 IO 데이터와 더 이상 참조되지 않는 파일을 정리하는 설정입니다. */
+    @Valid private Cleanup cleanup = new Cleanup();
+
+    @Getter
+    @Setter
+    public static class Cleanup {
+
+      /** false로 설정하면 IO 데이터와 파일을 정리하지 않습니다. */
+      private boolean enabled = true;
+
+      /** 정리 주기 (밀리초) */
+      @Min(1000)
+      private long intervalMs = 3_600_000;
+
+      /**
+       * 수정된 지 이 시간이 지나지 않은 파일은 참조되지 않아도 지우지 않습니다. (밀리초)
+       *
+       * <p>파일은 DB 기록보다 먼저 저장되고 DB 기록은 지연될 수 있으므로, 지연 기록 주기보다 충분히 길어야 합니다.
+       */
+      @Min(0)
+      private long graceMs = 3_600_000;
+
+      /**
+       * {@code task_io_data}를 보존할 기간 (일)입니다. 0이면 IO 데이터를 지우지 않고, 참조되지 않는 파일만 정리합니다.
+       *
+       * <p>지워진 IO 데이터는 실행 기록 조회와 이어서 실행할 때 사용할 수 없으므로, 가장 오래 걸리는 워크플로우 실행보다 충분히 길어야 합니다.
+       */
+      @Min(0)
+      private int retentionDays = 0;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Retry {
+
+    /** 첫 시도를 포함한 최대 시도 횟수입니다. 1로 설정하면 재시도하지 않습니다. */
+    @Min(1)
+    private int maxAttempts = 3;
+
+    /** 첫 재시도 전의 기본 대기 시간 (밀리초) */
+    @Min(1)
+    private long initialIntervalMs = 1000;
+
+    /** 재시도할 때마다 기본 대기 시간에 곱할 배수입니다. */
+    @DecimalMin("1.0")
+    private double multiplier = 2.0;
+
+    /** 기본 대기 시간의 상한 (밀리초) */
+    @Min(1)
+    private long maxIntervalMs = 30_000;
+
+    /** 서버가 {@code Retry-After}로 알려준 대기 시간을 따를 최대 시간입니다. 이보다 길면 이 값만큼만 기다립니다. (밀리초) */
+    @Min(0)
+    private long maxRetryAfterMs = 60_000;
+  }
+
+  @Getter
+  @Setter
+  public static class RateLimit {
+
+    /** false로 설정하면 호출 속도를 제한하지 않습니다. */
+    private boolean enabled = true;
+
+    /** 토큰을 기다릴 최대 시간 (밀리초). 이보다 오래 기다려야 하면 기다리지 않고 재시도할 수 있는 실패로 처리합니다. */
+    @Min(0)
+    private long maxWaitMs = 600_000;
+
+    /**
+     * 엔드포인트별 제한 규칙입니다. 키는 엔드포인트 경로이며, yml에서는 {@code "[/blogs/publish]"}처럼 대괄호로 감싸야 합니다. 규칙이
+     * 없는 엔드포인트는 제한하지 않습니다.
+     */
+    @Valid private Map<String, Rule> rules = new HashMap<>();
+  }
+
+  @Getter
+  @Setter
+  public static class Rule {
+
+    /** 버킷 이름. 같은 이름을 쓰는 엔드포인트들은 같은 버킷을 공유합니다. 없으면 엔드포인트 경로를 사용합니다. */
+    private String bucket;
+
+    /** 버킷을 나누는 기준이 되는 요청 Body 필드 (예: 플랫폼 {@code tag}, 계정 {@code blog_id}) */
+    private List<String> keyFields = new ArrayList<>();
+
+    /** 버킷에 쌓일 수 있는 최대 토큰 수. 한 번에 몰아서 보낼 수 있는 요청 수입니다. */
+    @Min(1)
+    private int capacity = 1;
+
+    /** 1분마다 채워지는 토큰 수. 오래 유지할 수 있는 분당 요청 수입니다. */
+    @DecimalMin("0.001")
+    private double refillPerMinute = 60;
+  }
+
+  @Getter
+  @Setter
+  public static class Admission {
+
+    /**
+     * 동시에 실행될 수 있는 최대 워크플로우 수입니다.
+     *
+     * <p>DB 커넥션은 {@code db-concurrency}, FastAPI 요청은 엔드포인트별 동시 요청 수({@code
+     * api.fastapi.bulkhead})로 따로 제한하므로, 이 값은 DB 커넥션 풀 크기보다 크게 둘 수 있습니다.
+     */
+    @Min(1)
+    private int maxConcurrentRuns = 50;
+
+    /** 허가를 기다릴 수 있는 최대 실행 수입니다. 0으로 설정하면 허가가 없을 때 바로 거절합니다. */
+    @Min(0)
+    private int maxQueueSize = 100;
+
+    /** 대기열이 가득 찼을 때 새 실행을 처리하는 방식입니다. */
+    @NotNull private RejectionPolicy rejectionPolicy = RejectionPolicy.DROP_LOWEST;
+
+    public enum RejectionPolicy {
+      /** 새 실행을 거절합니다. */
+      REJECT_NEW,
+      /** 새 실행보다 우선순위가 낮은 실행 중 가장 늦게 들어온 실행을 대기열에서 빼고, 없으면 새 실행을 거절합니다. */
+      DROP_LOWEST
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class DbConcurrency {
+
+    /** false로 설정하면 DB 커넥션 사용을 따로 제한하지 않고 커넥션 풀의 대기에 맡깁니다. */
+    private boolean enabled = true;
+
+    /** 백그라운드 작업이 동시에 사용할 수 있는 최대 DB 커넥션 수. 없으면 커넥션 풀 크기에서 5를 뺀 값을 사용합니다. */
+    @Min(1)
+    private Integer maxConcurrentCalls;
+
+    /** DB 허가를 기다리는 최대 시간 (밀리초). 넘으면 일시적인 DB 오류로 실패합니다. */
+    @Min(0)
+    private long maxWaitMs = 30_000;
+  }
+
+  @Getter
+  @Setter
+  public static class Lease {
+
+    /** 임대의 유효 시간 (밀리초). 보유한 서버가 이 시간 동안 연장하지 못하면 다른 실행이 가져갈 수 있습니다. */
+    @Min(1000)
+    private long ttlMs = 60_000;
+
+    /** 보유 중인 임대와 소유한 실행을 연장하는 주기 (밀리초). {@code ttl-ms}보다 충분히 짧아야 합니다. */
+    @Min(100)
+    private long heartbeatIntervalMs = 15_000;
+
+    /** 소유한 서버가 없거나 소유 기간이 만료된 실행을 찾아 이어서 실행하는 주기 (밀리초) */
+    @Min(1000)
+    private long recoveryIntervalMs = 30_000;
+  }
+
+  @Getter
+  @Setter
+  public static class Cancellation {
+
+    /** 실행 요청에 제한 시간이 없을 때 적용할 기본 제한 시간 (밀리초). 없으면 마감 시각 없이 실행합니다. */
+    @Min(1000)
+    private Long defaultRunTimeoutMs;
+
+    /** 마감 시각과 다른 서버에서 요청된 취소를 확인하는 주기 (밀리초) */
+    @Min(100)
+    private long checkIntervalMs = 2_000;
+  }
+
+  @Getter
+  @Setter
+  public static class Drain {
+
+    /** 새 실행을 받지 않은 뒤 실행 중인 워크플로우가 끝나기를 기다리는 최대 시간 (밀리초) */
+    @Min(0)
+    private long gracePeriodMs = 60_000;
+
+    /** 끝나지 않은 실행을 중단한 뒤 상태가 기록되기를 기다리는 최대 시간 (밀리초) */
+    @Min(0)
+    private long interruptWaitMs = 10_000;
+  }
+
+  public enum Compression {
+    NONE,
+    GZIP,
+    DEFLATE
+  }
+}
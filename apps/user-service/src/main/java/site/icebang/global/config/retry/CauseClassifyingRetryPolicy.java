@@ -0,0 +1,78 @@
+package site.icebang.global.config.retry;
+
+import java.util.Set;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.common.exception.PayloadTooLargeException;
+
+/**
+ * 실패 원인을 보고 재시도 여부를 결정하는 재시도 정책입니다.
+ *
+ * <p>{@link SimpleRetryPolicy}는 모든 예외를 같은 횟수만큼 재시도하므로, 다시 보내도 절대 성공할 수 없는 실패(잘못된 요청, 지원하지 않는 Task
+ * 타입)도 대기 시간을 모두 소비한 뒤에야 실패로 끝납니다. 이 정책은 예외와 그 원인(cause)을 차례로 살펴 재시도할 가치가 없는 실패는 첫 시도에서 바로
+ * 끝냅니다.
+ *
+ * <h2>분류 기준:</h2>
+ *
+ * <ul>
+ *   <li>{@link ExternalCallFailedException}: 예외에 담긴 재시도 가능 여부를 따름
+ *   <li>{@link ResourceAccessException}: 연결 실패, 타임아웃이므로 재시도
+ *   <li>{@link RestClientResponseException}: 408, 425, 429, 5xx(501 제외)만 재시도
+ *   <li>{@link PayloadTooLargeException}, {@link CallNotPermittedException}, {@link
+ *       IllegalArgumentException}: 재시도하지 않음
+ *   <li>그 밖의 예외: 원인을 알 수 없으므로 기존과 같이 재시도
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+public class CauseClassifyingRetryPolicy extends SimpleRetryPolicy {
+
+  private static final Set<Integer> RETRYABLE_STATUS = Set.of(408, 425, 429);
+
+  public CauseClassifyingRetryPolicy(int maxAttempts) {
+    setMaxAttempts(maxAttempts);
+  }
+
+  @Override
+  public boolean canRetry(RetryContext context) {
+    Throwable lastThrowable = context.getLastThrowable();
+    return (lastThrowable == null || isRetryable(lastThrowable))
+        && context.getRetryCount() < getMaxAttempts();
+  }
+
+  /**
+   * 예외와 그 원인을 차례로 살펴 재시도할 가치가 있는 실패인지 판단합니다.
+   *
+   * @param throwable 시도 중 발생한 예외
+   * @return 재시도할 가치가 있으면 true
+   */
+  public static boolean isRetryable(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ExternalCallFailedException failed) {
+        return failed.isRetryable();
+      }
+      if (cause instanceof ResourceAccessException) {
+        return true;
+      }
+      if (cause instanceof RestClientResponseException response) {
+        int status = response.getStatusCode().value();
+        return RETRYABLE_STATUS.contains(status) || (status >= 500 && status != 501);
+      }
+      if (cause instanceof PayloadTooLargeException
+          || cause instanceof CallNotPermittedException
+          || cause instanceof IllegalArgumentException) {
+        return false;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,103 @@
+package site.icebang.global.config.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.domain.workflow.runner.TaskSuspension;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 지수적으로 늘어나는 대기 시간에 무작위 지연(Jitter)을 더하고, 서버가 알려준 {@code Retry-After}를 따르는 재시도 대기 정책입니다.
+ *
+ * <p>고정 간격으로 재시도하면 같은 시각에 실패한 Task들이 같은 시각에 다시 요청을 보내 과부하 상태의 서버를 또 한 번 몰아붙입니다. 대기 시간은 {@code
+ * initial-interval-ms}에서 시작하여 재시도할 때마다 {@code multiplier}배로 늘어나며({@code max-interval-ms}까지), 실제로는
+ * 그 절반에서 전체 사이의 무작위 시간만큼 기다립니다. 마지막 실패가 {@code Retry-After}를 알려주었다면 최소한 그 시간만큼({@code
+ * max-retry-after-ms}까지) 기다립니다.
+ *
+ * <p>대기하는 동안에는 {@link TaskSuspension}으로 실행 허가를 반납하므로, 재시도를 기다리는 Task가 다른 Task의 실행을 막지 않습니다.
+ *
+ * @since v0.1.0
+ */
+public class RetryAfterBackOffPolicy implements BackOffPolicy {
+
+  private final WorkflowExecutionProperties.Retry config;
+
+  public RetryAfterBackOffPolicy(WorkflowExecutionProperties.Retry config) {
+    this.config = config;
+  }
+
+  @Override
+  public BackOffContext start(RetryContext context) {
+    return new RetryAfterBackOffContext(context);
+  }
+
+  @Override
+  public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+    RetryAfterBackOffContext context = (RetryAfterBackOffContext) backOffContext;
+    long delayMs = nextDelayMs(context.retryContext.getLastThrowable(), context.backOffs++);
+    boolean interrupted =
+        TaskSuspension.current()
+            .whileSuspended(
+                () -> {
+                  try {
+                    Thread.sleep(delayMs);
+                    return false;
+                  } catch (InterruptedException e) {
+                    return true;
+                  }
+                });
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+      throw new BackOffInterruptedException("재시도 대기 중 인터럽트 발생");
+    }
+  }
+
+  /**
+   * 다음 재시도 전에 기다릴 시간을 계산합니다.
+   *
+   * @param lastThrowable 마지막 시도에서 발생한 예외
+   * @param backOffs 지금까지 기다린 횟수
+   * @return 대기 시간 (밀리초)
+   */
+  long nextDelayMs(Throwable lastThrowable, int backOffs) {
+    double exponential = config.getInitialIntervalMs() * Math.pow(config.getMultiplier(), backOffs);
+    long intervalMs = (long) Math.min(exponential, config.getMaxIntervalMs());
+    long halfMs = intervalMs / 2;
+    long delayMs = halfMs + ThreadLocalRandom.current().nextLong(intervalMs - halfMs + 1);
+
+    Duration retryAfter = retryAfter(lastThrowable);
+    if (retryAfter != null) {
+      long retryAfterMs = Math.min(retryAfter.toMillis(), config.getMaxRetryAfterMs());
+      delayMs = Math.max(delayMs, retryAfterMs);
+    }
+    return delayMs;
+  }
+
+  private static Duration retryAfter(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ExternalCallFailedException failed) {
+        return failed.getRetryAfter();
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return null;
+  }
+
+  private static class RetryAfterBackOffContext implements BackOffContext {
+
+    private final RetryContext retryContext;
+    private int backOffs;
+
+    RetryAfterBackOffContext(RetryContext retryContext) {
+      this.retryContext = retryContext;
+    }
+  }
+}
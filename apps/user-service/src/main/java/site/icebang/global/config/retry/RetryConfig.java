@@ -2,26 +2,23 @@ package site.icebang.global.config.retry;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.backoff.FixedBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
 @Configuration
 public class RetryConfig {
 
   @Bean
-  public RetryTemplate taskExecutionRetryTemplate() {
+  public RetryTemplate taskExecutionRetryTemplate(WorkflowExecutionProperties properties) {
+    WorkflowExecutionProperties.Retry retry = properties.getRetry();
     RetryTemplate retryTemplate = new RetryTemplate();
 
-    // 1. 재시도 정책 설정: 최대 3번 시도
-    SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy();
-    retryPolicy.setMaxAttempts(3);
-    retryTemplate.setRetryPolicy(retryPolicy);
+    // 1. 재시도 정책 설정: 최대 시도 횟수 안에서, 다시 보내면 성공할 수 있는 실패만 재시도
+    retryTemplate.setRetryPolicy(new CauseClassifyingRetryPolicy(retry.getMaxAttempts()));
 
-    // 2. 재시도 간격 설정: 5초 고정 간격
-    FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
-    backOffPolicy.setBackOffPeriod(5000L); // 5000ms = 5초
-    retryTemplate.setBackOffPolicy(backOffPolicy);
+    // 2. 재시도 간격 설정: 지수 백오프 + Jitter, 서버가 알려준 Retry-After 준수
+    retryTemplate.setBackOffPolicy(new RetryAfterBackOffPolicy(retry));
 
     return retryTemplate;
   }
@@ -11,7 +11,8 @@ public enum SecurityEndpoints {
       "/js/**",
       "/images/**",
       "/v0/organizations/**",
-      "/v0/check-execution-log-insert"),
+      "/v0/check-execution-log-insert",
+      "/v0/task-callbacks/**"),
 
   // 데이터 관리 관련 엔드포인트
   DATA_ADMIN("/admin/**", "/api/admin/**", "/management/**", "/actuator/**"),
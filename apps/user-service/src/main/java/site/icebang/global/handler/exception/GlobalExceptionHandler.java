@@ -16,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import site.icebang.common.dto.ApiResponseDto;
 import site.icebang.common.exception.DuplicateDataException;
+import site.icebang.common.exception.WorkflowAdmissionRejectedException;
 
 /**
  * 전역 예외 처리기 (Global Exception Handler).
@@ -31,6 +32,7 @@ import site.icebang.common.exception.DuplicateDataException;
  *   <li>{@link AuthenticationException} - 인증 실패
  *   <li>{@link AccessDeniedException} - 인가 실패
  *   <li>{@link DuplicateDataException} - 중복 데이터 발생
+ *   <li>{@link WorkflowAdmissionRejectedException} - 워크플로우 실행 대기열 포화
  *   <li>{@link Exception} - 그 외 처리되지 않은 일반 예외
  * </ul>
  *
@@ -120,6 +122,20 @@ public class GlobalExceptionHandler {
     return ApiResponseDto.error("Duplicate: " + ex.getMessage(), HttpStatus.CONFLICT);
   }
 
+  /**
+   * 워크플로우 실행 대기열이 가득 차 실행 요청이 거절된 경우를 처리합니다.
+   *
+   * @param ex 발생한 {@link WorkflowAdmissionRejectedException}
+   * @return {@link ApiResponseDto} - 거절 메시지와 {@link HttpStatus#SERVICE_UNAVAILABLE}
+   */
+  @ExceptionHandler(WorkflowAdmissionRejectedException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ApiResponseDto<String> handleAdmissionRejected(WorkflowAdmissionRejectedException ex) {
+    log.warn(ex.getMessage());
+    return ApiResponseDto.error(
+        "Too many workflow runs: " + ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   /**
    * IllegalArgumentException을 400 Bad Request로 처리합니다. WorkflowService에서 던지는 검증 오류를 처리하기 위해 추가되었습니다.
    *
@@ -31,11 +31,11 @@ INSERT INTO `job` (`id`, `name`, `description`, `created_by`, `created_at`, `upd
 -- Task 생성 (ID: 1 ~ 10) - H2에서는 NOW() 사용, created_at/updated_at 추가
 INSERT INTO `task` (`id`, `name`, `type`, `parameters`, `created_at`, `updated_at`) VALUES
                                                                                         (1, '키워드 검색 태스크', 'FastAPI', JSON_OBJECT(
-                                                                                                'endpoint', '/keywords/search', 'method', 'POST',
+                                                                                                'endpoint', '/keywords/search', 'method', 'POST', 'idempotent', true,
                                                                                                 'body', JSON_OBJECT('tag', 'String')
                                                                                                                      ), NOW(), NOW()),
                                                                                         (2, '상품 검색 태스크', 'FastAPI', JSON_OBJECT(
-                                                                                                'endpoint', '/products/search', 'method', 'POST',
+                                                                                                'endpoint', '/products/search', 'method', 'POST', 'idempotent', true,
                                                                                                 'body', JSON_OBJECT('keyword', 'String')
                                                                                                                     ), NOW(), NOW()),
                                                                                         (3, '상품 매칭 태스크', 'FastAPI', JSON_OBJECT(
@@ -55,7 +55,11 @@ INSERT INTO `task` (`id`, `name`, `type`, `parameters`, `created_at`, `updated_a
                                                                                                                         ), NOW(), NOW()),
                                                                                         (5, '상품 정보 크롤링 태스크', 'FastAPI', JSON_OBJECT(
                                                                                                 'endpoint', '/products/crawl', 'method', 'POST',
-                                                                                                'body', JSON_OBJECT('product_urls', 'List')
+                                                                                                'body', JSON_OBJECT('product_urls', 'List'),
+                                                                                                'fan_out', JSON_OBJECT('field', 'product_urls', 'shard_size', 1, 'max_parallelism', 4,
+                                                                                                        'merge', JSON_OBJECT('concat', JSON_ARRAY('/data/crawled_products'),
+                                                                                                                             'sum', JSON_ARRAY('/data/success_count', '/data/fail_count'),
+                                                                                                                             'renumber', JSON_OBJECT('/data/crawled_products', 'index')))
                                                                                                                         ), NOW(), NOW()),
                                                                                         (6, 'S3 업로드 태스크', 'FastAPI', JSON_OBJECT(
                                                                                                 'endpoint', '/products/s3-upload', 'method', 'POST',
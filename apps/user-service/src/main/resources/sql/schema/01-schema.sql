@@ -176,7 +176,7 @@ CREATE TABLE `execution_log` (
 CREATE TABLE `task_io_data` (
                                               `id` bigint unsigned NOT NULL AUTO_INCREMENT,
                                               `task_run_id` bigint unsigned NOT NULL,
-                                              `io_type` varchar(10) NOT NULL COMMENT 'INPUT, OUTPUT',
+                                              `io_type` varchar(10) NOT NULL COMMENT 'INPUT, OUTPUT, SHARD',
     `name` varchar(100) NOT NULL COMMENT '파라미터/변수 이름',
     `data_type` varchar(50) NOT NULL COMMENT 'string, number, json, file, etc',
     `data_value` json NULL COMMENT '실제 데이터 값',
@@ -337,4 +337,86 @@ CREATE INDEX idx_execution_type_source ON execution_log(execution_type, source_i
 -- v0.5
 -- schedule 테이블 workflow_id unique 조건 제거
 ALTER TABLE schedule DROP INDEX uk_schedule_workflow;
-ALTER TABLE schedule ADD UNIQUE KEY uk_schedule_workflow_cron (workflow_id, cron_expression);
\ No newline at end of file
+ALTER TABLE schedule ADD UNIQUE KEY uk_schedule_workflow_cron (workflow_id, cron_expression);
+
+-- v0.6
+-- workflow_job 간 의존성 (선행 Job ID 배열, NULL이면 execution_order가 더 앞선 모든 Job에 의존)
+ALTER TABLE workflow_job ADD COLUMN depends_on json NULL;
+
+-- v0.7
+-- task_run 실행 결과 메시지 (매퍼에서 사용하지만 컬럼이 없어 UPDATE가 실패하던 문제 수정)
+ALTER TABLE task_run ADD COLUMN result_message text NULL;
+
+-- v0.8
+-- task_io_data 외부 저장소 참조 (sha256:<hex>, 값이 있으면 data_value는 NULL이고 파일 저장소에서 읽음)
+ALTER TABLE task_io_data ADD COLUMN storage_ref varchar(80) NULL;
+
+-- v0.9
+-- task_io_data 압축 저장 (data_encoding이 있으면 data_blob 또는 파일 저장소의 값이 해당 방식으로 압축되어 있음)
+-- data_size는 압축 전 원본 크기, stored_size는 실제 저장된 크기
+ALTER TABLE task_io_data ADD COLUMN data_encoding varchar(20) NULL;
+ALTER TABLE task_io_data ADD COLUMN data_blob longblob NULL;
+ALTER TABLE task_io_data ADD COLUMN stored_size bigint NULL;
+
+-- v0.10
+-- FastAPI 비동기 작업 제출 기록 (재시작 후 같은 워크플로우 실행의 같은 Task가 다시 제출하지 않고 이어서 기다리는 용도)
+CREATE TABLE `task_async_handle` (
+    `id` bigint unsigned NOT NULL AUTO_INCREMENT,
+    `task_run_id` bigint unsigned NOT NULL,
+    `job_run_id` bigint unsigned NOT NULL,
+    `workflow_run_id` bigint unsigned NOT NULL,
+    `task_id` bigint unsigned NOT NULL,
+    `request_hash` char(64) NOT NULL,
+    `remote_job_id` varchar(100) NOT NULL,
+    `status_endpoint` varchar(255) NOT NULL,
+    `callback_token` char(36) NOT NULL,
+    `status` varchar(20) NOT NULL COMMENT 'submitted, succeeded, failed, expired',
+    `poll_count` int NOT NULL DEFAULT 0,
+    `deadline_at` timestamp NULL,
+    `created_at` timestamp DEFAULT CURRENT_TIMESTAMP,
+    `updated_at` timestamp NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_task_async_handle_callback` (`callback_token`),
+    INDEX `idx_task_async_handle_pending` (`workflow_run_id`, `task_id`, `status`)
+    );
+
+-- v0.11
+-- 비동기 작업을 받은 FastAPI 인스턴스 (여러 인스턴스 사용 시 상태 조회를 같은 인스턴스로 보내는 용도)
+ALTER TABLE task_async_handle ADD COLUMN upstream_url varchar(255) NULL;
+
+-- v0.12
+-- 외부 플랫폼/계정별 호출 속도 제한 토큰 버킷 (여러 서버가 SELECT ... FOR UPDATE로 공유)
+CREATE TABLE `rate_limit_bucket` (
+    `bucket_key` varchar(255) NOT NULL,
+    `tokens` double NOT NULL,
+    `updated_at` timestamp(3) NOT NULL,
+    PRIMARY KEY (`bucket_key`)
+    );
+
+-- v0.13
+-- 같은 워크플로우의 실행이 겹칠 때의 처리 방식 (ALLOW, SKIP, QUEUE_ONE, CANCEL_PREVIOUS)
+ALTER TABLE workflow ADD COLUMN overlap_policy varchar(20) NOT NULL DEFAULT 'ALLOW';
+
+-- 워크플로우별 실행 임대(Lease). 여러 서버 중 하나의 실행만 보유하며, 보유한 서버가 주기적으로 만료 시각을 연장함
+CREATE TABLE `workflow_lease` (
+    `workflow_id` bigint unsigned NOT NULL,
+    `holder_run_id` bigint unsigned NULL COMMENT '임대를 보유한 workflow_run ID (NULL이면 비어 있음)',
+    `queued_run_id` bigint unsigned NULL COMMENT '임대가 반납되면 이어서 실행할 workflow_run ID',
+    `expires_at` timestamp(3) NULL,
+    PRIMARY KEY (`workflow_id`)
+    );
+
+-- v0.14
+-- 실행 취소 요청과 실행 마감 시각 (실행 중인 서버가 주기적으로 확인하여 실행을 중단함)
+ALTER TABLE workflow_run ADD COLUMN cancel_requested boolean NOT NULL DEFAULT FALSE;
+ALTER TABLE workflow_run ADD COLUMN deadline_at timestamp(3) NULL;
+
+-- v0.15
+-- 실행을 소유한 서버와 소유 만료 시각 (소유한 서버가 주기적으로 연장하며, 소유한 서버가 없거나 만료된 실행만 다른 서버가 이어서 실행함)
+ALTER TABLE workflow_run ADD COLUMN owner_node varchar(100) NULL;
+ALTER TABLE workflow_run ADD COLUMN owner_expires_at timestamp(3) NULL;
+
+-- v0.16
+-- 참조되지 않는 IO 데이터 파일 정리와 보존 기간이 지난 IO 데이터 삭제용 인덱스
+CREATE INDEX `idx_task_io_storage_ref` ON `task_io_data` (`storage_ref`);
+CREATE INDEX `idx_task_io_created_at` ON `task_io_data` (`created_at`);
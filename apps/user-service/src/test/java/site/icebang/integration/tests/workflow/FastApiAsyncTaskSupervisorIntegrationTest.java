@@ -0,0 +1,309 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import site.icebang.domain.workflow.mapper.TaskAsyncHandleMapper;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.TaskAsyncHandle;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.runner.TaskRunner.TaskExecutionResult;
+import site.icebang.domain.workflow.runner.fastapi.FastApiAsyncTaskSupervisor;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+/**
+ * FastApiAsyncTaskSupervisor의 제출, 상태 조회, 완료 콜백 흐름을 검증하는 통합 테스트 클래스입니다.
+ *
+ * <p>로컬에 띄운 FastAPI 스텁 서버로 실제 HTTP 요청을 보내며, 상태 조회 간격을 길게 설정하여 콜백으로 깨어난 뒤의 조회 결과만으로 작업이 끝나는지
+ * 확인합니다.
+ */
+@Sql(
+    value = "classpath:sql/data/04-insert-workflow-history-h2.sql",
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class FastApiAsyncTaskSupervisorIntegrationTest extends IntegrationTestSupport {
+
+  private static final String SUBMIT_ENDPOINT = "/products/crawl/async";
+  private static final Duration RESULT_TIMEOUT = Duration.ofSeconds(10);
+
+  private static final ObjectMapper stubObjectMapper = new ObjectMapper();
+
+  private static HttpServer fastApiStub;
+  private static String fastApiUrl;
+
+  /** 작업 ID별로 상태 조회에 응답할 Body */
+  private static final Map<String, String> jobStatuses = new ConcurrentHashMap<>();
+
+  private static final BlockingQueue<JsonNode> submittedBodies = new LinkedBlockingQueue<>();
+  private static final AtomicInteger submitCount = new AtomicInteger();
+  private static final AtomicInteger pollCount = new AtomicInteger();
+
+  @Autowired private FastApiAsyncTaskSupervisor asyncTaskSupervisor;
+  @Autowired private TaskAsyncHandleMapper taskAsyncHandleMapper;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @DynamicPropertySource
+  static void fastApiProperties(DynamicPropertyRegistry registry) throws IOException {
+    fastApiStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    fastApiStub.createContext("/", FastApiAsyncTaskSupervisorIntegrationTest::handle);
+    fastApiStub.start();
+    fastApiUrl = "http://127.0.0.1:" + fastApiStub.getAddress().getPort();
+
+    registry.add("api.fastapi.url", () -> fastApiUrl);
+    registry.add("api.fastapi.async.callback-base-url", () -> "http://user-service.test");
+    // 조회 시점이 오기 전에 콜백으로만 깨어나도록 조회 간격을 길게 잡습니다.
+    registry.add("api.fastapi.async.initial-poll-ms", () -> 60_000);
+    registry.add("api.fastapi.async.max-poll-ms", () -> 60_000);
+  }
+
+  @AfterAll
+  static void stopFastApiStub() {
+    fastApiStub.stop(0);
+  }
+
+  @BeforeEach
+  void resetFastApiStub() {
+    jobStatuses.clear();
+    submittedBodies.clear();
+    submitCount.set(0);
+    pollCount.set(0);
+  }
+
+  @Test
+  @DisplayName("콜백 Body가 성공을 주장해도, 콜백으로 깨어난 뒤 조회한 상태로 결과를 정해야 한다")
+  void execute_shouldTakeResultFromPoll_notFromCallbackBody() throws Exception {
+    // given
+    ObjectNode requestBody = objectMapper.createObjectNode().put("keyword", "callback-wake-up");
+    CompletableFuture<TaskExecutionResult> execution = executeAsync(taskRun(11L), requestBody);
+
+    JsonNode submitted = submittedBodies.poll(RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(submitted).isNotNull();
+    String callbackPath = URI.create(submitted.path("callback_url").asText()).getPath();
+    assertThat(callbackPath).startsWith("/v0/task-callbacks/");
+    jobStatuses.put(
+        "job-1", "{\"status\": \"SUCCEEDED\", \"result\": {\"source\": \"poll\"}}");
+    awaitWaitingTasks(1);
+
+    // when
+    mockMvc
+        .perform(
+            post(callbackPath)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"SUCCEEDED\", \"result\": {\"source\": \"callback\"}}"))
+        .andExpect(status().isAccepted());
+
+    // then
+    TaskExecutionResult result =
+        execution.get(RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(result.isFailure()).isFalse();
+    assertThat(result.body().path("source").asText()).isEqualTo("poll");
+    assertThat(submitCount.get()).isEqualTo(1);
+    assertThat(pollCount.get()).isEqualTo(1);
+
+    String callbackToken = callbackPath.substring(callbackPath.lastIndexOf('/') + 1);
+    TaskAsyncHandle handle = taskAsyncHandleMapper.findByCallbackToken(callbackToken).orElseThrow();
+    assertThat(handle.getStatus()).isEqualTo("SUCCEEDED");
+    assertThat(handle.getUpstreamUrl()).isEqualTo(fastApiUrl);
+  }
+
+  @Test
+  @DisplayName("조회한 작업이 아직 진행 중이면 콜백을 받아도 끝내지 않고, 다음 콜백 뒤의 조회 결과를 따라야 한다")
+  void execute_shouldKeepWaiting_whenPolledStatusIsStillRunning() throws Exception {
+    // given
+    ObjectNode requestBody = objectMapper.createObjectNode().put("keyword", "still-running");
+    CompletableFuture<TaskExecutionResult> execution = executeAsync(taskRun(12L), requestBody);
+
+    JsonNode submitted = submittedBodies.poll(RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(submitted).isNotNull();
+    String callbackPath = URI.create(submitted.path("callback_url").asText()).getPath();
+    awaitWaitingTasks(1);
+
+    // when: 작업이 아직 진행 중인데 성공을 주장하는 콜백이 도착
+    mockMvc
+        .perform(
+            post(callbackPath)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"SUCCEEDED\", \"result\": {}}"))
+        .andExpect(status().isAccepted());
+    awaitPolls(1);
+
+    // then
+    assertThat(execution.isDone()).isFalse();
+
+    // when: 작업이 실패로 끝난 뒤 다시 콜백이 도착
+    jobStatuses.put("job-1", "{\"status\": \"FAILED\", \"error\": \"crawler crashed\"}");
+    mockMvc.perform(post(callbackPath)).andExpect(status().isAccepted());
+
+    // then
+    TaskExecutionResult result =
+        execution.get(RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(result.isFailure()).isTrue();
+    assertThat(result.message()).contains("crawler crashed");
+    assertThat(pollCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("task_async_handle에 기록된 작업이 있으면 다시 제출하지 않고 기록된 인스턴스에 조회하여 이어서 기다려야 한다")
+  void execute_shouldResumePersistedHandle_withoutResubmitting() throws Exception {
+    // given: 이전 실행이 제출해 둔 작업
+    ObjectNode requestBody = objectMapper.createObjectNode().put("keyword", "resume");
+    String callbackToken = UUID.randomUUID().toString();
+    TaskAsyncHandle persisted =
+        TaskAsyncHandle.submitted(
+            10L,
+            1L,
+            asyncTask().getId(),
+            sha256Hex(requestBody),
+            "job-persisted",
+            "/jobs/{job_id}",
+            fastApiUrl,
+            callbackToken,
+            Instant.now().plus(Duration.ofHours(1)));
+    taskAsyncHandleMapper.insert(persisted);
+    jobStatuses.put(
+        "job-persisted", "{\"status\": \"SUCCEEDED\", \"result\": {\"source\": \"persisted\"}}");
+
+    // when: 재시작 후 새 TaskRun이 같은 요청을 실행하고, 작업 완료 콜백이 도착
+    CompletableFuture<TaskExecutionResult> execution = executeAsync(taskRun(13L), requestBody);
+    awaitWaitingTasks(1);
+    mockMvc
+        .perform(post("/v0/task-callbacks/{callbackToken}", callbackToken))
+        .andExpect(status().isAccepted());
+
+    // then
+    TaskExecutionResult result =
+        execution.get(RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(result.isFailure()).isFalse();
+    assertThat(result.body().path("source").asText()).isEqualTo("persisted");
+    assertThat(submitCount.get()).isZero();
+    assertThat(pollCount.get()).isEqualTo(1);
+
+    TaskAsyncHandle handle = taskAsyncHandleMapper.findByCallbackToken(callbackToken).orElseThrow();
+    assertThat(handle.getStatus()).isEqualTo("SUCCEEDED");
+    assertThat(handle.getTaskRunId()).isEqualTo(13L);
+  }
+
+  @Test
+  @DisplayName("발급하지 않은 콜백 토큰으로 요청하면 404를 응답해야 한다")
+  void onTaskCallback_shouldReturnNotFound_forUnknownToken() throws Exception {
+    mockMvc
+        .perform(post("/v0/task-callbacks/{callbackToken}", UUID.randomUUID().toString()))
+        .andExpect(status().isNotFound());
+  }
+
+  private CompletableFuture<TaskExecutionResult> executeAsync(
+      TaskRun taskRun, ObjectNode requestBody) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            asyncTaskSupervisor.execute(
+                asyncTask(),
+                taskRun,
+                requestBody,
+                SUBMIT_ENDPOINT,
+                HttpMethod.POST,
+                1024 * 1024,
+                Duration.ofSeconds(5)));
+  }
+
+  private Task asyncTask() {
+    ObjectNode parameters = objectMapper.createObjectNode().put("async", true);
+    return new Task(1L, "비동기 크롤링 태스크", "FastAPI", parameters, null, null, null);
+  }
+
+  private TaskRun taskRun(Long id) {
+    TaskRun taskRun = TaskRun.start(1L, 1L, 1);
+    ReflectionTestUtils.setField(taskRun, "id", id);
+    return taskRun;
+  }
+
+  private String sha256Hex(JsonNode body) throws Exception {
+    byte[] content = objectMapper.writeValueAsBytes(body);
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+
+  /** 콜백을 놓치지 않도록, 작업을 기다리는 Task가 등록될 때까지 기다립니다. */
+  private void awaitWaitingTasks(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + RESULT_TIMEOUT.toNanos();
+    while (meterRegistry.get("fastapi.async.waiting").gauge().value() < expected) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private void awaitPolls(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + RESULT_TIMEOUT.toNanos();
+    while (pollCount.get() < expected) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  /** 제출은 작업 ID를 발급하고, 상태 조회는 {@link #jobStatuses}에 설정된 Body로 응답하는 FastAPI 스텁 */
+  private static void handle(HttpExchange exchange) throws IOException {
+    String path = exchange.getRequestURI().getPath();
+    String response;
+    int statusCode = 200;
+    if ("POST".equals(exchange.getRequestMethod()) && SUBMIT_ENDPOINT.equals(path)) {
+      String jobId = "job-" + submitCount.incrementAndGet();
+      jobStatuses.putIfAbsent(jobId, "{\"status\": \"RUNNING\"}");
+      byte[] body = exchange.getRequestBody().readAllBytes();
+      submittedBodies.add(stubObjectMapper.readTree(body));
+      response = "{\"job_id\": \"" + jobId + "\"}";
+    } else if ("GET".equals(exchange.getRequestMethod()) && path.startsWith("/jobs/")) {
+      pollCount.incrementAndGet();
+      response = jobStatuses.get(path.substring("/jobs/".length()));
+      if (response == null) {
+        statusCode = 404;
+        response = "{\"detail\": \"Not Found\"}";
+      }
+    } else {
+      statusCode = 404;
+      response = "{\"detail\": \"Not Found\"}";
+    }
+
+    byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(statusCode, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.domain.workflow.runner.fastapi.FastApiRateLimiter;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+/**
+ * FastApiRateLimiter의 토큰 예약에 대한 통합 테스트 클래스입니다. 실제 DB의 {@code rate_limit_bucket}을 잠가 토큰을 예약하고, 기다리는
+ * 요청이 예약한 순서대로 다음 토큰 시각까지 기다리는지 검증합니다.
+ */
+public class FastApiRateLimiterIntegrationTest extends IntegrationTestSupport {
+
+  private static final String ENDPOINT = "/test/rate-limited";
+
+  @Autowired private FastApiRateLimiter fastApiRateLimiter;
+
+  @Autowired private WorkflowExecutionProperties executionProperties;
+
+  private long originalMaxWaitMs;
+
+  /** 테스트마다 새 버킷을 사용하도록 요청 Body의 계정 값을 바꿉니다. */
+  private String blogId;
+
+  @BeforeEach
+  void setUp() {
+    originalMaxWaitMs = executionProperties.getRateLimit().getMaxWaitMs();
+    blogId = UUID.randomUUID().toString();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executionProperties.getRateLimit().setMaxWaitMs(originalMaxWaitMs);
+    executionProperties.getRateLimit().getRules().remove(ENDPOINT);
+  }
+
+  @Test
+  @DisplayName("토큰이 없으면 다음 토큰 시각을 예약하고, 기다리는 요청들은 예약한 순서대로 한 토큰 간격씩 기다려야 한다")
+  void acquire_shouldReserveNextTokens_inOrder() throws Exception {
+    // given
+    // 📌 100ms마다 토큰 하나가 채워지는 버킷
+    addRule(600);
+    fastApiRateLimiter.acquire(ENDPOINT, body(blogId));
+
+    // when
+    long startedAt = System.nanoTime();
+    List<CompletableFuture<Long>> waiters = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      waiters.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                fastApiRateLimiter.acquire(ENDPOINT, body(blogId));
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+              }));
+    }
+    List<Long> elapsedMs = new ArrayList<>();
+    for (CompletableFuture<Long> waiter : waiters) {
+      elapsedMs.add(waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    // then
+    // 세 요청이 각각 다른 토큰을 예약하므로 마지막 요청은 세 토큰 간격 가까이 기다립니다.
+    assertThat(elapsedMs).allSatisfy(ms -> assertThat(ms).isGreaterThanOrEqualTo(50));
+    assertThat(elapsedMs.stream().mapToLong(Long::longValue).max().orElseThrow())
+        .isGreaterThanOrEqualTo(250);
+  }
+
+  @Test
+  @DisplayName("최대 대기 시간보다 오래 기다려야 하면 예약하지 않고 재시도할 수 있는 실패로 끝나야 한다")
+  void acquire_shouldRejectWithoutReserving_whenWaitExceedsMaxWait() {
+    // given
+    // 📌 1초마다 토큰 하나가 채워지는 버킷
+    addRule(60);
+    executionProperties.getRateLimit().setMaxWaitMs(100);
+    fastApiRateLimiter.acquire(ENDPOINT, body(blogId));
+
+    // when & then
+    for (int i = 0; i < 2; i++) {
+      // 거절된 요청은 토큰을 예약하지 않으므로, 다시 요청해도 예상 대기 시간이 늘어나지 않습니다.
+      assertThatThrownBy(() -> fastApiRateLimiter.acquire(ENDPOINT, body(blogId)))
+          .isInstanceOfSatisfying(
+              ExternalCallFailedException.class,
+              e -> {
+                assertThat(e.isRetryable()).isTrue();
+                assertThat(e.getRetryAfter())
+                    .isGreaterThan(Duration.ofMillis(100))
+                    .isLessThanOrEqualTo(Duration.ofSeconds(1));
+              });
+    }
+  }
+
+  @Test
+  @DisplayName("버킷을 나누는 필드 값이 다른 요청은 서로의 토큰을 사용하지 않아야 한다")
+  void acquire_shouldKeepSeparateBuckets_perKeyFieldValue() {
+    // given
+    addRule(60);
+    executionProperties.getRateLimit().setMaxWaitMs(100);
+    fastApiRateLimiter.acquire(ENDPOINT, body(blogId));
+
+    // when
+    long startedAt = System.nanoTime();
+    fastApiRateLimiter.acquire(ENDPOINT, body(UUID.randomUUID().toString()));
+
+    // then
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+    assertThatThrownBy(() -> fastApiRateLimiter.acquire(ENDPOINT, body(blogId)))
+        .isInstanceOf(ExternalCallFailedException.class);
+  }
+
+  private void addRule(double refillPerMinute) {
+    WorkflowExecutionProperties.Rule rule = new WorkflowExecutionProperties.Rule();
+    rule.setKeyFields(List.of("blog_id"));
+    rule.setCapacity(1);
+    rule.setRefillPerMinute(refillPerMinute);
+    executionProperties.getRateLimit().getRules().put(ENDPOINT, rule);
+  }
+
+  private ObjectNode body(String blogId) {
+    return objectMapper.createObjectNode().put("blog_id", blogId);
+  }
+}
@@ -0,0 +1,143 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+/**
+ * RunStatePersistenceManager의 지연 기록(Write-behind)에 대한 통합 테스트 클래스입니다. 큐에 쌓인 실행 상태가 배치로 기록되는지, 배치가
+ * 실패하면 한 건씩 다시 기록하여 나머지 기록이 유실되지 않는지 실제 DB로 검증합니다.
+ */
+public class RunStatePersistenceManagerIntegrationTest extends IntegrationTestSupport {
+
+  private static final Long JOB_ID = 1L;
+  private static final Long TASK_ID = 1L;
+
+  @Autowired private RunStatePersistenceManager runStatePersistenceManager;
+
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+  @Autowired private JobRunMapper jobRunMapper;
+  @Autowired private TaskRunMapper taskRunMapper;
+  @Autowired private TaskIoDataMapper taskIoDataMapper;
+
+  @Autowired private WorkflowExecutionProperties executionProperties;
+
+  private int originalMaxAttempts;
+
+  private WorkflowRun workflowRun;
+  private JobRun jobRun;
+  private TaskRun taskRun;
+
+  @BeforeEach
+  void setUp() {
+    workflowRun = WorkflowRun.start(1L, UUID.randomUUID().toString(), "manual");
+    workflowRunMapper.insert(workflowRun);
+    jobRun = JobRun.start(workflowRun.getId(), JOB_ID);
+    jobRunMapper.insert(jobRun);
+    taskRun = TaskRun.start(jobRun.getId(), TASK_ID, 1);
+    taskRunMapper.insert(taskRun);
+    originalMaxAttempts = executionProperties.getWriteBehind().getMaxAttempts();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executionProperties.getWriteBehind().setMaxAttempts(originalMaxAttempts);
+  }
+
+  @Test
+  @DisplayName("큐에 쌓인 실행 상태는 flush 시 큐에 넣은 시점의 값으로 기록되어야 한다")
+  void flush_shouldWriteQueuedSnapshots_inBatch() {
+    // given
+    taskRun.finish("SUCCESS", "ok");
+    runStatePersistenceManager.updateTaskRun(taskRun);
+    runStatePersistenceManager.insertTaskIoData(output("response_body"));
+    jobRun.finish("SUCCESS");
+    runStatePersistenceManager.updateJobRun(jobRun);
+    workflowRun.finish("SUCCESS");
+    runStatePersistenceManager.updateWorkflowRun(workflowRun);
+
+    // 📌 큐에 넣은 뒤 객체를 바꿔도, 기록되는 값은 큐에 넣은 시점의 상태여야 합니다.
+    taskRun.finish("FAILED", "changed after enqueue");
+
+    // when
+    boolean flushed = runStatePersistenceManager.flush();
+
+    // then
+    assertThat(flushed).isTrue();
+    List<TaskRun> succeeded =
+        taskRunMapper.findSuccessfulTaskRunsByJob(workflowRun.getId(), JOB_ID);
+    assertThat(succeeded)
+        .singleElement()
+        .satisfies(saved -> assertThat(saved.getResultMessage()).isEqualTo("ok"));
+    assertThat(jobRunMapper.findSuccessfulJobByWorkflowRunId(workflowRun.getId(), JOB_ID))
+        .isNotNull();
+    assertThat(workflowRunMapper.findById(workflowRun.getId()).getStatus()).isEqualTo("SUCCESS");
+    assertThat(taskIoDataMapper.findOutputByTaskRunId(taskRun.getId())).isPresent();
+  }
+
+  @Test
+  @DisplayName("배치 중 한 건이 실패하면 나머지 기록은 한 건씩 다시 기록되어 유실되지 않아야 한다")
+  void flush_shouldFallBackToPerRowWrites_whenBatchFails() {
+    // given
+    // 📌 기록할 수 없는 작업이 다음 테스트의 기록에 섞이지 않도록 다시 기록하지 않고 바로 버립니다.
+    executionProperties.getWriteBehind().setMaxAttempts(1);
+    taskRun.finish("SUCCESS", "ok");
+    runStatePersistenceManager.updateTaskRun(taskRun);
+    // name 컬럼(varchar(100))보다 길어 기록할 수 없는 IO 데이터
+    runStatePersistenceManager.insertTaskIoData(output("x".repeat(101)));
+    runStatePersistenceManager.insertTaskIoData(output("response_body"));
+    workflowRun.finish("SUCCESS");
+    runStatePersistenceManager.updateWorkflowRun(workflowRun);
+
+    // when
+    boolean flushed = runStatePersistenceManager.flush();
+
+    // then
+    // 기록하지 못한 IO 데이터가 있으므로 flush는 실패를 알려야 합니다.
+    assertThat(flushed).isFalse();
+    assertThat(taskRunMapper.findSuccessfulTaskRunsByJob(workflowRun.getId(), JOB_ID)).hasSize(1);
+    assertThat(workflowRunMapper.findById(workflowRun.getId()).getStatus()).isEqualTo("SUCCESS");
+    assertThat(taskIoDataMapper.findByTaskRunIds(List.of(taskRun.getId()), "OUTPUT", null))
+        .singleElement()
+        .satisfies(io -> assertThat(io.getName()).isEqualTo("response_body"));
+  }
+
+  @Test
+  @DisplayName("인터럽트된 스레드에서도 최종 상태를 기록하고, 인터럽트 상태는 되돌려야 한다")
+  void flush_shouldWriteFinalState_fromInterruptedThread() {
+    // given
+    workflowRun.finish("CANCELLED");
+    runStatePersistenceManager.updateWorkflowRun(workflowRun);
+    Thread.currentThread().interrupt();
+
+    // when
+    runStatePersistenceManager.flush();
+
+    // then
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(workflowRunMapper.findById(workflowRun.getId()).getStatus()).isEqualTo("CANCELLED");
+  }
+
+  private TaskIoData output(String name) {
+    return new TaskIoData(taskRun.getId(), "OUTPUT", name, "json", "{\"ok\":true}", 11L);
+  }
+}
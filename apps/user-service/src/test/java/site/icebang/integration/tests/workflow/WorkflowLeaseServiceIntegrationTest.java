@@ -0,0 +1,179 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.service.WorkflowLeaseService;
+import site.icebang.domain.workflow.service.WorkflowLeaseService.Decision;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+/**
+ * WorkflowLeaseService의 겹침 처리 방식별 동작에 대한 통합 테스트 클래스입니다. 실제 DB의 {@code workflow_lease}를 잠가 임대를 얻고,
+ * 건너뛰거나 기다리게 된 실행의 상태가 {@code workflow_run}에 기록되는지 검증합니다. 실행을 소유한 서버가 살아 있는 동안 다른 서버가 그 실행을
+ * 복구하거나 소유하지 않는지도 검증합니다.
+ */
+@Sql(
+    value = "classpath:sql/data/03-insert-workflow-h2.sql",
+    statements = "DELETE FROM workflow_lease",
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+public class WorkflowLeaseServiceIntegrationTest extends IntegrationTestSupport {
+
+  private static final Long WORKFLOW_ID = 1L;
+
+  @Autowired private WorkflowLeaseService workflowLeaseService;
+
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+
+  private final List<Long> startedRunIds = new ArrayList<>();
+
+  /** 남은 실행을 복구 주기가 이어서 실행하지 않도록, 테스트에서 만든 실행을 모두 끝난 상태로 바꿉니다. */
+  @AfterEach
+  void finishStartedRuns() {
+    for (Long runId : startedRunIds) {
+      WorkflowRun workflowRun = workflowRunMapper.findById(runId);
+      if ("RUNNING".equals(workflowRun.getStatus()) || "QUEUED".equals(workflowRun.getStatus())) {
+        workflowRun.finish("CANCELLED");
+        workflowRunMapper.update(workflowRun);
+      }
+    }
+  }
+
+  @Test
+  @Sql(statements = "UPDATE workflow SET overlap_policy = 'ALLOW' WHERE id = 1")
+  @DisplayName("ALLOW 정책에서는 이전 실행이 끝나지 않아도 새 실행을 바로 실행해야 한다")
+  void acquire_shouldAlwaysRun_withAllowPolicy() {
+    // given
+    WorkflowRun previous = startRun();
+    assertThat(workflowLeaseService.acquire(previous)).isEqualTo(Decision.RUN);
+
+    // when
+    Decision decision = workflowLeaseService.acquire(startRun());
+
+    // then
+    assertThat(decision).isEqualTo(Decision.RUN);
+  }
+
+  @Test
+  @Sql(statements = "UPDATE workflow SET overlap_policy = 'SKIP' WHERE id = 1")
+  @DisplayName("SKIP 정책에서는 임대가 비어 있으면 실행하고, 보유 중이면 새 실행을 SKIPPED로 기록해야 한다")
+  void acquire_shouldSkipOverlappingRun_withSkipPolicy() {
+    // given
+    WorkflowRun previous = startRun();
+    assertThat(workflowLeaseService.acquire(previous)).isEqualTo(Decision.RUN);
+    WorkflowRun overlapping = startRun();
+
+    // when
+    Decision decision = workflowLeaseService.acquire(overlapping);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIPPED);
+    WorkflowRun skipped = workflowRunMapper.findById(overlapping.getId());
+    assertThat(skipped.getStatus()).isEqualTo("SKIPPED");
+    assertThat(skipped.getFinishedAt()).isNotNull();
+
+    // 임대를 반납하면 다음 실행은 다시 임대를 얻어야 합니다.
+    assertThat(workflowLeaseService.release(previous.getId())).isNull();
+    WorkflowRun next = startRun();
+    assertThat(workflowLeaseService.acquire(next)).isEqualTo(Decision.RUN);
+    workflowLeaseService.release(next.getId());
+  }
+
+  @Test
+  @Sql(statements = "UPDATE workflow SET overlap_policy = 'QUEUE_ONE' WHERE id = 1")
+  @DisplayName("QUEUE_ONE 정책에서는 하나만 QUEUED로 기다리고, 임대를 반납하면 기다리던 실행에 넘겨야 한다")
+  void acquire_shouldQueueOneRun_andHandOverLease_withQueueOnePolicy() {
+    // given
+    WorkflowRun previous = startRun();
+    assertThat(workflowLeaseService.acquire(previous)).isEqualTo(Decision.RUN);
+    WorkflowRun queued = startRun();
+    WorkflowRun extra = startRun();
+
+    // when
+    Decision queuedDecision = workflowLeaseService.acquire(queued);
+    Decision extraDecision = workflowLeaseService.acquire(extra);
+    Long nextRunId = workflowLeaseService.release(previous.getId());
+
+    // then
+    assertThat(queuedDecision).isEqualTo(Decision.QUEUED);
+    assertThat(workflowRunMapper.findById(queued.getId()).getStatus()).isEqualTo("QUEUED");
+    assertThat(extraDecision).isEqualTo(Decision.SKIPPED);
+    assertThat(workflowRunMapper.findById(extra.getId()).getStatus()).isEqualTo("SKIPPED");
+    assertThat(nextRunId).isEqualTo(queued.getId());
+
+    // 넘겨받은 실행이 임대를 반납하면 기다리는 실행이 없으므로 임대가 비어야 합니다.
+    assertThat(workflowLeaseService.release(nextRunId)).isNull();
+    WorkflowRun next = startRun();
+    assertThat(workflowLeaseService.acquire(next)).isEqualTo(Decision.RUN);
+    workflowLeaseService.release(next.getId());
+  }
+
+  @Test
+  @Sql(statements = "UPDATE workflow SET overlap_policy = 'CANCEL_PREVIOUS' WHERE id = 1")
+  @DisplayName("CANCEL_PREVIOUS 정책에서는 이전 실행에 취소를 요청하고, 더 새로운 실행이 기다리던 실행을 대신해야 한다")
+  void acquire_shouldRequestCancel_andReplaceQueuedRun_withCancelPreviousPolicy() {
+    // given
+    WorkflowRun previous = startRun();
+    assertThat(workflowLeaseService.acquire(previous)).isEqualTo(Decision.RUN);
+    WorkflowRun replaced = startRun();
+    WorkflowRun latest = startRun();
+
+    // when
+    Decision replacedDecision = workflowLeaseService.acquire(replaced);
+    Decision latestDecision = workflowLeaseService.acquire(latest);
+    Long nextRunId = workflowLeaseService.release(previous.getId());
+
+    // then
+    assertThat(replacedDecision).isEqualTo(Decision.QUEUED);
+    assertThat(latestDecision).isEqualTo(Decision.QUEUED);
+    assertThat(workflowRunMapper.findCancelRequestedIds(List.of(previous.getId())))
+        .containsExactly(previous.getId());
+    assertThat(workflowRunMapper.findById(replaced.getId()).getStatus()).isEqualTo("SKIPPED");
+    assertThat(workflowRunMapper.findById(latest.getId()).getStatus()).isEqualTo("QUEUED");
+    assertThat(nextRunId).isEqualTo(latest.getId());
+    workflowLeaseService.release(nextRunId);
+  }
+
+  @Test
+  @DisplayName("살아 있는 다른 서버가 소유한 실행은 복구 대상이 아니고 소유할 수도 없으며, 소유 기간이 지나면 복구 대상이 되어야 한다")
+  void findRecoverable_shouldExcludeRuns_ownedByLiveNode() {
+    // given
+    WorkflowRun ownedByLiveNode = startRun();
+    workflowRunMapper.claimOwner(ownedByLiveNode.getId(), "live-node", 60_000);
+    WorkflowRun ownerExpired = startRun();
+    workflowRunMapper.claimOwner(ownerExpired.getId(), "crashed-node", 0);
+    WorkflowRun unowned = startRun();
+
+    // when
+    List<Long> recoverable =
+        workflowRunMapper.findRecoverable().stream().map(WorkflowRun::getId).toList();
+
+    // then
+    assertThat(recoverable)
+        .contains(ownerExpired.getId(), unowned.getId())
+        .doesNotContain(ownedByLiveNode.getId());
+    assertThat(workflowLeaseService.claimRun(ownedByLiveNode.getId())).isFalse();
+    assertThat(workflowLeaseService.claimRun(ownerExpired.getId())).isTrue();
+    workflowLeaseService.releaseRun(ownerExpired.getId());
+  }
+
+  private WorkflowRun startRun() {
+    WorkflowRun workflowRun =
+        WorkflowRun.start(WORKFLOW_ID, UUID.randomUUID().toString(), "schedule");
+    workflowRunMapper.insert(workflowRun);
+    startedRunIds.add(workflowRun.getId());
+    return workflowRun;
+  }
+}
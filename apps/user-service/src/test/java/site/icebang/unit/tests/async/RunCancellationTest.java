@@ -0,0 +1,137 @@
+package site.icebang.unit.tests.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 워크플로우 실행 취소 시 바인딩된 스레드의 인터럽트와 등록된 자원의 중단을 검증하는 단위 테스트입니다. */
+class RunCancellationTest extends UnitTestSupport {
+
+  private final RunCancellation cancellation = new RunCancellation(1L, null);
+
+  @Test
+  @DisplayName("취소하면 바인딩된 스레드를 인터럽트하고, 바인딩이 풀리면 인터럽트 상태를 지워야 한다")
+  void cancel_shouldInterruptBoundThread_andClearFlagOnUnbind() throws Exception {
+    // given
+    CountDownLatch bound = new CountDownLatch(1);
+    CompletableFuture<Boolean> interruptedInside =
+        CompletableFuture.supplyAsync(
+            () -> {
+              boolean interrupted = cancellation.runBound(() -> sleepUntilInterrupted(bound));
+              // 바인딩이 풀린 뒤에는 인터럽트 상태가 남지 않아야 합니다.
+              return interrupted && !Thread.currentThread().isInterrupted();
+            });
+    assertThat(bound.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    boolean cancelled = cancellation.cancel("사용자 요청");
+
+    // then
+    assertThat(cancelled).isTrue();
+    assertThat(interruptedInside.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(cancellation.isCancelled()).isTrue();
+    assertThat(cancellation.getReason()).isEqualTo("사용자 요청");
+  }
+
+  @Test
+  @DisplayName("이미 취소된 실행에 바인딩하면 바로 인터럽트되어야 한다")
+  void runBound_shouldInterruptImmediately_whenAlreadyCancelled() {
+    // given
+    cancellation.cancel("마감 시각 초과");
+
+    // when
+    boolean interrupted = cancellation.runBound(() -> Thread.currentThread().isInterrupted());
+
+    // then
+    assertThat(interrupted).isTrue();
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    assertThat(RunCancellation.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("바인딩된 스레드에서 감싼 작업은 다른 스레드에서도 취소에 따라 인터럽트되어야 한다")
+  void propagate_shouldBindCancellation_inAnotherThread() throws Exception {
+    // given
+    CountDownLatch bound = new CountDownLatch(1);
+    Supplier<Boolean> propagated =
+        cancellation.runBound(() -> RunCancellation.propagate(() -> sleepUntilInterrupted(bound)));
+    CompletableFuture<Boolean> worker = CompletableFuture.supplyAsync(propagated);
+    assertThat(bound.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    cancellation.cancel("사용자 요청");
+
+    // then
+    assertThat(worker.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("취소하면 등록된 자원을 한 번만 중단하고, 취소 후 등록한 자원은 바로 중단해야 한다")
+  void abortOnCancel_shouldAbortRegisteredResources_once() {
+    // given
+    List<String> aborted = new ArrayList<>();
+    StringBuilder inFlight = new StringBuilder("in-flight");
+    cancellation.abortOnCancel(inFlight, resource -> aborted.add(resource.toString()));
+
+    // when
+    boolean first = cancellation.cancel("사용자 요청");
+    boolean second = cancellation.cancel("다시 요청");
+    cancellation.abortOnCancel("late", aborted::add);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(aborted).containsExactly("in-flight", "late");
+    assertThat(cancellation.getReason()).isEqualTo("사용자 요청");
+  }
+
+  @Test
+  @DisplayName("바인딩이 풀린 스레드는 이후의 취소에 인터럽트되지 않아야 한다")
+  void cancel_shouldNotInterruptThread_afterUnbind() {
+    // given
+    cancellation.runBound(() -> null);
+
+    // when
+    cancellation.cancel("사용자 요청");
+
+    // then
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  @Test
+  @DisplayName("마감 시각이 지났는지는 마감 시각과 같거나 늦은 시각부터 참이어야 한다")
+  void isPastDeadline_shouldCompareWithDeadline() {
+    // given
+    Instant deadline = Instant.parse("2026-01-01T00:00:00Z");
+    RunCancellation withDeadline = new RunCancellation(2L, deadline);
+
+    // when & then
+    assertThat(withDeadline.isPastDeadline(deadline.minusMillis(1))).isFalse();
+    assertThat(withDeadline.isPastDeadline(deadline)).isTrue();
+    assertThat(cancellation.isPastDeadline(deadline)).isFalse();
+  }
+
+  private static boolean sleepUntilInterrupted(CountDownLatch bound) {
+    bound.countDown();
+    try {
+      TimeUnit.SECONDS.sleep(10);
+      return false;
+    } catch (InterruptedException e) {
+      // 인터럽트 상태를 되살리는 일반적인 작업처럼 동작합니다.
+      Thread.currentThread().interrupt();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package site.icebang.unit.tests.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.exception.WorkflowAdmissionRejectedException;
+import site.icebang.global.config.async.AdmissionPriority;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 워크플로우 실행 대기열의 우선순위 순서와 대기열이 가득 찼을 때의 거절 정책을 검증하는 단위 테스트입니다. */
+class WorkflowAdmissionQueueTest extends UnitTestSupport {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+
+  /** 허가를 받아 시작된 실행. 테스트가 직접 꺼내 실행할 때까지 허가를 붙잡고 있습니다. */
+  private final Deque<Runnable> started = new ArrayDeque<>();
+
+  private final List<String> executed = new ArrayList<>();
+
+  /** 허가를 받지 못하고 대기열에서 빠져 onDropped가 호출된 실행 */
+  private final List<String> dropped = new ArrayList<>();
+
+  private WorkflowAdmissionQueue admissionQueue;
+
+  @BeforeEach
+  void setUp() {
+    properties.getAdmission().setMaxConcurrentRuns(1);
+    admissionQueue = new WorkflowAdmissionQueue(properties, meterRegistry, started::addLast);
+  }
+
+  @Test
+  @DisplayName("허가가 반납되면 우선순위가 높은 실행부터, 같은 우선순위에서는 먼저 요청된 실행부터 시작해야 한다")
+  void submit_shouldStartWaitingRuns_inPriorityThenFifoOrder() {
+    // given
+    properties.getAdmission().setMaxQueueSize(10);
+    admissionQueue.init();
+    submit(AdmissionPriority.MANUAL, "running");
+    submit(AdmissionPriority.RECOVERY, "recovery-1");
+    submit(AdmissionPriority.SCHEDULED, "scheduled-1");
+    submit(AdmissionPriority.MANUAL, "manual-1");
+    submit(AdmissionPriority.SCHEDULED, "scheduled-2");
+
+    // when
+    drain();
+
+    // then
+    assertThat(executed)
+        .containsExactly("running", "manual-1", "scheduled-1", "scheduled-2", "recovery-1");
+    assertThat(admissionQueue.depth(AdmissionPriority.SCHEDULED)).isZero();
+  }
+
+  @Test
+  @DisplayName("REJECT_NEW 정책에서는 대기열이 가득 차면 우선순위와 관계없이 새 실행을 거절해야 한다")
+  void submit_shouldRejectNewRun_whenQueueIsFull_withRejectNewPolicy() {
+    // given
+    properties.getAdmission().setMaxQueueSize(1);
+    properties
+        .getAdmission()
+        .setRejectionPolicy(WorkflowExecutionProperties.Admission.RejectionPolicy.REJECT_NEW);
+    admissionQueue.init();
+    submit(AdmissionPriority.SCHEDULED, "running");
+    submit(AdmissionPriority.RECOVERY, "recovery-1");
+
+    // when & then
+    assertThatThrownBy(() -> submit(AdmissionPriority.MANUAL, "manual-1"))
+        .isInstanceOfSatisfying(
+            WorkflowAdmissionRejectedException.class,
+            e -> assertThat(e.getPriority()).isEqualTo(AdmissionPriority.MANUAL));
+    assertThat(admissionQueue.depth(AdmissionPriority.RECOVERY)).isEqualTo(1);
+    assertThat(rejected(AdmissionPriority.MANUAL, "queue_full")).isEqualTo(1);
+
+    drain();
+    assertThat(executed).containsExactly("running", "recovery-1");
+  }
+
+  @Test
+  @DisplayName("DROP_LOWEST 정책에서는 더 낮은 우선순위의 가장 늦게 들어온 실행을 빼고 새 실행을 넣어야 한다")
+  void submit_shouldEvictLatestLowerPriorityRun_whenQueueIsFull_withDropLowestPolicy() {
+    // given
+    properties.getAdmission().setMaxQueueSize(2);
+    properties
+        .getAdmission()
+        .setRejectionPolicy(WorkflowExecutionProperties.Admission.RejectionPolicy.DROP_LOWEST);
+    admissionQueue.init();
+    submit(AdmissionPriority.MANUAL, "running");
+    submit(AdmissionPriority.RECOVERY, "recovery-1");
+    submit(AdmissionPriority.RECOVERY, "recovery-2");
+
+    // when
+    submit(AdmissionPriority.MANUAL, "manual-1");
+
+    // then
+    assertThat(admissionQueue.depth(AdmissionPriority.MANUAL)).isEqualTo(1);
+    assertThat(admissionQueue.depth(AdmissionPriority.RECOVERY)).isEqualTo(1);
+    assertThat(rejected(AdmissionPriority.RECOVERY, "evicted")).isEqualTo(1);
+    assertThat(dropped).containsExactly("recovery-2");
+
+    drain();
+    assertThat(executed).containsExactly("running", "manual-1", "recovery-1");
+  }
+
+  @Test
+  @DisplayName("DROP_LOWEST 정책에서도 더 낮은 우선순위의 실행이 없으면 새 실행을 거절해야 한다")
+  void submit_shouldRejectNewRun_whenNoLowerPriorityRunIsQueued() {
+    // given
+    properties.getAdmission().setMaxQueueSize(1);
+    properties
+        .getAdmission()
+        .setRejectionPolicy(WorkflowExecutionProperties.Admission.RejectionPolicy.DROP_LOWEST);
+    admissionQueue.init();
+    submit(AdmissionPriority.MANUAL, "running");
+    submit(AdmissionPriority.SCHEDULED, "scheduled-1");
+
+    // when & then
+    assertThatThrownBy(() -> submit(AdmissionPriority.SCHEDULED, "scheduled-2"))
+        .isInstanceOf(WorkflowAdmissionRejectedException.class);
+    assertThat(rejected(AdmissionPriority.SCHEDULED, "queue_full")).isEqualTo(1);
+    assertThat(admissionQueue.depth(AdmissionPriority.SCHEDULED)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("종료를 시작하면 기다리던 실행을 대기열에서 빼고 새 실행을 거절해야 한다")
+  void close_shouldDropWaitingRuns_andRejectNewRuns() {
+    // given
+    properties.getAdmission().setMaxQueueSize(10);
+    admissionQueue.init();
+    submit(AdmissionPriority.MANUAL, "running");
+    submit(AdmissionPriority.SCHEDULED, "scheduled-1");
+    submit(AdmissionPriority.RECOVERY, "recovery-1");
+
+    // when
+    int droppedCount = admissionQueue.close();
+
+    // then
+    assertThat(droppedCount).isEqualTo(2);
+    assertThat(dropped).containsExactlyInAnyOrder("scheduled-1", "recovery-1");
+    assertThatThrownBy(() -> submit(AdmissionPriority.MANUAL, "manual-1"))
+        .isInstanceOf(WorkflowAdmissionRejectedException.class);
+    drain();
+    assertThat(executed).containsExactly("running");
+  }
+
+  private void submit(AdmissionPriority priority, String run) {
+    admissionQueue.submit(priority, run, () -> executed.add(run), () -> dropped.add(run));
+  }
+
+  /** 시작된 실행을 하나씩 끝내며, 그때 반납된 허가로 시작되는 실행까지 모두 실행합니다. */
+  private void drain() {
+    while (!started.isEmpty()) {
+      started.pollFirst().run();
+    }
+  }
+
+  private double rejected(AdmissionPriority priority, String reason) {
+    return meterRegistry
+        .get("workflow.admission.rejected")
+        .tag("priority", priority.tagValue())
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,468 @@
+package site.icebang.unit.tests.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.exception.PayloadTooLargeException;
+import site.icebang.common.health.service.HealthCheckService;
+import site.icebang.external.fastapi.adapter.FastApiAdapter;
+import site.icebang.external.fastapi.adapter.FastApiCallResult;
+import site.icebang.external.fastapi.adapter.FastApiCompression;
+import site.icebang.external.fastapi.adapter.FastApiEndpointGuard;
+import site.icebang.external.fastapi.adapter.FastApiLatencyTracker;
+import site.icebang.external.fastapi.adapter.FastApiRequestHedger;
+import site.icebang.external.fastapi.adapter.FastApiSingleFlight;
+import site.icebang.external.fastapi.adapter.FastApiUpstreamPool;
+import site.icebang.global.config.http.FastApiClientConfig;
+import site.icebang.global.config.http.RequestTimeoutContext;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 실제 HTTP 서버 스텁을 상대로 FastAPI 호출의 커넥션 재사용, 요청별 응답 타임아웃, 요청/응답 압축, 응답 크기 제한을 검증하는 단위 테스트입니다. */
+class FastApiAdapterTest extends UnitTestSupport {
+
+  private static final String ENDPOINT = "/products/search";
+  private static final long MAX_RESPONSE_BYTES = 1024;
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration STUB_DELAY = Duration.ofMillis(500);
+  private static final byte[] KEYWORD_BODY =
+      "{\"data\":{\"keyword\":\"캠핑\"}}".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FastApiProperties properties = new FastApiProperties();
+
+  private HttpServer fastApiStub;
+  private ExecutorService stubExecutor;
+  private volatile HttpHandler stubHandler;
+
+  private FastApiUpstreamPool upstreamPool;
+  private FastApiRequestHedger requestHedger;
+  private FastApiAdapter fastApiAdapter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    // 📌 응답을 늦게 보내는 요청이 다음 요청을 막지 않도록 요청마다 스레드를 사용합니다.
+    stubExecutor = Executors.newCachedThreadPool();
+    fastApiStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    fastApiStub.createContext("/", exchange -> stubHandler.handle(exchange));
+    fastApiStub.setExecutor(stubExecutor);
+    fastApiStub.start();
+
+    properties.setUrl("http://127.0.0.1:" + fastApiStub.getAddress().getPort());
+    properties.getLoadBalancing().getHealthCheck().setEnabled(false);
+
+    FastApiLatencyTracker latencyTracker = new FastApiLatencyTracker(meterRegistry, properties);
+    upstreamPool =
+        new FastApiUpstreamPool(properties, mock(HealthCheckService.class), meterRegistry);
+    ReflectionTestUtils.invokeMethod(upstreamPool, "start");
+    requestHedger = new FastApiRequestHedger(properties, latencyTracker, meterRegistry);
+    FastApiSingleFlight singleFlight =
+        new FastApiSingleFlight(properties, objectMapper, meterRegistry);
+    ReflectionTestUtils.invokeMethod(singleFlight, "registerMetrics");
+
+    fastApiAdapter =
+        new FastApiAdapter(
+            restClient(),
+            objectMapper,
+            latencyTracker,
+            new FastApiEndpointGuard(properties, meterRegistry),
+            requestHedger,
+            singleFlight,
+            upstreamPool,
+            new FastApiCompression(properties, objectMapper, meterRegistry));
+  }
+
+  @AfterEach
+  void tearDown() {
+    fastApiStub.stop(0);
+    stubExecutor.shutdownNow();
+    ReflectionTestUtils.invokeMethod(upstreamPool, "stop");
+    ReflectionTestUtils.invokeMethod(requestHedger, "shutdown");
+  }
+
+  @Test
+  @DisplayName("제한 이내의 응답은 스트리밍으로 파싱하여 성공 결과로 반환해야 한다")
+  void callForJson_shouldParseResponse_withinLimit() {
+    // given
+    stubHandler = exchange -> respond(exchange, KEYWORD_BODY);
+
+    // when
+    FastApiCallResult result = call();
+
+    // then
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(result.statusCode()).isEqualTo(200);
+    assertThat(result.body().path("data").path("keyword").asText()).isEqualTo("캠핑");
+    assertThat(result.upstream()).isEqualTo(properties.getUrl());
+  }
+
+  @Test
+  @DisplayName("Content-Length가 제한을 넘으면 Body를 읽지 않고 PayloadTooLargeException을 던져야 한다")
+  void callForJson_shouldRejectByContentLength_beforeReadingBody() {
+    // given
+    stubHandler = exchange -> respond(exchange, jsonOfSize(2048));
+
+    // when & then
+    assertThatThrownBy(this::call)
+        .isInstanceOfSatisfying(
+            PayloadTooLargeException.class,
+            e -> assertThat(e.getLimitBytes()).isEqualTo(MAX_RESPONSE_BYTES))
+        .hasMessage("응답 크기(2048 bytes)가 제한(1024 bytes)을 초과했습니다.");
+  }
+
+  @Test
+  @DisplayName("Content-Length 없이 스트리밍되는 응답도 읽는 도중 제한을 넘으면 PayloadTooLargeException을 던져야 한다")
+  void callForJson_shouldRejectStreamedBody_whileReading() {
+    // given
+    stubHandler = exchange -> respondChunked(exchange, jsonOfSize(64 * 1024));
+
+    // when & then
+    assertThatThrownBy(this::call)
+        .isInstanceOf(PayloadTooLargeException.class)
+        .hasMessage("응답 크기가 제한(1024 bytes)을 초과했습니다.");
+  }
+
+  @Test
+  @DisplayName("스트리밍되는 응답의 크기가 제한과 같으면 초과로 보지 않아야 한다")
+  void callForJson_shouldAcceptStreamedBody_atExactLimit() {
+    // given
+    stubHandler = exchange -> respondChunked(exchange, jsonOfSize((int) MAX_RESPONSE_BYTES));
+
+    // when
+    FastApiCallResult result = call();
+
+    // then
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(result.body().path("data").asText()).hasSize((int) MAX_RESPONSE_BYTES - 11);
+  }
+
+  @Test
+  @DisplayName("연속된 요청은 풀에 반납된 Keep-alive 커넥션을 재사용하고, 풀 상태를 메트릭으로 노출해야 한다")
+  void callForJson_shouldReuseKeepAliveConnection_fromPool() {
+    // given
+    List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    stubHandler =
+        exchange -> {
+          clientPorts.add(exchange.getRemoteAddress().getPort());
+          respond(exchange, KEYWORD_BODY);
+        };
+
+    // when
+    FastApiCallResult first = call();
+    FastApiCallResult second = call();
+
+    // then
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(second.isSuccess()).isTrue();
+    // 📌 같은 클라이언트 포트로 들어왔다면 새 커넥션을 맺지 않고 재사용한 것입니다.
+    assertThat(clientPorts).hasSize(2);
+    assertThat(clientPorts.get(1)).isEqualTo(clientPorts.get(0));
+    assertThat(poolGauge("httpcomponents.httpclient.pool.total.max"))
+        .isEqualTo(properties.getPool().getMaxTotal());
+    assertThat(poolGauge("httpcomponents.httpclient.pool.total.connections", "state", "available"))
+        .isEqualTo(1);
+    assertThat(poolGauge("httpcomponents.httpclient.pool.total.connections", "state", "leased"))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("요청마다 전달한 타임아웃을 응답 타임아웃으로 적용하여, 타임아웃이 짧은 요청만 재시도 가능한 통신 실패로 끝나야 한다")
+  void callForJson_shouldApplyPerRequestTimeout() {
+    // given
+    stubHandler =
+        exchange -> {
+          pause(STUB_DELAY);
+          respond(exchange, KEYWORD_BODY);
+        };
+
+    // when
+    FastApiCallResult timedOut = call(Duration.ofMillis(100));
+    FastApiCallResult completed = call(TIMEOUT);
+
+    // then
+    assertThat(timedOut.isSuccess()).isFalse();
+    assertThat(timedOut.statusCode()).isZero();
+    assertThat(timedOut.isTransientFailure()).isTrue();
+    assertThat(timedOut.error()).startsWith("통신 실패");
+    assertThat(timedOut.elapsed()).isLessThan(STUB_DELAY);
+    assertThat(completed.isSuccess()).isTrue();
+  }
+
+  @Test
+  @DisplayName("타임아웃 컨텍스트 없이 보낸 요청에는 api.fastapi.timeout을 응답 타임아웃으로 적용해야 한다")
+  void requestFactory_shouldApplyDefaultTimeout_withoutContext() {
+    // given
+    properties.setTimeout(100);
+    RestClient restClient = restClient();
+    stubHandler =
+        exchange -> {
+          pause(STUB_DELAY);
+          respond(exchange, KEYWORD_BODY);
+        };
+    String url = properties.getUrl() + ENDPOINT;
+
+    // when & then
+    assertThatThrownBy(() -> restClient.get().uri(url).retrieve().body(String.class))
+        .isInstanceOf(ResourceAccessException.class);
+    String response =
+        RequestTimeoutContext.with(
+            TIMEOUT, () -> restClient.get().uri(url).retrieve().body(String.class));
+    assertThat(response).contains("캠핑");
+    assertThat(RequestTimeoutContext.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("Accept-Encoding으로 응답 압축을 요청하고, gzip과 deflate로 압축된 응답을 풀어서 파싱해야 한다")
+  void callForJson_shouldDecodeCompressedResponse() {
+    // given
+    AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    AtomicReference<String> responseEncoding = new AtomicReference<>("gzip");
+    stubHandler =
+        exchange -> {
+          acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+          String encoding = responseEncoding.get();
+          byte[] body =
+              "gzip".equals(encoding) ? gzip(KEYWORD_BODY) : deflate(KEYWORD_BODY);
+          respondEncoded(exchange, body, encoding);
+        };
+
+    // when
+    FastApiCallResult gzipped = call();
+    responseEncoding.set("deflate");
+    FastApiCallResult deflated = call();
+
+    // then
+    assertThat(acceptEncoding.get()).isEqualTo("gzip, deflate");
+    assertThat(gzipped.isSuccess()).isTrue();
+    assertThat(gzipped.body().path("data").path("keyword").asText()).isEqualTo("캠핑");
+    assertThat(deflated.isSuccess()).isTrue();
+    assertThat(deflated.body()).isEqualTo(gzipped.body());
+    DistributionSummary ratio =
+        meterRegistry
+            .get("fastapi.compression.ratio")
+            .tags("endpoint", ENDPOINT, "direction", "response")
+            .summary();
+    assertThat(ratio.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("엔드포인트에서 응답 압축을 끄면 Accept-Encoding을 보내지 않아야 한다")
+  void callForJson_shouldNotRequestCompression_whenDisabledForEndpoint() {
+    // given
+    FastApiProperties.Endpoint endpoint = new FastApiProperties.Endpoint();
+    endpoint.setCompressResponse(false);
+    properties.getEndpoints().put(ENDPOINT, endpoint);
+    AtomicReference<String> acceptEncoding = new AtomicReference<>("not-called");
+    stubHandler =
+        exchange -> {
+          acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+          respond(exchange, KEYWORD_BODY);
+        };
+
+    // when
+    FastApiCallResult result = call();
+
+    // then
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(acceptEncoding.get()).isNull();
+  }
+
+  @Test
+  @DisplayName("압축된 응답은 전송된 크기가 작아도 압축을 푼 크기가 제한을 넘으면 PayloadTooLargeException을 던져야 한다")
+  void callForJson_shouldLimitDecompressedSize() throws Exception {
+    // given
+    byte[] compressed = gzip(jsonOfSize(64 * 1024));
+    stubHandler = exchange -> respondEncoded(exchange, compressed, "gzip");
+
+    // when & then
+    // 📌 Content-Length는 제한보다 작으므로, 압축을 풀면서 읽는 도중에 중단되어야 합니다.
+    assertThat((long) compressed.length).isLessThan(MAX_RESPONSE_BYTES);
+    assertThatThrownBy(this::call)
+        .isInstanceOf(PayloadTooLargeException.class)
+        .hasMessage("응답 크기가 제한(1024 bytes)을 초과했습니다.");
+  }
+
+  @Test
+  @DisplayName("풀 수 없는 Content-Encoding의 응답은 재시도하지 않는 잘못된 응답으로 처리해야 한다")
+  void callForJson_shouldRejectUnsupportedContentEncoding() {
+    // given
+    stubHandler = exchange -> respondEncoded(exchange, KEYWORD_BODY, "br");
+
+    // when
+    FastApiCallResult result = call();
+
+    // then
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(result.statusCode()).isEqualTo(200);
+    assertThat(result.retryable()).isFalse();
+    assertThat(result.error()).contains("지원하지 않는 Content-Encoding: br");
+  }
+
+  @Test
+  @DisplayName("요청 압축을 켜면 기준 크기 이상의 요청 Body만 압축하여 Content-Encoding과 함께 보내야 한다")
+  void callForJson_shouldCompressRequestBody_aboveThreshold() throws Exception {
+    // given
+    properties.getCompression().setRequestEnabled(true);
+    properties.getCompression().setRequestThresholdBytes(64);
+    List<String> contentEncodings = new CopyOnWriteArrayList<>();
+    List<JsonNode> receivedBodies = new CopyOnWriteArrayList<>();
+    stubHandler =
+        exchange -> {
+          String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+          InputStream requestBody =
+              "gzip".equals(encoding)
+                  ? new GZIPInputStream(exchange.getRequestBody())
+                  : exchange.getRequestBody();
+          contentEncodings.add(String.valueOf(encoding));
+          receivedBodies.add(objectMapper.readTree(requestBody));
+          respond(exchange, KEYWORD_BODY);
+        };
+    ObjectNode small = objectMapper.createObjectNode().put("keyword", "캠핑");
+    ObjectNode large = objectMapper.createObjectNode().put("keyword", "캠핑 의자 ".repeat(20));
+
+    // when
+    FastApiCallResult smallResult = call(small);
+    FastApiCallResult largeResult = call(large);
+
+    // then
+    assertThat(smallResult.isSuccess()).isTrue();
+    assertThat(largeResult.isSuccess()).isTrue();
+    assertThat(contentEncodings).containsExactly("null", "gzip");
+    assertThat(receivedBodies).containsExactly(small, large);
+    assertThat(
+            meterRegistry
+                .get("fastapi.compression.ratio")
+                .tags("endpoint", ENDPOINT, "direction", "request")
+                .summary()
+                .count())
+        .isEqualTo(1);
+  }
+
+  private FastApiCallResult call() {
+    return call(TIMEOUT);
+  }
+
+  private FastApiCallResult call(Duration timeout) {
+    return fastApiAdapter.callForJson(
+        ENDPOINT, HttpMethod.POST, objectMapper.createObjectNode(), MAX_RESPONSE_BYTES, timeout);
+  }
+
+  private FastApiCallResult call(JsonNode requestBody) {
+    return fastApiAdapter.callForJson(
+        ENDPOINT, HttpMethod.POST, requestBody, MAX_RESPONSE_BYTES, TIMEOUT);
+  }
+
+  private RestClient restClient() {
+    ObjectProvider<MeterRegistry> meterRegistryProvider =
+        new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+            .getBeanProvider(MeterRegistry.class);
+    return RestClient.builder()
+        .requestFactory(
+            new FastApiClientConfig().fastApiRequestFactory(properties, meterRegistryProvider))
+        .build();
+  }
+
+  private double poolGauge(String name, String... tags) {
+    return meterRegistry.get(name).tag("httpclient", "fastapi").tags(tags).gauge().value();
+  }
+
+  /** {@code {"data":"aaa..."}} 형태로 정확히 {@code size} 바이트인 JSON을 만듭니다. */
+  private static byte[] jsonOfSize(int size) {
+    return ("{\"data\":\"" + "a".repeat(size - 11) + "\"}").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static void respondChunked(HttpExchange exchange, byte[] body) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    // 📌 길이를 0으로 보내면 Content-Length 없이 청크 단위로 전송됩니다.
+    exchange.sendResponseHeaders(200, 0);
+    try (OutputStream out = exchange.getResponseBody()) {
+      for (int offset = 0; offset < body.length; offset += 512) {
+        out.write(body, offset, Math.min(512, body.length - offset));
+        out.flush();
+      }
+    }
+  }
+
+  private static void respondEncoded(HttpExchange exchange, byte[] body, String contentEncoding)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+    respond(exchange, body);
+  }
+
+  private static byte[] gzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(buffer)) {
+      out.write(bytes);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] bytes) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (OutputStream out = new DeflaterOutputStream(buffer)) {
+      out.write(bytes);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static void pause(Duration delay) throws IOException {
+    try {
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("스텁 응답 대기 중 중단되었습니다.");
+    }
+  }
+}
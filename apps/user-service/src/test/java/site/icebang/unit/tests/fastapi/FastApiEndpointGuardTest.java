@@ -0,0 +1,245 @@
+package site.icebang.unit.tests.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.PayloadTooLargeException;
+import site.icebang.external.fastapi.adapter.FastApiEndpointGuard;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 엔드포인트별 서킷 브레이커의 상태 전환과 동시 호출 제한(Bulkhead)의 거절을 검증하는 단위 테스트입니다. */
+class FastApiEndpointGuardTest extends UnitTestSupport {
+
+  private static final String ENDPOINT = "/products/crawl";
+  private static final long OPEN_STATE_MS = 200;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FastApiProperties properties = new FastApiProperties();
+
+  private FastApiEndpointGuard endpointGuard;
+
+  @BeforeEach
+  void setUp() {
+    properties.setUrl("http://fastapi.test");
+    FastApiProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+    circuitBreaker.setFailureRateThreshold(50);
+    circuitBreaker.setSlidingWindowSize(4);
+    circuitBreaker.setMinimumCalls(4);
+    circuitBreaker.setOpenStateMs(OPEN_STATE_MS);
+    circuitBreaker.setHalfOpenCalls(1);
+    properties.getBulkhead().setMaxConcurrentCalls(1);
+    properties.getBulkhead().setMaxWaitMs(0);
+    endpointGuard = new FastApiEndpointGuard(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("실패 비율이 기준 이상이면 서킷이 열리고, 이후 호출은 보내지 않고 거절해야 한다")
+  void execute_shouldOpenCircuit_whenFailureRateReachesThreshold() {
+    // given
+    call(true);
+    call(true);
+    call(false);
+    call(false);
+    AtomicInteger sentCalls = new AtomicInteger();
+
+    // when & then
+    assertThat(circuitState()).isEqualTo(1);
+    assertThatThrownBy(
+            () -> endpointGuard.execute(ENDPOINT, sentCalls::incrementAndGet, result -> true))
+        .isInstanceOfSatisfying(
+            CallNotPermittedException.class,
+            e ->
+                assertThat(e.getReason())
+                    .isEqualTo(CallNotPermittedException.Reason.CIRCUIT_OPEN));
+    assertThat(sentCalls).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("최소 호출 수에 도달하기 전에는 모두 실패해도 서킷이 열리지 않아야 한다")
+  void execute_shouldKeepCircuitClosed_untilMinimumCalls() {
+    // when
+    call(false);
+    call(false);
+    call(false);
+
+    // then
+    assertThat(circuitState()).isZero();
+    assertThat(call(true)).isTrue();
+  }
+
+  @Test
+  @DisplayName("열림 시간이 지나면 시험 호출을 허용하고, 시험 호출이 성공하면 서킷이 닫혀야 한다")
+  void execute_shouldCloseCircuit_whenHalfOpenTrialSucceeds() throws Exception {
+    // given
+    openCircuit();
+    TimeUnit.MILLISECONDS.sleep(OPEN_STATE_MS + 100);
+
+    // when
+    boolean trial = call(true);
+
+    // then
+    assertThat(trial).isTrue();
+    assertThat(circuitState()).isZero();
+    assertThat(transitions("half_open")).isEqualTo(1);
+    assertThat(transitions("closed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("시험 호출이 실패하면 서킷이 다시 열려야 한다")
+  void execute_shouldReopenCircuit_whenHalfOpenTrialFails() throws Exception {
+    // given
+    openCircuit();
+    TimeUnit.MILLISECONDS.sleep(OPEN_STATE_MS + 100);
+
+    // when
+    call(false);
+
+    // then
+    assertThat(circuitState()).isEqualTo(1);
+    assertThat(transitions("open")).isEqualTo(2);
+    assertThatThrownBy(() -> call(true)).isInstanceOf(CallNotPermittedException.class);
+  }
+
+  @Test
+  @DisplayName("동시 호출 자리가 모두 사용 중이면 다음 호출을 즉시 거절해야 한다")
+  void execute_shouldRejectCall_whenBulkheadIsFull() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Boolean> holder =
+        CompletableFuture.supplyAsync(
+            () ->
+                endpointGuard.execute(
+                    ENDPOINT,
+                    () -> {
+                      started.countDown();
+                      await(release);
+                      return true;
+                    },
+                    result -> result));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when & then
+    assertThatThrownBy(() -> call(true))
+        .isInstanceOfSatisfying(
+            CallNotPermittedException.class,
+            e ->
+                assertThat(e.getReason())
+                    .isEqualTo(CallNotPermittedException.Reason.BULKHEAD_FULL));
+    assertThat(
+            meterRegistry
+                .get("fastapi.calls.rejected")
+                .tag("reason", "bulkhead_full")
+                .counter()
+                .count())
+        .isEqualTo(1);
+
+    release.countDown();
+    assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(call(true)).isTrue();
+  }
+
+  @Test
+  @DisplayName("서킷이 열리기 전에 시작된 호출의 늦은 결과는 시험 호출 결과로 세지 않아야 한다")
+  void execute_shouldIgnoreLateResult_fromPreviousGeneration() throws Exception {
+    // given
+    properties.getBulkhead().setMaxConcurrentCalls(2);
+    CountDownLatch lateStarted = new CountDownLatch(1);
+    CountDownLatch releaseLate = new CountDownLatch(1);
+    CompletableFuture<Boolean> late = blockingCall(lateStarted, releaseLate, true);
+    assertThat(lateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    openCircuit();
+    TimeUnit.MILLISECONDS.sleep(OPEN_STATE_MS + 100);
+    CountDownLatch trialStarted = new CountDownLatch(1);
+    CountDownLatch releaseTrial = new CountDownLatch(1);
+    CompletableFuture<Boolean> trial = blockingCall(trialStarted, releaseTrial, false);
+    assertThat(trialStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    releaseLate.countDown();
+    late.get(5, TimeUnit.SECONDS);
+
+    // then
+    // 📌 늦게 끝난 호출이 성공해도 서킷은 HALF_OPEN으로 남아 시험 호출의 결과를 기다립니다.
+    assertThat(circuitState()).isEqualTo(2);
+    assertThat(transitions("half_open")).isEqualTo(1);
+    releaseTrial.countDown();
+    trial.get(5, TimeUnit.SECONDS);
+    assertThat(circuitState()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("응답이 크기 제한을 넘어 실패한 호출은 엔드포인트 실패로 세지 않아야 한다")
+  void execute_shouldNotCountPayloadTooLarge_asEndpointFailure() {
+    // given
+    Supplier<Boolean> tooLarge =
+        () -> {
+          throw new PayloadTooLargeException(1024, "응답 크기 제한 초과");
+        };
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> endpointGuard.execute(ENDPOINT, tooLarge, result -> result))
+          .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    // then
+    assertThat(circuitState()).isZero();
+    assertThat(call(true)).isTrue();
+  }
+
+  private CompletableFuture<Boolean> blockingCall(
+      CountDownLatch started, CountDownLatch release, boolean success) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            endpointGuard.execute(
+                ENDPOINT,
+                () -> {
+                  started.countDown();
+                  await(release);
+                  return success;
+                },
+                result -> result));
+  }
+
+  private void openCircuit() {
+    for (int i = 0; i < 4; i++) {
+      call(false);
+    }
+    assertThat(circuitState()).isEqualTo(1);
+  }
+
+  private boolean call(boolean success) {
+    return endpointGuard.execute(ENDPOINT, () -> success, result -> result);
+  }
+
+  private double circuitState() {
+    return meterRegistry.get("fastapi.circuit.state").tag("endpoint", ENDPOINT).gauge().value();
+  }
+
+  private double transitions(String to) {
+    return meterRegistry.get("fastapi.circuit.transitions").tag("to", to).counter().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
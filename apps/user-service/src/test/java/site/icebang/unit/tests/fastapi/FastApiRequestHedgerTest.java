@@ -0,0 +1,204 @@
+package site.icebang.unit.tests.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.external.fastapi.adapter.FastApiLatencyTracker;
+import site.icebang.external.fastapi.adapter.FastApiRequestHedger;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 느린 요청에 헤징 요청을 보내는 동작과, 헤징 요청 수를 제한하는 예산을 검증하는 단위 테스트입니다. */
+class FastApiRequestHedgerTest extends UnitTestSupport {
+
+  private static final String ENDPOINT = "/keywords/search";
+  private static final long HEDGE_DELAY_MS = 20;
+  private static final long SLOW_CALL_MS = 100;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FastApiProperties properties = new FastApiProperties();
+
+  private FastApiRequestHedger requestHedger;
+
+  @BeforeEach
+  void setUp() {
+    properties.setUrl("http://fastapi.test");
+    properties.getHedging().setEnabled(true);
+    FastApiProperties.Endpoint endpoint = new FastApiProperties.Endpoint();
+    endpoint.setHedgeDelayMs(HEDGE_DELAY_MS);
+    properties.getEndpoints().put(ENDPOINT, endpoint);
+    FastApiLatencyTracker latencyTracker = new FastApiLatencyTracker(meterRegistry, properties);
+    requestHedger = new FastApiRequestHedger(properties, latencyTracker, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.invokeMethod(requestHedger, "shutdown");
+  }
+
+  @Test
+  @DisplayName("헤징 요청은 전체 요청의 budget-percent% 이내로만 보내야 한다")
+  void execute_shouldLimitHedgesToBudgetPercent() {
+    // given
+    properties.getHedging().setBudgetPercent(50);
+    properties.getHedging().setMaxBurst(1);
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      requestHedger.execute(ENDPOINT, slowCall(), result -> true);
+    }
+
+    // then
+    assertThat(counter("fastapi.hedge.requests")).isEqualTo(2);
+    assertThat(counter("fastapi.hedge.budget.exhausted")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("빠른 요청이 많아도 예산은 max-burst개까지만 쌓여야 한다")
+  void execute_shouldCapBudgetAtMaxBurst() {
+    // given
+    properties.getHedging().setBudgetPercent(50);
+    properties.getHedging().setMaxBurst(2);
+    for (int i = 0; i < 10; i++) {
+      requestHedger.execute(ENDPOINT, () -> "fast", result -> true);
+    }
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      requestHedger.execute(ENDPOINT, slowCall(), result -> true);
+    }
+
+    // then
+    // 쌓인 예산 2개와 느린 요청 네 개가 쌓은 예산 1개만 사용할 수 있습니다.
+    assertThat(counter("fastapi.hedge.requests")).isEqualTo(3);
+    assertThat(counter("fastapi.hedge.budget.exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("헤징 요청이 먼저 성공하면 그 결과를 반환하고 첫 요청은 취소해야 한다")
+  void execute_shouldReturnHedgeResult_andCancelPrimary_whenHedgeWins() {
+    // given
+    properties.getHedging().setBudgetPercent(100);
+    properties.getHedging().setMaxBurst(1);
+    AtomicInteger attempts = new AtomicInteger();
+    CountDownLatch primaryInterrupted = new CountDownLatch(1);
+    Supplier<String> call =
+        () -> {
+          if (attempts.incrementAndGet() == 2) {
+            return "hedge";
+          }
+          try {
+            TimeUnit.SECONDS.sleep(10);
+          } catch (InterruptedException e) {
+            primaryInterrupted.countDown();
+          }
+          return "primary";
+        };
+
+    // when
+    String result = requestHedger.execute(ENDPOINT, call, value -> true);
+
+    // then
+    assertThat(result).isEqualTo("hedge");
+    assertThat(attempts).hasValue(2);
+    assertThat(
+            meterRegistry.get("fastapi.hedge.wins").tag("winner", "hedge").counter().count())
+        .isEqualTo(1);
+    assertThat(awaitQuietly(primaryInterrupted)).isTrue();
+  }
+
+  @Test
+  @DisplayName("헤징 요청이 모두 실패하면 마지막으로 끝난 요청의 실패 결과를 반환해야 한다")
+  void execute_shouldReturnLastFailure_whenAllAttemptsFail() {
+    // given
+    properties.getHedging().setBudgetPercent(100);
+    properties.getHedging().setMaxBurst(1);
+
+    // when
+    String result = requestHedger.execute(ENDPOINT, slowCall(), value -> false);
+
+    // then
+    assertThat(result).isEqualTo("slow");
+    assertThat(counter("fastapi.hedge.requests")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("결과를 기다리는 중 인터럽트되면 null 대신 재시도할 수 있는 실패를 던지고 인터럽트 상태를 유지해야 한다")
+  void execute_shouldThrowRetryableFailure_whenCallerIsInterrupted() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    Supplier<String> call =
+        () -> {
+          started.countDown();
+          try {
+            TimeUnit.SECONDS.sleep(10);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "primary";
+        };
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    AtomicBoolean interruptedAfter = new AtomicBoolean();
+    Thread caller =
+        new Thread(
+            () -> {
+              try {
+                requestHedger.execute(ENDPOINT, call, value -> true);
+              } catch (RuntimeException e) {
+                thrown.set(e);
+              }
+              interruptedAfter.set(Thread.currentThread().isInterrupted());
+            });
+    caller.start();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    caller.interrupt();
+    caller.join(5_000);
+
+    // then
+    assertThat(thrown.get())
+        .isInstanceOfSatisfying(
+            ExternalCallFailedException.class, e -> assertThat(e.isRetryable()).isTrue());
+    assertThat(interruptedAfter).isTrue();
+  }
+
+  private Supplier<String> slowCall() {
+    return () -> {
+      try {
+        TimeUnit.MILLISECONDS.sleep(SLOW_CALL_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "slow";
+    };
+  }
+
+  private double counter(String name) {
+    return meterRegistry.find(name).counters().stream().mapToDouble(c -> c.count()).sum();
+  }
+
+  private static boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
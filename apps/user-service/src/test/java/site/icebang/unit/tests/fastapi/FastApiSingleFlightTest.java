@@ -0,0 +1,256 @@
+package site.icebang.unit.tests.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.external.fastapi.adapter.FastApiCallResult;
+import site.icebang.external.fastapi.adapter.FastApiSingleFlight;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 동시에 실행되는 같은 FastAPI 요청을 하나로 합치는 Single-flight 동작을 검증하는 단위 테스트입니다. */
+class FastApiSingleFlightTest extends UnitTestSupport {
+
+  private static final String ENDPOINT = "/keywords/search";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FastApiProperties properties = new FastApiProperties();
+
+  private FastApiSingleFlight singleFlight;
+
+  @BeforeEach
+  void setUp() {
+    properties.setUrl("http://fastapi.test");
+    singleFlight = new FastApiSingleFlight(properties, objectMapper, meterRegistry);
+    ReflectionTestUtils.invokeMethod(singleFlight, "registerMetrics");
+  }
+
+  @Test
+  @DisplayName("진행 중인 같은 요청이 있으면 새 요청을 보내지 않고 그 응답을 함께 사용해야 한다")
+  void execute_shouldCoalesceConcurrentIdenticalRequests() throws Exception {
+    // given
+    AtomicInteger sentCalls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<FastApiCallResult> call =
+        () -> {
+          sentCalls.incrementAndGet();
+          await(release);
+          return success("keyword", "naver");
+        };
+    CompletableFuture<FastApiCallResult> leader =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitInFlight();
+
+    // when
+    // 📌 필드 순서만 다른 Body도 같은 요청으로 합쳐져야 합니다.
+    CompletableFuture<FastApiCallResult> follower =
+        CompletableFuture.supplyAsync(() -> execute(reversedBody("naver", 10), call));
+    awaitCoalesced(1);
+    release.countDown();
+
+    // then
+    assertThat(sentCalls).hasValue(1);
+    assertThat(leader.get(5, TimeUnit.SECONDS).body().path("keyword").asText())
+        .isEqualTo("naver");
+    assertThat(follower.get(5, TimeUnit.SECONDS).body().path("keyword").asText())
+        .isEqualTo("naver");
+  }
+
+  @Test
+  @DisplayName("합쳐진 요청은 응답의 복사본을 받아, 한 쪽에서 수정해도 다른 쪽에 영향이 없어야 한다")
+  void execute_shouldHandFollowerAnIndependentCopy() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<FastApiCallResult> call =
+        () -> {
+          await(release);
+          return success("keyword", "naver");
+        };
+    CompletableFuture<FastApiCallResult> leader =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitInFlight();
+    CompletableFuture<FastApiCallResult> follower =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitCoalesced(1);
+    release.countDown();
+
+    // when
+    FastApiCallResult leaderResult = leader.get(5, TimeUnit.SECONDS);
+    FastApiCallResult followerResult = follower.get(5, TimeUnit.SECONDS);
+    ((ObjectNode) followerResult.body()).put("keyword", "modified");
+
+    // then
+    assertThat(followerResult.body()).isNotSameAs(leaderResult.body());
+    assertThat(leaderResult.body().path("keyword").asText()).isEqualTo("naver");
+  }
+
+  @Test
+  @DisplayName("Body가 다른 요청은 합치지 않고 각각 보내야 한다")
+  void execute_shouldNotCoalesceDifferentRequests() throws Exception {
+    // given
+    AtomicInteger sentCalls = new AtomicInteger();
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Supplier<FastApiCallResult> call =
+        () -> {
+          sentCalls.incrementAndGet();
+          bothStarted.countDown();
+          await(bothStarted);
+          return success("keyword", "any");
+        };
+
+    // when
+    CompletableFuture<FastApiCallResult> first =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    CompletableFuture<FastApiCallResult> second =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 20), call));
+
+    // then
+    assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(second.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(sentCalls).hasValue(2);
+    assertThat(meterRegistry.find("fastapi.singleflight.coalesced").counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("먼저 보낸 요청이 예외로 끝나면 합쳐진 요청도 같은 예외를 받아야 한다")
+  void execute_shouldPropagateLeaderException_toFollower() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<FastApiCallResult> call =
+        () -> {
+          await(release);
+          throw new IllegalStateException("leader failed");
+        };
+    CompletableFuture<FastApiCallResult> leader =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitInFlight();
+    CompletableFuture<FastApiCallResult> follower =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitCoalesced(1);
+
+    // when
+    release.countDown();
+
+    // then
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasRootCauseMessage("leader failed");
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasRootCauseMessage("leader failed");
+  }
+
+  @Test
+  @DisplayName("먼저 보낸 요청이 취소되면 합쳐진 요청은 그 결과를 받지 않고 같은 요청을 다시 보내야 한다")
+  void execute_shouldReissueFollowerRequest_whenLeaderIsCancelled() throws Exception {
+    // given
+    AtomicInteger sentCalls = new AtomicInteger();
+    AtomicReference<Thread> leaderThread = new AtomicReference<>();
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    Supplier<FastApiCallResult> call =
+        () -> {
+          if (sentCalls.incrementAndGet() == 1) {
+            leaderThread.set(Thread.currentThread());
+            leaderStarted.countDown();
+            try {
+              TimeUnit.SECONDS.sleep(10);
+            } catch (InterruptedException e) {
+              // 📌 헤징과 같이 인터럽트 상태를 되살리고 재시도할 수 있는 실패로 알립니다.
+              Thread.currentThread().interrupt();
+              throw new ExternalCallFailedException("요청 대기 중 인터럽트 발생", true, null);
+            }
+          }
+          return success("keyword", "naver");
+        };
+    CompletableFuture<FastApiCallResult> leader =
+        CompletableFuture.supplyAsync(
+            () -> execute(body("naver", 10), call), runnable -> new Thread(runnable).start());
+    assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<FastApiCallResult> follower =
+        CompletableFuture.supplyAsync(() -> execute(body("naver", 10), call));
+    awaitCoalesced(1);
+
+    // when
+    leaderThread.get().interrupt();
+
+    // then
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ExternalCallFailedException.class);
+    FastApiCallResult followerResult = follower.get(5, TimeUnit.SECONDS);
+    assertThat(followerResult.isSuccess()).isTrue();
+    assertThat(followerResult.body().path("keyword").asText()).isEqualTo("naver");
+    assertThat(sentCalls).hasValue(2);
+  }
+
+  private FastApiCallResult execute(JsonNode requestBody, Supplier<FastApiCallResult> call) {
+    return singleFlight.execute(ENDPOINT, HttpMethod.POST, requestBody, call);
+  }
+
+  private FastApiCallResult success(String field, String value) {
+    return FastApiCallResult.success(
+        200, objectMapper.createObjectNode().put(field, value), Duration.ofMillis(1));
+  }
+
+  private ObjectNode body(String tag, int limit) {
+    return objectMapper.createObjectNode().put("tag", tag).put("limit", limit);
+  }
+
+  private ObjectNode reversedBody(String tag, int limit) {
+    return objectMapper.createObjectNode().put("limit", limit).put("tag", tag);
+  }
+
+  private void awaitInFlight() throws InterruptedException {
+    awaitMetric(() -> meterRegistry.get("fastapi.singleflight.inflight").gauge().value(), 1);
+  }
+
+  private void awaitCoalesced(double count) throws InterruptedException {
+    awaitMetric(
+        () -> {
+          Counter counter = meterRegistry.find("fastapi.singleflight.coalesced").counter();
+          return counter != null ? counter.count() : 0;
+        },
+        count);
+  }
+
+  private static void awaitMetric(Supplier<Double> metric, double expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (metric.get() < expected) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package site.icebang.unit.tests.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.health.service.HealthCheckService;
+import site.icebang.external.fastapi.adapter.FastApiUpstreamPool;
+import site.icebang.external.fastapi.adapter.FastApiUpstreamPool.Outcome;
+import site.icebang.external.fastapi.adapter.FastApiUpstreamPool.Upstream;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 진행 중인 요청이 가장 적은 FastAPI 인스턴스를 고르고, 연속으로 실패한 인스턴스를 제외하는 동작을 검증하는 단위 테스트입니다. */
+class FastApiUpstreamPoolTest extends UnitTestSupport {
+
+  private static final String FASTAPI_1 = "http://fastapi-1:8000";
+  private static final String FASTAPI_2 = "http://fastapi-2:8000";
+  private static final String FASTAPI_3 = "http://fastapi-3:8000";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FastApiProperties properties = new FastApiProperties();
+  private final HealthCheckService healthCheckService = mock(HealthCheckService.class);
+
+  private FastApiUpstreamPool upstreamPool;
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.invokeMethod(upstreamPool, "stop");
+  }
+
+  @Test
+  @DisplayName("진행 중인 요청이 가장 적은 인스턴스로 요청을 보내야 한다")
+  void acquire_shouldPickLeastOutstandingInstance() {
+    // given
+    startPool(FASTAPI_1, FASTAPI_2, FASTAPI_3);
+
+    // when
+    List<Upstream> acquired = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      acquired.add(upstreamPool.acquire());
+    }
+    Upstream finished = acquired.get(1);
+    upstreamPool.release(finished, Outcome.SUCCESS);
+    Upstream next = upstreamPool.acquire();
+
+    // then
+    // 📌 세 요청이 모두 진행 중이면 세 인스턴스에 하나씩 나누어 보냅니다.
+    assertThat(acquired)
+        .extracting(Upstream::baseUrl)
+        .containsExactlyInAnyOrder(FASTAPI_1, FASTAPI_2, FASTAPI_3);
+    assertThat(next).isSameAs(finished);
+    assertThat(outstanding(finished)).isEqualTo(1);
+    assertThat(requests(finished)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("연속으로 consecutive-failures번 실패한 인스턴스는 제외되고, 성공하면 실패 횟수를 처음부터 다시 세야 한다")
+  void release_shouldEjectInstance_afterConsecutiveFailures() {
+    // given
+    properties.getLoadBalancing().setConsecutiveFailures(2);
+    startPool(FASTAPI_1, FASTAPI_2, FASTAPI_3);
+
+    // when
+    fail(FASTAPI_1);
+    succeed(FASTAPI_1);
+    fail(FASTAPI_1);
+    boolean availableAfterInterruptedFailures = available(FASTAPI_1);
+    fail(FASTAPI_1);
+
+    // then
+    assertThat(availableAfterInterruptedFailures).isTrue();
+    assertThat(available(FASTAPI_1)).isFalse();
+    assertThat(ejections(FASTAPI_1)).isEqualTo(1);
+    for (int i = 0; i < 4; i++) {
+      assertThat(upstreamPool.acquire().baseUrl()).isNotEqualTo(FASTAPI_1);
+    }
+  }
+
+  @Test
+  @DisplayName("max-ejection-percent만큼 제외된 뒤에는 실패한 인스턴스를 더 제외하지 않아야 한다")
+  void release_shouldNotEject_beyondMaxEjectionPercent() {
+    // given
+    properties.getLoadBalancing().setConsecutiveFailures(1);
+    properties.getLoadBalancing().setMaxEjectionPercent(50);
+    startPool(FASTAPI_1, FASTAPI_2);
+
+    // when
+    fail(FASTAPI_1);
+    fail(FASTAPI_2);
+
+    // then
+    assertThat(available(FASTAPI_1)).isFalse();
+    assertThat(available(FASTAPI_2)).isTrue();
+    assertThat(ejections(FASTAPI_2)).isZero();
+    assertThat(upstreamPool.acquire().baseUrl()).isEqualTo(FASTAPI_2);
+  }
+
+  @Test
+  @DisplayName("다시 제외될 때마다 제외 시간이 base-ejection-ms의 배수로 늘어나고, max-ejection-ms를 넘지 않아야 한다")
+  void release_shouldBackOffEjection_upToMaxEjection() throws Exception {
+    // given
+    properties.getLoadBalancing().setConsecutiveFailures(1);
+    properties.getLoadBalancing().setMaxEjectionPercent(100);
+    properties.getLoadBalancing().setBaseEjectionMs(60);
+    properties.getLoadBalancing().setMaxEjectionMs(150);
+    startPool(FASTAPI_1, FASTAPI_2);
+
+    // when
+    List<Long> ejectionMs = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      fail(FASTAPI_1);
+      ejectionMs.add(remainingEjectionMs(FASTAPI_1));
+      awaitAvailable(FASTAPI_1);
+    }
+    succeed(FASTAPI_1);
+    fail(FASTAPI_1);
+    long afterSuccessMs = remainingEjectionMs(FASTAPI_1);
+
+    // then
+    assertThat(ejectionMs.get(0)).isBetween(40L, 60L);
+    assertThat(ejectionMs.get(1)).isBetween(100L, 120L);
+    assertThat(ejectionMs.get(2)).isBetween(130L, 150L);
+    // 📌 성공하면 제외 횟수도 초기화되어 다시 base-ejection-ms부터 시작합니다.
+    assertThat(afterSuccessMs).isBetween(40L, 60L);
+  }
+
+  @Test
+  @DisplayName("보낼 수 있는 인스턴스가 없으면 제외를 무시하고 모든 인스턴스 중에서 골라야 한다")
+  void acquire_shouldFallBackToUnavailableInstances_whenNoneIsAvailable() {
+    // given
+    properties.getLoadBalancing().getHealthCheck().setUnhealthyThreshold(1);
+    when(healthCheckService.isHealthy(any(), any())).thenReturn(false);
+    startPool(FASTAPI_1, FASTAPI_2);
+    ReflectionTestUtils.invokeMethod(upstreamPool, "probeAll");
+
+    // when
+    Upstream first = upstreamPool.acquire();
+    Upstream second = upstreamPool.acquire();
+
+    // then
+    assertThat(available(FASTAPI_1)).isFalse();
+    assertThat(available(FASTAPI_2)).isFalse();
+    assertThat(List.of(first.baseUrl(), second.baseUrl()))
+        .containsExactlyInAnyOrder(FASTAPI_1, FASTAPI_2);
+  }
+
+  @Test
+  @DisplayName("헬스 체크에 실패한 인스턴스는 다시 응답할 때까지 제외해야 한다")
+  void probeAll_shouldExcludeUnhealthyInstance_untilItResponds() {
+    // given
+    properties.getLoadBalancing().getHealthCheck().setUnhealthyThreshold(2);
+    when(healthCheckService.isHealthy(eq(FASTAPI_1), any())).thenReturn(false, false, true);
+    when(healthCheckService.isHealthy(eq(FASTAPI_2), any())).thenReturn(true);
+    startPool(FASTAPI_1, FASTAPI_2);
+
+    // when
+    ReflectionTestUtils.invokeMethod(upstreamPool, "probeAll");
+    boolean availableAfterOneFailure = available(FASTAPI_1);
+    ReflectionTestUtils.invokeMethod(upstreamPool, "probeAll");
+    boolean availableAfterTwoFailures = available(FASTAPI_1);
+    ReflectionTestUtils.invokeMethod(upstreamPool, "probeAll");
+
+    // then
+    assertThat(availableAfterOneFailure).isTrue();
+    assertThat(availableAfterTwoFailures).isFalse();
+    assertThat(available(FASTAPI_1)).isTrue();
+  }
+
+  @Test
+  @DisplayName("withPinned 안의 요청은 진행 중인 요청 수나 제외 여부와 관계없이 지정한 인스턴스로 보내야 한다")
+  void withPinned_shouldRouteToPinnedInstance_evenWhenEjected() {
+    // given
+    properties.getLoadBalancing().setConsecutiveFailures(1);
+    startPool(FASTAPI_1, FASTAPI_2, FASTAPI_3);
+    fail(FASTAPI_2);
+    upstreamPool.withPinned(FASTAPI_2, upstreamPool::acquire);
+
+    // when
+    // 📌 비동기 작업을 제출한 인스턴스로 상태 조회를 보내는 상황입니다.
+    Upstream polled = upstreamPool.withPinned(FASTAPI_2, upstreamPool::acquire);
+    Upstream nested =
+        upstreamPool.withPinned(
+            FASTAPI_2, () -> upstreamPool.withPinned(FASTAPI_3, upstreamPool::acquire));
+    Upstream unpinned = upstreamPool.withPinned(null, upstreamPool::acquire);
+
+    // then
+    assertThat(available(FASTAPI_2)).isFalse();
+    assertThat(polled.baseUrl()).isEqualTo(FASTAPI_2);
+    assertThat(outstanding(polled)).isEqualTo(2);
+    assertThat(nested.baseUrl()).isEqualTo(FASTAPI_3);
+    assertThat(unpinned.baseUrl()).isEqualTo(FASTAPI_1);
+    assertThat(upstreamPool.acquire().baseUrl()).isNotEqualTo(FASTAPI_2);
+  }
+
+  @Test
+  @DisplayName("설정에서 빠진 인스턴스로 고정된 요청도 그 인스턴스로 보내되, 메트릭과 제외 대상에는 포함하지 않아야 한다")
+  void withPinned_shouldRouteToRemovedInstance_withoutTrackingIt() {
+    // given
+    properties.getLoadBalancing().setConsecutiveFailures(1);
+    startPool(FASTAPI_1, FASTAPI_2);
+    String removed = "http://fastapi-9:8000";
+
+    // when
+    Upstream polled = upstreamPool.withPinned(removed, upstreamPool::acquire);
+    upstreamPool.release(polled, Outcome.FAILURE);
+
+    // then
+    assertThat(polled.baseUrl()).isEqualTo(removed);
+    assertThat(polled.instance()).isEqualTo("fastapi-9:8000");
+    assertThat(
+            meterRegistry
+                .find("fastapi.upstream.requests")
+                .tag("instance", "fastapi-9:8000")
+                .counter())
+        .isNull();
+    assertThat(meterRegistry.find("fastapi.upstream.ejections").counter()).isNull();
+  }
+
+  private void startPool(String... urls) {
+    properties.setUrl(urls[0]);
+    properties.setInstances(List.of(urls));
+    // 📌 헬스 체크는 테스트에서 직접 호출합니다.
+    properties.getLoadBalancing().getHealthCheck().setEnabled(false);
+    upstreamPool = new FastApiUpstreamPool(properties, healthCheckService, meterRegistry);
+    ReflectionTestUtils.invokeMethod(upstreamPool, "start");
+  }
+
+  private void fail(String baseUrl) {
+    upstreamPool.release(upstreamPool.withPinned(baseUrl, upstreamPool::acquire), Outcome.FAILURE);
+  }
+
+  private void succeed(String baseUrl) {
+    upstreamPool.release(upstreamPool.withPinned(baseUrl, upstreamPool::acquire), Outcome.SUCCESS);
+  }
+
+  private long remainingEjectionMs(String baseUrl) {
+    Upstream upstream = upstreamPool.withPinned(baseUrl, upstreamPool::acquire);
+    upstreamPool.release(upstream, Outcome.IGNORED);
+    long ejectedUntilNanos = (long) ReflectionTestUtils.getField(upstream, "ejectedUntilNanos");
+    return TimeUnit.NANOSECONDS.toMillis(ejectedUntilNanos - System.nanoTime());
+  }
+
+  private void awaitAvailable(String baseUrl) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!available(baseUrl) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private boolean available(String baseUrl) {
+    return meterRegistry
+            .get("fastapi.upstream.available")
+            .tag("instance", instance(baseUrl))
+            .gauge()
+            .value()
+        == 1;
+  }
+
+  private int outstanding(Upstream upstream) {
+    return (int)
+        meterRegistry
+            .get("fastapi.upstream.outstanding")
+            .tag("instance", upstream.instance())
+            .gauge()
+            .value();
+  }
+
+  private double requests(Upstream upstream) {
+    return meterRegistry
+        .get("fastapi.upstream.requests")
+        .tag("instance", upstream.instance())
+        .counter()
+        .count();
+  }
+
+  private double ejections(String baseUrl) {
+    Counter counter =
+        meterRegistry
+            .find("fastapi.upstream.ejections")
+            .tag("instance", instance(baseUrl))
+            .counter();
+    return counter == null ? 0 : counter.count();
+  }
+
+  private static String instance(String baseUrl) {
+    return baseUrl.substring("http://".length());
+  }
+}
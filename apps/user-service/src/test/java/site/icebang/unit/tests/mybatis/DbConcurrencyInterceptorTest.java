@@ -0,0 +1,171 @@
+package site.icebang.unit.tests.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.global.config.mybatis.DbConcurrencyInterceptor;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 백그라운드 작업의 DB 허가를 매퍼 호출과 트랜잭션 단위로 보유하고 반납하는 동작을 검증하는 단위 테스트입니다. */
+class DbConcurrencyInterceptorTest extends UnitTestSupport {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+
+  /** 매퍼 호출이 실행되는 시점마다 남아 있던 DB 허가 수 */
+  private final List<Integer> availableDuringCalls = new ArrayList<>();
+
+  private DbConcurrencyInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    properties.getDbConcurrency().setMaxWaitMs(50);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.unbindResourceIfPossible(interceptor);
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖의 매퍼 호출은 호출 동안에만 허가를 보유해야 한다")
+  void intercept_shouldHoldPermitOnlyDuringCall_outsideTransaction() throws Throwable {
+    // given
+    initInterceptor(2);
+
+    // when
+    interceptor.intercept(mapperCall());
+    interceptor.intercept(mapperCall());
+
+    // then
+    assertThat(availableDuringCalls).containsExactly(1, 1);
+    assertThat(availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 매퍼 호출은 여러 번 호출해도 허가 하나를 트랜잭션이 끝날 때까지 보유해야 한다")
+  void intercept_shouldHoldOnePermitPerTransaction_untilAfterCompletion() throws Throwable {
+    // given
+    initInterceptor(2);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    interceptor.intercept(mapperCall());
+    interceptor.intercept(mapperCall());
+    interceptor.intercept(mapperCall());
+    int availableBeforeCompletion = availablePermits();
+    completeTransaction();
+
+    // then
+    assertThat(availableDuringCalls).containsExactly(1, 1, 1);
+    assertThat(availableBeforeCompletion).isEqualTo(1);
+    assertThat(availablePermits()).isEqualTo(2);
+    assertThat(TransactionSynchronizationManager.hasResource(interceptor)).isFalse();
+  }
+
+  @Test
+  @DisplayName("HTTP 요청을 처리하는 스레드는 남은 허가가 없어도 기다리지 않고 매퍼를 호출해야 한다")
+  void intercept_shouldBypassPermits_onHttpRequestThread() throws Throwable {
+    // given
+    initInterceptor(1);
+    TransactionSynchronizationManager.initSynchronization();
+    interceptor.intercept(mapperCall());
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    // when
+    interceptor.intercept(mapperCall());
+
+    // then
+    assertThat(availableDuringCalls).containsExactly(0, 0);
+  }
+
+  @Test
+  @DisplayName("max-wait-ms 안에 허가를 얻지 못하면 매퍼를 호출하지 않고 일시적인 DB 오류로 실패해야 한다")
+  void intercept_shouldRejectCall_whenPermitIsNotAcquiredWithinMaxWait() throws Throwable {
+    // given
+    initInterceptor(1);
+    Invocation rejectedCall = mapperCall();
+    List<Throwable> rejections = new ArrayList<>();
+    // 📌 허가를 보유한 매퍼 호출 안에서 다른 매퍼 호출을 시도합니다.
+    Invocation holdingCall = mock(Invocation.class);
+    when(holdingCall.proceed())
+        .thenAnswer(
+            inv -> {
+              try {
+                interceptor.intercept(rejectedCall);
+              } catch (Throwable e) {
+                rejections.add(e);
+              }
+              return null;
+            });
+
+    // when
+    long startedAt = System.nanoTime();
+    interceptor.intercept(holdingCall);
+    long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+    // then
+    assertThat(rejections)
+        .singleElement()
+        .isInstanceOf(TransientDataAccessResourceException.class);
+    assertThat(elapsedMs).isGreaterThanOrEqualTo(50);
+    verify(rejectedCall, never()).proceed();
+    assertThat(availablePermits()).isEqualTo(1);
+  }
+
+  private Invocation mapperCall() throws Throwable {
+    Invocation invocation = mock(Invocation.class);
+    when(invocation.proceed())
+        .thenAnswer(
+            inv -> {
+              availableDuringCalls.add(availablePermits());
+              return null;
+            });
+    return invocation;
+  }
+
+  private void initInterceptor(int maxConcurrentCalls) {
+    properties.getDbConcurrency().setMaxConcurrentCalls(maxConcurrentCalls);
+    interceptor = new DbConcurrencyInterceptor(properties, meterRegistry);
+    interceptor.init();
+  }
+
+  private void completeTransaction() {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(
+        synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+  }
+
+  private int availablePermits() {
+    return (int) meterRegistry.get("workflow.db.permits.available").gauge().value();
+  }
+}
@@ -0,0 +1,114 @@
+package site.icebang.unit.tests.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import site.icebang.common.exception.CallNotPermittedException;
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.global.config.retry.CauseClassifyingRetryPolicy;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 실패 원인에 따라 재시도 여부를 결정하는 CauseClassifyingRetryPolicy를 검증하는 단위 테스트입니다. */
+class CauseClassifyingRetryPolicyTest extends UnitTestSupport {
+
+  @Test
+  @DisplayName("연결 실패와 일시적인 HTTP 상태는 재시도 대상이어야 한다")
+  void isRetryable_shouldRetryTransientFailures() {
+    assertThat(CauseClassifyingRetryPolicy.isRetryable(new ResourceAccessException("timeout")))
+        .isTrue();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)))
+        .isTrue();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)))
+        .isTrue();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new HttpClientErrorException(HttpStatus.REQUEST_TIMEOUT)))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("다시 보내도 성공할 수 없는 실패는 재시도 대상이 아니어야 한다")
+  void isRetryable_shouldNotRetryPermanentFailures() {
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new HttpClientErrorException(HttpStatus.BAD_REQUEST)))
+        .isFalse();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new HttpServerErrorException(HttpStatus.NOT_IMPLEMENTED)))
+        .isFalse();
+    assertThat(CauseClassifyingRetryPolicy.isRetryable(new IllegalArgumentException("bad task")))
+        .isFalse();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new CallNotPermittedException(
+                    "/products/crawl", CallNotPermittedException.Reason.CIRCUIT_OPEN)))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("감싸진 예외는 원인(cause)을 따라가며 분류하고, ExternalCallFailedException의 판단을 따라야 한다")
+  void isRetryable_shouldFollowCauseChain() {
+    RuntimeException wrappedBadRequest =
+        new RuntimeException("Task 실행 실패", new HttpClientErrorException(HttpStatus.NOT_FOUND));
+    assertThat(CauseClassifyingRetryPolicy.isRetryable(wrappedBadRequest)).isFalse();
+
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new ExternalCallFailedException("503 응답", true, null)))
+        .isTrue();
+    assertThat(
+            CauseClassifyingRetryPolicy.isRetryable(
+                new ExternalCallFailedException("400 응답", false, null)))
+        .isFalse();
+    assertThat(CauseClassifyingRetryPolicy.isRetryable(new IllegalStateException("unknown")))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("재시도할 수 없는 실패는 첫 시도에서 바로 끝나고, 재시도할 수 있는 실패는 최대 횟수만큼 시도해야 한다")
+  void retryTemplate_shouldStopEarly_onlyForPermanentFailures() {
+    // given
+    RetryTemplate retryTemplate = new RetryTemplate();
+    retryTemplate.setRetryPolicy(new CauseClassifyingRetryPolicy(3));
+    retryTemplate.setBackOffPolicy(new NoBackOffPolicy());
+    AtomicInteger permanentAttempts = new AtomicInteger();
+    AtomicInteger transientAttempts = new AtomicInteger();
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                retryTemplate.execute(
+                    context -> {
+                      permanentAttempts.incrementAndGet();
+                      throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+                    }))
+        .isInstanceOf(HttpClientErrorException.class);
+    assertThatThrownBy(
+            () ->
+                retryTemplate.execute(
+                    context -> {
+                      transientAttempts.incrementAndGet();
+                      throw new ResourceAccessException("connection refused");
+                    }))
+        .isInstanceOf(ResourceAccessException.class);
+
+    assertThat(permanentAttempts.get()).isEqualTo(1);
+    assertThat(transientAttempts.get()).isEqualTo(3);
+  }
+}
@@ -0,0 +1,88 @@
+package site.icebang.unit.tests.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.context.RetryContextSupport;
+
+import site.icebang.common.exception.ExternalCallFailedException;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.global.config.retry.RetryAfterBackOffPolicy;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 지수 대기와 Retry-After를 따르는 RetryAfterBackOffPolicy의 대기 시간을 검증하는 단위 테스트입니다. */
+class RetryAfterBackOffPolicyTest extends UnitTestSupport {
+
+  @Test
+  @DisplayName("마지막 실패가 Retry-After를 알려주면 최소한 그 시간만큼 기다려야 한다")
+  void backOff_shouldWaitAtLeastRetryAfter() {
+    // given
+    RetryAfterBackOffPolicy policy = new RetryAfterBackOffPolicy(retryConfig(1, 10_000));
+    ExternalCallFailedException tooManyRequests =
+        new ExternalCallFailedException("429", true, Duration.ofMillis(300));
+    BackOffContext backOffContext = policy.start(lastFailure(tooManyRequests));
+
+    // when
+    long elapsedMs = measureBackOff(policy, backOffContext);
+
+    // then
+    assertThat(elapsedMs).isGreaterThanOrEqualTo(300);
+  }
+
+  @Test
+  @DisplayName("Retry-After가 max-retry-after-ms보다 길면 상한만큼만 기다려야 한다")
+  void backOff_shouldCapRetryAfter() {
+    // given
+    RetryAfterBackOffPolicy policy = new RetryAfterBackOffPolicy(retryConfig(1, 100));
+    ExternalCallFailedException unavailable =
+        new ExternalCallFailedException("503", true, Duration.ofHours(1));
+    BackOffContext backOffContext = policy.start(lastFailure(unavailable));
+
+    // when
+    long elapsedMs = measureBackOff(policy, backOffContext);
+
+    // then
+    assertThat(elapsedMs).isBetween(100L, 5_000L);
+  }
+
+  @Test
+  @DisplayName("Retry-After가 없으면 지수적으로 늘어난 간격의 절반에서 전체 사이만큼 기다려야 한다")
+  void backOff_shouldUseJitteredExponentialInterval() {
+    // given
+    WorkflowExecutionProperties.Retry config = retryConfig(100, 10_000);
+    config.setMultiplier(2.0);
+    RetryAfterBackOffPolicy policy = new RetryAfterBackOffPolicy(config);
+    BackOffContext backOffContext = policy.start(lastFailure(new IllegalStateException("boom")));
+
+    // when: 두 번째 대기는 200ms 간격이므로 100~200ms를 기다림
+    measureBackOff(policy, backOffContext);
+    long secondMs = measureBackOff(policy, backOffContext);
+
+    // then
+    assertThat(secondMs).isBetween(100L, 2_000L);
+  }
+
+  private WorkflowExecutionProperties.Retry retryConfig(
+      long initialIntervalMs, long maxRetryAfterMs) {
+    WorkflowExecutionProperties.Retry config = new WorkflowExecutionProperties.Retry();
+    config.setInitialIntervalMs(initialIntervalMs);
+    config.setMaxRetryAfterMs(maxRetryAfterMs);
+    return config;
+  }
+
+  private RetryContextSupport lastFailure(Throwable throwable) {
+    RetryContextSupport context = new RetryContextSupport(null);
+    context.registerThrowable(throwable);
+    return context;
+  }
+
+  private long measureBackOff(RetryAfterBackOffPolicy policy, BackOffContext backOffContext) {
+    long startedAt = System.nanoTime();
+    policy.backOff(backOffContext);
+    return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+  }
+}
@@ -0,0 +1,66 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** Task/Job 의존성 그래프의 위상 정렬과 순환 감지 동작을 검증하는 단위 테스트입니다. */
+class DependencyGraphTest extends UnitTestSupport {
+
+  @Test
+  @DisplayName("의존성을 만족하면서 의존 관계가 없는 노드는 입력 순서를 유지해야 한다")
+  void orderedNodes_shouldRespectDependencies_andKeepInputOrder() {
+    // given
+    Map<String, Set<String>> deps =
+        Map.of(
+            "키워드", Set.of(),
+            "상품 검색", Set.of("키워드"),
+            "S3 업로드", Set.of("상품 검색"),
+            "상품 선택", Set.of("S3 업로드"),
+            "OCR", Set.of("키워드", "S3 업로드"));
+    List<String> nodes = List.of("키워드", "상품 검색", "S3 업로드", "상품 선택", "OCR");
+
+    // when
+    DependencyGraph<String, String> graph = DependencyGraph.of(nodes, name -> name, deps::get);
+
+    // then
+    assertThat(graph.getOrderedNodes()).containsExactly("키워드", "상품 검색", "S3 업로드", "상품 선택", "OCR");
+    assertThat(graph.getDependencies("OCR")).containsExactlyInAnyOrder("키워드", "S3 업로드");
+  }
+
+  @Test
+  @DisplayName("그래프 밖의 노드를 가리키는 의존성은 이미 충족된 것으로 간주해야 한다")
+  void dependenciesOutsideGraph_shouldBeIgnored() {
+    // given
+    List<String> nodes = List.of("블로그 RAG 생성", "블로그 발행");
+    Map<String, Set<String>> deps =
+        Map.of("블로그 RAG 생성", Set.of("상품 선택"), "블로그 발행", Set.of("블로그 RAG 생성"));
+
+    // when
+    DependencyGraph<String, String> graph = DependencyGraph.of(nodes, name -> name, deps::get);
+
+    // then
+    assertThat(graph.getDependencies("블로그 RAG 생성")).isEmpty();
+    assertThat(graph.getOrderedNodes()).containsExactly("블로그 RAG 생성", "블로그 발행");
+  }
+
+  @Test
+  @DisplayName("순환 의존성이 있으면 예외가 발생해야 한다")
+  void cyclicDependencies_shouldThrow() {
+    List<String> nodes = List.of("A", "B");
+    Map<String, Set<String>> deps = Map.of("A", Set.of("B"), "B", Set.of("A"));
+
+    assertThatThrownBy(() -> DependencyGraph.of(nodes, name -> name, deps::get))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("순환 의존성");
+  }
+}
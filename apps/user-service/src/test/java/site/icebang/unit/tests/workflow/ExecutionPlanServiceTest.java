@@ -0,0 +1,333 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.schedule.service.ScheduleService;
+import site.icebang.domain.workflow.dto.JobDto;
+import site.icebang.domain.workflow.dto.TaskDto;
+import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.JobMapper;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.TaskMapper;
+import site.icebang.domain.workflow.mapper.WorkflowMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilderRegistry;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskInputs;
+import site.icebang.domain.workflow.service.ExecutionPlanService;
+import site.icebang.domain.workflow.service.WorkflowService;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 워크플로우 정의를 실행 계획으로 컴파일할 때 Task 간 의존성을 구성하는 방식과, 컴파일된 계획을 캐싱하고 무효화하는 동작을 검증하는 단위 테스트입니다. */
+class ExecutionPlanServiceTest extends UnitTestSupport {
+
+  private static final Long WORKFLOW_ID = 1L;
+  private static final Long JOB_ID = 10L;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WorkflowMapper workflowMapper = mock(WorkflowMapper.class);
+  private final JobMapper jobMapper = mock(JobMapper.class);
+  private final WorkflowExecutionProperties executionProperties =
+      new WorkflowExecutionProperties();
+
+  private final List<TaskDto> tasks = new ArrayList<>();
+
+  private ExecutionPlanService executionPlanService;
+
+  @BeforeEach
+  void setUp() {
+    when(workflowMapper.selectWorkflowDetailById(any())).thenReturn(new WorkflowDetailCardDto());
+    JobDto job = new JobDto();
+    job.setId(JOB_ID);
+    job.setName("상품 분석");
+    job.setExecutionOrder(1);
+    when(jobMapper.findJobsByWorkflowId(anyLong()))
+        .thenAnswer(inv -> new ArrayList<>(List.of(job)));
+    when(jobMapper.findTasksByJobId(JOB_ID)).thenAnswer(inv -> new ArrayList<>(tasks));
+    TaskBodyBuilderRegistry registry =
+        new TaskBodyBuilderRegistry(List.of(builder("상품 검색", Set.of("키워드 검색"))));
+    executionPlanService =
+        new ExecutionPlanService(
+            workflowMapper, jobMapper, objectMapper, registry, Map.of(), executionProperties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("빌더 소스와 depends_on이 모두 없는 Task는 execution_order가 더 앞선 모든 Task 뒤에 실행되어야 한다")
+  void getPlan_shouldFallBackToExecutionOrder_whenTaskDeclaresNothing() throws Exception {
+    // given
+    tasks.add(task(1L, "키워드 검색", 1, null));
+    tasks.add(task(2L, "상품 검색", 2, null));
+    tasks.add(task(3L, "상품 기록", 2, null));
+    tasks.add(task(4L, "상품 선택", 3, null));
+
+    // when
+    DependencyGraph<String, ExecutionPlan.TaskPlan> graph = taskGraph();
+
+    // then
+    // 📌 같은 execution_order의 Task끼리는 서로 의존하지 않습니다.
+    assertThat(dependencies(graph, "상품 검색")).containsExactly("키워드 검색");
+    assertThat(dependencies(graph, "상품 기록")).containsExactly("키워드 검색");
+    assertThat(dependencies(graph, "상품 선택"))
+        .containsExactlyInAnyOrder("키워드 검색", "상품 검색", "상품 기록");
+  }
+
+  @Test
+  @DisplayName("depends_on이 명시된 Task는 execution_order와 관계없이 명시된 Task에만 의존해야 한다")
+  void getPlan_shouldUseDeclaredDependsOn_evenWhenEmpty() throws Exception {
+    // given
+    tasks.add(task(1L, "키워드 검색", 1, null));
+    tasks.add(task(2L, "상품 검색", 2, null));
+    tasks.add(task(3L, "알림 발송", 3, dependsOn()));
+    tasks.add(task(4L, "상품 선택", 3, dependsOn("상품 검색")));
+
+    // when
+    DependencyGraph<String, ExecutionPlan.TaskPlan> graph = taskGraph();
+
+    // then
+    assertThat(dependencies(graph, "알림 발송")).isEmpty();
+    assertThat(dependencies(graph, "상품 선택")).containsExactly("상품 검색");
+  }
+
+  @Test
+  @DisplayName("캐싱된 계획이 plan-cache-size를 넘으면 가장 오래 사용하지 않은 워크플로우의 계획부터 버려야 한다")
+  void getPlan_shouldEvictLeastRecentlyUsedPlan_whenCacheIsFull() throws Exception {
+    // given
+    executionProperties.setPlanCacheSize(2);
+    ExecutionPlan first = executionPlanService.getPlan(1L);
+    ExecutionPlan second = executionPlanService.getPlan(2L);
+    executionPlanService.getPlan(1L);
+
+    // when
+    executionPlanService.getPlan(3L);
+
+    // then
+    assertThat(executionPlanService.getPlan(1L)).isSameAs(first);
+    assertThat(executionPlanService.getPlan(2L)).isNotSameAs(second);
+    verify(jobMapper, times(1)).findJobsByWorkflowId(1L);
+    verify(jobMapper, times(2)).findJobsByWorkflowId(2L);
+  }
+
+  @Test
+  @DisplayName("plan-cache-ttl-ms가 지난 계획은 무효화되지 않았더라도 다시 컴파일해야 한다")
+  void getPlan_shouldRecompile_afterTtlExpires() throws Exception {
+    // given
+    executionProperties.setPlanCacheTtlMs(20);
+    ExecutionPlan cached = executionPlanService.getPlan(WORKFLOW_ID);
+    assertThat(executionPlanService.getPlan(WORKFLOW_ID)).isSameAs(cached);
+
+    // when
+    Thread.sleep(50);
+    ExecutionPlan recompiled = executionPlanService.getPlan(WORKFLOW_ID);
+
+    // then
+    assertThat(recompiled).isNotSameAs(cached);
+    verify(jobMapper, times(2)).findJobsByWorkflowId(WORKFLOW_ID);
+  }
+
+  @Test
+  @DisplayName("컴파일하는 도중 무효화되면 컴파일한 계획을 캐싱하지 않아야 한다")
+  void getPlan_shouldNotCachePlan_invalidatedDuringCompile() throws Exception {
+    // given
+    // 📌 정의를 조회한 직후 다른 스레드가 정의를 변경하고 무효화한 상황입니다.
+    JobDto job = new JobDto();
+    job.setId(JOB_ID);
+    job.setName("상품 분석");
+    job.setExecutionOrder(1);
+    when(jobMapper.findJobsByWorkflowId(WORKFLOW_ID))
+        .thenAnswer(
+            inv -> {
+              executionPlanService.invalidate(WORKFLOW_ID);
+              return new ArrayList<>(List.of(job));
+            })
+        .thenAnswer(inv -> new ArrayList<>(List.of(job)));
+
+    // when
+    ExecutionPlan stale = executionPlanService.getPlan(WORKFLOW_ID);
+    ExecutionPlan fresh = executionPlanService.getPlan(WORKFLOW_ID);
+
+    // then
+    assertThat(fresh).isNotSameAs(stale);
+    assertThat(executionPlanService.getPlan(WORKFLOW_ID)).isSameAs(fresh);
+    verify(jobMapper, times(2)).findJobsByWorkflowId(WORKFLOW_ID);
+  }
+
+  @Test
+  @DisplayName("Job이나 Task를 생성하면 트랜잭션이 커밋된 뒤에 모든 워크플로우의 계획을 버려야 한다")
+  void createJobAndTask_shouldInvalidateAllPlans_afterCommit() throws Exception {
+    // given
+    WorkflowService workflowService = workflowService();
+    JobDto newJob = new JobDto();
+    newJob.setName("블로그 콘텐츠 생성");
+    TaskDto newTask = task(null, "블로그 발행", 1, null);
+
+    for (Runnable create :
+        List.<Runnable>of(
+            () -> workflowService.createJob(newJob), () -> workflowService.createTask(newTask))) {
+      ExecutionPlan first = executionPlanService.getPlan(1L);
+      ExecutionPlan second = executionPlanService.getPlan(2L);
+      TransactionSynchronizationManager.initSynchronization();
+
+      // when
+      create.run();
+
+      // then
+      // 📌 커밋 전에는 변경 전 정의가 다시 캐싱되지 않도록 캐시를 그대로 둡니다.
+      assertThat(executionPlanService.getPlan(1L)).isSameAs(first);
+      commitTransaction();
+      assertThat(executionPlanService.getPlan(1L)).isNotSameAs(first);
+      assertThat(executionPlanService.getPlan(2L)).isNotSameAs(second);
+    }
+  }
+
+  @Test
+  @DisplayName("워크플로우를 활성화하거나 비활성화하면 트랜잭션이 커밋된 뒤에 해당 워크플로우의 계획만 버려야 한다")
+  void activateAndDeactivate_shouldInvalidateWorkflowPlan_afterCommit() throws Exception {
+    // given
+    WorkflowService workflowService = workflowService();
+    when(workflowMapper.updateWorkflowEnabled(any(), any(Boolean.class))).thenReturn(1);
+    ExecutionPlan other = executionPlanService.getPlan(2L);
+
+    for (Runnable toggle :
+        List.<Runnable>of(
+            () -> workflowService.deactivateWorkflow(BigInteger.valueOf(WORKFLOW_ID)),
+            () -> workflowService.activateWorkflow(BigInteger.valueOf(WORKFLOW_ID)))) {
+      ExecutionPlan cached = executionPlanService.getPlan(WORKFLOW_ID);
+      TransactionSynchronizationManager.initSynchronization();
+
+      // when
+      toggle.run();
+
+      // then
+      assertThat(executionPlanService.getPlan(WORKFLOW_ID)).isSameAs(cached);
+      commitTransaction();
+      assertThat(executionPlanService.getPlan(WORKFLOW_ID)).isNotSameAs(cached);
+      assertThat(executionPlanService.getPlan(2L)).isSameAs(other);
+    }
+  }
+
+  @Test
+  @DisplayName("롤백된 트랜잭션에서 요청한 무효화는 반영하지 않아야 한다")
+  void invalidate_shouldBeDiscarded_whenTransactionRollsBack() throws Exception {
+    // given
+    ExecutionPlan cached = executionPlanService.getPlan(WORKFLOW_ID);
+    TransactionSynchronizationManager.initSynchronization();
+    executionPlanService.invalidate(WORKFLOW_ID);
+
+    // when
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(
+        synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // then
+    assertThat(executionPlanService.getPlan(WORKFLOW_ID)).isSameAs(cached);
+  }
+
+  private WorkflowService workflowService() {
+    return new WorkflowService(
+        workflowMapper,
+        mock(ScheduleService.class),
+        jobMapper,
+        mock(TaskMapper.class),
+        mock(TaskIoDataMapper.class),
+        mock(TaskIoDataStore.class),
+        executionPlanService);
+  }
+
+  /** 등록된 트랜잭션 동기화에 커밋을 알리고 트랜잭션을 끝냅니다. */
+  private static void commitTransaction() {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    synchronizations.forEach(
+        synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+  }
+
+  private DependencyGraph<String, ExecutionPlan.TaskPlan> taskGraph() throws Exception {
+    ExecutionPlan plan = executionPlanService.getPlan(WORKFLOW_ID);
+    return plan.jobGraph().getOrderedNodes().getFirst().taskGraph();
+  }
+
+  private static Set<String> dependencies(
+      DependencyGraph<String, ExecutionPlan.TaskPlan> graph, String taskName) {
+    return graph.getOrderedNodes().stream()
+        .filter(taskPlan -> taskPlan.task().getName().equals(taskName))
+        .findFirst()
+        .map(graph::getDependencies)
+        .orElseThrow();
+  }
+
+  private TaskDto task(Long id, String name, int executionOrder, ObjectNode parameters) {
+    TaskDto task = new TaskDto();
+    task.setId(id);
+    task.setName(name);
+    task.setType("FastAPI");
+    task.setExecutionOrder(executionOrder);
+    task.setParameters(parameters);
+    return task;
+  }
+
+  private ObjectNode dependsOn(String... taskNames) {
+    ObjectNode parameters = objectMapper.createObjectNode();
+    List.of(taskNames).forEach(parameters.putArray("depends_on")::add);
+    return parameters;
+  }
+
+  private static TaskBodyBuilder builder(String taskName, Set<String> sourceTaskNames) {
+    return new TaskBodyBuilder() {
+      @Override
+      public String getTaskName() {
+        return taskName;
+      }
+
+      @Override
+      public Set<String> getSourceTaskNames() {
+        return sourceTaskNames;
+      }
+
+      @Override
+      public ObjectNode build(Task task, JobRun jobRun, TaskInputs inputs) {
+        return null;
+      }
+    };
+  }
+}
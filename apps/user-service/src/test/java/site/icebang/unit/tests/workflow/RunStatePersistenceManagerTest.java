@@ -0,0 +1,134 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 실행 상태 지연 기록에서 기록에 실패한 작업을 다시 기록하고, 실패를 호출한 쪽에 알리는 동작을 검증하는 단위 테스트입니다. */
+class RunStatePersistenceManagerTest extends UnitTestSupport {
+
+  private static final String WORKFLOW_RUN_UPDATE =
+      "site.icebang.domain.workflow.mapper.WorkflowRunMapper.update";
+  private static final String TASK_RUN_UPDATE =
+      "site.icebang.domain.workflow.mapper.TaskRunMapper.update";
+
+  private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+  private final SqlSession sqlSession = mock(SqlSession.class);
+  private final WorkflowExecutionProperties executionProperties =
+      new WorkflowExecutionProperties();
+
+  private RunStatePersistenceManager persistenceManager;
+
+  @BeforeEach
+  void setUp() {
+    when(sqlSessionFactory.openSession(any(ExecutorType.class))).thenReturn(sqlSession);
+    // 📌 테스트가 직접 flush하도록 주기적인 기록은 사실상 끕니다.
+    executionProperties.getWriteBehind().setFlushIntervalMs(600_000);
+    executionProperties.getWriteBehind().setMaxAttempts(3);
+    persistenceManager =
+        new RunStatePersistenceManager(
+            sqlSessionFactory, mock(PlatformTransactionManager.class), executionProperties);
+    ReflectionTestUtils.invokeMethod(persistenceManager, "start");
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.invokeMethod(persistenceManager, "shutdown");
+  }
+
+  @Test
+  @DisplayName("기록에 실패한 최종 상태는 flush가 실패를 알리고, 다음 flush에서 다시 기록되어야 한다")
+  void flush_shouldReportFailure_andRetryFailedWrite() {
+    // given
+    when(sqlSession.update(anyString(), any()))
+        .thenThrow(new TransientDataAccessResourceException("DB 호출 대기 시간 초과"))
+        .thenThrow(new TransientDataAccessResourceException("DB 호출 대기 시간 초과"))
+        .thenReturn(1);
+    persistenceManager.updateWorkflowRun(finishedRun());
+
+    // when
+    boolean first = persistenceManager.flush();
+    boolean second = persistenceManager.flush();
+
+    // then
+    // 배치 기록과 한 건씩 기록이 모두 실패한 뒤, 다음 flush에서 다시 기록합니다.
+    assertThat(first).isFalse();
+    assertThat(second).isTrue();
+    verify(sqlSession, times(3)).update(eq(WORKFLOW_RUN_UPDATE), any());
+  }
+
+  @Test
+  @DisplayName("max-attempts번 모두 실패한 작업은 버리고, 이후의 flush는 다시 기록하지 않아야 한다")
+  void flush_shouldDropWrite_afterMaxAttempts() {
+    // given
+    when(sqlSession.update(anyString(), any()))
+        .thenThrow(new TransientDataAccessResourceException("DB 호출 대기 시간 초과"));
+    persistenceManager.updateWorkflowRun(finishedRun());
+
+    // when
+    boolean[] results = new boolean[4];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = persistenceManager.flush();
+    }
+
+    // then
+    assertThat(results).containsExactly(false, false, false, true);
+    // 📌 flush마다 배치 기록과 한 건씩 기록을 한 번씩 시도합니다.
+    verify(sqlSession, times(6)).update(eq(WORKFLOW_RUN_UPDATE), any());
+  }
+
+  @Test
+  @DisplayName("같은 실행 상태를 더 나중에 기록한 작업이 성공하면, 그 전에 실패한 작업은 다시 기록하지 않아야 한다")
+  void flush_shouldNotRetryWrite_overwrittenByLaterWrite() {
+    // given
+    when(sqlSession.update(anyString(), any())).thenReturn(1);
+    // 📌 큐에 넣은 시점의 상태가 RUNNING인 기록만 실패합니다.
+    when(sqlSession.update(anyString(), argThat(update -> update.toString().contains("RUNNING"))))
+        .thenThrow(new TransientDataAccessResourceException("DB 호출 대기 시간 초과"));
+    TaskRun taskRun = TaskRun.start(1L, 1L, 1);
+    ReflectionTestUtils.setField(taskRun, "id", 7L);
+    persistenceManager.updateTaskRun(taskRun);
+    taskRun.finish("SUCCESS", "ok");
+    persistenceManager.updateTaskRun(taskRun);
+
+    // when
+    boolean first = persistenceManager.flush();
+    boolean second = persistenceManager.flush();
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    // 배치 기록 1번과 한 건씩 기록 2번 외에는 다시 기록하지 않습니다.
+    verify(sqlSession, times(3)).update(eq(TASK_RUN_UPDATE), any());
+  }
+
+  private WorkflowRun finishedRun() {
+    WorkflowRun workflowRun = WorkflowRun.start(1L, "trace-id", "manual");
+    ReflectionTestUtils.setField(workflowRun, "id", 1L);
+    workflowRun.finish("SUCCESS");
+    return workflowRun;
+  }
+}
@@ -0,0 +1,142 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.workflow.runner.fastapi.body.ImageOcrBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.ProductSelectBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.ProductSimilarityBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilderRegistry;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskInputMapping;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskInputs;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** Task 이름으로 Body 빌더를 찾는 레지스트리와, 빌더가 선언한 입력 매핑을 이전 Task 결과에 적용하는 동작을 검증하는 단위 테스트입니다. */
+class TaskBodyBuilderRegistryTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final ProductSimilarityBodyBuilder similarityBuilder =
+      new ProductSimilarityBodyBuilder(objectMapper);
+  private final ImageOcrBodyBuilder ocrBuilder = new ImageOcrBodyBuilder(objectMapper);
+  private final ProductSelectBodyBuilder selectBuilder = new ProductSelectBodyBuilder(objectMapper);
+
+  @Test
+  @DisplayName("등록된 빌더는 Task 이름으로 찾고, 지원하는 빌더가 없으면 null을 반환해야 한다")
+  void find_shouldReturnBuilderByTaskName() {
+    // given
+    TaskBodyBuilderRegistry registry =
+        new TaskBodyBuilderRegistry(List.of(similarityBuilder, ocrBuilder, selectBuilder));
+
+    // when & then
+    assertThat(registry.find("상품 유사도 분석 태스크")).isSameAs(similarityBuilder);
+    assertThat(registry.find("이미지 OCR 태스크")).isSameAs(ocrBuilder);
+    assertThat(registry.find("상품 선택 태스크")).isSameAs(selectBuilder);
+    assertThat(registry.find("알 수 없는 태스크")).isNull();
+    assertThat(registry.find(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("같은 Task 이름의 빌더가 둘 이상 등록되면 시작할 때 실패해야 한다")
+  void constructor_shouldRejectDuplicateTaskNames() {
+    // given
+    List<TaskBodyBuilder> builders =
+        List.of(similarityBuilder, new ProductSimilarityBodyBuilder(objectMapper));
+
+    // when & then
+    assertThatThrownBy(() -> new TaskBodyBuilderRegistry(builders))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("상품 유사도 분석 태스크");
+  }
+
+  @Test
+  @DisplayName("입력 매핑은 JSON Pointer가 가리키는 값만 꺼내 Body 필드로 옮기고, 결과의 다른 필드는 옮기지 않아야 한다")
+  void resolve_shouldMoveValuesAtPointers_intoBodyFields() {
+    // given
+    Map<String, JsonNode> sourceOutputs =
+        Map.of(
+            "키워드 검색 태스크",
+            json("{\"data\":{\"keyword\":\"캠핑 의자\",\"total\":3}}"),
+            "상품 매칭 태스크",
+            json("{\"data\":{\"matched_products\":[{\"id\":1},{\"id\":2}]}}"),
+            "상품 검색 태스크",
+            json("{\"data\":{\"search_results\":[{\"id\":3}]},\"success\":true}"));
+
+    // when
+    TaskInputs inputs = TaskInputs.resolve(similarityBuilder.getInputMappings(), sourceOutputs);
+    ObjectNode body = similarityBuilder.build(null, null, inputs);
+
+    // then
+    assertThat(similarityBuilder.getInputSourceTaskNames())
+        .containsExactly("키워드 검색 태스크", "상품 매칭 태스크", "상품 검색 태스크");
+    assertThat(body)
+        .isEqualTo(
+            json(
+                "{\"keyword\":\"캠핑 의자\","
+                    + "\"matched_products\":[{\"id\":1},{\"id\":2}],"
+                    + "\"search_results\":[{\"id\":3}]}"));
+    // 📌 이전 Task 결과의 노드를 복사하지 않고 그대로 담습니다.
+    assertThat(body.get("matched_products"))
+        .isSameAs(sourceOutputs.get("상품 매칭 태스크").at("/data/matched_products"));
+  }
+
+  @Test
+  @DisplayName("결과가 없거나 경로에 값이 없거나 nonBlank 매핑의 값이 공백이면 해당 필드를 매핑하지 않아야 한다")
+  void resolve_shouldSkipMissingAndBlankValues() {
+    // given
+    List<TaskInputMapping> mappings =
+        List.of(
+            TaskInputMapping.of("상품 검색 태스크", "/data/items/1/name", "second_item"),
+            TaskInputMapping.of("상품 검색 태스크", "/data/missing", "missing"),
+            TaskInputMapping.of("상품 검색 태스크", "/data/memo", "memo"),
+            TaskInputMapping.of("상품 검색 태스크", "/data/memo", "memo_non_blank").nonBlank(),
+            TaskInputMapping.of("실행되지 않은 태스크", "/data/keyword", "keyword"));
+    Map<String, JsonNode> sourceOutputs =
+        Map.of(
+            "상품 검색 태스크",
+            json("{\"data\":{\"items\":[{\"name\":\"의자\"},{\"name\":\"테이블\"}],\"memo\":\"  \"}}"));
+
+    // when
+    TaskInputs inputs = TaskInputs.resolve(mappings, sourceOutputs);
+
+    // then
+    assertThat(inputs.get("second_item").asText()).isEqualTo("테이블");
+    assertThat(inputs.get("memo").asText()).isEqualTo("  ");
+    assertThat(inputs.get("missing").isMissingNode()).isTrue();
+    assertThat(inputs.get("memo_non_blank").isMissingNode()).isTrue();
+    assertThat(inputs.get("keyword").isMissingNode()).isTrue();
+    assertThat(inputs.applyTo(objectMapper.createObjectNode()).properties())
+        .extracting(Map.Entry::getKey)
+        .containsExactly("second_item", "memo");
+  }
+
+  @Test
+  @DisplayName("실행 순서만을 위해 의존하는 Task는 의존성에는 포함하되, 결과를 조회할 Task에는 포함하지 않아야 한다")
+  void getInputSourceTaskNames_shouldExcludeOrderOnlyDependencies() {
+    // when & then
+    assertThat(ocrBuilder.getSourceTaskNames())
+        .containsExactlyInAnyOrder("키워드 검색 태스크", "S3 업로드 태스크");
+    assertThat(ocrBuilder.getInputSourceTaskNames()).containsExactly("키워드 검색 태스크");
+    assertThat(selectBuilder.getSourceTaskNames()).containsExactly("S3 업로드 태스크");
+    assertThat(selectBuilder.getInputSourceTaskNames()).isEmpty();
+  }
+
+  private JsonNode json(String value) {
+    try {
+      return objectMapper.readTree(value);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
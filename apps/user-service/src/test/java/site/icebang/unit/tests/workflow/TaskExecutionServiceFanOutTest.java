@@ -0,0 +1,216 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.support.RetryTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.ShardOutputStore;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.model.FanOutSpec;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** Fan-out으로 나누어 실행한 샤드 결과의 병합 규칙과, 이어서 실행할 때 성공한 샤드를 건너뛰는 동작을 검증하는 단위 테스트입니다. */
+class TaskExecutionServiceFanOutTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final TaskIoDataMapper taskIoDataMapper = mock(TaskIoDataMapper.class);
+  private final RunStatePersistenceManager runStatePersistenceManager =
+      mock(RunStatePersistenceManager.class);
+
+  /** 지연 기록 큐에 넣은 샤드 결과 */
+  private final List<TaskIoData> recordedShards = new ArrayList<>();
+
+  private final TaskExecutionService taskExecutionService =
+      new TaskExecutionService(
+          Map.of(),
+          RetryTemplate.builder().maxAttempts(1).build(),
+          objectMapper,
+          Runnable::run,
+          new ShardOutputStore(
+              taskIoDataMapper,
+              new TaskIoDataStore(objectMapper, new WorkflowExecutionProperties()),
+              runStatePersistenceManager,
+              objectMapper));
+
+  /** crawl_service.py처럼 요청마다 index를 1부터 매기는 Runner */
+  private final TaskRunner crawlRunner =
+      (task, taskRun, requestBody) -> {
+        ArrayNode products = objectMapper.createArrayNode();
+        JsonNode urls = requestBody.path("product_urls");
+        for (int i = 0; i < urls.size(); i++) {
+          products.addObject().put("index", i + 1).put("url", urls.get(i).asText());
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode data = response.putObject("data");
+        data.set("crawled_products", products);
+        data.put("success_count", urls.size());
+        data.put("fail_count", 0);
+        return TaskRunner.TaskExecutionResult.success(response);
+      };
+
+  @Test
+  @DisplayName("renumber가 선언된 배열은 샤드를 합친 뒤 원래 입력 순서대로 번호가 겹치지 않아야 한다")
+  void executeWithFanOut_shouldRenumberIndexAcrossShards() throws Exception {
+    // given
+    FanOutSpec fanOut =
+        FanOutSpec.from(
+            objectMapper.readTree(
+                """
+                {"fan_out": {"field": "product_urls", "shard_size": 1, "max_parallelism": 4,
+                  "merge": {"concat": ["/data/crawled_products"],
+                            "sum": ["/data/success_count", "/data/fail_count"],
+                            "renumber": {"/data/crawled_products": "index"}}}}
+                """));
+    ObjectNode requestBody = objectMapper.createObjectNode();
+    requestBody.putArray("product_urls").add("url-1").add("url-2").add("url-3");
+
+    // when
+    TaskRunner.TaskExecutionResult result =
+        taskExecutionService.executeWithFanOut(
+            crawlTask(), new TaskRun(), requestBody, crawlRunner, fanOut);
+
+    // then
+    assertThat(result.isFailure()).isFalse();
+    JsonNode products = result.body().at("/data/crawled_products");
+    assertThat(products).hasSize(3);
+    for (int i = 0; i < 3; i++) {
+      assertThat(products.get(i).path("index").asInt()).isEqualTo(i + 1);
+      assertThat(products.get(i).path("url").asText()).isEqualTo("url-" + (i + 1));
+    }
+    assertThat(result.body().at("/data/success_count").asLong()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("샤드가 여러 원소를 담으면 앞선 샤드들의 원소 수만큼 번호를 밀어야 한다")
+  void executeWithFanOut_shouldOffsetIndexByShardSize() throws Exception {
+    // given
+    FanOutSpec fanOut =
+        FanOutSpec.from(
+            objectMapper.readTree(
+                """
+                {"fan_out": {"field": "product_urls", "shard_size": 2,
+                  "merge": {"concat": ["/data/crawled_products"],
+                            "renumber": {"/data/crawled_products": "index"}}}}
+                """));
+    ObjectNode requestBody = objectMapper.createObjectNode();
+    requestBody.putArray("product_urls").add("a").add("b").add("c").add("d").add("e");
+
+    // when
+    TaskRunner.TaskExecutionResult result =
+        taskExecutionService.executeWithFanOut(
+            crawlTask(), new TaskRun(), requestBody, crawlRunner, fanOut);
+
+    // then
+    JsonNode products = result.body().at("/data/crawled_products");
+    assertThat(products.findValues("index"))
+        .extracting(JsonNode::asInt)
+        .containsExactly(1, 2, 3, 4, 5);
+    assertThat(products.findValues("url"))
+        .extracting(JsonNode::asText)
+        .containsExactly("a", "b", "c", "d", "e");
+  }
+
+  @Test
+  @DisplayName("실패한 Task를 이어서 실행하면 이전에 성공한 샤드는 다시 호출하지 않고 기록된 결과를 병합해야 한다")
+  void executeWithFanOut_shouldSkipCompletedShards_onResume() throws Exception {
+    // given
+    FanOutSpec fanOut =
+        FanOutSpec.from(
+            objectMapper.readTree(
+                """
+                {"fan_out": {"field": "product_urls", "shard_size": 1,
+                  "merge": {"concat": ["/data/crawled_products"],
+                            "sum": ["/data/success_count"],
+                            "renumber": {"/data/crawled_products": "index"}}}}
+                """));
+    ObjectNode requestBody = objectMapper.createObjectNode();
+    requestBody.putArray("product_urls").add("url-1").add("url-2").add("url-3");
+    doAnswer(inv -> recordedShards.add(inv.getArgument(0)))
+        .when(runStatePersistenceManager)
+        .insertTaskIoData(any());
+    List<String> calledUrls = new ArrayList<>();
+    AtomicBoolean failUrl2 = new AtomicBoolean(true);
+    TaskRunner runner =
+        (task, taskRun, body) -> {
+          String url = body.path("product_urls").get(0).asText();
+          calledUrls.add(url);
+          return failUrl2.get() && "url-2".equals(url)
+              ? TaskRunner.TaskExecutionResult.failure("크롤링 실패")
+              : crawlRunner.execute(task, taskRun, body);
+        };
+    TaskRunner.TaskExecutionResult failed =
+        taskExecutionService.executeWithFanOut(
+            crawlTask(), new TaskRun(), requestBody, runner, fanOut);
+    when(taskIoDataMapper.findShardOutputs(any(), any())).thenReturn(recordedShards);
+    calledUrls.clear();
+    failUrl2.set(false);
+
+    // when
+    TaskRunner.TaskExecutionResult resumed =
+        taskExecutionService.executeWithFanOut(
+            crawlTask(), new TaskRun(), requestBody, runner, fanOut);
+
+    // then
+    assertThat(failed.isFailure()).isTrue();
+    assertThat(calledUrls).containsExactly("url-2");
+    assertThat(resumed.isFailure()).isFalse();
+    JsonNode products = resumed.body().at("/data/crawled_products");
+    assertThat(products.findValues("url"))
+        .extracting(JsonNode::asText)
+        .containsExactly("url-1", "url-2", "url-3");
+    assertThat(products.findValues("index"))
+        .extracting(JsonNode::asInt)
+        .containsExactly(1, 2, 3);
+    assertThat(resumed.body().at("/data/success_count").asLong()).isEqualTo(3);
+    // 📌 이어서 실행할 때 새로 성공한 샤드만 추가로 기록합니다.
+    assertThat(recordedShards)
+        .extracting(TaskIoData::getIoType)
+        .containsOnly(ShardOutputStore.IO_TYPE)
+        .hasSize(3);
+  }
+
+  @Test
+  @DisplayName("concat에 없는 배열에 renumber를 선언하면 예외가 발생해야 한다")
+  void from_shouldRejectRenumberOutsideConcat() throws Exception {
+    JsonNode parameters =
+        objectMapper.readTree(
+            """
+            {"fan_out": {"field": "product_urls", "shard_size": 1,
+              "merge": {"renumber": {"/data/crawled_products": "index"}}}}
+            """);
+
+    assertThatThrownBy(() -> FanOutSpec.from(parameters))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("renumber");
+  }
+
+  private Task crawlTask() {
+    return new Task(5L, "상품 정보 크롤링 태스크", "FastAPI", null, null, null, null);
+  }
+}
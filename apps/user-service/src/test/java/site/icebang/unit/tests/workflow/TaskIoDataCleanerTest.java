@@ -0,0 +1,126 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.workflow.manager.TaskIoDataCleaner;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 참조되지 않는 Task IO 데이터 파일을 정리하는 Mark-and-sweep 동작을 검증하는 단위 테스트입니다. */
+class TaskIoDataCleanerTest extends UnitTestSupport {
+
+  @TempDir Path directory;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TaskIoDataMapper taskIoDataMapper = mock(TaskIoDataMapper.class);
+
+  /** DB에 기록된 것으로 간주할 storage_ref 목록 */
+  private final List<String> referencedRefs = new ArrayList<>();
+
+  private TaskIoDataStore taskIoDataStore;
+  private TaskIoDataCleaner taskIoDataCleaner;
+
+  @BeforeEach
+  void setUp() {
+    WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+    properties.getIoStore().setDirectory(directory.toString());
+    properties.getIoStore().setInlineThresholdBytes(0);
+    taskIoDataStore = new TaskIoDataStore(objectMapper, properties);
+    ReflectionTestUtils.invokeMethod(taskIoDataStore, "init");
+    taskIoDataCleaner = new TaskIoDataCleaner(taskIoDataStore, taskIoDataMapper, properties);
+
+    when(taskIoDataMapper.findReferencedStorageRefs(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> refs = invocation.getArgument(0);
+              return refs.stream().filter(referencedRefs::contains).toList();
+            });
+  }
+
+  @Test
+  @DisplayName("참조되지 않는 오래된 파일만 지우고, 참조되는 파일은 남겨야 한다")
+  void sweep_shouldDeleteOnlyUnreferencedFiles() throws Exception {
+    // given
+    TaskIoData kept = store("kept");
+    store("orphan");
+    referencedRefs.add(kept.getStorageRef());
+
+    // when
+    int deleted = taskIoDataCleaner.sweep(Instant.now().plusSeconds(60));
+
+    // then
+    assertThat(deleted).isEqualTo(1);
+    assertThat(taskIoDataStore.readJson(kept).path("value").asText()).isEqualTo("kept");
+    assertThat(storedFiles())
+        .singleElement()
+        .satisfies(
+            file -> assertThat(TaskIoDataStore.storageRefOf(file)).isEqualTo(kept.getStorageRef()));
+  }
+
+  @Test
+  @DisplayName("수정된 지 유예 시간이 지나지 않은 파일은 참조되지 않아도 지우지 않아야 한다")
+  void sweep_shouldKeepRecentFiles_whoseReferenceMayStillBePending() throws Exception {
+    // given
+    store("pending");
+
+    // when
+    int deleted = taskIoDataCleaner.sweep(Instant.now().minus(Duration.ofHours(1)));
+
+    // then
+    assertThat(deleted).isZero();
+    assertThat(storedFiles()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("이미 저장된 내용을 다시 참조하면 수정 시각이 갱신되어 정리 대상에서 빠져야 한다")
+  void toRecord_shouldRefreshModifiedTime_whenContentIsReused() throws Exception {
+    // given
+    store("reused");
+    Path file = storedFiles().get(0);
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+    // when
+    store("reused");
+    int deleted = taskIoDataCleaner.sweep(Instant.now().minus(Duration.ofHours(1)));
+
+    // then
+    assertThat(deleted).isZero();
+    assertThat(Files.exists(file)).isTrue();
+  }
+
+  private TaskIoData store(String value) throws Exception {
+    ObjectNode data = objectMapper.createObjectNode().put("value", value);
+    return taskIoDataStore.toRecord(1L, "OUTPUT", "response_body", data);
+  }
+
+  private List<Path> storedFiles() throws Exception {
+    try (Stream<Path> files = Files.walk(directory)) {
+      return files.filter(Files::isRegularFile).toList();
+    }
+  }
+}
@@ -0,0 +1,327 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.global.config.properties.WorkflowExecutionProperties.Compression;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 크기에 따라 Task IO 데이터를 압축하여 DB 또는 내용 주소 기반 파일 저장소에 저장하고 다시 읽는 동작을 검증하는 단위 테스트입니다. */
+class TaskIoDataStoreTest extends UnitTestSupport {
+
+  private static final int INLINE_THRESHOLD_BYTES = 256;
+
+  @TempDir Path directory;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+
+  private TaskIoDataStore taskIoDataStore;
+
+  @BeforeEach
+  void setUp() {
+    properties.getIoStore().setDirectory(directory.toString());
+    properties.getIoStore().setInlineThresholdBytes(INLINE_THRESHOLD_BYTES);
+    // 📌 압축을 검증하는 테스트 외에는 저장 위치만 검증하도록 압축하지 않습니다.
+    properties.getIoStore().setCompression(Compression.NONE);
+    taskIoDataStore = new TaskIoDataStore(objectMapper, properties);
+    ReflectionTestUtils.invokeMethod(taskIoDataStore, "init");
+  }
+
+  @Test
+  @DisplayName("inline-threshold-bytes보다 작은 데이터는 data_value에 그대로 저장하고, 파일을 만들지 않아야 한다")
+  void toRecord_shouldStoreInline_belowThreshold() throws Exception {
+    // given
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES / 2);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getStorageRef()).isNull();
+    assertThat(record.getDataEncoding()).isNull();
+    assertThat(record.getDataValue()).isEqualTo(objectMapper.writeValueAsString(data));
+    assertThat(record.getDataSize()).isEqualTo((long) record.getDataValue().length());
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+    assertThat(taskIoDataStore.resolve(record).getDataValue()).isEqualTo(record.getDataValue());
+    assertThat(storedFiles()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("inline-threshold-bytes 이상인 데이터는 파일 저장소에 저장하고, DB에는 해시 참조와 크기만 남겨야 한다")
+  void toRecord_shouldStoreInFileStore_atOrAboveThreshold() throws Exception {
+    // given
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES);
+    byte[] content = objectMapper.writeValueAsBytes(data);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getDataValue()).isNull();
+    assertThat(record.getDataBlob()).isNull();
+    assertThat(record.getStorageRef()).matches("sha256:[0-9a-f]{64}");
+    assertThat(record.getDataSize()).isEqualTo((long) content.length);
+    assertThat(storedFiles())
+        .singleElement()
+        .satisfies(
+            file -> {
+              String hash = record.getStorageRef().substring("sha256:".length());
+              assertThat(directory.relativize(file))
+                  .isEqualTo(Path.of(hash.substring(0, 2), hash.substring(2, 4), hash));
+              assertThat(Files.readAllBytes(file)).isEqualTo(content);
+            });
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("파일 저장소에 있는 데이터를 resolve하면 조회 API가 그대로 반환할 수 있도록 data_value를 채워야 한다")
+  void resolve_shouldRestoreDataValue_fromFileStore() throws Exception {
+    // given
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES * 2);
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // when
+    TaskIoData resolved = taskIoDataStore.resolve(record);
+
+    // then
+    assertThat(resolved).isSameAs(record);
+    assertThat(objectMapper.readTree(resolved.getDataValue())).isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("io-store가 비활성화되면 크기와 상관없이 DB에 저장해야 한다")
+  void toRecord_shouldStoreInline_whenFileStoreIsDisabled() throws Exception {
+    // given
+    properties.getIoStore().setEnabled(false);
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES * 2);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getStorageRef()).isNull();
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+    assertThat(storedFiles()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 내용은 다른 TaskRun에서 저장해도 같은 파일을 참조하고, 다시 쓰지 않고 수정 시각만 갱신해야 한다")
+  void toRecord_shouldDeduplicateIdenticalContent() throws Exception {
+    // given
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES);
+    TaskIoData first = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+    Path file = storedFiles().getFirst();
+    FileTime staleTime = FileTime.from(Instant.now().minusSeconds(3_600));
+    Files.setLastModifiedTime(file, staleTime);
+
+    // when
+    TaskIoData second = taskIoDataStore.toRecord(2L, "INPUT", "input", data.deepCopy());
+
+    // then
+    assertThat(second.getStorageRef()).isEqualTo(first.getStorageRef());
+    assertThat(storedFiles()).containsExactly(file);
+    // 📌 정리 작업이 새 참조가 기록되기 전에 파일을 지우지 않도록 수정 시각이 갱신됩니다.
+    assertThat(Files.getLastModifiedTime(file)).isGreaterThan(staleTime);
+  }
+
+  @Test
+  @DisplayName("같은 내용을 여러 스레드가 동시에 저장해도 모두 같은 참조를 받고, 파일은 하나만 남아야 한다")
+  void toRecord_shouldStoreOneFile_whenSameContentIsWrittenConcurrently() throws Exception {
+    // given
+    int writers = 8;
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES * 4);
+    CountDownLatch startGate = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    List<Future<TaskIoData>> futures = new ArrayList<>();
+    for (int i = 0; i < writers; i++) {
+      long taskRunId = i;
+      futures.add(
+          executor.submit(
+              () -> {
+                startGate.await();
+                return taskIoDataStore.toRecord(taskRunId, "OUTPUT", "output", data);
+              }));
+    }
+
+    // when
+    startGate.countDown();
+    List<TaskIoData> records = new ArrayList<>();
+    for (Future<TaskIoData> future : futures) {
+      records.add(future.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(records)
+        .extracting(TaskIoData::getStorageRef)
+        .containsOnly(records.getFirst().getStorageRef());
+    // 쓰다 만 임시 파일도 남지 않아야 합니다.
+    assertThat(storedFiles()).singleElement();
+    for (TaskIoData record : records) {
+      assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+    }
+  }
+
+  @Test
+  @DisplayName("compression-threshold-bytes 이상인 데이터는 gzip으로 압축하여 data_blob에 저장하고, 읽을 때 풀어야 한다")
+  void toRecord_shouldGzipIntoDataBlob_atOrAboveCompressionThreshold() throws Exception {
+    // given
+    useCompression(Compression.GZIP, 64);
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES / 2);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getDataValue()).isNull();
+    assertThat(record.getStorageRef()).isNull();
+    assertThat(record.getDataEncoding()).isEqualTo("gzip");
+    assertThat(record.getDataBlob()).startsWith((byte) 0x1f, (byte) 0x8b);
+    assertThat(record.getStoredSize())
+        .isEqualTo((long) record.getDataBlob().length)
+        .isLessThan(record.getDataSize());
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+    assertThat(objectMapper.readTree(taskIoDataStore.resolve(record).getDataValue()))
+        .isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("deflate로 압축한 데이터는 압축 방식별 확장자를 붙여 파일 저장소에 저장하고, 읽을 때 풀어야 한다")
+  void toRecord_shouldDeflateIntoFileStore_withEncodingExtension() throws Exception {
+    // given
+    useCompression(Compression.DEFLATE, 64);
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES * 4);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getDataEncoding()).isEqualTo("deflate");
+    assertThat(record.getStorageRef()).matches("sha256:[0-9a-f]{64}");
+    assertThat(storedFiles())
+        .singleElement()
+        .satisfies(
+            file -> {
+              assertThat(file.getFileName().toString()).endsWith(".deflate");
+              assertThat(TaskIoDataStore.storageRefOf(file)).isEqualTo(record.getStorageRef());
+              assertThat(Files.size(file)).isEqualTo(record.getStoredSize());
+            });
+    assertThat(record.getStoredSize()).isLessThan(record.getDataSize());
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+    assertThat(objectMapper.readTree(taskIoDataStore.resolve(record).getDataValue()))
+        .isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("compression-threshold-bytes보다 작은 데이터는 압축하지 않아야 한다")
+  void toRecord_shouldNotCompress_belowCompressionThreshold() throws Exception {
+    // given
+    useCompression(Compression.GZIP, INLINE_THRESHOLD_BYTES);
+    ObjectNode data = json(INLINE_THRESHOLD_BYTES / 2);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getDataEncoding()).isNull();
+    assertThat(record.getDataBlob()).isNull();
+    assertThat(record.getDataValue()).isEqualTo(objectMapper.writeValueAsString(data));
+  }
+
+  @Test
+  @DisplayName("압축해도 크기가 줄지 않으면 압축하지 않은 값을 그대로 저장해야 한다")
+  void toRecord_shouldFallBackToNone_whenCompressionDoesNotShrink() throws Exception {
+    // given
+    // 📌 압축 헤더보다 작은 데이터는 압축하면 오히려 커집니다.
+    useCompression(Compression.GZIP, 0);
+    ObjectNode data = json(16);
+
+    // when
+    TaskIoData record = taskIoDataStore.toRecord(1L, "OUTPUT", "output", data);
+
+    // then
+    assertThat(record.getDataEncoding()).isNull();
+    assertThat(record.getDataBlob()).isNull();
+    assertThat(record.getStoredSize()).isEqualTo(record.getDataSize());
+    assertThat(taskIoDataStore.readJson(record)).isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("압축 방식 설정을 바꿔도 이전 설정으로 저장된 데이터는 기록된 data_encoding으로 읽어야 한다")
+  void readJson_shouldReadOldRows_afterCompressionSettingChanges() throws Exception {
+    // given
+    useCompression(Compression.GZIP, 64);
+    ObjectNode inlineData = json(INLINE_THRESHOLD_BYTES / 2);
+    ObjectNode fileData = json(INLINE_THRESHOLD_BYTES * 4);
+    TaskIoData gzipBlob = taskIoDataStore.toRecord(1L, "OUTPUT", "inline", inlineData);
+    TaskIoData gzipFile = taskIoDataStore.toRecord(1L, "OUTPUT", "file", fileData);
+
+    // when
+    // 📌 서버를 다시 시작하며 압축 방식을 바꾼 상황입니다.
+    useCompression(Compression.DEFLATE, 64);
+    TaskIoData deflateFile = taskIoDataStore.toRecord(2L, "OUTPUT", "file", fileData);
+
+    // then
+    assertThat(taskIoDataStore.readJson(gzipBlob)).isEqualTo(inlineData);
+    assertThat(taskIoDataStore.readJson(gzipFile)).isEqualTo(fileData);
+    assertThat(taskIoDataStore.readJson(deflateFile)).isEqualTo(fileData);
+    // 원본 내용의 해시가 같으므로 참조는 같고, 압축 방식별 파일로 각각 읽습니다.
+    assertThat(deflateFile.getStorageRef()).isEqualTo(gzipFile.getStorageRef());
+    assertThat(storedFiles())
+        .extracting(file -> file.getFileName().toString().replaceAll("^[0-9a-f]+", ""))
+        .containsExactlyInAnyOrder(".gz", ".deflate");
+
+    useCompression(Compression.NONE, 64);
+    assertThat(taskIoDataStore.readJson(gzipBlob)).isEqualTo(inlineData);
+    assertThat(objectMapper.readTree(taskIoDataStore.resolve(gzipFile).getDataValue()))
+        .isEqualTo(fileData);
+  }
+
+  /** 직렬화한 크기가 {@code size} 바이트인 JSON을 만듭니다. */
+  private ObjectNode json(int size) throws Exception {
+    ObjectNode data = objectMapper.createObjectNode();
+    data.put("value", "");
+    int padding = size - objectMapper.writeValueAsBytes(data).length;
+    data.put("value", "x".repeat(padding));
+    return data;
+  }
+
+  private List<Path> storedFiles() throws Exception {
+    try (Stream<Path> files = Files.walk(directory)) {
+      return files.filter(Files::isRegularFile).toList();
+    }
+  }
+
+  /** 압축 설정을 바꾸고, 바뀐 설정으로 저장소를 다시 만듭니다. */
+  private void useCompression(Compression compression, long thresholdBytes) {
+    properties.getIoStore().setCompression(compression);
+    properties.getIoStore().setCompressionThresholdBytes(thresholdBytes);
+    taskIoDataStore = new TaskIoDataStore(objectMapper, properties);
+    ReflectionTestUtils.invokeMethod(taskIoDataStore, "init");
+  }
+}
@@ -0,0 +1,179 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.service.WorkflowContextService;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 실행 중인 워크플로우의 Task 결과를 메모리에서 먼저 찾고, 없을 때만 DB에서 조회하는 동작을 검증하는 단위 테스트입니다. */
+class WorkflowContextServiceTest extends UnitTestSupport {
+
+  private static final Long RUN_ID = 7L;
+  private static final Long TASK_RUN_ID = 100L;
+  private static final String SOURCE_TASK = "키워드 검색";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TaskRunMapper taskRunMapper = mock(TaskRunMapper.class);
+  private final TaskIoDataMapper taskIoDataMapper = mock(TaskIoDataMapper.class);
+
+  private final JobRun jobRun = JobRun.start(RUN_ID, 1L);
+
+  private WorkflowContextService workflowContextService;
+
+  @BeforeEach
+  void setUp() {
+    workflowContextService =
+        new WorkflowContextService(
+            taskRunMapper,
+            taskIoDataMapper,
+            new TaskIoDataStore(objectMapper, new WorkflowExecutionProperties()));
+  }
+
+  @Test
+  @DisplayName("같은 실행에서 기록된 Task 결과는 DB를 조회하지 않고 파싱된 결과를 그대로 반환해야 한다")
+  void getPreviousTaskOutput_shouldReturnRecordedOutput_withoutQuerying() {
+    // given
+    JsonNode output = json("{\"data\":{\"keyword\":\"캠핑\"}}");
+    workflowContextService.openRun(RUN_ID);
+    workflowContextService.recordTaskOutput(RUN_ID, SOURCE_TASK, output);
+
+    // when
+    Optional<JsonNode> found = workflowContextService.getPreviousTaskOutput(jobRun, SOURCE_TASK);
+
+    // then
+    assertThat(found).containsSame(output);
+    verify(taskRunMapper, never()).findSuccessfulTaskRunByWorkflowRunId(anyLong(), anyString());
+    verify(taskIoDataMapper, never()).findOutputByTaskRunId(any());
+  }
+
+  @Test
+  @DisplayName("이어서 실행하여 메모리에 없는 결과는 DB에서 조회하고, 이후에는 메모리에서 반환해야 한다")
+  void getPreviousTaskOutput_shouldFallBackToDb_andKeepLoadedOutput() {
+    // given
+    workflowContextService.openRun(RUN_ID);
+    givenStoredOutput("{\"data\":{\"keyword\":\"캠핑\"}}");
+
+    // when
+    Optional<JsonNode> first = workflowContextService.getPreviousTaskOutput(jobRun, SOURCE_TASK);
+    Optional<JsonNode> second = workflowContextService.getPreviousTaskOutput(jobRun, SOURCE_TASK);
+
+    // then
+    assertThat(first)
+        .hasValueSatisfying(
+            output -> assertThat(output.path("data").path("keyword").asText()).isEqualTo("캠핑"));
+    assertThat(second).containsSame(first.orElseThrow());
+    verify(taskRunMapper, times(1)).findSuccessfulTaskRunByWorkflowRunId(RUN_ID, SOURCE_TASK);
+    verify(taskIoDataMapper, times(1)).findOutputByTaskRunId(TASK_RUN_ID);
+  }
+
+  @Test
+  @DisplayName("실행이 끝나 컨텍스트를 제거하면 기록된 결과를 버리고, 이후 기록도 보관하지 않아야 한다")
+  void closeRun_shouldEvictRecordedOutputs() {
+    // given
+    workflowContextService.openRun(RUN_ID);
+    workflowContextService.recordTaskOutput(RUN_ID, SOURCE_TASK, json("{\"cached\":true}"));
+    givenStoredOutput("{\"cached\":false}");
+
+    // when
+    workflowContextService.closeRun(RUN_ID);
+    workflowContextService.recordTaskOutput(RUN_ID, "상품 검색", json("{\"late\":true}"));
+
+    // then
+    assertThat(workflowContextService.getPreviousTaskOutput(jobRun, SOURCE_TASK))
+        .hasValueSatisfying(output -> assertThat(output.path("cached").asBoolean()).isFalse());
+    assertThat(workflowContextService.getPreviousTaskOutput(jobRun, "상품 검색")).isEmpty();
+    assertThat(runOutputs()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다른 실행에서 기록된 같은 이름의 Task 결과는 사용하지 않아야 한다")
+  void getPreviousTaskOutput_shouldNotShareOutputs_betweenRuns() {
+    // given
+    workflowContextService.openRun(RUN_ID);
+    workflowContextService.openRun(8L);
+    workflowContextService.recordTaskOutput(8L, SOURCE_TASK, json("{\"run\":8}"));
+
+    // when
+    Optional<JsonNode> found = workflowContextService.getPreviousTaskOutput(jobRun, SOURCE_TASK);
+
+    // then
+    assertThat(found).isEmpty();
+    verify(taskRunMapper).findSuccessfulTaskRunByWorkflowRunId(RUN_ID, SOURCE_TASK);
+  }
+
+  @Test
+  @DisplayName("여러 결과를 한 번에 조회하면 결과가 없거나 조회에 실패한 Task는 빼고 반환해야 한다")
+  void getPreviousTaskOutputs_shouldOmitMissingOutputs() {
+    // given
+    workflowContextService.openRun(RUN_ID);
+    workflowContextService.recordTaskOutput(RUN_ID, SOURCE_TASK, json("{\"data\":1}"));
+    when(taskRunMapper.findSuccessfulTaskRunByWorkflowRunId(RUN_ID, "상품 검색"))
+        .thenThrow(new IllegalStateException("DB 오류"));
+
+    // when
+    Map<String, JsonNode> outputs =
+        workflowContextService.getPreviousTaskOutputs(
+            jobRun, List.of(SOURCE_TASK, "상품 검색", "상품 선택"));
+
+    // then
+    assertThat(outputs).containsOnlyKeys(SOURCE_TASK);
+  }
+
+  private void givenStoredOutput(String value) {
+    TaskRun taskRun = TaskRun.start(10L, 1L, 1);
+    ReflectionTestUtils.setField(taskRun, "id", TASK_RUN_ID);
+    when(taskRunMapper.findSuccessfulTaskRunByWorkflowRunId(RUN_ID, SOURCE_TASK))
+        .thenReturn(taskRun);
+    when(taskIoDataMapper.findOutputByTaskRunId(TASK_RUN_ID))
+        .thenReturn(
+            Optional.of(
+                new TaskIoData(
+                    TASK_RUN_ID,
+                    "OUTPUT",
+                    "response_body",
+                    "JSON",
+                    value,
+                    (long) value.length())));
+  }
+
+  private JsonNode json(String value) {
+    try {
+      return objectMapper.readTree(value);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Long, Map<String, JsonNode>> runOutputs() {
+    return (Map<Long, Map<String, JsonNode>>)
+        ReflectionTestUtils.getField(workflowContextService, "runOutputs");
+  }
+}
@@ -0,0 +1,207 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.dto.RequestContextDto;
+import site.icebang.domain.workflow.manager.ExecutionMdcManager;
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.service.ExecutionPlanService;
+import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
+import site.icebang.domain.workflow.service.WorkflowContextService;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.domain.workflow.service.WorkflowLeaseService;
+import site.icebang.global.config.WorkflowDrainLifecycle;
+import site.icebang.global.config.async.RunCancellation;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 서버 종료 시 실행 중인 워크플로우가 끝나기를 기다리고, 끝나지 않은 실행을 중단하여 임대를 유지한 채 기록하는 동작을 검증하는 단위 테스트입니다. */
+class WorkflowDrainLifecycleTest extends UnitTestSupport {
+
+  private static final Long WORKFLOW_ID = 1L;
+  private static final Long RUN_ID = 7L;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+  private final WorkflowRunMapper workflowRunMapper = mock(WorkflowRunMapper.class);
+  private final TaskExecutionService taskExecutionService = mock(TaskExecutionService.class);
+  private final ExecutionPlanService executionPlanService = mock(ExecutionPlanService.class);
+  private final RunStatePersistenceManager runStatePersistenceManager =
+      mock(RunStatePersistenceManager.class);
+  private final WorkflowLeaseService workflowLeaseService = mock(WorkflowLeaseService.class);
+  private final Scheduler scheduler = mock(Scheduler.class);
+
+  /** 실행마다 새 스레드에서 시작하여, 서버 종료가 실행과 동시에 진행되도록 합니다. */
+  private final Executor threadPerTask = command -> new Thread(command).start();
+
+  private final AtomicReference<WorkflowRun> startedRun = new AtomicReference<>();
+  private final CountDownLatch taskStarted = new CountDownLatch(1);
+
+  private WorkflowAdmissionQueue admissionQueue;
+  private WorkflowCancellationService workflowCancellationService;
+  private WorkflowExecutionService workflowExecutionService;
+  private WorkflowDrainLifecycle drainLifecycle;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    admissionQueue = new WorkflowAdmissionQueue(properties, meterRegistry, threadPerTask);
+    admissionQueue.init();
+    workflowCancellationService =
+        new WorkflowCancellationService(workflowRunMapper, properties, meterRegistry);
+    workflowExecutionService =
+        new WorkflowExecutionService(
+            workflowRunMapper,
+            mock(JobRunMapper.class),
+            mock(TaskRunMapper.class),
+            objectMapper,
+            mock(ExecutionMdcManager.class),
+            taskExecutionService,
+            mock(WorkflowContextService.class),
+            runStatePersistenceManager,
+            mock(TaskIoDataStore.class),
+            executionPlanService,
+            properties,
+            threadPerTask,
+            admissionQueue,
+            workflowLeaseService,
+            workflowCancellationService);
+    drainLifecycle =
+        new WorkflowDrainLifecycle(
+            admissionQueue,
+            workflowCancellationService,
+            runStatePersistenceManager,
+            properties,
+            scheduler);
+    drainLifecycle.start();
+
+    doAnswer(
+            inv -> {
+              WorkflowRun workflowRun = inv.getArgument(0);
+              ReflectionTestUtils.setField(workflowRun, "id", RUN_ID);
+              startedRun.set(workflowRun);
+              return null;
+            })
+        .when(workflowRunMapper)
+        .insert(any());
+    when(workflowRunMapper.findById(RUN_ID)).thenAnswer(inv -> startedRun.get());
+    when(workflowLeaseService.claimRun(RUN_ID)).thenReturn(true);
+    when(workflowLeaseService.acquire(any())).thenReturn(WorkflowLeaseService.Decision.RUN);
+    when(runStatePersistenceManager.flush()).thenReturn(true);
+    when(executionPlanService.getPlan(WORKFLOW_ID)).thenReturn(plan());
+  }
+
+  @Test
+  @DisplayName("grace-period 안에 끝나지 않은 실행은 중단하여 INTERRUPTED로 기록하고, 소유만 해제한 채 임대는 유지해야 한다")
+  void stop_shouldInterruptRunsAfterGracePeriod_andKeepLease() throws Exception {
+    // given
+    properties.getDrain().setGracePeriodMs(200);
+    properties.getDrain().setInterruptWaitMs(5_000);
+    // 📌 중단되기 전까지 끝나지 않는 Task
+    when(taskExecutionService.executeWithFanOut(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              taskStarted.countDown();
+              while (!RunCancellation.current().isCancelled()) {
+                Thread.sleep(10);
+              }
+              return TaskRunner.TaskExecutionResult.failure("워크플로우 실행이 취소되었습니다.");
+            });
+    workflowExecutionService.executeWorkflow(
+        WORKFLOW_ID, RequestContextDto.forScheduler("trace-id"));
+    assertThat(taskStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    long startedAt = System.nanoTime();
+    drainLifecycle.stop();
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    // then
+    assertThat(elapsedMs).isGreaterThanOrEqualTo(200);
+    assertThat(admissionQueue.isClosed()).isTrue();
+    verify(scheduler).standby();
+    assertThat(workflowCancellationService.activeRunCount()).isZero();
+    assertThat(startedRun.get().getStatus()).isEqualTo("INTERRUPTED");
+    // 다른 서버가 바로 이어서 실행할 수 있도록 소유는 해제하지만, 임대는 다음 실행에 넘기지 않습니다.
+    verify(workflowLeaseService, timeout(1_000)).releaseRun(RUN_ID);
+    verify(workflowLeaseService, after(200).never()).release(anyLong());
+    assertThat(drainLifecycle.isRunning()).isFalse();
+  }
+
+  @Test
+  @DisplayName("grace-period 안에 끝난 실행은 중단하지 않고, 끝난 뒤 임대를 반납해야 한다")
+  void stop_shouldLetRunsFinish_withinGracePeriod() throws Exception {
+    // given
+    properties.getDrain().setGracePeriodMs(5_000);
+    when(taskExecutionService.executeWithFanOut(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              taskStarted.countDown();
+              Thread.sleep(100);
+              return TaskRunner.TaskExecutionResult.success(objectMapper.createObjectNode());
+            });
+    workflowExecutionService.executeWorkflow(
+        WORKFLOW_ID, RequestContextDto.forScheduler("trace-id"));
+    assertThat(taskStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    drainLifecycle.stop();
+
+    // then
+    assertThat(startedRun.get().getStatus()).isEqualTo("SUCCESS");
+    verify(workflowLeaseService, timeout(1_000)).releaseRun(RUN_ID);
+    verify(workflowLeaseService, timeout(1_000)).release(RUN_ID);
+  }
+
+  private ExecutionPlan plan() {
+    Task task = new Task(11L, "키워드 검색", "FastAPI", null, null, null, null);
+    DependencyGraph<String, ExecutionPlan.TaskPlan> taskGraph =
+        DependencyGraph.of(
+            List.of(new ExecutionPlan.TaskPlan(task, 1, null, null, null)),
+            taskPlan -> taskPlan.task().getName(),
+            taskPlan -> List.of());
+    Job job = new Job(1L, "상품 분석", null, true, null, null, null, null);
+    return new ExecutionPlan(
+        WORKFLOW_ID,
+        DependencyGraph.of(
+            List.of(new ExecutionPlan.JobPlan(job, taskGraph)),
+            jobPlan -> jobPlan.job().getId(),
+            jobPlan -> List.of()));
+  }
+}
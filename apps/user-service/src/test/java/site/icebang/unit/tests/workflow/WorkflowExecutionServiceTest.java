@@ -0,0 +1,122 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.dto.RequestContextDto;
+import site.icebang.domain.workflow.manager.ExecutionMdcManager;
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.service.ExecutionPlanService;
+import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
+import site.icebang.domain.workflow.service.WorkflowContextService;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.domain.workflow.service.WorkflowLeaseService;
+import site.icebang.global.config.async.AdmissionPriority;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 임대를 넘겨받은 기다리던 실행이 실행 대기열에서 빠졌을 때 실행 기록과 임대를 정리하는 동작을 검증하는 단위 테스트입니다. */
+class WorkflowExecutionServiceTest extends UnitTestSupport {
+
+  private static final Long QUEUED_RUN_ID = 5L;
+
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+  private final WorkflowRunMapper workflowRunMapper = mock(WorkflowRunMapper.class);
+  private final WorkflowLeaseService workflowLeaseService = mock(WorkflowLeaseService.class);
+
+  /** 허가를 받아 시작된 실행. 테스트는 꺼내 실행하지 않으므로 허가를 계속 붙잡고 있습니다. */
+  private final Deque<Runnable> started = new ArrayDeque<>();
+
+  private WorkflowAdmissionQueue admissionQueue;
+  private WorkflowExecutionService workflowExecutionService;
+  private WorkflowRun queuedRun;
+
+  @BeforeEach
+  void setUp() {
+    properties.getAdmission().setMaxConcurrentRuns(1);
+    properties.getAdmission().setMaxQueueSize(1);
+    properties
+        .getAdmission()
+        .setRejectionPolicy(WorkflowExecutionProperties.Admission.RejectionPolicy.DROP_LOWEST);
+    admissionQueue =
+        new WorkflowAdmissionQueue(properties, new SimpleMeterRegistry(), started::addLast);
+    admissionQueue.init();
+    workflowExecutionService =
+        new WorkflowExecutionService(
+            workflowRunMapper,
+            mock(JobRunMapper.class),
+            mock(TaskRunMapper.class),
+            new ObjectMapper(),
+            mock(ExecutionMdcManager.class),
+            mock(TaskExecutionService.class),
+            mock(WorkflowContextService.class),
+            mock(RunStatePersistenceManager.class),
+            mock(TaskIoDataStore.class),
+            mock(ExecutionPlanService.class),
+            properties,
+            Runnable::run,
+            admissionQueue,
+            workflowLeaseService,
+            mock(WorkflowCancellationService.class));
+
+    // 📌 실행 중인 실행이 허가를 붙잡고 있어, 임대를 넘겨받은 실행은 대기열에서 기다립니다.
+    admissionQueue.submit(AdmissionPriority.MANUAL, "running", () -> {});
+    queuedRun = WorkflowRun.start(1L, "trace-id", "schedule");
+    queuedRun.queue();
+    ReflectionTestUtils.setField(queuedRun, "id", QUEUED_RUN_ID);
+    when(workflowRunMapper.findById(QUEUED_RUN_ID)).thenReturn(queuedRun);
+    ReflectionTestUtils.invokeMethod(workflowExecutionService, "startQueuedRun", QUEUED_RUN_ID);
+  }
+
+  @Test
+  @DisplayName("임대를 넘겨받은 실행이 더 높은 우선순위의 실행에 밀려나면 실패로 끝내고 임대를 다음 실행에 넘겨야 한다")
+  void startQueuedRun_shouldFailRunAndReleaseLease_whenEvicted() {
+    // given
+    assertThat(admissionQueue.depth(AdmissionPriority.SCHEDULED)).isEqualTo(1);
+
+    // when
+    workflowExecutionService.executeWorkflow(
+        2L, RequestContextDto.forManual("trace-id-2", null, null));
+
+    // then
+    assertThat(admissionQueue.depth(AdmissionPriority.SCHEDULED)).isZero();
+    assertThat(admissionQueue.depth(AdmissionPriority.MANUAL)).isEqualTo(1);
+    assertThat(queuedRun.getStatus()).isEqualTo("FAILED");
+    verify(workflowRunMapper).update(queuedRun);
+    verify(workflowLeaseService).release(QUEUED_RUN_ID);
+  }
+
+  @Test
+  @DisplayName("서버 종료로 대기열에서 빠지면 중단으로 기록하고 다른 서버가 이어서 실행하도록 임대를 유지해야 한다")
+  void startQueuedRun_shouldInterruptRunAndKeepLease_whenQueueCloses() {
+    // when
+    admissionQueue.close();
+
+    // then
+    assertThat(queuedRun.getStatus()).isEqualTo("INTERRUPTED");
+    verify(workflowRunMapper).update(queuedRun);
+    verify(workflowLeaseService, never()).release(QUEUED_RUN_ID);
+  }
+}
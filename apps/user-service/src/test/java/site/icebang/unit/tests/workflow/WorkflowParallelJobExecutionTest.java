@@ -0,0 +1,262 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.dto.RequestContextDto;
+import site.icebang.domain.workflow.manager.ExecutionMdcManager;
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.service.ExecutionPlanService;
+import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
+import site.icebang.domain.workflow.service.WorkflowContextService;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.domain.workflow.service.WorkflowLeaseService;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 서로 의존하지 않는 Job을 병렬로 실행하면서 Job마다 JobRun 기록과 MDC 컨텍스트를 따로 유지하는 동작을 검증하는 단위 테스트입니다. */
+class WorkflowParallelJobExecutionTest extends UnitTestSupport {
+
+  private static final Long WORKFLOW_ID = 1L;
+  private static final Long RUN_ID = 7L;
+  private static final String TRACE_ID = "trace-id";
+
+  private static final Long ANALYSIS_JOB_ID = 1L;
+  private static final Long CONTENT_JOB_ID = 2L;
+  private static final Long PUBLISH_JOB_ID = 3L;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+  private final WorkflowRunMapper workflowRunMapper = mock(WorkflowRunMapper.class);
+  private final JobRunMapper jobRunMapper = mock(JobRunMapper.class);
+  private final TaskRunMapper taskRunMapper = mock(TaskRunMapper.class);
+  private final TaskExecutionService taskExecutionService = mock(TaskExecutionService.class);
+  private final ExecutionPlanService executionPlanService = mock(ExecutionPlanService.class);
+  private final RunStatePersistenceManager runStatePersistenceManager =
+      mock(RunStatePersistenceManager.class);
+  private final WorkflowLeaseService workflowLeaseService = mock(WorkflowLeaseService.class);
+
+  /** 실행마다 새 스레드에서 시작하여, 병렬로 실행되는 Job이 서로 다른 스레드에서 실행되도록 합니다. */
+  private final Executor threadPerTask = command -> new Thread(command).start();
+
+  private final AtomicReference<WorkflowRun> startedRun = new AtomicReference<>();
+  private final List<JobRun> jobRuns = new CopyOnWriteArrayList<>();
+  private final List<TaskRun> taskRuns = new CopyOnWriteArrayList<>();
+
+  /** JobRun을 기록하는 시점의 MDC (키: Job ID) */
+  private final Map<Long, Map<String, String>> jobMdc = new ConcurrentHashMap<>();
+
+  /** Task를 실행하는 시점의 MDC (키: Task 이름) */
+  private final Map<String, Map<String, String>> taskMdc = new ConcurrentHashMap<>();
+
+  /** 실행된 Task 이름 (실행이 끝난 순서) */
+  private final List<String> finishedTasks = new CopyOnWriteArrayList<>();
+
+  private WorkflowExecutionService workflowExecutionService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // 📌 실행 허가를 받으면 호출한 스레드에서 바로 실행하여, 실행이 끝난 뒤에 검증하도록 합니다.
+    WorkflowAdmissionQueue admissionQueue =
+        new WorkflowAdmissionQueue(properties, meterRegistry, Runnable::run);
+    admissionQueue.init();
+    workflowExecutionService =
+        new WorkflowExecutionService(
+            workflowRunMapper,
+            jobRunMapper,
+            taskRunMapper,
+            objectMapper,
+            new ExecutionMdcManager(),
+            taskExecutionService,
+            mock(WorkflowContextService.class),
+            runStatePersistenceManager,
+            mock(TaskIoDataStore.class),
+            executionPlanService,
+            properties,
+            threadPerTask,
+            admissionQueue,
+            workflowLeaseService,
+            new WorkflowCancellationService(workflowRunMapper, properties, meterRegistry));
+
+    doAnswer(
+            inv -> {
+              WorkflowRun workflowRun = inv.getArgument(0);
+              ReflectionTestUtils.setField(workflowRun, "id", RUN_ID);
+              startedRun.set(workflowRun);
+              return null;
+            })
+        .when(workflowRunMapper)
+        .insert(any());
+    when(workflowRunMapper.findById(RUN_ID)).thenAnswer(inv -> startedRun.get());
+    when(workflowLeaseService.claimRun(RUN_ID)).thenReturn(true);
+    when(workflowLeaseService.acquire(any())).thenReturn(WorkflowLeaseService.Decision.RUN);
+    when(runStatePersistenceManager.flush()).thenReturn(true);
+    when(executionPlanService.getPlan(WORKFLOW_ID)).thenReturn(plan());
+
+    doAnswer(
+            inv -> {
+              JobRun jobRun = inv.getArgument(0);
+              ReflectionTestUtils.setField(jobRun, "id", jobRun.getJobId() * 100);
+              jobMdc.put(jobRun.getJobId(), MDC.getCopyOfContextMap());
+              jobRuns.add(jobRun);
+              return null;
+            })
+        .when(jobRunMapper)
+        .insert(any());
+    doAnswer(
+            inv -> {
+              TaskRun taskRun = inv.getArgument(0);
+              ReflectionTestUtils.setField(taskRun, "id", taskRun.getTaskId() * 100);
+              taskRuns.add(taskRun);
+              return null;
+            })
+        .when(taskRunMapper)
+        .insert(any());
+  }
+
+  @Test
+  @DisplayName("서로 의존하지 않는 Job은 동시에 실행하고, 의존하는 Job은 모두 끝난 뒤에 실행해야 한다")
+  void executeWorkflow_shouldRunIndependentJobsConcurrently() {
+    // given
+    // 📌 두 Job의 Task가 동시에 실행되어야만 통과하는 장벽입니다. 순서대로 실행되면 시간 초과로 실패합니다.
+    CyclicBarrier bothJobsRunning = new CyclicBarrier(2);
+    when(taskExecutionService.executeWithFanOut(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              Task task = inv.getArgument(0);
+              taskMdc.put(task.getName(), MDC.getCopyOfContextMap());
+              if (!task.getName().equals("블로그 발행")) {
+                bothJobsRunning.await(5, TimeUnit.SECONDS);
+              }
+              finishedTasks.add(task.getName());
+              return TaskRunner.TaskExecutionResult.success(objectMapper.createObjectNode());
+            });
+
+    // when
+    workflowExecutionService.executeWorkflow(WORKFLOW_ID, RequestContextDto.forScheduler(TRACE_ID));
+
+    // then
+    assertThat(startedRun.get().getStatus()).isEqualTo("SUCCESS");
+    assertThat(finishedTasks).hasSize(3).endsWith("블로그 발행");
+    assertThat(finishedTasks).containsExactlyInAnyOrder("키워드 검색", "블로그 RAG 생성", "블로그 발행");
+  }
+
+  @Test
+  @DisplayName("병렬로 실행된 Job도 각자의 JobRun을 기록하고, Job을 실행하는 스레드마다 워크플로우와 Job의 MDC 컨텍스트를 설정해야 한다")
+  void executeWorkflow_shouldKeepJobRunAndMdcPerJob() {
+    // given
+    when(taskExecutionService.executeWithFanOut(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              Task task = inv.getArgument(0);
+              taskMdc.put(task.getName(), MDC.getCopyOfContextMap());
+              return TaskRunner.TaskExecutionResult.success(objectMapper.createObjectNode());
+            });
+
+    // when
+    workflowExecutionService.executeWorkflow(WORKFLOW_ID, RequestContextDto.forScheduler(TRACE_ID));
+
+    // then
+    assertThat(jobRuns)
+        .extracting(JobRun::getJobId)
+        .containsExactlyInAnyOrder(ANALYSIS_JOB_ID, CONTENT_JOB_ID, PUBLISH_JOB_ID);
+    assertThat(jobRuns)
+        .allSatisfy(
+            jobRun -> {
+              assertThat(jobRun.getWorkflowRunId()).isEqualTo(RUN_ID);
+              assertThat(jobRun.getStatus()).isEqualTo("SUCCESS");
+            });
+    // 📌 Task는 자신이 속한 Job의 JobRun에 기록됩니다.
+    assertThat(taskRuns)
+        .allSatisfy(
+            taskRun -> assertThat(taskRun.getJobRunId()).isEqualTo(jobIdOf(taskRun) * 100));
+
+    assertThat(jobMdc)
+        .allSatisfy(
+            (jobId, mdc) -> {
+              assertThat(mdc).containsEntry("traceID", TRACE_ID);
+              assertThat(mdc).containsEntry("executionType", "JOB");
+              assertThat(mdc).containsEntry("sourceId", jobId.toString());
+            });
+    assertThat(taskMdc)
+        .allSatisfy(
+            (taskName, mdc) -> {
+              assertThat(mdc).containsEntry("traceID", TRACE_ID);
+              assertThat(mdc).containsEntry("executionType", "TASK");
+            });
+    assertThat(taskMdc.get("키워드 검색")).containsEntry("sourceId", "1100");
+    assertThat(taskMdc.get("블로그 RAG 생성")).containsEntry("sourceId", "2100");
+  }
+
+  private static Long jobIdOf(TaskRun taskRun) {
+    return taskRun.getTaskId() / 10;
+  }
+
+  private ExecutionPlan plan() {
+    ExecutionPlan.JobPlan analysis =
+        new ExecutionPlan.JobPlan(job(ANALYSIS_JOB_ID, "상품 분석"), taskGraph(11L, "키워드 검색"));
+    ExecutionPlan.JobPlan content =
+        new ExecutionPlan.JobPlan(
+            job(CONTENT_JOB_ID, "블로그 콘텐츠 생성"), taskGraph(21L, "블로그 RAG 생성"));
+    ExecutionPlan.JobPlan publish =
+        new ExecutionPlan.JobPlan(job(PUBLISH_JOB_ID, "블로그 발행"), taskGraph(31L, "블로그 발행"));
+    DependencyGraph<Long, ExecutionPlan.JobPlan> jobGraph =
+        DependencyGraph.of(
+            List.of(analysis, content, publish),
+            jobPlan -> jobPlan.job().getId(),
+            jobPlan ->
+                PUBLISH_JOB_ID.equals(jobPlan.job().getId())
+                    ? List.of(ANALYSIS_JOB_ID, CONTENT_JOB_ID)
+                    : List.of());
+    return new ExecutionPlan(WORKFLOW_ID, jobGraph);
+  }
+
+  private static DependencyGraph<String, ExecutionPlan.TaskPlan> taskGraph(Long id, String name) {
+    Task task = new Task(id, name, "FastAPI", null, null, null, null);
+    return DependencyGraph.of(
+        List.of(new ExecutionPlan.TaskPlan(task, 1, null, null, null)),
+        taskPlan -> taskPlan.task().getName(),
+        taskPlan -> List.of());
+  }
+
+  private static Job job(Long id, String name) {
+    return new Job(id, name, null, true, null, null, null, null);
+  }
+}
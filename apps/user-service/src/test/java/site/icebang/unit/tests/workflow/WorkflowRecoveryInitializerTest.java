@@ -0,0 +1,211 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.manager.ExecutionMdcManager;
+import site.icebang.domain.workflow.manager.RunStatePersistenceManager;
+import site.icebang.domain.workflow.manager.TaskIoDataStore;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.DependencyGraph;
+import site.icebang.domain.workflow.model.ExecutionPlan;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.service.ExecutionPlanService;
+import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.domain.workflow.service.WorkflowCancellationService;
+import site.icebang.domain.workflow.service.WorkflowContextService;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.domain.workflow.service.WorkflowLeaseService;
+import site.icebang.global.config.WorkflowRecoveryInitializer;
+import site.icebang.global.config.async.WorkflowAdmissionQueue;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/** 중단된 워크플로우 실행을 같은 실행 기록으로 이어서 실행하고, 이미 성공한 Job과 Task를 건너뛰는 동작을 검증하는 단위 테스트입니다. */
+class WorkflowRecoveryInitializerTest extends UnitTestSupport {
+
+  private static final Long WORKFLOW_ID = 1L;
+  private static final Long RUN_ID = 7L;
+  private static final Long SUCCEEDED_JOB_ID = 1L;
+  private static final Long RESUMED_JOB_ID = 2L;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+  private final WorkflowRunMapper workflowRunMapper = mock(WorkflowRunMapper.class);
+  private final JobRunMapper jobRunMapper = mock(JobRunMapper.class);
+  private final TaskRunMapper taskRunMapper = mock(TaskRunMapper.class);
+  private final TaskExecutionService taskExecutionService = mock(TaskExecutionService.class);
+  private final ExecutionPlanService executionPlanService = mock(ExecutionPlanService.class);
+  private final RunStatePersistenceManager runStatePersistenceManager =
+      mock(RunStatePersistenceManager.class);
+  private final WorkflowLeaseService workflowLeaseService = mock(WorkflowLeaseService.class);
+
+  private final Task succeededTask = task(11L, "키워드 검색");
+  private final Task skippedTask = task(21L, "상품 검색");
+  private final Task resumedTask = task(22L, "상품 선택");
+
+  private WorkflowAdmissionQueue admissionQueue;
+  private WorkflowRecoveryInitializer recoveryInitializer;
+  private WorkflowRun interruptedRun;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // 📌 실행 허가를 받으면 호출한 스레드에서 바로 실행하여, 복구 한 번이 끝나면 실행도 끝나도록 합니다.
+    admissionQueue = new WorkflowAdmissionQueue(properties, meterRegistry, Runnable::run);
+    admissionQueue.init();
+    WorkflowExecutionService workflowExecutionService =
+        new WorkflowExecutionService(
+            workflowRunMapper,
+            jobRunMapper,
+            taskRunMapper,
+            objectMapper,
+            mock(ExecutionMdcManager.class),
+            taskExecutionService,
+            mock(WorkflowContextService.class),
+            runStatePersistenceManager,
+            mock(TaskIoDataStore.class),
+            executionPlanService,
+            properties,
+            Runnable::run,
+            admissionQueue,
+            workflowLeaseService,
+            new WorkflowCancellationService(workflowRunMapper, properties, meterRegistry));
+    recoveryInitializer =
+        new WorkflowRecoveryInitializer(
+            workflowRunMapper, workflowExecutionService, admissionQueue, properties);
+
+    interruptedRun = WorkflowRun.start(WORKFLOW_ID, "trace-id", "schedule");
+    ReflectionTestUtils.setField(interruptedRun, "id", RUN_ID);
+    interruptedRun.finish("INTERRUPTED");
+    when(workflowRunMapper.findRecoverable()).thenReturn(List.of(interruptedRun));
+    when(workflowRunMapper.findById(RUN_ID)).thenReturn(interruptedRun);
+    when(workflowLeaseService.acquire(interruptedRun))
+        .thenReturn(WorkflowLeaseService.Decision.RUN);
+    when(runStatePersistenceManager.flush()).thenReturn(true);
+    when(executionPlanService.getPlan(WORKFLOW_ID)).thenReturn(plan());
+    when(taskExecutionService.executeWithFanOut(any(), any(), any(), any(), any()))
+        .thenReturn(TaskRunner.TaskExecutionResult.success(objectMapper.createObjectNode()));
+
+    // 이전 시도에서 첫 번째 Job과 두 번째 Job의 첫 Task가 성공했습니다.
+    when(jobRunMapper.findSuccessfulJobByWorkflowRunId(RUN_ID, SUCCEEDED_JOB_ID))
+        .thenReturn(JobRun.start(RUN_ID, SUCCEEDED_JOB_ID));
+    TaskRun succeededTaskRun = TaskRun.start(100L, skippedTask.getId(), 1);
+    succeededTaskRun.finish("SUCCESS", "ok");
+    when(taskRunMapper.findSuccessfulTaskRunsByJob(RUN_ID, RESUMED_JOB_ID))
+        .thenReturn(List.of(succeededTaskRun));
+  }
+
+  @Test
+  @DisplayName("중단된 실행은 같은 실행 기록으로 이어서 실행하고, 이미 성공한 Job과 Task는 다시 실행하지 않아야 한다")
+  void recover_shouldResumeRun_skippingSucceededJobsAndTasks() {
+    // given
+    when(workflowLeaseService.claimRun(RUN_ID)).thenReturn(true);
+
+    // when
+    ReflectionTestUtils.invokeMethod(recoveryInitializer, "recover");
+
+    // then
+    verify(jobRunMapper).insert(argThat(jobRun -> RESUMED_JOB_ID.equals(jobRun.getJobId())));
+    verify(jobRunMapper, never())
+        .insert(argThat(jobRun -> SUCCEEDED_JOB_ID.equals(jobRun.getJobId())));
+    verify(taskExecutionService).executeWithFanOut(any(), any(), any(), any(), any());
+    verify(taskExecutionService).executeWithFanOut(eq(resumedTask), any(), any(), any(), any());
+    verify(taskRunMapper)
+        .insert(argThat(taskRun -> resumedTask.getId().equals(taskRun.getTaskId())));
+    assertThat(interruptedRun.getStatus()).isEqualTo("SUCCESS");
+    verify(workflowLeaseService).releaseRun(RUN_ID);
+    verify(workflowLeaseService).release(RUN_ID);
+  }
+
+  @Test
+  @DisplayName("다른 서버가 먼저 소유한 실행은 시작하지 않고, 복구 대상으로 남아 있어도 다음 복구 주기에 다시 요청하지 않아야 한다")
+  void recover_shouldNotStartRun_ownedByAnotherNode() {
+    // given
+    when(workflowLeaseService.claimRun(RUN_ID)).thenReturn(false);
+
+    // when
+    ReflectionTestUtils.invokeMethod(recoveryInitializer, "recover");
+    ReflectionTestUtils.invokeMethod(recoveryInitializer, "recover");
+
+    // then
+    verify(workflowLeaseService, times(1)).claimRun(RUN_ID);
+    verify(workflowLeaseService, never()).acquire(any());
+    verify(jobRunMapper, never()).insert(any());
+    assertThat(interruptedRun.getStatus()).isEqualTo("INTERRUPTED");
+  }
+
+  @Test
+  @DisplayName("서버가 종료를 시작한 뒤에는 중단된 실행을 찾지 않아야 한다")
+  void recover_shouldDoNothing_afterAdmissionQueueCloses() {
+    // given
+    admissionQueue.close();
+
+    // when
+    ReflectionTestUtils.invokeMethod(recoveryInitializer, "recover");
+
+    // then
+    verify(workflowRunMapper, never()).findRecoverable();
+    verify(workflowLeaseService, never()).claimRun(anyLong());
+  }
+
+  private ExecutionPlan plan() {
+    ExecutionPlan.JobPlan succeededJob =
+        new ExecutionPlan.JobPlan(job(SUCCEEDED_JOB_ID, "상품 분석"), taskGraph(succeededTask));
+    ExecutionPlan.JobPlan resumedJob =
+        new ExecutionPlan.JobPlan(
+            job(RESUMED_JOB_ID, "블로그 콘텐츠 생성"), taskGraph(skippedTask, resumedTask));
+    DependencyGraph<Long, ExecutionPlan.JobPlan> jobGraph =
+        DependencyGraph.of(
+            List.of(succeededJob, resumedJob),
+            jobPlan -> jobPlan.job().getId(),
+            jobPlan ->
+                RESUMED_JOB_ID.equals(jobPlan.job().getId())
+                    ? List.of(SUCCEEDED_JOB_ID)
+                    : List.of());
+    return new ExecutionPlan(WORKFLOW_ID, jobGraph);
+  }
+
+  private static DependencyGraph<String, ExecutionPlan.TaskPlan> taskGraph(Task... tasks) {
+    List<ExecutionPlan.TaskPlan> taskPlans =
+        List.of(tasks).stream()
+            .map(task -> new ExecutionPlan.TaskPlan(task, 1, null, null, null))
+            .toList();
+    return DependencyGraph.of(
+        taskPlans, taskPlan -> taskPlan.task().getName(), taskPlan -> List.of());
+  }
+
+  private static Job job(Long id, String name) {
+    return new Job(id, name, null, true, null, null, null, null);
+  }
+
+  private static Task task(Long id, String name) {
+    return new Task(id, name, "FastAPI", null, null, null, null);
+  }
+}